@@ -44,6 +44,9 @@ plugins {
     // Without `apply false`, the plugin is automatically applied to the main "jar" task, which somehow interferes with
     // the "spotbugsMain" task, causing it to fail. Instead, we will create a separate task to generate the bundle info.
     id("biz.aQute.bnd.builder") version "6.4.0" apply false
+
+    // Used for running the JMH benchmarks in the `jmh` source set
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 jacoco {
@@ -98,6 +101,25 @@ sourceSets {
     }
 }
 
+/**
+ * Benchmarks live in `src/jmh/java` and are run with `./gradlew jmh`. A subset of benchmarks may be selected with a
+ * regular expression, e.g. `./gradlew jmh -PjmhIncludes=BinaryReaderBenchmark`. Results are written to
+ * `build/results/jmh/results.json` so that runs before and after a change can be compared.
+ */
+jmh {
+    jmhVersion.set("1.37")
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+    resultFormat.set("JSON")
+    // Benchmarks that use the ion-tests corpus read it from this directory.
+    jvmArgsAppend.add("-Dion-tests.dir=$rootDir/ion-tests/iontestdata")
+    // Fixed settings keep results comparable across runs. They may be overridden on the JMH command line when
+    // running the benchmarks jar directly.
+    fork.set(2)
+    warmupIterations.set(5)
+    iterations.set(5)
+    timeUnit.set("us")
+}
+
 licenseReport {
     // Because of the current gradle project structure, we must explicitly exclude ion-java-cli, even
     // though ion-java does not depend on ion-java-cli. By default, the license report generator includes
@@ -373,6 +395,7 @@ tasks {
     // spotbugs-gradle-plugin creates a :spotbugsTest task by default, but we don't want it
     // see: https://github.com/spotbugs/spotbugs-gradle-plugin/issues/391
     project.gradle.startParameter.excludedTaskNames.add(":spotbugsTest")
+    project.gradle.startParameter.excludedTaskNames.add(":spotbugsJmh")
 
     spotbugsMain {
         val spotbugsBaselineFile = "$rootDir/config/spotbugs/baseline.xml"
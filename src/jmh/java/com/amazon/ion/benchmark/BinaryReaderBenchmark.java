@@ -0,0 +1,60 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the binary reader (IonReaderContinuableTopLevelBinary) over byte arrays and InputStreams, with
+ * incremental reading enabled and disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryReaderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean fromStream;
+
+    @Param({"false", "true"})
+    public boolean incremental;
+
+    private IonReaderBuilder builder;
+
+    @Setup
+    public void setup() {
+        builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(incremental);
+    }
+
+    private IonReader newReader(CorpusState state) {
+        return fromStream ? builder.build(new ByteArrayInputStream(state.binary)) : builder.build(state.binary);
+    }
+
+    @Benchmark
+    public void fullyTraverse(CorpusState state, Blackhole blackhole) throws IOException {
+        try (IonReader reader = newReader(state)) {
+            Traversal.fullyTraverse(reader, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void skipTopLevel(CorpusState state, Blackhole blackhole) throws IOException {
+        try (IonReader reader = newReader(state)) {
+            Traversal.skipTopLevel(reader, blackhole);
+        }
+    }
+}
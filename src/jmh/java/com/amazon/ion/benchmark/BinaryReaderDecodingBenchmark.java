@@ -0,0 +1,135 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the Ion 1.0 and Ion 1.1 binary encodings of the records written by
+ * {@link BinaryWriterEncodingBenchmark}. Ion 1.1 containers are delimited, so skipping one requires scanning its
+ * contents rather than seeking past a length prefix. Each stream is read fully with a byte array reader and with an
+ * incremental InputStream reader; the records are also skipped without stepping in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryReaderDecodingBenchmark {
+
+    private static final int NUMBER_OF_RECORDS = 1000;
+
+    @Param({"ION_1_0", "ION_1_1"})
+    public String encoding;
+
+    @Param({"2", "8"})
+    public int depth;
+
+    private byte[] bytes;
+
+    private IonReaderBuilder incrementalBuilder;
+
+    @Setup
+    public void setup() throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard()
+            .withIonMinorVersion(encoding.equals("ION_1_1") ? 1 : 0)
+            .withExperimentalIon11Enabled(true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = builder.build(out)) {
+            for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+                writeRecord(writer, depth);
+            }
+        }
+        bytes = out.toByteArray();
+        incrementalBuilder = IonReaderBuilder.standard().withIncrementalReadingEnabled(true).immutable();
+    }
+
+    private void writeRecord(IonWriter writer, int level) throws IOException {
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("id");
+        writer.writeInt(level);
+        writer.setFieldName("name");
+        writer.writeString("a name that is long enough to need a length byte");
+        writer.setFieldName("tags");
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < 4; i++) {
+            writer.writeSymbol("tag" + i);
+        }
+        writer.stepOut();
+        if (level > 0) {
+            writer.setFieldName("child");
+            writeRecord(writer, level - 1);
+        }
+        writer.stepOut();
+    }
+
+    /**
+     * Reads every value in the current container, stepping into nested containers.
+     * @return a checksum of the values read.
+     */
+    private static long readContainer(IonReader reader) {
+        long checksum = 0;
+        IonType type;
+        while ((type = reader.next()) != null) {
+            checksum += reader.getFieldName() == null ? 0 : 1;
+            switch (type) {
+                case INT:
+                    checksum += reader.longValue();
+                    break;
+                case STRING:
+                case SYMBOL:
+                    checksum += reader.stringValue().length();
+                    break;
+                case LIST:
+                case STRUCT:
+                    reader.stepIn();
+                    checksum += readContainer(reader);
+                    reader.stepOut();
+                    break;
+                default:
+                    break;
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long readFromBytes() throws IOException {
+        try (IonReader reader = IonReaderBuilder.standard().build(bytes)) {
+            return readContainer(reader);
+        }
+    }
+
+    @Benchmark
+    public long readIncrementally() throws IOException {
+        try (IonReader reader = incrementalBuilder.build(new ByteArrayInputStream(bytes))) {
+            return readContainer(reader);
+        }
+    }
+
+    @Benchmark
+    public int skipRecords() throws IOException {
+        int count = 0;
+        try (IonReader reader = IonReaderBuilder.standard().build(bytes)) {
+            while (reader.next() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
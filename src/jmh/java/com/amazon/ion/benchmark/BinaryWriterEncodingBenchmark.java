@@ -0,0 +1,83 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary writer's default length-patching encoding to reverse encoding (see
+ * {@link IonBinaryWriterBuilder#setReverseEncodingEnabled(boolean)}) and to Ion 1.1's delimited containers (see
+ * {@link IonBinaryWriterBuilder#setIonMinorVersion(int)}) on records nested to the given depth, written directly
+ * through the writer API so that the DOM is not measured. Each invocation returns the number of bytes written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryWriterEncodingBenchmark {
+
+    private static final int NUMBER_OF_RECORDS = 1000;
+
+    @Param({"PATCHED", "REVERSE", "ION_1_1"})
+    public String encoding;
+
+    @Param({"2", "8"})
+    public int depth;
+
+    private IonBinaryWriterBuilder builder;
+
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() {
+        builder = IonBinaryWriterBuilder.standard()
+            .withReverseEncodingEnabled(encoding.equals("REVERSE"))
+            .withIonMinorVersion(encoding.equals("ION_1_1") ? 1 : 0)
+            .withExperimentalIon11Enabled(true)
+            .immutable();
+        out = new ByteArrayOutputStream();
+    }
+
+    private void writeRecord(IonWriter writer, int level) throws IOException {
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("id");
+        writer.writeInt(level);
+        writer.setFieldName("name");
+        writer.writeString("a name that is long enough to need a length byte");
+        writer.setFieldName("tags");
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < 4; i++) {
+            writer.writeSymbol("tag" + i);
+        }
+        writer.stepOut();
+        if (level > 0) {
+            writer.setFieldName("child");
+            writeRecord(writer, level - 1);
+        }
+        writer.stepOut();
+    }
+
+    @Benchmark
+    public int writeRecords() throws IOException {
+        out.reset();
+        try (IonWriter writer = builder.build(out)) {
+            for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+                writeRecord(writer, depth);
+            }
+        }
+        return out.size();
+    }
+}
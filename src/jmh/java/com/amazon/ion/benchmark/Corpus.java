@@ -0,0 +1,132 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonList;
+import com.amazon.ion.IonStruct;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.Timestamp;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The data sets over which the benchmarks run.
+ */
+public enum Corpus {
+
+    /**
+     * Records resembling typical application data: structs with integers, decimals, floats, timestamps, short
+     * strings, symbols from a small vocabulary, and nested containers. The data is generated from a fixed seed, so
+     * it is identical for every run.
+     */
+    SYNTHETIC {
+        @Override
+        IonDatagram load(IonSystem system) {
+            Random random = new Random(42);
+            IonDatagram datagram = system.newDatagram();
+            for (int i = 0; i < NUMBER_OF_SYNTHETIC_RECORDS; i++) {
+                IonStruct record = system.newEmptyStruct();
+                record.add("id", system.newInt(i));
+                record.add("name", system.newString(randomString(random, 5 + random.nextInt(25))));
+                record.add("price", system.newDecimal(BigDecimal.valueOf(random.nextInt(1_000_000), 2)));
+                record.add("ratio", system.newFloat(random.nextDouble()));
+                record.add("active", system.newBool(random.nextBoolean()));
+                record.add("created", system.newTimestamp(
+                    Timestamp.forMillis(1_500_000_000_000L + random.nextInt(Integer.MAX_VALUE) * 100L, 0)
+                ));
+                IonList tags = system.newEmptyList();
+                for (int j = random.nextInt(6); j > 0; j--) {
+                    tags.add(system.newSymbol("tag" + random.nextInt(50)));
+                }
+                record.add("tags", tags);
+                IonStruct details = system.newEmptyStruct();
+                details.add("count", system.newInt(random.nextInt(100)));
+                details.add("large", system.newInt(random.nextLong()));
+                details.add("description", system.newString(randomString(random, random.nextInt(200))));
+                record.add("details", details);
+                datagram.add(record);
+            }
+            return datagram;
+        }
+    },
+
+    /**
+     * The concatenation of every file in the ion-tests `good` directory that can be round-tripped through the DOM.
+     * These files exercise edge cases of the encoding that synthetic data does not. The ion-tests directory is given
+     * by the `ion-tests.dir` system property, which the Gradle `jmh` task sets to the location of the ion-tests
+     * submodule.
+     */
+    ION_TESTS {
+        @Override
+        IonDatagram load(IonSystem system) throws IOException {
+            Path good = Paths.get(System.getProperty("ion-tests.dir", "ion-tests/iontestdata"), "good");
+            if (!good.toFile().isDirectory()) {
+                throw new IllegalStateException(
+                    "The ion-tests corpus was not found at " + good + ". Initialize the ion-tests submodule first."
+                );
+            }
+            List<File> files;
+            try (Stream<Path> paths = Files.walk(good)) {
+                files = paths
+                    .map(Path::toFile)
+                    .filter(file -> file.isFile() && (file.getName().endsWith(".ion") || file.getName().endsWith(".10n")))
+                    .sorted()
+                    .collect(Collectors.toList());
+            }
+            IonDatagram datagram = system.newDatagram();
+            for (File file : files) {
+                IonDatagram values;
+                try {
+                    values = system.getLoader().load(file);
+                    // Some files contain values that cannot be re-encoded, e.g. symbols with unknown text.
+                    values.getBytes();
+                    values.toString();
+                } catch (RuntimeException e) {
+                    continue;
+                }
+                while (!values.isEmpty()) {
+                    datagram.add(values.remove(0));
+                }
+            }
+            return datagram;
+        }
+    };
+
+    private static final int NUMBER_OF_SYNTHETIC_RECORDS = 10_000;
+
+    private static final String ASCII_CHARACTERS =
+        "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 .,-_";
+
+    private static final String[] NON_ASCII_CHARACTERS = {"\u00e9", "\u00fc", "\u4e2d", "\ud83d\ude00"};
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            // Mostly ASCII, with occasional multi-byte characters.
+            if (random.nextInt(10) == 0) {
+                builder.append(NON_ASCII_CHARACTERS[random.nextInt(NON_ASCII_CHARACTERS.length)]);
+            } else {
+                builder.append(ASCII_CHARACTERS.charAt(random.nextInt(ASCII_CHARACTERS.length())));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Loads the corpus.
+     * @param system the system used to construct the values.
+     * @return a new datagram containing the corpus.
+     * @throws IOException if the corpus cannot be read.
+     */
+    abstract IonDatagram load(IonSystem system) throws IOException;
+}
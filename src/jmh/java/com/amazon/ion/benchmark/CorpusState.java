@@ -0,0 +1,53 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Holds a corpus in each of the forms that the benchmarks consume. The corpus is loaded once per trial, outside of
+ * the measured region.
+ */
+@State(Scope.Benchmark)
+public class CorpusState {
+
+    @Param({"SYNTHETIC", "ION_TESTS"})
+    public Corpus corpus;
+
+    public IonSystem system;
+
+    // The corpus as a DOM.
+    public IonDatagram values;
+
+    // The corpus encoded as binary Ion.
+    public byte[] binary;
+
+    // The corpus encoded as UTF-8 Ion text.
+    public byte[] text;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        system = IonSystemBuilder.standard().build();
+        values = corpus.load(system);
+        binary = values.getBytes();
+        text = values.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param format the format.
+     * @return the corpus encoded in the given format.
+     */
+    public byte[] bytes(Format format) {
+        return format == Format.BINARY ? binary : text;
+    }
+}
@@ -0,0 +1,37 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.util.Equivalence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Equivalence.ionEquals over two independently loaded copies of the corpus, which are equivalent but do
+ * not share any values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EquivalenceBenchmark {
+
+    private IonDatagram copy;
+
+    @Setup
+    public void setup(CorpusState state) {
+        copy = state.system.getLoader().load(state.binary);
+    }
+
+    @Benchmark
+    public boolean ionEquals(CorpusState state) {
+        return Equivalence.ionEquals(state.values, copy);
+    }
+}
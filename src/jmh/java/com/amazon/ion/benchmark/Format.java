@@ -0,0 +1,11 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+/**
+ * The Ion encodings exercised by the benchmarks.
+ */
+public enum Format {
+    BINARY,
+    TEXT
+}
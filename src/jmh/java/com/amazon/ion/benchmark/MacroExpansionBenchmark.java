@@ -0,0 +1,98 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading fixed-shape Ion 1.1 records written in full to reading the same records produced by expanding
+ * e-expressions that invoke a macro defined once at the start of the stream. The macro's template is compiled when
+ * the encoding directive is read, so each expansion only splices the e-expression's arguments into the template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MacroExpansionBenchmark {
+
+    private static final int NUMBER_OF_RECORDS = 1000;
+
+    private static final String MACROS = "$ion_encoding::((macro_table "
+        + "(macro reading (id value) {sensor: \"thermometer\", unit: celsius, id: (% id), value: (% value)})))";
+
+    @Param({"STRUCTS", "E_EXPRESSIONS"})
+    public String encoding;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        IonSystem system = IonSystemBuilder.standard().build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().withIonMinorVersion(1).withExperimentalIon11Enabled(true).build(out)) {
+            if (encoding.equals("STRUCTS")) {
+                for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+                    writer.stepIn(IonType.STRUCT);
+                    writer.setFieldName("sensor");
+                    writer.writeString("thermometer");
+                    writer.setFieldName("unit");
+                    writer.writeSymbol("celsius");
+                    writer.setFieldName("id");
+                    writer.writeInt(i % 100);
+                    writer.setFieldName("value");
+                    writer.writeInt(i);
+                    writer.stepOut();
+                }
+            } else {
+                try (IonReader reader = system.newReader(MACROS)) {
+                    writer.writeValues(reader);
+                }
+            }
+        }
+        if (encoding.equals("E_EXPRESSIONS")) {
+            for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+                // (:reading <id> <value>), with each argument as a two-byte integer.
+                out.write(0x00);
+                out.write(0x52);
+                out.write(i % 100);
+                out.write(0);
+                out.write(0x52);
+                out.write(i & 0xFF);
+                out.write(i >> 8);
+            }
+        }
+        bytes = out.toByteArray();
+    }
+
+    @Benchmark
+    public long readRecords() throws IOException {
+        long checksum = 0;
+        try (IonReader reader = IonReaderBuilder.standard().build(bytes)) {
+            while (reader.next() != null) {
+                reader.stepIn();
+                while (reader.next() != null) {
+                    checksum += reader.getType() == IonType.INT ? reader.longValue() : reader.stringValue().length();
+                }
+                reader.stepOut();
+            }
+        }
+        return checksum;
+    }
+}
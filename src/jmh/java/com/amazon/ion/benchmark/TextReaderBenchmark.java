@@ -0,0 +1,53 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.impl._Private_IonReaderFactory;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the text reader. The system reader (IonReaderTextSystemX) measures tokenizing and parsing alone; the
+ * user reader additionally processes symbol tables and resolves symbols.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextReaderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean systemReader;
+
+    private IonReader newReader(CorpusState state) {
+        if (systemReader) {
+            return _Private_IonReaderFactory.makeSystemReaderText(new ByteArrayInputStream(state.text));
+        }
+        return IonReaderBuilder.standard().build(new ByteArrayInputStream(state.text));
+    }
+
+    @Benchmark
+    public void fullyTraverse(CorpusState state, Blackhole blackhole) throws IOException {
+        try (IonReader reader = newReader(state)) {
+            Traversal.fullyTraverse(reader, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void skipTopLevel(CorpusState state, Blackhole blackhole) throws IOException {
+        try (IonReader reader = newReader(state)) {
+            Traversal.skipTopLevel(reader, blackhole);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IntegerSize;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reader traversals shared by the reader benchmarks.
+ */
+final class Traversal {
+
+    private Traversal() {
+        // Not instantiable.
+    }
+
+    /**
+     * Visits every value at the reader's current depth and below, materializing field names, annotations, and
+     * scalar values as a typical application would. Symbols are materialized as SymbolTokens because the ion-tests
+     * corpus contains symbols with unknown text.
+     * @param reader the reader.
+     * @param blackhole consumes the materialized values so that the JIT cannot eliminate them.
+     */
+    static void fullyTraverse(IonReader reader, Blackhole blackhole) {
+        IonType type;
+        while ((type = reader.next()) != null) {
+            if (reader.isInStruct()) {
+                blackhole.consume(reader.getFieldNameSymbol());
+            }
+            blackhole.consume(reader.getTypeAnnotationSymbols());
+            if (reader.isNullValue()) {
+                continue;
+            }
+            switch (type) {
+                case BOOL:
+                    blackhole.consume(reader.booleanValue());
+                    break;
+                case INT:
+                    if (reader.getIntegerSize() == IntegerSize.BIG_INTEGER) {
+                        blackhole.consume(reader.bigIntegerValue());
+                    } else {
+                        blackhole.consume(reader.longValue());
+                    }
+                    break;
+                case FLOAT:
+                    blackhole.consume(reader.doubleValue());
+                    break;
+                case DECIMAL:
+                    blackhole.consume(reader.decimalValue());
+                    break;
+                case TIMESTAMP:
+                    blackhole.consume(reader.timestampValue());
+                    break;
+                case SYMBOL:
+                    blackhole.consume(reader.symbolValue());
+                    break;
+                case STRING:
+                    blackhole.consume(reader.stringValue());
+                    break;
+                case CLOB:
+                case BLOB:
+                    blackhole.consume(reader.newBytes());
+                    break;
+                case LIST:
+                case SEXP:
+                case STRUCT:
+                    reader.stepIn();
+                    fullyTraverse(reader, blackhole);
+                    reader.stepOut();
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Visits every top-level value without stepping into containers or materializing any values.
+     * @param reader the reader.
+     * @param blackhole consumes the value types so that the JIT cannot eliminate them.
+     */
+    static void skipTopLevel(IonReader reader, Blackhole blackhole) {
+        IonType type;
+        while ((type = reader.next()) != null) {
+            blackhole.consume(type);
+        }
+    }
+}
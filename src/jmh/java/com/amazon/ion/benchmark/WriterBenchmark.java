@@ -0,0 +1,55 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.benchmark;
+
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import com.amazon.ion.system.IonWriterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the binary writer (IonManagedBinaryWriter) and the text writer (IonWriterSystemText) by writing the
+ * corpus from the DOM. The output stream is reused across invocations so that its growth is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WriterBenchmark {
+
+    @Param({"BINARY", "TEXT"})
+    public Format format;
+
+    private IonWriterBuilder builder;
+
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup(CorpusState state) {
+        builder = format == Format.BINARY ? IonBinaryWriterBuilder.standard() : IonTextWriterBuilder.standard();
+        out = new ByteArrayOutputStream(state.bytes(format).length * 2);
+    }
+
+    @Benchmark
+    public int writeValues(CorpusState state) throws IOException {
+        out.reset();
+        try (IonWriter writer = builder.build(out)) {
+            for (IonValue value : state.values) {
+                value.writeTo(writer);
+            }
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin.utf8;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of borrowing a decoder from a pool and returning it, which readers do once per construction and
+ * close, with each pool strategy. Compare the single-threaded results to the results with one thread per processor
+ * to see the cost of contention on the pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PoolBenchmark {
+
+    // The name of a Pool.Strategy. JMH's generated code cannot reference the package-private enum directly.
+    @Param({"SHARED", "STRIPED"})
+    public String strategy;
+
+    private Pool<Utf8StringDecoder> pool;
+
+    @Setup
+    public void setup() {
+        pool = new Pool<Utf8StringDecoder>(Utf8StringDecoder::new, Pool.Strategy.valueOf(strategy)) {};
+    }
+
+    private Utf8StringDecoder borrowAndReturn() {
+        Utf8StringDecoder decoder = pool.getOrCreate();
+        decoder.close();
+        return decoder;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Utf8StringDecoder singleThread() {
+        return borrowAndReturn();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Utf8StringDecoder threadPerProcessor() {
+        return borrowAndReturn();
+    }
+}
@@ -0,0 +1,57 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * An {@link IonReader} facet that identifies the current field by a small integer "slot" rather than by its text.
+ * An application registers the field names it is interested in once, and then, for each value, retrieves the slot
+ * of the value's field name. This allows hand-written deserializers to dispatch on integers instead of comparing or
+ * hashing Strings.
+ * <p>
+ * Slots are assigned consecutively starting at 0, in registration order, so they may be declared as constants:
+ * <pre>
+ * static final int NAME = 0;
+ * static final int AGE = 1;
+ * ...
+ * FieldSlotReader slots = reader.asFacet(FieldSlotReader.class);
+ * slots.registerFieldName("name");
+ * slots.registerFieldName("age");
+ * reader.stepIn();
+ * while (reader.next() != null) {
+ *     switch (slots.getFieldSlot()) {
+ *         case NAME: name = reader.stringValue(); break;
+ *         case AGE: age = reader.intValue(); break;
+ *         default: break;
+ *     }
+ * }
+ * </pre>
+ * Binary readers match field names by symbol ID. Each symbol ID is resolved against the registered field names at
+ * most once per local symbol table, and is remapped automatically when the stream declares a new local symbol table.
+ * <p>
+ * This functionality may be accessed as a facet of readers over binary Ion. For other readers,
+ * {@link IonReader#asFacet(Class)} returns null.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ */
+public interface FieldSlotReader {
+
+    /**
+     * Returned by {@link #getFieldSlot()} when the current value is not a struct field, or when its field name has
+     * not been registered.
+     */
+    int NO_SLOT = -1;
+
+    /**
+     * Registers a field name, if it is not already registered. Registrations last for the life of the reader.
+     * @param fieldName the field name. Must not be null.
+     * @return the field name's slot.
+     */
+    int registerFieldName(String fieldName);
+
+    /**
+     * @return the slot of the current value's field name, or {@link #NO_SLOT} if the current value is not a struct
+     *  field, if its field name has not been registered, or if its field name has unknown text.
+     */
+    int getFieldSlot();
+}
@@ -0,0 +1,81 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Receives metrics about how a binary {@link IonReader} manages its input, e.g. for export to a monitoring system or
+ * to tune {@link IonBufferConfiguration} per stream. Provide an implementation via
+ * {@link com.amazon.ion.system.IonReaderBuilder#withMetricsListener(ReaderMetricsListener)}.
+ * <p>
+ * All methods have empty default implementations, so implementations need only override the events they are
+ * interested in. When no listener is configured, readers do not compute any of these metrics.
+ * <p>
+ * Methods are invoked synchronously on the thread that is using the reader, from within the reader method that
+ * caused the event. Implementations should therefore be fast, and must not use the reader. A single listener may be
+ * shared by multiple readers, in which case it must be thread-safe if the readers are used concurrently.
+ * <p>
+ * Currently, only readers over binary Ion report metrics. Readers over byte arrays and ByteBuffers never refill or
+ * grow a buffer, so they report only symbol table events.
+ */
+public interface ReaderMetricsListener {
+
+    /**
+     * @return true if the reader should measure the time spent in operations that may block, such as refills, and
+     *  provide it to the corresponding methods. The measurement requires two calls to {@link System#nanoTime()} per
+     *  operation. The default is false.
+     */
+    default boolean isTimingEnabled() {
+        return false;
+    }
+
+    /**
+     * Invoked after the reader reads bytes from its source into its buffer.
+     * @param numberOfBytes the number of bytes read, which may be 0 if the source is at its end.
+     * @param nanos the time spent reading, if timing is enabled; otherwise, -1.
+     */
+    default void onRefill(int numberOfBytes, long nanos) {
+    }
+
+    /**
+     * Invoked after the reader skips bytes from its source without buffering them, e.g. when skipping past an
+     * oversized value or a value that the user did not read in full.
+     * @param numberOfBytes the number of bytes skipped.
+     */
+    default void onSkip(long numberOfBytes) {
+    }
+
+    /**
+     * Invoked after the reader allocates a larger buffer because the current value, plus any bytes that precede it in
+     * the buffer, did not fit. Frequent growth indicates that the initial buffer size is too small for the stream.
+     * @param previousCapacity the capacity of the previous buffer, in bytes.
+     * @param newCapacity the capacity of the new buffer, in bytes.
+     */
+    default void onBufferGrowth(int previousCapacity, int newCapacity) {
+    }
+
+    /**
+     * Invoked after the reader moves the unread bytes in its buffer to the start of the buffer to make room for more.
+     * @param numberOfBytes the number of bytes moved.
+     */
+    default void onBufferShift(int numberOfBytes) {
+    }
+
+    /**
+     * Invoked when the reader encounters a value that exceeds the maximum buffer size, just before the configured
+     * {@link BufferConfiguration.OversizedValueHandler} or
+     * {@link IonBufferConfiguration.OversizedSymbolTableHandler} is invoked.
+     * @param isSymbolTable true if the value might be a symbol table.
+     */
+    default void onOversizedValue(boolean isSymbolTable) {
+    }
+
+    /**
+     * Invoked after the reader reads a local symbol table. Steady growth of the total in a long-lived stream may
+     * indicate that the writer is appending symbols without bound.
+     * @param numberOfSymbolsAdded the number of symbols declared by the table.
+     * @param numberOfLocalSymbols the total number of local symbols in effect after the table was read, including
+     *                             any that were appended to.
+     */
+    default void onLocalSymbolTable(int numberOfSymbolsAdded, int numberOfLocalSymbols) {
+    }
+}
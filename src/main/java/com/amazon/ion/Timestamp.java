@@ -218,7 +218,15 @@ public final class Timestamp
     private byte        _hour;
     private byte        _minute;
     private byte        _second;
-    private BigDecimal  _fraction;  // fractional seconds, must be within range [0, 1)
+    private BigDecimal  _fraction;  // fractional seconds, must be within range [0, 1); see fraction()
+
+    /**
+     * Fractional seconds of up to {@link #MAX_COMPACT_FRACTION_DIGITS} digits, which are by far the most common, may
+     * instead be held as their unscaled value and scale, from which {@link #_fraction} is created only if it is
+     * needed. {@code _fractionScale} is zero when the fraction is not held this way.
+     */
+    private int         _fractionUnscaled;
+    private byte        _fractionScale;
 
     /**
      * Minutes offset from UTC; zero means UTC proper,
@@ -321,6 +329,85 @@ public final class Timestamp
         }
     }
 
+    private static final int MAX_COMPACT_FRACTION_DIGITS = 9;
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
+    /**
+     * @return the fractional seconds, or {@code null} if there are none.
+     */
+    private BigDecimal fraction()
+    {
+        BigDecimal fraction = _fraction;
+        if (fraction == null && _fractionScale != 0) {
+            // Like String's hash code, this may be computed more than once by racing threads, with equal results.
+            fraction = BigDecimal.valueOf(_fractionUnscaled, _fractionScale);
+            _fraction = fraction;
+        }
+        return fraction;
+    }
+
+    private boolean hasFraction()
+    {
+        return _fraction != null || _fractionScale != 0;
+    }
+
+    /**
+     * @return the number of digits of the fractional seconds, which must exist.
+     */
+    private int fractionScale()
+    {
+        return _fractionScale != 0 ? _fractionScale : _fraction.scale();
+    }
+
+    /**
+     * Sets the fractional seconds to {@code unscaled * 10^-scale}. Must only be called during construction due to
+     * timestamp immutability.
+     * @param scale between 1 and {@link #MAX_COMPACT_FRACTION_DIGITS}, inclusive.
+     */
+    private void setCompactFraction(int unscaled, int scale)
+    {
+        _fraction = null;
+        _fractionUnscaled = unscaled;
+        _fractionScale = (byte) scale;
+    }
+
+    /**
+     * The local offsets that have been used, indexed by minutes plus {@link #MAX_OFFSET_MINUTES}, so that Timestamps
+     * with the same offset share a single Integer instead of each boxing its own.
+     */
+    private static final int MAX_OFFSET_MINUTES = 24 * 60;
+    private static final Integer[] LOCAL_OFFSETS = new Integer[2 * MAX_OFFSET_MINUTES + 1];
+
+    /**
+     * @return the Integer representing the given local offset, in minutes.
+     */
+    private static Integer localOffset(int minutes)
+    {
+        int index = minutes + MAX_OFFSET_MINUTES;
+        if (index < 0 || index >= LOCAL_OFFSETS.length) {
+            // invalid; rejected when the offset is applied
+            return minutes;
+        }
+        // Racing threads may each box the offset, which is harmless because they are equal.
+        Integer offset = LOCAL_OFFSETS[index];
+        if (offset == null) {
+            offset = minutes;
+            LOCAL_OFFSETS[index] = offset;
+        }
+        return offset;
+    }
+
+    /**
+     * Copies the compact fraction, if any, of the given Timestamp, whose {@link #_fraction} has already been copied.
+     */
+    private void copyCompactFraction(Timestamp source)
+    {
+        _fractionUnscaled = source._fractionUnscaled;
+        _fractionScale = source._fractionScale;
+    }
+
     private static byte requireByte(int value, String location) {
         if (value > Byte.MAX_VALUE || value < Byte.MIN_VALUE) {
             throw new IllegalArgumentException(String.format("%s of %d is out of range.", location, value));
@@ -421,7 +508,7 @@ public final class Timestamp
                     }
 
                     // convert ms to minutes
-                    _offset = offset / (1000*60);
+                    _offset = localOffset(offset / (1000*60));
                 }
             }
             case DAY:
@@ -689,6 +776,39 @@ public final class Timestamp
                              offset, APPLY_OFFSET_NO, CHECK_FRACTION_YES);
     }
 
+    /**
+     * Like {@link #createFromUtcFields(Precision, int, int, int, int, int, int, BigDecimal, Integer)}, but with the
+     * fractional seconds and local offset given as primitives, so that the only object created is the Timestamp.
+     *
+     * @param fractionUnscaled the digits of the fractional seconds, which are {@code fractionUnscaled *
+     *  10^-fractionScale}; must be less than {@code 10^fractionScale}.
+     * @param fractionScale the number of digits of the fractional seconds, from 1 to
+     *  {@value #MAX_COMPACT_FRACTION_DIGITS}; or 0 if there are none.
+     * @param offset the local offset from UTC, measured in minutes; ignored if {@code isOffsetKnown} is false.
+     * @param isOffsetKnown false to represent an unknown local offset.
+     */
+    static Timestamp createFromUtcFields(Precision p, int zyear, int zmonth, int zday,
+                                         int zhour, int zminute, int zsecond,
+                                         int fractionUnscaled, int fractionScale,
+                                         int offset, boolean isOffsetKnown)
+    {
+        if (fractionScale < 0 || fractionScale > MAX_COMPACT_FRACTION_DIGITS
+            || fractionUnscaled < 0 || fractionUnscaled >= POWERS_OF_TEN[fractionScale])
+        {
+            throw new IllegalArgumentException(String.format(
+                "Fractional seconds %s must be greater than or equal to 0 and less than 1",
+                BigDecimal.valueOf(fractionUnscaled, fractionScale)));
+        }
+        Timestamp ts = new Timestamp(p, zyear, zmonth, zday,
+                                     zhour, zminute, zsecond, NO_FRACTIONAL_SECONDS,
+                                     isOffsetKnown ? localOffset(offset) : UNKNOWN_OFFSET,
+                                     APPLY_OFFSET_NO, CHECK_FRACTION_NO);
+        if (fractionScale > 0 && p.includes(Precision.SECOND)) {
+            ts.setCompactFraction(fractionUnscaled, fractionScale);
+        }
+        return ts;
+    }
+
     /**
      * Creates a new Timestamp from a {@link Calendar}, preserving the
      * {@link Calendar}'s precision and local offset from UTC.
@@ -906,10 +1026,8 @@ public final class Timestamp
         this.set_fields_from_millis(millis);
 
         // fractional seconds portion
-        BigDecimal secs = BigDecimal.valueOf(millis).movePointLeft(3);
-        BigDecimal secsDown = secs.setScale(0, RoundingMode.FLOOR);
-        this._fraction = secs.subtract(secsDown);
-        this._precision = checkFraction(Precision.SECOND, _fraction);
+        setCompactFraction((int) Math.floorMod(millis, 1000L), 3);
+        this._precision = Precision.SECOND;
 
         this._offset = localOffset;
     }
@@ -985,6 +1103,11 @@ public final class Timestamp
             throw fail(in);
         }
 
+        Timestamp fixedLayout = valueOfFixedLayout(in);
+        if (fixedLayout != null) {
+            return fixedLayout;
+        }
+
         int year  = 1;
         int month = 1;
         int day   = 1;
@@ -992,6 +1115,7 @@ public final class Timestamp
         int minute = 0;
         int seconds = 0;
         BigDecimal fraction = null;
+        int fractionDigits = 0;
         Precision precision;
 
         // fake label to turn goto's into a break so Java is happy :) enjoy
@@ -1073,7 +1197,10 @@ public final class Timestamp
                 throw fail(in,
                            "must have at least one digit after decimal point");
             }
-            fraction = new BigDecimal(in.subSequence(19, pos).toString());
+            fractionDigits = pos - (END_OF_SECONDS + 1);
+            if (fractionDigits > MAX_COMPACT_FRACTION_DIGITS) {
+                fraction = new BigDecimal(in.subSequence(19, pos).toString());
+            }
         } while (false);
 
         Integer offset;
@@ -1114,7 +1241,7 @@ public final class Timestamp
                 offset = null;
             }
             else {
-                offset = temp;
+                offset = localOffset(temp);
             }
         }
         else {
@@ -1136,9 +1263,128 @@ public final class Timestamp
         Timestamp ts =
             new Timestamp(precision, year, month, day,
                           hour, minute, seconds, fraction, offset, APPLY_OFFSET_YES, CHECK_FRACTION_NO);
+        if (fraction == null && fractionDigits > 0) {
+            ts.setCompactFraction(read_compact_fraction(in, END_OF_SECONDS + 1, fractionDigits), fractionDigits);
+        }
         return ts;
     }
 
+    /**
+     * Parses the most common layout of timestamp text, {@code yyyy-mm-ddThh:mm:ss} followed by up to
+     * {@link #MAX_COMPACT_FRACTION_DIGITS} digits of fractional seconds and then {@code Z} or {@code +hh:mm} or
+     * {@code -hh:mm}, with nothing after it. Each character is at a fixed position or directly follows the fraction,
+     * so there is no need to search for the end of each field.
+     *
+     * @return the Timestamp, or {@code null} if the text has some other layout or is invalid, in which case it must
+     *  be parsed by the general method so that any error is reported in the usual way.
+     */
+    private static Timestamp valueOfFixedLayout(CharSequence in)
+    {
+        final int length = in.length();
+        if (length < END_OF_SECONDS + 1
+            || in.charAt(END_OF_YEAR) != '-'
+            || in.charAt(END_OF_MONTH) != '-'
+            || in.charAt(END_OF_DAY) != 'T'
+            || in.charAt(END_OF_DAY + 3) != ':'
+            || in.charAt(END_OF_MINUTES) != ':')
+        {
+            return null;
+        }
+        int year = fixed_digits(in, 0, 4);
+        int month = fixed_digits(in, END_OF_YEAR + 1, 2);
+        int day = fixed_digits(in, END_OF_MONTH + 1, 2);
+        int hour = fixed_digits(in, END_OF_DAY + 1, 2);
+        int minute = fixed_digits(in, END_OF_DAY + 4, 2);
+        int second = fixed_digits(in, END_OF_MINUTES + 1, 2);
+        if ((year | month | day | hour | minute | second) < 0) {
+            return null;
+        }
+
+        int pos = END_OF_SECONDS;
+        int fractionDigits = 0;
+        int fraction = 0;
+        if (in.charAt(pos) == '.') {
+            pos++;
+            while (pos < length && fractionDigits <= MAX_COMPACT_FRACTION_DIGITS) {
+                int digit = in.charAt(pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                fraction = fraction * 10 + digit;
+                fractionDigits++;
+                pos++;
+            }
+            if (fractionDigits == 0 || fractionDigits > MAX_COMPACT_FRACTION_DIGITS) {
+                return null;
+            }
+        }
+
+        Integer offset;
+        if (pos + 1 == length && in.charAt(pos) == 'Z') {
+            offset = UTC_OFFSET;
+        }
+        else if (pos + 6 == length && in.charAt(pos + 3) == ':') {
+            char sign = in.charAt(pos);
+            int offsetHours = fixed_digits(in, pos + 1, 2);
+            int offsetMinutes = fixed_digits(in, pos + 4, 2);
+            if ((sign != '+' && sign != '-') || offsetHours < 0 || offsetHours > 23
+                || offsetMinutes < 0 || offsetMinutes > 59)
+            {
+                return null;
+            }
+            int minutes = offsetHours * 60 + offsetMinutes;
+            if (sign == '-') {
+                // -00:00 is the unknown offset
+                offset = minutes == 0 ? UNKNOWN_OFFSET : localOffset(-minutes);
+            }
+            else {
+                offset = localOffset(minutes);
+            }
+        }
+        else {
+            return null;
+        }
+
+        Timestamp ts =
+            new Timestamp(Precision.SECOND, year, month, day,
+                          hour, minute, second, NO_FRACTIONAL_SECONDS, offset, APPLY_OFFSET_YES, CHECK_FRACTION_NO);
+        if (fractionDigits > 0) {
+            ts.setCompactFraction(fraction, fractionDigits);
+        }
+        return ts;
+    }
+
+    /**
+     * @return the value of the given number of ASCII digits starting at the given position, or -1 if any of the
+     *  characters is not an ASCII digit.
+     */
+    private static int fixed_digits(CharSequence in, int start, int length)
+    {
+        int value = 0;
+        for (int ii = start; ii < start + length; ii++) {
+            int digit = in.charAt(ii) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * @return the value of the given number of fractional-second digits, which must be at most
+     *  {@link #MAX_COMPACT_FRACTION_DIGITS}.
+     */
+    private static int read_compact_fraction(CharSequence in, int start, int length)
+    {
+        int value = 0;
+        for (int ii = start; ii < start + length; ii++) {
+            // Character.digit matches the Character.isDigit check used to find the fraction, as BigDecimal does.
+            value = value * 10 + Character.digit(in.charAt(ii), 10);
+        }
+        return value;
+    }
+
     private static int read_digits(CharSequence in, int start, int length,
                                    int terminator, String field)
     {
@@ -1213,17 +1459,19 @@ public final class Timestamp
         // The Copy-Constructor we're using here already expects the time field
         // values to be in UTC, and that is already what we have for this
         // Timestamp -- no adjustment necessary to make it local time.
-        return new Timestamp(_precision,
-                             _year,
-                             _month,
-                             _day,
-                             _hour,
-                             _minute,
-                             _second,
-                             _fraction,
-                             _offset,
-                             APPLY_OFFSET_NO,
-                             CHECK_FRACTION_NO);
+        Timestamp copy = new Timestamp(_precision,
+                                       _year,
+                                       _month,
+                                       _day,
+                                       _hour,
+                                       _minute,
+                                       _second,
+                                       _fraction,
+                                       _offset,
+                                       APPLY_OFFSET_NO,
+                                       CHECK_FRACTION_NO);
+        copy.copyCompactFraction(this);
+        return copy;
     }
 
     /**
@@ -1256,6 +1504,7 @@ public final class Timestamp
                                             _offset,
                                             APPLY_OFFSET_NO,
                                             CHECK_FRACTION_NO);
+        localtime.copyCompactFraction(this);
         // explicitly apply the local offset to the time field values
         localtime.apply_offset(-offset);
 
@@ -1450,7 +1699,8 @@ public final class Timestamp
             if(nanoOffset < 0 || nanoOffset > 999999999) {
                 throw new IllegalArgumentException("nanoOffset must be between 0 and 999,999,999");
             }
-            ts._fraction = ts._fraction.add(BigDecimal.valueOf(nanoOffset).movePointLeft(9));
+            // The fraction from whole seconds is zero.
+            ts.setCompactFraction(nanoOffset, 9);
         }
         return ts;
     }
@@ -1516,8 +1766,7 @@ public final class Timestamp
         long millis = sqlTimestamp.getTime();
         Timestamp ts = new Timestamp(millis, UTC_OFFSET);
         int nanos = sqlTimestamp.getNanos();
-        BigDecimal frac = BigDecimal.valueOf(nanos).movePointLeft(9);
-        ts._fraction = frac;
+        ts.setCompactFraction(nanos, 9);
         return ts;
     }
 
@@ -1616,7 +1865,7 @@ public final class Timestamp
                 cal.clear(Calendar.SECOND);
                 cal.clear(Calendar.MILLISECOND);
             case SECOND:
-                if (_fraction == null) {
+                if (!hasFraction()) {
                     cal.clear(Calendar.MILLISECOND);
                 }
         }
@@ -1642,7 +1891,12 @@ public final class Timestamp
     {
         //                                        month is 0 based for Date
         long millis = Date.UTC(this._year - 1900, this._month - 1, this._day, this._hour, this._minute, this._second);
-        if (this._fraction != null) {
+        if (this._fractionScale != 0) {
+            millis += this._fractionScale > 3
+                ? this._fractionUnscaled / POWERS_OF_TEN[this._fractionScale - 3]
+                : this._fractionUnscaled * POWERS_OF_TEN[3 - this._fractionScale];
+        }
+        else if (this._fraction != null) {
             BigDecimal fracAsDecimal = this._fraction.movePointRight(3);
             int frac = isIntegralZero(fracAsDecimal) ? 0 : fracAsDecimal.intValue();
             millis += frac;
@@ -1675,8 +1929,8 @@ public final class Timestamp
         case FRACTION:
             long millis = Date.UTC(this._year - 1900, this._month - 1, this._day, this._hour, this._minute, this._second);
             BigDecimal dec = BigDecimal.valueOf(millis);
-            if (_fraction != null) {
-                dec = dec.add(this._fraction.movePointRight(3));
+            if (hasFraction()) {
+                dec = dec.add(fraction().movePointRight(3));
             }
             return dec;
         }
@@ -1849,9 +2103,9 @@ public final class Timestamp
     public BigDecimal getDecimalSecond()
     {
         BigDecimal sec = BigDecimal.valueOf(_second);
-        if (_fraction != null)
+        if (hasFraction())
         {
-            sec = sec.add(_fraction);
+            sec = sec.add(fraction());
         }
         return sec;
     }
@@ -1876,7 +2130,7 @@ public final class Timestamp
     @Deprecated
     public BigDecimal getFractionalSecond()
     {
-        return this._fraction;
+        return fraction();
     }
 
 
@@ -2005,7 +2259,7 @@ public final class Timestamp
     @Deprecated
     public BigDecimal getZFractionalSecond()
     {
-        return this._fraction;
+        return fraction();
     }
 
 
@@ -2028,6 +2282,19 @@ public final class Timestamp
             return this;
         }
 
+        if (_fractionScale != 0) {
+            return createFromUtcFields(precision,
+                                       getZYear(),
+                                       getZMonth(),
+                                       getZDay(),
+                                       getZHour(),
+                                       getZMinute(),
+                                       getZSecond(),
+                                       _fractionUnscaled,
+                                       _fractionScale,
+                                       offset == null ? 0 : offset,
+                                       offset != null);
+        }
         Timestamp ts = createFromUtcFields(precision,
                                            getZYear(),
                                            getZMonth(),
@@ -2146,7 +2413,7 @@ public final class Timestamp
      *
      * @see #printZ(Appendable)
      */
-    private void print(Appendable out, int maximumDigits)
+    void print(Appendable out, int maximumDigits)
         throws IOException
     {
         // we have to make a copy to preserve the "immutable" contract
@@ -2211,13 +2478,13 @@ public final class Timestamp
      * @param maximumDigits the maximum number of digits allowed.
      */
     private static void requirePrecisionWithinLimit(Timestamp value, int maximumDigits) {
-        if (value._fraction.scale() > maximumDigits) {
+        if (value.fractionScale() > maximumDigits) {
             throw new IonException(String.format(
                 "Timestamp with %d digits of precision cannot be serialized because it exceeds the " +
                     "configurable maximum timestamp precision of %d digits. Timestamps that require more digits " +
                     "may be written using a text writer configured with " +
                     "IonTextWriterBuilder.withMaximumTimestampPrecisionDigits.",
-                value._fraction.scale(),
+                value.fractionScale(),
                 maximumDigits
             ));
         }
@@ -2242,7 +2509,7 @@ public final class Timestamp
             return;
         }
 
-        if (adjusted._precision == Precision.SECOND && adjusted._fraction != null) {
+        if (adjusted._precision == Precision.SECOND && adjusted.hasFraction()) {
             requirePrecisionWithinLimit(adjusted, maximumDigits);
         }
 
@@ -2275,7 +2542,11 @@ public final class Timestamp
         if (adjusted._precision == Precision.SECOND) {
             out.append(":");
             print_digits(out, adjusted._second, 2);
-            if (adjusted._fraction != null) {
+            if (adjusted._fractionScale != 0) {
+                out.append('.');
+                print_digits(out, adjusted._fractionUnscaled, adjusted._fractionScale);
+            }
+            else if (adjusted._fraction != null) {
                 print_fractional_digits(out, adjusted._fraction);
             }
         }
@@ -2305,22 +2576,18 @@ public final class Timestamp
             out.append("-00:00");
         }
     }
+    /**
+     * Prints the given non-negative value, which must have at most {@code length} digits, zero-padded to
+     * {@code length} digits.
+     */
     private static void print_digits(Appendable out, int value, int length)
         throws IOException
     {
-        char temp[] = new char[length];
         while (length > 0) {
             length--;
-            int next = value / 10;
-            temp[length] =  (char)('0' + (value - next*10));
-            value = next;
-        }
-        while (length > 0) {
-            length--;
-            temp[length] =  '0';
-        }
-        for (char c : temp) {
-            out.append(c);
+            int digit = value / POWERS_OF_TEN[length];
+            out.append((char) ('0' + digit));
+            value -= digit * POWERS_OF_TEN[length];
         }
     }
     private static void print_fractional_digits(Appendable out, BigDecimal value)
@@ -2361,12 +2628,12 @@ public final class Timestamp
         ts.clearUnusedPrecision();
         if (ts._precision.includes(Precision.SECOND)) {
             // Maintain the same amount of fractional precision.
-            if (_fraction == null) {
+            if (!hasFraction()) {
                 ts._fraction = null;
             } else {
                 // Truncate the result only if it exceeds the fractional precision of the original.
-                if (ts._fraction.scale() > _fraction.scale()) {
-                    ts._fraction = ts._fraction.setScale(_fraction.scale(), RoundingMode.FLOOR);
+                if (ts._fraction.scale() > fractionScale()) {
+                    ts._fraction = ts._fraction.setScale(fractionScale(), RoundingMode.FLOOR);
                 }
             }
         }
@@ -2388,7 +2655,7 @@ public final class Timestamp
      */
     public final Timestamp addMillis(long amount)
     {
-        if (amount == 0 && _precision.includes(Precision.SECOND) && _fraction != null && _fraction.scale() >= 3) {
+        if (amount == 0 && _precision.includes(Precision.SECOND) && hasFraction() && fractionScale() >= 3) {
             // Zero milliseconds are to be added, and the precision does not need to be increased.
             return this;
         }
@@ -2423,8 +2690,8 @@ public final class Timestamp
         // milliseconds precision is being added and the fraction does not yet
         // have milliseconds precision.
         int newScale = millisecondsPrecision ? 3 : 0;
-        if (_fraction != null) {
-            newScale = Math.max(newScale, _fraction.scale());
+        if (hasFraction()) {
+            newScale = Math.max(newScale, fractionScale());
         }
         if (ts._fraction != null) {
             ts._fraction = newScale == 0 ? null : ts._fraction.setScale(newScale, RoundingMode.FLOOR);
@@ -2451,6 +2718,7 @@ public final class Timestamp
             case MINUTE:
                 _second = 0;
                 _fraction = null;
+                _fractionScale = 0;
             case SECOND:
         }
     }
@@ -2619,7 +2887,7 @@ public final class Timestamp
     private Timestamp addMonthForPrecision(int amount, Precision precision) {
         Calendar cal = calendarValue();
         cal.add(Calendar.MONTH, amount);
-        return new Timestamp(cal, precision, _fraction, _offset);
+        return new Timestamp(cal, precision, fraction(), _offset);
     }
 
     /**
@@ -2664,7 +2932,7 @@ public final class Timestamp
 
         Calendar cal = calendarValue();
         cal.add(Calendar.YEAR, amount);
-        return new Timestamp(cal, _precision, _fraction, _offset);
+        return new Timestamp(cal, _precision, fraction(), _offset);
     }
 
 
@@ -2685,8 +2953,8 @@ public final class Timestamp
         final int prime = 8191;
         int result = HASH_SIGNATURE;
 
-        result = prime * result + (_fraction != null
-            ? _fraction.hashCode()
+        result = prime * result + (hasFraction()
+            ? fraction().hashCode()
             : 0);
 
         result ^= (result << 19) ^ (result >> 13);
@@ -2775,10 +3043,16 @@ public final class Timestamp
 
         // Values are equivalent at millisecond precision, so compare fraction
 
+        if ((this._fractionScale != 0 || !this.hasFraction()) && (t._fractionScale != 0 || !t.hasFraction())) {
+            // Both are compact or absent, so compare the fractions as nanoseconds.
+            int this_nanos = this._fractionUnscaled * POWERS_OF_TEN[MAX_COMPACT_FRACTION_DIGITS - this._fractionScale];
+            int arg_nanos = t._fractionUnscaled * POWERS_OF_TEN[MAX_COMPACT_FRACTION_DIGITS - t._fractionScale];
+            return Integer.compare(this_nanos, arg_nanos);
+        }
         BigDecimal this_fraction =
-            ((this._fraction == null) ? BigDecimal.ZERO : this._fraction);
+            ((!this.hasFraction()) ? BigDecimal.ZERO : this.fraction());
         BigDecimal arg_fraction =
-            (( t._fraction == null) ? BigDecimal.ZERO :  t._fraction);
+            ((!t.hasFraction()) ? BigDecimal.ZERO :  t.fraction());
         return this_fraction.compareTo(arg_fraction);
     }
 
@@ -2874,16 +3148,18 @@ public final class Timestamp
         }
 
         // we only look at the fraction if we know that it's actually there
-        if ((this._fraction != null && t._fraction == null)
-                || (this._fraction == null && t._fraction != null)) {
+        if (this.hasFraction() != t.hasFraction()) {
             // one of the fractions are null
             return false;
         }
-        if (this._fraction == null && t._fraction == null) {
+        if (!this.hasFraction()) {
             // both are null
             return true;
         }
-        return this._fraction.equals(t._fraction);
+        if (this._fractionScale != 0 && t._fractionScale != 0) {
+            return this._fractionUnscaled == t._fractionUnscaled && this._fractionScale == t._fractionScale;
+        }
+        return this.fraction().equals(t.fraction());
     }
 
     private static short checkAndCastYear(int year)
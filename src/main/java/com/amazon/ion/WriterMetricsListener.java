@@ -0,0 +1,57 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Receives metrics about how a binary {@link IonWriter} manages its buffers and symbol table, e.g. for export to a
+ * monitoring system or to choose a block size per stream. Provide an implementation via
+ * {@link com.amazon.ion.system.IonBinaryWriterBuilder#withMetricsListener(WriterMetricsListener)}.
+ * <p>
+ * All methods have empty default implementations, so implementations need only override the events they are
+ * interested in. When no listener is configured, writers do not report any of these metrics.
+ * <p>
+ * Methods are invoked synchronously on the thread that is using the writer, from within the writer method that
+ * caused the event. Implementations should therefore be fast, and must not use the writer. A single listener may be
+ * shared by multiple writers, in which case it must be thread-safe if the writers are used concurrently.
+ */
+public interface WriterMetricsListener {
+
+    /**
+     * Invoked after the writer acquires a block of buffer space. A writer holds at least one block for its user
+     * values and one for its symbol tables from the time it is built until it is closed. Frequent allocation of
+     * additional blocks between flushes indicates that the block size is too small for the values being written.
+     * @param blockSize the size of the block, in bytes.
+     */
+    default void onBlockAllocated(int blockSize) {
+    }
+
+    /**
+     * Invoked after the writer returns a block of buffer space to its allocator, which may recycle it for use by
+     * a later allocation. Blocks are returned when the writer flushes and when it is closed, so after
+     * {@link IonWriter#close()} every allocated block has been returned.
+     * @param blockSize the size of the block, in bytes.
+     */
+    default void onBlockRecycled(int blockSize) {
+    }
+
+    /**
+     * Invoked after the writer writes its buffered data to its output, either because the user flushed or finished
+     * the writer, or because auto-flush is enabled. Flushes that do not write any bytes are not reported.
+     * @param numberOfBytes the number of bytes written to the output.
+     * @param numberOfPatches the number of container and annotation wrapper lengths that could not be written in the
+     *                        space preallocated for them, and were therefore patched in as the data was written.
+     * @param numberOfPatchedBytes the total number of bytes written by those patches.
+     */
+    default void onFlush(long numberOfBytes, int numberOfPatches, long numberOfPatchedBytes) {
+    }
+
+    /**
+     * Invoked after the writer adds a symbol to its current local symbol table. Steady growth of the total in a
+     * long-lived writer may indicate that the application is writing unbounded symbol text, such as identifiers,
+     * as symbols instead of strings.
+     * @param numberOfLocalSymbols the total number of local symbols in the current local symbol table, including
+     *                             the one just added.
+     */
+    default void onLocalSymbolAdded(int numberOfLocalSymbols) {
+    }
+}
@@ -4,8 +4,31 @@ package com.amazon.ion
 
 /**
  * **NOT FOR APPLICATION USE. This method may be removed at any time.**
- * Trampoline to the non-public `Timestamp.toString(Int)` method.
+ * Trampoline to the non-public `Timestamp.print(Appendable, Int)` method.
  */
-internal fun printTimestamp(timestamp: Timestamp, maximumDigits: Int): String {
-    return timestamp.toString(maximumDigits)
+internal fun printTimestamp(timestamp: Timestamp, maximumDigits: Int, out: Appendable) {
+    timestamp.print(out, maximumDigits)
+}
+
+/**
+ * **NOT FOR APPLICATION USE. This method may be removed at any time.**
+ * Trampoline to the non-public `Timestamp.createFromUtcFields` method that accepts the fractional seconds and local
+ * offset as primitives.
+ */
+internal fun createTimestampFromUtcFields(
+    precision: Timestamp.Precision,
+    year: Int,
+    month: Int,
+    day: Int,
+    hour: Int,
+    minute: Int,
+    second: Int,
+    fractionUnscaled: Int,
+    fractionScale: Int,
+    offset: Int,
+    isOffsetKnown: Boolean
+): Timestamp {
+    return Timestamp.createFromUtcFields(
+        precision, year, month, day, hour, minute, second, fractionUnscaled, fractionScale, offset, isOffsetKnown
+    )
 }
@@ -0,0 +1,103 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Assigns dense integer slots to a set of field names and maps symbol IDs to those slots. The mapping from a symbol ID
+ * to a slot is resolved the first time any symbol ID up to the current symbol table's max ID is looked up, and is
+ * reused until {@link #resetSymbols()} is called. This allows binary readers to identify field names by symbol ID
+ * without materializing them as Strings or hashing them for every value.
+ * <p>
+ * Instances hold per-reader state and are not thread-safe.
+ */
+final class FieldNameSlots {
+
+    /**
+     * Returned by the lookup methods when a field name has not been assigned a slot.
+     */
+    static final int NO_SLOT = -1;
+
+    // Each field name that has been assigned a slot, mapped to the slot.
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    // For each symbol ID up to `resolvedMaxId`, the slot of the field name that the symbol ID's text matches, or
+    // NO_SLOT.
+    private int[] sidToSlot = new int[16];
+
+    // The maximum symbol ID whose text has been resolved against the field names.
+    private int resolvedMaxId = 0;
+
+    /**
+     * Assigns a slot to the given field name, if it does not already have one. Slots are assigned consecutively,
+     * starting at 0.
+     * @param fieldName the field name.
+     * @return the field name's slot.
+     */
+    int add(String fieldName) {
+        Integer slot = slots.get(fieldName);
+        if (slot == null) {
+            slot = slots.size();
+            slots.put(fieldName, slot);
+            // Symbol IDs resolved before this field name was added may have this field name's text.
+            resetSymbols();
+        }
+        return slot;
+    }
+
+    /**
+     * @return the number of slots assigned.
+     */
+    int size() {
+        return slots.size();
+    }
+
+    /**
+     * @param text the text of a field name, possibly null.
+     * @return the field name's slot, or {@link #NO_SLOT} if it has not been assigned a slot.
+     */
+    int get(String text) {
+        if (text == null) {
+            return NO_SLOT;
+        }
+        Integer slot = slots.get(text);
+        return slot == null ? NO_SLOT : slot;
+    }
+
+    /**
+     * Looks up a field name by symbol ID, resolving the text of any symbol IDs not yet seen since the last
+     * {@link #resetSymbols()}.
+     * @param sid the field name's symbol ID.
+     * @param maxId the max ID of the reader's current symbol table.
+     * @param symbols provides the text for symbol IDs up to and including `maxId`.
+     * @return the field name's slot, or {@link #NO_SLOT} if it has not been assigned a slot or if the symbol ID's
+     *  text is unknown.
+     */
+    int get(int sid, int maxId, IntFunction<String> symbols) {
+        if (sid > resolvedMaxId) {
+            if (sid > maxId) {
+                return NO_SLOT;
+            }
+            if (maxId >= sidToSlot.length) {
+                sidToSlot = Arrays.copyOf(sidToSlot, Math.max(maxId + 1, sidToSlot.length * 2));
+            }
+            for (int i = resolvedMaxId + 1; i <= maxId; i++) {
+                sidToSlot[i] = get(symbols.apply(i));
+            }
+            resolvedMaxId = maxId;
+        }
+        return sid <= 0 ? NO_SLOT : sidToSlot[sid];
+    }
+
+    /**
+     * Discards the resolved symbol IDs. Must be called whenever existing symbol IDs may have been assigned different
+     * text, i.e. whenever the reader's symbol table is replaced rather than appended to.
+     */
+    void resetSymbols() {
+        resolvedMaxId = 0;
+    }
+}
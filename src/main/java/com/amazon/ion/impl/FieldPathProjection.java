@@ -0,0 +1,198 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Decides which values a reader surfaces when it is configured with a set of field paths via
+ * {@link com.amazon.ion.system.IonReaderBuilder#withFieldPathProjection}. The paths are compiled into a trie of field
+ * names. As the reader descends, it tracks the trie node that applies to each container depth:
+ * <ul>
+ *     <li>Top-level values always surface.</li>
+ *     <li>A struct field surfaces only if its name continues a path. If a path ends at the field, the field's value
+ *     surfaces in its entirety; otherwise, the value surfaces only if it is a non-null container, and its children
+ *     are subject to the remainder of the paths.</li>
+ *     <li>The elements of a list or sexp are subject to the same paths as the sequence itself. Since scalars cannot
+ *     contain any of the requested fields, only non-null containers surface.</li>
+ * </ul>
+ * Binary readers match field names by symbol ID using {@link FieldNameSlots}, so matching a field never requires
+ * materializing its name as a String.
+ * <p>
+ * Instances hold per-reader state and are not thread-safe.
+ */
+final class FieldPathProjection {
+
+    /**
+     * Returned by the name index lookups when a field name does not occur in any path.
+     */
+    static final int NO_NAME = FieldNameSlots.NO_SLOT;
+
+    /**
+     * A node in the trie of field names.
+     */
+    private static final class Node {
+
+        // The child for each field name, indexed by the name's index. Null elements indicate that no path continues
+        // through that name.
+        final Node[] children;
+
+        // True if at least one path ends at this node.
+        boolean isTerminal = false;
+
+        Node(int numberOfNames) {
+            children = new Node[numberOfNames];
+        }
+    }
+
+    // Each distinct field name in any path, mapped to a dense index.
+    private final FieldNameSlots nameIndices = new FieldNameSlots();
+
+    // The trie node that applies to top-level values.
+    private final Node root;
+
+    // The trie node that applies to the children of the container at each depth, or null if the container's
+    // children are not filtered. Element 0 corresponds to depth 1.
+    private Node[] containerNodes = new Node[8];
+
+    // The current depth.
+    private int depth = 0;
+
+    // The trie node that would apply to the children of the current value if the reader stepped into it.
+    private Node valueNode = null;
+
+    /**
+     * @param fieldPaths the paths, each of which must be non-empty and must not contain null names.
+     */
+    private FieldPathProjection(Set<List<String>> fieldPaths) {
+        for (List<String> path : fieldPaths) {
+            for (String name : path) {
+                nameIndices.add(name);
+            }
+        }
+        int numberOfNames = nameIndices.size();
+        root = new Node(numberOfNames);
+        for (List<String> path : fieldPaths) {
+            Node node = root;
+            for (String name : path) {
+                int index = nameIndices.get(name);
+                Node child = node.children[index];
+                if (child == null) {
+                    child = new Node(numberOfNames);
+                    node.children[index] = child;
+                }
+                node = child;
+            }
+            node.isTerminal = true;
+        }
+    }
+
+    /**
+     * @param fieldPaths the paths, or null.
+     * @return a new projection over the given paths, or null if `fieldPaths` is null.
+     */
+    static FieldPathProjection create(Set<List<String>> fieldPaths) {
+        return fieldPaths == null ? null : new FieldPathProjection(fieldPaths);
+    }
+
+    /**
+     * @param text the text of a field name, possibly null.
+     * @return the index of the name, or {@link #NO_NAME} if it does not occur in any path.
+     */
+    int nameIndex(String text) {
+        return nameIndices.get(text);
+    }
+
+    /**
+     * Looks up a field name by symbol ID, resolving the text of any symbol IDs not yet seen since the last
+     * {@link #resetSymbols()}.
+     * @param sid the field name's symbol ID.
+     * @param maxId the max ID of the reader's current symbol table.
+     * @param symbols provides the text for symbol IDs up to and including `maxId`.
+     * @return the index of the name, or {@link #NO_NAME} if it does not occur in any path.
+     */
+    int nameIndex(int sid, int maxId, IntFunction<String> symbols) {
+        return nameIndices.get(sid, maxId, symbols);
+    }
+
+    /**
+     * Discards the resolved symbol IDs. Must be called whenever existing symbol IDs may have been assigned different
+     * text, i.e. whenever the reader's symbol table is replaced rather than appended to.
+     */
+    void resetSymbols() {
+        nameIndices.resetSymbols();
+    }
+
+    /**
+     * Determines whether the value on which the reader is positioned surfaces.
+     * @param isInStruct true if the value is a struct field.
+     * @param nameIndex the index of the value's field name, or {@link #NO_NAME}.
+     * @param isNonNullContainer true if the value is a non-null container.
+     * @return true if the value surfaces; false if the reader must skip it.
+     */
+    boolean accept(boolean isInStruct, int nameIndex, boolean isNonNullContainer) {
+        if (depth == 0) {
+            valueNode = root;
+            return true;
+        }
+        Node node = containerNodes[depth - 1];
+        if (node == null) {
+            valueNode = null;
+            return true;
+        }
+        if (isInStruct) {
+            node = nameIndex == NO_NAME ? null : node.children[nameIndex];
+            if (node == null) {
+                return false;
+            }
+            if (node.isTerminal) {
+                valueNode = null;
+                return true;
+            }
+        }
+        valueNode = node;
+        return isNonNullContainer;
+    }
+
+    /**
+     * @return true if the children of the current container are filtered, i.e. the reader must call
+     *  {@link #accept(boolean, int, boolean)} for each one.
+     */
+    boolean isFiltering() {
+        return depth > 0 && containerNodes[depth - 1] != null;
+    }
+
+    /**
+     * Notifies the projection that the reader stepped into the current value.
+     */
+    void stepIn() {
+        if (depth >= containerNodes.length) {
+            containerNodes = Arrays.copyOf(containerNodes, containerNodes.length * 2);
+        }
+        containerNodes[depth++] = valueNode;
+        valueNode = null;
+    }
+
+    /**
+     * Notifies the projection that the reader stepped out of the current container.
+     */
+    void stepOut() {
+        if (depth > 0) {
+            containerNodes[--depth] = null;
+        }
+        valueNode = null;
+    }
+
+    /**
+     * Notifies the projection that the reader was repositioned at the top level.
+     */
+    void reset() {
+        while (depth > 0) {
+            containerNodes[--depth] = null;
+        }
+        valueNode = null;
+    }
+}
@@ -8,6 +8,7 @@ import com.amazon.ion.IonException;
 import com.amazon.ion.IonCursor;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IvmNotificationConsumer;
+import com.amazon.ion.ReaderMetricsListener;
 import com.amazon.ion.SystemSymbols;
 
 import java.io.ByteArrayInputStream;
@@ -15,6 +16,8 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
 
 import static com.amazon.ion.util.IonStreamUtils.throwAsIonException;
 
@@ -35,6 +38,22 @@ class IonCursorBinary implements IonCursor {
     private static final int SINGLE_BYTE_MASK = 0xFF;
     private static final int LIST_TYPE_ORDINAL = IonType.LIST.ordinal();
     private static final IvmNotificationConsumer NO_OP_IVM_NOTIFICATION_CONSUMER = (x, y) -> {};
+    private static final int LOWER_NIBBLE_BITMASK = 0x0F;
+    private static final int FLEX_SYM_ESCAPE_1_1 = 0x01;
+    private static final int INLINE_SYMBOL_MIN_1_1 = 0x90;
+    private static final int INLINE_SYMBOL_MAX_1_1 = 0x9F;
+    private static final int SYMBOL_ADDRESS_1_BYTE_1_1 = 0xE1;
+    private static final int SYMBOL_ADDRESS_2_BYTES_1_1 = 0xE2;
+    private static final int SYMBOL_ADDRESS_MANY_BYTES_1_1 = 0xE3;
+    private static final int SYMBOL_ADDRESS_2_BYTES_BIAS_1_1 = 256;
+    private static final int SYMBOL_ADDRESS_MANY_BYTES_BIAS_1_1 = 65792;
+    private static final int DELIMITED_END_MARKER_1_1 = 0xF0;
+    private static final int MACRO_ADDRESS_1_BYTE_MAX_1_1 = 0x3F;
+    private static final int MACRO_ADDRESS_FLEX_UINT_1_1 = 0xF4;
+    private static final int MACRO_ADDRESS_2_BYTES_BIAS_1_1 = 64;
+
+    // Returned when reading a FlexSym that is the escape sequence that ends a delimited struct.
+    static final int FLEX_SYM_DELIMITED_END_1_1 = -2;
 
     // Initial capacity of the stack used to hold ContainerInfo. Each additional level of nesting in the data requires
     // a new ContainerInfo. Depths greater than 8 are assumed to be rare.
@@ -43,6 +62,14 @@ class IonCursorBinary implements IonCursor {
     // When set as an 'endIndex', indicates that the value is delimited.
     private static final int DELIMITED_MARKER = -1;
 
+    // Frames in `delimitedScanFrames` that represent delimited sequences and structs. Non-negative frames represent
+    // e-expressions, and hold the number of the e-expression's arguments that remain to be scanned.
+    private static final int SCAN_SEQUENCE = -1;
+    private static final int SCAN_STRUCT = -2;
+
+    // Initial capacity of the buffers that hold the expansions of e-expressions.
+    private static final int EXPANSION_BUFFER_INITIAL_CAPACITY = 64;
+
     /**
      * The kind of location at which `checkpoint` points.
      */
@@ -109,6 +136,23 @@ class IonCursorBinary implements IonCursor {
          */
         final InputStream inputStream;
 
+        /**
+         * The position in the source file of the byte that corresponds to index `limit` in the current mapped window,
+         * for cursors over a file too large to be mapped in a single window.
+         */
+        long channelPosition = 0;
+
+        /**
+         * The position in the source file after the last byte to be read, for cursors over a file too large to be
+         * mapped in a single window.
+         */
+        long channelLimit = 0;
+
+        /**
+         * Reused to read single bytes from the file beyond the current mapped window. Allocated when first needed.
+         */
+        ByteBuffer channelSingleByte = null;
+
         /**
          * Handler invoked when a single value would exceed `maximumBufferSize`.
          */
@@ -133,6 +177,111 @@ class IonCursorBinary implements IonCursor {
 
     }
 
+    /**
+     * The cursor's position in its enclosing source of data while it reads the expansion of an e-expression. The
+     * expansion is read as if it were a fixed buffer whose top level is the depth at which the e-expression occurred.
+     * When the expansion ends, the saved position is restored, leaving the cursor on the e-expression. Instances, and
+     * the buffers that hold their expansions, are reused by subsequent expansions at the same depth of nesting.
+     */
+    private static class Expansion {
+
+        /**
+         * The expansion that encloses this one, or null if the e-expression occurred in the cursor's own data.
+         */
+        final Expansion enclosing;
+
+        /**
+         * The instance to be reused by expansions nested within this one, or null if none has yet been needed.
+         */
+        Expansion nested = null;
+
+        /**
+         * Holds the expansion's bytes. Grown as needed.
+         */
+        byte[] bytes = new byte[EXPANSION_BUFFER_INITIAL_CAPACITY];
+
+        /**
+         * Wraps `bytes`.
+         */
+        ByteBuffer bytesWrapper = ByteBuffer.wrap(bytes);
+
+        /**
+         * True if the e-expression is a struct field, in which case each value at the top level of the expansion
+         * takes its field name.
+         */
+        boolean isInStruct;
+
+        /**
+         * The number of bytes of inline field name text that precede the values in the expansion, or -1 if the
+         * e-expression's field name is a symbol ID.
+         */
+        int fieldTextLength;
+
+        // The state of the enclosing source, restored when the expansion ends.
+        byte[] buffer;
+        ByteBuffer directBuffer;
+        ByteBuffer byteBuffer;
+        RefillableState refillableState;
+        boolean isSlowMode;
+        long offset;
+        long limit;
+        long peekIndex;
+        long checkpoint;
+        CheckpointLocation checkpointLocation;
+        long valuePreHeaderIndex;
+        Marker parent;
+        int containerIndex;
+        int fieldSid;
+        long fieldTextStartIndex;
+        long fieldTextEndIndex;
+        IonTypeID valueTid;
+        long valueStartIndex;
+        long valueEndIndex;
+        long macroAddress;
+
+        Expansion(Expansion enclosing) {
+            this.enclosing = enclosing;
+        }
+
+        /**
+         * Ensures that `bytes` can hold at least the given number of bytes.
+         */
+        void ensureCapacity(int length) {
+            if (bytes.length < length) {
+                bytes = new byte[nextPowerOfTwo(length)];
+                bytesWrapper = ByteBuffer.wrap(bytes);
+            }
+        }
+
+        /**
+         * Saves the cursor's position in the source of data in which the e-expression occurred.
+         */
+        void save(IonCursorBinary cursor, int fieldTextLength) {
+            isInStruct = cursor.parent == null ? enclosing != null && enclosing.isInStruct : cursor.parent.typeId.type == IonType.STRUCT;
+            this.fieldTextLength = fieldTextLength;
+            buffer = cursor.buffer;
+            directBuffer = cursor.directBuffer;
+            byteBuffer = cursor.byteBuffer;
+            refillableState = cursor.refillableState;
+            isSlowMode = cursor.isSlowMode;
+            offset = cursor.offset;
+            limit = cursor.limit;
+            peekIndex = cursor.peekIndex;
+            checkpoint = cursor.checkpoint;
+            checkpointLocation = cursor.checkpointLocation;
+            valuePreHeaderIndex = cursor.valuePreHeaderIndex;
+            parent = cursor.parent;
+            containerIndex = cursor.containerIndex;
+            fieldSid = cursor.fieldSid;
+            fieldTextStartIndex = cursor.fieldTextMarker.startIndex;
+            fieldTextEndIndex = cursor.fieldTextMarker.endIndex;
+            valueTid = cursor.valueTid;
+            valueStartIndex = cursor.valueMarker.startIndex;
+            valueEndIndex = cursor.valueMarker.endIndex;
+            macroAddress = cursor.macroAddress;
+        }
+    }
+
     /**
      * Dummy state that indicates the cursor has been terminated and that additional API calls will have no effect.
      */
@@ -179,6 +328,11 @@ class IonCursorBinary implements IonCursor {
      */
     private final BufferConfiguration.DataHandler dataHandler;
 
+    /**
+     * The listener that will be notified of buffer management events, or null if metrics are not being collected.
+     */
+    ReaderMetricsListener metricsListener = null;
+
     /**
      * Marker for the sequence of annotation symbol IDs on the current value. If there are no annotations on
      * the current value, the startIndex will be negative.
@@ -190,6 +344,12 @@ class IonCursorBinary implements IonCursor {
      */
     boolean hasAnnotations = false;
 
+    /**
+     * Marker for the inline UTF-8 text of the current value's field name. Only Ion 1.1 field names may have inline
+     * text. If the field name is a symbol ID, the startIndex will be negative.
+     */
+    final Marker fieldTextMarker = new Marker(-1, 0);
+
     /**
      * Marker representing the current value.
      */
@@ -216,10 +376,30 @@ class IonCursorBinary implements IonCursor {
     IonCursor.Event event = IonCursor.Event.NEEDS_DATA;
 
     /**
-     * The buffer in which the cursor stores slices of the Ion stream.
+     * The buffer in which the cursor stores slices of the Ion stream. Null when the cursor reads from a ByteBuffer that
+     * is not backed by an accessible array (e.g. a direct ByteBuffer or a memory-mapped file), in which case
+     * `directBuffer` holds the bytes.
      */
     byte[] buffer;
 
+    /**
+     * The ByteBuffer (or memory-mapped window) from which the cursor reads when `buffer` is null. Index 0 corresponds to
+     * the first byte of Ion data. Unlike `byteBuffer`, whose position and limit are modified to create views over
+     * individual values, its limit is always equal to its capacity.
+     */
+    ByteBuffer directBuffer = null;
+
+    /**
+     * The channel over the memory-mapped file from which the cursor reads, or null if the cursor does not read from a
+     * file.
+     */
+    private FileChannel channel = null;
+
+    /**
+     * True if `channel` is closed when the cursor is closed.
+     */
+    private boolean isChannelClosedOnClose = true;
+
     /**
      * The major version of the Ion encoding currently being read.
      */
@@ -262,6 +442,62 @@ class IonCursorBinary implements IonCursor {
      */
     private CheckpointLocation checkpointLocation = CheckpointLocation.BEFORE_UNANNOTATED_TYPE_ID;
 
+    /**
+     * The index of the next byte to be examined during a search for the end of an Ion 1.1 delimited container.
+     */
+    private long delimitedScanIndex = -1;
+
+    /**
+     * During a search for the end of a delimited container or e-expression, holds a frame (see `SCAN_SEQUENCE`,
+     * `SCAN_STRUCT`) for each delimited container or e-expression enclosing `delimitedScanIndex`. Index 0 holds the
+     * frame whose end is sought.
+     */
+    private int[] delimitedScanFrames = new int[CONTAINER_STACK_INITIAL_CAPACITY];
+
+    /**
+     * The index in `delimitedScanFrames` of the innermost frame enclosing `delimitedScanIndex`, or -1 if no search is
+     * in progress.
+     */
+    private int delimitedScanDepth = -1;
+
+    /**
+     * Indicates whether `delimitedScanIndex` points at the opcode of a value whose field name (if applicable) has
+     * already been scanned.
+     */
+    private boolean isDelimitedScanAtValue = false;
+
+    /**
+     * The Marker whose endIndex will be set once the end of the delimited container being searched has been found.
+     */
+    private Marker delimitedScanTarget = null;
+
+    /**
+     * Receives the end of each argument located by `findMacroArguments_1_1`.
+     */
+    private final Marker argumentMarker = new Marker(-1, -1);
+
+    /**
+     * The macros that e-expressions in Ion 1.1 data may invoke, or null if e-expressions are not supported, in which
+     * case encountering one raises an error. Set by the application-level reader, which expands e-expressions.
+     */
+    MacroTable macroTable = null;
+
+    /**
+     * The address of the macro invoked by the e-expression on which the cursor is positioned.
+     */
+    long macroAddress = -1;
+
+    /**
+     * The innermost macro expansion that the cursor is reading, or null if the cursor is reading its own data.
+     */
+    private Expansion expansion = null;
+
+    /**
+     * The instance to be reused by expansions of e-expressions that occur in the cursor's own data, or null if none
+     * has yet been needed.
+     */
+    private Expansion outermostExpansion = null;
+
     /**
      * Indicates whether the cursor is in slow mode. Slow mode must be used when the input source is refillable (i.e.
      * a stream) and the cursor has not buffered the current value's bytes. When slow mode is disabled, the cursor can
@@ -325,6 +561,119 @@ class IonCursorBinary implements IonCursor {
         refillableState = null;
     }
 
+    /**
+     * Constructs a new fixed (non-refillable) cursor from the given ByteBuffer, which is typically direct (off-heap).
+     * Bytes are read directly from the ByteBuffer without being copied into the Java heap.
+     * @param configuration the configuration to use. The buffer size and oversized value configuration are unused, as
+     *                      the given buffer is used directly.
+     * @param buffer the ByteBuffer containing the bytes to read between its position and its limit. The position and
+     *               limit of the given ByteBuffer are not modified.
+     */
+    IonCursorBinary(
+        final IonBufferConfiguration configuration,
+        ByteBuffer buffer
+    ) {
+        this.dataHandler = getDataHandler(configuration);
+        peekIndex = 0;
+        valuePreHeaderIndex = 0;
+        checkpoint = 0;
+
+        for (int i = 0; i < CONTAINER_STACK_INITIAL_CAPACITY; i++) {
+            containerStack[i] = new Marker(-1, -1);
+        }
+
+        this.buffer = null;
+        this.startOffset = 0;
+        this.offset = 0;
+        // Slicing ensures that index 0 of the cursor's view is the first byte of Ion data.
+        setDirectBuffer(buffer.slice());
+        this.limit = directBuffer.capacity();
+        isSlowMode = false;
+        refillableState = null;
+    }
+
+    /**
+     * Constructs a new cursor over a region of the given file, which is memory-mapped so that bytes are read directly
+     * from the mapping without being copied into the Java heap. If the region is no larger than the configuration's
+     * maximum buffer size, it is mapped in its entirety and the cursor is fixed (non-refillable), just like a cursor
+     * over a byte array. Otherwise, the region is mapped in successive windows no larger than the maximum buffer size,
+     * and values that do not fit in a window are handled by the configuration's oversized value handler.
+     * @param configuration the configuration to use.
+     * @param channel the channel over the file containing the bytes to read.
+     * @param position the position in the file at which the first byte of Ion data begins.
+     * @param length the number of bytes to be read from the file.
+     */
+    IonCursorBinary(
+        IonBufferConfiguration configuration,
+        FileChannel channel,
+        long position,
+        long length
+    ) {
+        if (configuration != IonBufferConfiguration.DEFAULT) {
+            validate(configuration);
+        }
+        this.dataHandler = getDataHandler(configuration);
+        peekIndex = 0;
+        checkpoint = 0;
+
+        for (int i = 0; i < CONTAINER_STACK_INITIAL_CAPACITY; i++) {
+            containerStack[i] = new Marker(-1, -1);
+        }
+
+        this.buffer = null;
+        this.channel = channel;
+        this.startOffset = 0;
+        this.offset = 0;
+        int windowSize = configuration.getMaximumBufferSize();
+        if (length <= windowSize) {
+            setDirectBuffer(map(channel, position, length));
+            limit = length;
+            isSlowMode = false;
+            refillableState = null;
+        } else {
+            setDirectBuffer(map(channel, position, windowSize));
+            limit = 0;
+            isSlowMode = true;
+            refillableState = new RefillableState(null, windowSize, windowSize, State.READY);
+            refillableState.channelPosition = position;
+            refillableState.channelLimit = position + length;
+            registerOversizedValueHandler(configuration.getOversizedValueHandler());
+        }
+    }
+
+    /**
+     * Prevents {@link #close()} from closing the channel from which the cursor reads, e.g. because the caller
+     * continues to use the channel after the cursor is closed. Closing the cursor still releases its mappings.
+     */
+    void retainChannelOnClose() {
+        isChannelClosedOnClose = false;
+    }
+
+    /**
+     * Sets the ByteBuffer from which the cursor reads, and creates the view used to access the bytes of individual
+     * values.
+     * @param bytes the ByteBuffer.
+     */
+    private void setDirectBuffer(ByteBuffer bytes) {
+        directBuffer = bytes;
+        byteBuffer = bytes.duplicate();
+    }
+
+    /**
+     * Maps a read-only region of the given file into memory.
+     * @param channel the channel over the file.
+     * @param position the position in the file at which the mapped region begins.
+     * @param size the size of the mapped region.
+     * @return a new ByteBuffer over the mapped region.
+     */
+    private static ByteBuffer map(FileChannel channel, long position, long size) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
     /**
      * @param value a non-negative number.
      * @return the exponent of the next power of two greater than or equal to the given number.
@@ -486,6 +835,32 @@ class IonCursorBinary implements IonCursor {
 
     /* ---- Begin: internal buffer manipulation methods ---- */
 
+    /**
+     * @param index a byte index in the buffer.
+     * @return the byte at the given index, read either from the byte array or from the ByteBuffer.
+     */
+    final byte byteAt(long index) {
+        byte[] bytes = buffer;
+        return bytes != null ? bytes[(int) index] : directBuffer.get((int) index);
+    }
+
+    /**
+     * Copies bytes from the buffer into the given array.
+     * @param index the index in the buffer of the first byte to copy.
+     * @param destination the array into which the bytes will be copied.
+     * @param destinationOffset the offset into `destination` at which the first byte will be copied.
+     * @param length the number of bytes to copy.
+     */
+    final void copyBytes(long index, byte[] destination, int destinationOffset, int length) {
+        if (buffer != null) {
+            System.arraycopy(buffer, (int) index, destination, destinationOffset, length);
+        } else {
+            byteBuffer.limit(byteBuffer.capacity());
+            byteBuffer.position((int) index);
+            byteBuffer.get(destination, destinationOffset, length);
+        }
+    }
+
     /**
      * @param index a byte index in the buffer.
      * @return the number of bytes available in the buffer after the given index.
@@ -512,11 +887,20 @@ class IonCursorBinary implements IonCursor {
             refillableState.isSkippingCurrentValue = true;
             return false;
         }
+        if (channel != null) {
+            // The window is always mapped at the maximum size, so it never needs to grow. Instead of copying bytes
+            // to the start of the buffer, map a new window that starts at the first unprocessed byte.
+            remapWindowAt(startOffset);
+            return true;
+        }
         long shortfall = minimumNumberOfBytesRequired - refillableState.capacity;
         if (shortfall > 0) {
             int newSize = (int) Math.min(Math.max(refillableState.capacity * 2, nextPowerOfTwo((int) (refillableState.capacity + shortfall))), maximumFreeSpace);
             byte[] newBuffer = new byte[newSize];
             moveBytesToStartOfBuffer(newBuffer, startOffset);
+            if (metricsListener != null) {
+                metricsListener.onBufferGrowth((int) refillableState.capacity, newSize);
+            }
             refillableState.capacity = newSize;
             buffer = newBuffer;
             byteBuffer = ByteBuffer.wrap(buffer, (int) offset, (int) refillableState.capacity);
@@ -524,6 +908,9 @@ class IonCursorBinary implements IonCursor {
             // The current capacity can accommodate the requested size; move the existing bytes to the beginning
             // to make room for the remaining requested bytes to be filled at the end.
             moveBytesToStartOfBuffer(buffer, startOffset);
+            if (metricsListener != null && startOffset > 0) {
+                metricsListener.onBufferShift((int) limit);
+            }
         }
         return true;
     }
@@ -572,6 +959,22 @@ class IonCursorBinary implements IonCursor {
         limit = size;
     }
 
+    /**
+     * Maps a new window of the file such that the byte at the given index of the current window becomes the first byte
+     * of the new window. This is the memory-mapped equivalent of `moveBytesToStartOfBuffer`.
+     * @param fromIndex the index in the current window at which the new window will begin.
+     */
+    private void remapWindowAt(int fromIndex) {
+        long size = availableAt(fromIndex);
+        long windowStart = refillableState.channelPosition - size;
+        setDirectBuffer(map(channel, windowStart, Math.min(refillableState.capacity, refillableState.channelLimit - windowStart)));
+        if (fromIndex > 0) {
+            shiftIndicesLeft(fromIndex);
+        }
+        offset = 0;
+        limit = size;
+    }
+
     /**
      * @return the number of bytes that can be written at the end of the buffer.
      */
@@ -588,7 +991,11 @@ class IonCursorBinary implements IonCursor {
     private int readByteWithoutBuffering() {
         int b = -1;
         try {
-            b = refillableState.inputStream.read();
+            if (channel != null) {
+                b = readByteFromChannel();
+            } else {
+                b = refillableState.inputStream.read();
+            }
         } catch (EOFException e) {
             // Certain InputStream implementations (e.g. GZIPInputStream) throw EOFException if more bytes are requested
             // to read than are currently available (e.g. if a header or trailer is incomplete).
@@ -601,6 +1008,29 @@ class IonCursorBinary implements IonCursor {
         return b;
     }
 
+    /**
+     * Reads a single byte from the file at `channelPosition`, which is beyond the current mapped window.
+     * @return the next byte, or -1 if the end of the region being read has been reached.
+     * @throws IOException if thrown by the channel.
+     */
+    private int readByteFromChannel() throws IOException {
+        if (refillableState.channelPosition >= refillableState.channelLimit) {
+            return -1;
+        }
+        ByteBuffer singleByte = refillableState.channelSingleByte;
+        if (singleByte == null) {
+            singleByte = ByteBuffer.allocate(1);
+            refillableState.channelSingleByte = singleByte;
+        } else {
+            singleByte.clear();
+        }
+        if (channel.read(singleByte, refillableState.channelPosition) < 1) {
+            return -1;
+        }
+        refillableState.channelPosition++;
+        return singleByte.get(0) & SINGLE_BYTE_MASK;
+    }
+
     /**
      * Peek at the next byte from the stream, assuming it will be buffered unless the current value is being skipped.
      * @return the byte, or -1 if the end of the stream has been reached.
@@ -609,7 +1039,7 @@ class IonCursorBinary implements IonCursor {
         if (refillableState.isSkippingCurrentValue) {
             return readByteWithoutBuffering();
         }
-        return buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+        return byteAt(peekIndex++) & SINGLE_BYTE_MASK;
     }
 
     /**
@@ -638,6 +1068,9 @@ class IonCursorBinary implements IonCursor {
                 containerStack[i].endIndex -= shiftAmount;
             }
         }
+        if (delimitedScanDepth >= 0) {
+            delimitedScanIndex -= shiftAmount;
+        }
     }
 
     /**
@@ -656,6 +1089,10 @@ class IonCursorBinary implements IonCursor {
             annotationSequenceMarker.startIndex -= shiftAmount;
             annotationSequenceMarker.endIndex -= shiftAmount;
         }
+        if (fieldTextMarker.startIndex > -1) {
+            fieldTextMarker.startIndex -= shiftAmount;
+            fieldTextMarker.endIndex -= shiftAmount;
+        }
         shiftContainerEnds(shiftAmount);
         refillableState.totalDiscardedBytes += shiftAmount;
     }
@@ -668,6 +1105,27 @@ class IonCursorBinary implements IonCursor {
      *  1, then at least `minimumNumberOfBytesRequired` were filled.
      */
     private long refill(long minimumNumberOfBytesRequired) {
+        if (metricsListener == null) {
+            return refillFromSource(minimumNumberOfBytesRequired);
+        }
+        long startNanos = metricsListener.isTimingEnabled() ? System.nanoTime() : -1;
+        long previousLimit = limit;
+        long shortfall = refillFromSource(minimumNumberOfBytesRequired);
+        metricsListener.onRefill((int) (limit - previousLimit), startNanos < 0 ? -1 : System.nanoTime() - startNanos);
+        return shortfall;
+    }
+
+    /**
+     * @see #refill(long)
+     */
+    private long refillFromSource(long minimumNumberOfBytesRequired) {
+        if (channel != null) {
+            // The bytes are already mapped; simply make the rest of the window available.
+            long numberOfBytesFilled = Math.min(freeSpaceAt(limit), directBuffer.capacity() - limit);
+            limit += numberOfBytesFilled;
+            refillableState.channelPosition += numberOfBytesFilled;
+            return minimumNumberOfBytesRequired - availableAt(offset);
+        }
         int numberOfBytesFilled = -1;
         long shortfall;
         // Sometimes an InputStream implementation will return fewer than the number of bytes requested even
@@ -710,7 +1168,12 @@ class IonCursorBinary implements IonCursor {
         long skipped = 0;
         do {
             try {
-                skipped = refillableState.inputStream.skip(unbufferedBytesToSkip);
+                if (channel != null) {
+                    skipped = Math.min(unbufferedBytesToSkip, refillableState.channelLimit - refillableState.channelPosition);
+                    refillableState.channelPosition += skipped;
+                } else {
+                    skipped = refillableState.inputStream.skip(unbufferedBytesToSkip);
+                }
             } catch (EOFException e) {
                 // Certain InputStream implementations (e.g. GZIPInputStream) throw EOFException if more bytes are requested
                 // to skip than are currently available (e.g. if a header or trailer is incomplete).
@@ -719,6 +1182,9 @@ class IonCursorBinary implements IonCursor {
                 throwAsIonException(e);
             }
             refillableState.totalDiscardedBytes += skipped;
+            if (metricsListener != null && skipped > 0) {
+                metricsListener.onSkip(skipped);
+            }
             shiftContainerEnds(skipped);
             shortfall = unbufferedBytesToSkip - skipped;
             unbufferedBytesToSkip = shortfall;
@@ -749,7 +1215,7 @@ class IonCursorBinary implements IonCursor {
             if (peekIndex >= limit) {
                 throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
             }
-            currentByte = buffer[(int) (peekIndex++)];
+            currentByte = byteAt(peekIndex++);
             result = (result << VALUE_BITS_PER_VARUINT_BYTE) | (currentByte & LOWER_SEVEN_BITS_BITMASK);
         } while (currentByte >= 0);
         if (result < 0) {
@@ -794,7 +1260,7 @@ class IonCursorBinary implements IonCursor {
             if (peekIndex >= limit) {
                 throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
             }
-            byte b = buffer[(int) peekIndex++];
+            byte b = byteAt(peekIndex++);
             if (b < 0) {
                 endIndex = (b & LOWER_SEVEN_BITS_BITMASK);
             } else {
@@ -808,7 +1274,7 @@ class IonCursorBinary implements IonCursor {
         if (endIndex > limit || endIndex < 0) {
             throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
         }
-        byte b = buffer[(int) peekIndex++];
+        byte b = byteAt(peekIndex++);
         int annotationsLength;
         if (b < 0) {
             annotationsLength = (b & LOWER_SEVEN_BITS_BITMASK);
@@ -891,116 +1357,1002 @@ class IonCursorBinary implements IonCursor {
     }
 
     /**
-     * Calculates the end index for the given type ID and sets `event` based on the type of value encountered, if any.
-     * At the time of invocation, `peekIndex` must point to the first byte after the value's type ID byte. After return,
-     * `peekIndex` will point to the first byte in the value's representation, or, in the case of a NOP pad, the first
-     * byte that follows the pad.
-     * @param valueTid the type ID of the value.
-     * @param isAnnotated true if the value is annotated.
-     * @return the end index of the value or NOP pad.
+     * Calculates the end index for the given type ID and sets `event` based on the type of value encountered, if any.
+     * At the time of invocation, `peekIndex` must point to the first byte after the value's type ID byte. After return,
+     * `peekIndex` will point to the first byte in the value's representation, or, in the case of a NOP pad, the first
+     * byte that follows the pad.
+     * @param valueTid the type ID of the value.
+     * @param isAnnotated true if the value is annotated.
+     * @return the end index of the value or NOP pad.
+     */
+    private long calculateEndIndex_1_0(IonTypeID valueTid, boolean isAnnotated) {
+        long endIndex;
+        if (valueTid.variableLength) {
+            if (peekIndex >= limit) {
+                throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+            }
+            byte b = byteAt(peekIndex++);
+            if (b < 0) {
+                endIndex = (b & LOWER_SEVEN_BITS_BITMASK) + peekIndex;
+            } else {
+                endIndex = uncheckedReadVarUInt_1_0(b) + peekIndex;
+                if (endIndex < 0) {
+                    throw new IonException("Unsupported value: declared length is too long.");
+                }
+            }
+        } else {
+            endIndex = valueTid.length + peekIndex;
+        }
+        if (valueTid.type != null && valueTid.type.ordinal() >= LIST_TYPE_ORDINAL) {
+            event = Event.START_CONTAINER;
+        } else if (valueTid.isNopPad) {
+            uncheckedSeekPastNopPad(endIndex, isAnnotated);
+        } else {
+            event = Event.START_SCALAR;
+        }
+        return endIndex;
+    }
+
+    /**
+     * Reads the field SID from the VarUInt starting at `peekIndex`, ensuring enough data is available in the buffer.
+     * @return true if there are not enough bytes in the stream to complete the field SID; otherwise, false.
+     */
+    private boolean slowReadFieldName_1_0() {
+        // The value must have at least 2 more bytes: 1 for the smallest-possible field SID and 1 for
+        // the smallest-possible representation.
+        if (!fillAt(peekIndex, 2)) {
+            return true;
+        }
+        fieldSid = (int) slowReadVarUInt_1_0();
+        return fieldSid < 0;
+    }
+
+    /* ---- Ion 1.1 ---- */
+
+    /**
+     * @param firstByte the first byte of a FlexInt or FlexUInt.
+     * @return the number of bytes in the FlexInt or FlexUInt, which is one more than the number of trailing zeros in
+     *  its first byte.
+     */
+    static int flexLength_1_1(byte firstByte) {
+        if (firstByte == 0) {
+            // The FlexInt or FlexUInt is more than 8 bytes long, so its value could not fit in a `long`.
+            throw new IonException("Unsupported value: declared length is too long.");
+        }
+        return Integer.numberOfTrailingZeros(firstByte) + 1;
+    }
+
+    /**
+     * Reads the FlexInt or FlexUInt that starts at the given index. NOTE: the value must fit in a `long`. This must
+     * only be called when it is known that the buffer already contains all the bytes in the value.
+     * @param index the index of the first byte.
+     * @param length the number of bytes (see `flexLength_1_1`).
+     * @param isSigned true if the value is a FlexInt; false if it is a FlexUInt.
+     * @return the value.
+     */
+    final long readFlexIntOrUInt_1_1(long index, int length, boolean isSigned) {
+        long lastIndex = index + length - 1;
+        long result = isSigned ? byteAt(lastIndex) : byteAt(lastIndex) & SINGLE_BYTE_MASK;
+        for (long i = lastIndex - 1; i >= index; i--) {
+            result = (result << Byte.SIZE) | (byteAt(i) & SINGLE_BYTE_MASK);
+        }
+        // The lowest `length` bits encode the length, not the value.
+        return isSigned ? result >> length : result >>> length;
+    }
+
+    /**
+     * Reads the little-endian FixedUInt that occupies the given range. NOTE: the value must fit in a `long`.
+     * @param startIndex the index of the first byte.
+     * @param endIndex the index after the last byte.
+     * @return the value.
+     */
+    final long readFixedUInt_1_1(long startIndex, long endIndex) {
+        long result = 0;
+        for (long i = endIndex - 1; i >= startIndex; i--) {
+            result = (result << Byte.SIZE) | (byteAt(i) & SINGLE_BYTE_MASK);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the symbol address that follows a symbol address opcode (0xE1 through 0xE3). This must only be called
+     * when it is known that the buffer already contains all the bytes in the address.
+     * @param opcode the opcode.
+     * @param index the index of the first byte after the opcode.
+     * @return the symbol ID.
+     */
+    final int readSymbolAddress_1_1(int opcode, long index) {
+        long sid;
+        switch (opcode) {
+            case SYMBOL_ADDRESS_1_BYTE_1_1:
+                sid = readFixedUInt_1_1(index, index + 1);
+                break;
+            case SYMBOL_ADDRESS_2_BYTES_1_1:
+                sid = readFixedUInt_1_1(index, index + 2) + SYMBOL_ADDRESS_2_BYTES_BIAS_1_1;
+                break;
+            case SYMBOL_ADDRESS_MANY_BYTES_1_1:
+                sid = readFlexIntOrUInt_1_1(index, flexLength_1_1(byteAt(index)), false) + SYMBOL_ADDRESS_MANY_BYTES_BIAS_1_1;
+                break;
+            default:
+                throw new IonException("Invalid FlexSym escape.");
+        }
+        if (sid > Integer.MAX_VALUE) {
+            throw new IonException("Unsupported value: symbol ID is too large.");
+        }
+        return (int) sid;
+    }
+
+    /**
+     * @param index the index of the first byte of a FlexInt or FlexUInt.
+     * @return the number of bytes in the FlexInt or FlexUInt, or -1 if its first byte is not buffered.
+     */
+    private long bufferedFlexLength_1_1(long index) {
+        return index < limit ? flexLength_1_1(byteAt(index)) : -1;
+    }
+
+    /**
+     * Determines the length of the FlexSym that starts at the given index, examining only the bytes that are
+     * currently buffered.
+     * @param index the index of the first byte of the FlexSym.
+     * @return the number of bytes in the FlexSym, including its inline text or escaped symbol address, if any; or -1
+     *  if not enough bytes are buffered to determine the length.
+     */
+    final long bufferedFlexSymLength_1_1(long index) {
+        if (index >= limit) {
+            return -1;
+        }
+        int length = flexLength_1_1(byteAt(index));
+        if (index + length > limit) {
+            return -1;
+        }
+        long value = readFlexIntOrUInt_1_1(index, length, true);
+        if (value > 0) {
+            return length;
+        }
+        if (value < 0) {
+            // Negative values denote the length of the inline UTF-8 text that follows.
+            return length - value;
+        }
+        long opcodeIndex = index + length;
+        if (opcodeIndex >= limit) {
+            return -1;
+        }
+        int opcode = byteAt(opcodeIndex) & SINGLE_BYTE_MASK;
+        if (opcode >= INLINE_SYMBOL_MIN_1_1 && opcode <= INLINE_SYMBOL_MAX_1_1) {
+            return length + 1 + (opcode & LOWER_NIBBLE_BITMASK);
+        }
+        switch (opcode) {
+            case DELIMITED_END_MARKER_1_1:
+                return length + 1;
+            case SYMBOL_ADDRESS_1_BYTE_1_1:
+                return length + 2;
+            case SYMBOL_ADDRESS_2_BYTES_1_1:
+                return length + 3;
+            case SYMBOL_ADDRESS_MANY_BYTES_1_1:
+                long addressLength = bufferedFlexLength_1_1(opcodeIndex + 1);
+                return addressLength < 0 ? -1 : length + 1 + addressLength;
+            default:
+                throw new IonException("Invalid FlexSym escape.");
+        }
+    }
+
+    /**
+     * Reads the FlexSym that starts at the given index. This must only be called when it is known that the buffer
+     * already contains all the bytes in the FlexSym (see `bufferedFlexSymLength_1_1`).
+     * @param index the index of the first byte of the FlexSym.
+     * @param textMarker the Marker to set with the location of the FlexSym's inline UTF-8 text. If the FlexSym does not
+     *                   have inline text, the Marker's startIndex will be set to -1.
+     * @return the FlexSym's symbol ID; -1 if the FlexSym has inline text; or FLEX_SYM_DELIMITED_END_1_1 if the FlexSym
+     *  is the escape sequence that ends a delimited struct.
+     */
+    final int readFlexSym_1_1(long index, Marker textMarker) {
+        textMarker.startIndex = -1;
+        int length = flexLength_1_1(byteAt(index));
+        long value = readFlexIntOrUInt_1_1(index, length, true);
+        index += length;
+        if (value > 0) {
+            if (value > Integer.MAX_VALUE) {
+                throw new IonException("Unsupported value: symbol ID is too large.");
+            }
+            return (int) value;
+        }
+        if (value < 0) {
+            textMarker.startIndex = index;
+            textMarker.endIndex = index - value;
+            return -1;
+        }
+        int opcode = byteAt(index++) & SINGLE_BYTE_MASK;
+        if (opcode >= INLINE_SYMBOL_MIN_1_1 && opcode <= INLINE_SYMBOL_MAX_1_1) {
+            textMarker.startIndex = index;
+            textMarker.endIndex = index + (opcode & LOWER_NIBBLE_BITMASK);
+            return -1;
+        }
+        if (opcode == DELIMITED_END_MARKER_1_1) {
+            return FLEX_SYM_DELIMITED_END_1_1;
+        }
+        return readSymbolAddress_1_1(opcode, index);
+    }
+
+    /**
+     * Reads a FlexUInt. NOTE: the FlexUInt must fit in a `long`. This must only be called when it is known that the
+     * buffer already contains all the bytes in the FlexUInt.
+     * @return the value.
+     */
+    private long uncheckedReadFlexUInt_1_1() {
+        if (peekIndex >= limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        int length = flexLength_1_1(byteAt(peekIndex));
+        if (peekIndex + length > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        long value = readFlexIntOrUInt_1_1(peekIndex, length, false);
+        peekIndex += length;
+        return value;
+    }
+
+    /**
+     * Ensures that the FlexUInt at the given distance from `peekIndex` is buffered in its entirety.
+     * @param distance the number of bytes between `peekIndex` and the first byte of the FlexUInt.
+     * @return the number of bytes in the FlexUInt, or -1 if not enough data was available in the stream.
+     */
+    private long slowFillFlexUInt_1_1(long distance) {
+        if (!fillAt(peekIndex, distance + 1) || refillableState.isSkippingCurrentValue) {
+            return -1;
+        }
+        int length = flexLength_1_1(byteAt(peekIndex + distance));
+        if (!fillAt(peekIndex, distance + length) || refillableState.isSkippingCurrentValue) {
+            return -1;
+        }
+        return length;
+    }
+
+    /**
+     * Reads a FlexUInt, ensuring enough data is available in the buffer. NOTE: the FlexUInt must fit in a `long`.
+     * @return the value, or -1 if not enough data was available in the stream.
+     */
+    private long slowReadFlexUInt_1_1() {
+        if (slowFillFlexUInt_1_1(0) < 0) {
+            return -1;
+        }
+        return uncheckedReadFlexUInt_1_1();
+    }
+
+    /**
+     * Ensures that the FlexSym at the given distance from `peekIndex` is buffered in its entirety.
+     * @param distance the number of bytes between `peekIndex` and the first byte of the FlexSym.
+     * @return the number of bytes in the FlexSym, or -1 if not enough data was available in the stream.
+     */
+    private long slowFillFlexSym_1_1(long distance) {
+        long length;
+        while ((length = bufferedFlexSymLength_1_1(peekIndex + distance)) < 0) {
+            // Request one more byte than is currently buffered until the length can be determined.
+            if (!fillAt(peekIndex, availableAt(peekIndex) + 1) || refillableState.isSkippingCurrentValue) {
+                return -1;
+            }
+        }
+        if (!fillAt(peekIndex, distance + length) || refillableState.isSkippingCurrentValue) {
+            return -1;
+        }
+        return length;
+    }
+
+    /**
+     * Reads the header of an annotation wrapper. This must only be called when it is known that the buffer already
+     * contains all the bytes in the header. Sets `annotationSequenceMarker` with the start and end indices of the
+     * sequence of annotations. Unlike in Ion 1.0, the wrapper does not declare a length, so `valueMarker` is not set.
+     * After successful return, `peekIndex` will point at the opcode of the wrapped value.
+     * @param valueTid the type ID of the annotation wrapper.
+     * @return false; the header is always complete, as an incomplete header is malformed.
+     */
+    private boolean uncheckedReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
+        long annotationsLength;
+        if (valueTid.variableLength) {
+            annotationsLength = uncheckedReadFlexUInt_1_1();
+        } else {
+            annotationsLength = 0;
+            for (int i = 0; i < valueTid.length; i++) {
+                long length = valueTid.isInlineable
+                    ? bufferedFlexSymLength_1_1(peekIndex + annotationsLength)
+                    : bufferedFlexLength_1_1(peekIndex + annotationsLength);
+                if (length < 0) {
+                    throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+                }
+                annotationsLength += length;
+            }
+        }
+        annotationSequenceMarker.typeId = valueTid;
+        annotationSequenceMarker.startIndex = peekIndex;
+        annotationSequenceMarker.endIndex = annotationSequenceMarker.startIndex + annotationsLength;
+        peekIndex = annotationSequenceMarker.endIndex;
+        if (peekIndex >= limit || (parent != null && parent.endIndex > DELIMITED_MARKER && peekIndex >= parent.endIndex)) {
+            throw new IonException("Annotation wrapper must wrap a value.");
+        }
+        return false;
+    }
+
+    /**
+     * Reads the header of an annotation wrapper, ensuring enough data is available in the buffer. Sets
+     * `annotationSequenceMarker` with the start and end indices of the sequence of annotations. After successful
+     * return, `peekIndex` will point at the opcode of the wrapped value.
+     * @param valueTid the type ID of the annotation wrapper.
+     * @return true if there are not enough bytes in the stream to complete the header; otherwise, false.
+     */
+    private boolean slowReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
+        long annotationsLength;
+        if (valueTid.variableLength) {
+            annotationsLength = slowReadFlexUInt_1_1();
+            if (annotationsLength < 0) {
+                return true;
+            }
+        } else {
+            annotationsLength = 0;
+            for (int i = 0; i < valueTid.length; i++) {
+                long length = valueTid.isInlineable
+                    ? slowFillFlexSym_1_1(annotationsLength)
+                    : slowFillFlexUInt_1_1(annotationsLength);
+                if (length < 0) {
+                    return true;
+                }
+                annotationsLength += length;
+            }
+        }
+        if (!fillAt(peekIndex, annotationsLength)) {
+            return true;
+        }
+        if (refillableState.isSkippingCurrentValue) {
+            // The value is already oversized, so the annotations sequence cannot be buffered.
+            return true;
+        }
+        annotationSequenceMarker.typeId = valueTid;
+        annotationSequenceMarker.startIndex = peekIndex;
+        annotationSequenceMarker.endIndex = annotationSequenceMarker.startIndex + annotationsLength;
+        peekIndex = annotationSequenceMarker.endIndex;
+        if (parent != null && parent.endIndex > DELIMITED_MARKER && peekIndex >= parent.endIndex) {
+            throw new IonException("Annotation wrapper must wrap a value.");
+        }
+        return false;
+    }
+
+    /**
+     * Reads the byte that follows the typed null opcode. `peekIndex` must point at that byte, which must already be
+     * buffered. After return, `peekIndex` will point at the first byte after it.
+     * @return the type ID of the typed null.
+     */
+    private IonTypeID readTypedNull_1_1() {
+        int b = byteAt(peekIndex++) & SINGLE_BYTE_MASK;
+        if (b >= IonTypeID.NULL_TYPE_IDS_1_1.length) {
+            throw new IonException("Invalid typed null.");
+        }
+        return IonTypeID.NULL_TYPE_IDS_1_1[b];
+    }
+
+    /**
+     * Throws when an e-expression (macro invocation) is encountered but no macro table is available to evaluate it.
+     */
+    private static void throwOnTemplateInvocation_1_1() {
+        throw new IonException("Encountered an e-expression, which is not supported by this reader.");
+    }
+
+    /**
+     * Determines the number of bytes that encode the address of the macro invoked by an e-expression, examining only
+     * the bytes that are currently buffered. Addresses below 64 are encoded in the opcode, addresses below 4160 in the
+     * opcode's lower nibble and one additional byte, and all others in a FlexUInt that follows opcode 0xF4.
+     * @param opcode the e-expression's opcode.
+     * @param index the index of the first byte after the opcode.
+     * @return the number of bytes after the opcode that encode the address, or -1 if they are not all buffered.
+     */
+    private long bufferedMacroAddressLength_1_1(int opcode, long index) {
+        long length;
+        if (opcode <= MACRO_ADDRESS_1_BYTE_MAX_1_1) {
+            return 0;
+        } else if (opcode == MACRO_ADDRESS_FLEX_UINT_1_1) {
+            length = bufferedFlexLength_1_1(index);
+        } else {
+            length = 1;
+        }
+        return length < 0 || index + length > limit ? -1 : length;
+    }
+
+    /**
+     * Reads the address of the macro invoked by an e-expression. This must only be called when it is known that the
+     * buffer already contains all the bytes in the address.
+     * @param opcode the e-expression's opcode.
+     * @param index the index of the first byte after the opcode.
+     * @param length the number of bytes after the opcode that encode the address.
+     * @return the address.
+     */
+    private long readMacroAddress_1_1(int opcode, long index, int length) {
+        if (length == 0) {
+            return opcode;
+        } else if (opcode == MACRO_ADDRESS_FLEX_UINT_1_1) {
+            return readFlexIntOrUInt_1_1(index, length, false);
+        }
+        return MACRO_ADDRESS_2_BYTES_BIAS_1_1 + (((opcode & LOWER_NIBBLE_BITMASK) << Byte.SIZE) | (byteAt(index) & SINGLE_BYTE_MASK));
+    }
+
+    /**
+     * Verifies that an e-expression may occur at the cursor's current position.
+     * @param isAnnotated true if the e-expression is within an annotation wrapper.
+     */
+    private void checkMacroInvocation_1_1(boolean isAnnotated) {
+        if (macroTable == null) {
+            throwOnTemplateInvocation_1_1();
+        }
+        if (isAnnotated) {
+            throw new IonException("An e-expression may not be annotated.");
+        }
+    }
+
+    /**
+     * Reads the address of the macro invoked by the e-expression whose opcode precedes `peekIndex`, setting
+     * `macroAddress`. This must only be called when it is known that the buffer already contains all the bytes in the
+     * address. After return, `peekIndex` points at the e-expression's first argument.
+     * @param isAnnotated true if the e-expression is within an annotation wrapper.
+     */
+    private void uncheckedReadMacroAddress_1_1(boolean isAnnotated) {
+        checkMacroInvocation_1_1(isAnnotated);
+        int opcode = byteAt(peekIndex - 1) & SINGLE_BYTE_MASK;
+        long length = bufferedMacroAddressLength_1_1(opcode, peekIndex);
+        if (length < 0) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        macroAddress = readMacroAddress_1_1(opcode, peekIndex, (int) length);
+        peekIndex += length;
+    }
+
+    /**
+     * Reads the address of the macro invoked by the e-expression whose opcode precedes `peekIndex`, ensuring enough
+     * bytes are buffered, and sets `macroAddress`. After successful return, `peekIndex` points at the e-expression's
+     * first argument.
+     * @param isAnnotated true if the e-expression is within an annotation wrapper.
+     * @return true if not enough data was available in the stream to complete the address; otherwise, false.
+     */
+    private boolean slowReadMacroAddress_1_1(boolean isAnnotated) {
+        checkMacroInvocation_1_1(isAnnotated);
+        int opcode = byteAt(peekIndex - 1) & SINGLE_BYTE_MASK;
+        long length = 0;
+        if (opcode == MACRO_ADDRESS_FLEX_UINT_1_1) {
+            length = slowFillFlexUInt_1_1(0);
+            if (length < 0) {
+                return true;
+            }
+        } else if (opcode > MACRO_ADDRESS_1_BYTE_MAX_1_1) {
+            if (!fillAt(peekIndex, 1)) {
+                return true;
+            }
+            length = 1;
+        }
+        macroAddress = readMacroAddress_1_1(opcode, peekIndex, (int) length);
+        peekIndex += length;
+        return false;
+    }
+
+    /**
+     * Calculates the end index for the given type ID and sets `event` based on the type of value encountered, if any.
+     * At the time of invocation, `peekIndex` must point to the first byte after the value's opcode. After return,
+     * `peekIndex` will point to the first byte in the value's representation, or, in the case of a NOP pad, the first
+     * byte that follows the pad.
+     * @param valueTid the type ID of the value.
+     * @param isAnnotated true if the value is annotated.
+     * @return the end index of the value or NOP pad, or DELIMITED_MARKER if the value is a delimited container or an
+     *  e-expression.
+     */
+    private long calculateEndIndex_1_1(IonTypeID valueTid, boolean isAnnotated) {
+        if (valueTid.isTemplateInvocation) {
+            // E-expressions are surfaced as containers so that they may be filled, expanded, or skipped.
+            uncheckedReadMacroAddress_1_1(isAnnotated);
+            event = Event.START_CONTAINER;
+            return DELIMITED_MARKER;
+        }
+        long endIndex;
+        if (valueTid.isDelimited) {
+            endIndex = DELIMITED_MARKER;
+        } else if (valueTid.variableLength) {
+            long length = uncheckedReadFlexUInt_1_1();
+            endIndex = length + peekIndex;
+            if (endIndex < 0) {
+                throw new IonException("Unsupported value: declared length is too long.");
+            }
+        } else if (valueTid.isFlexLength) {
+            if (peekIndex >= limit) {
+                throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+            }
+            endIndex = flexLength_1_1(byteAt(peekIndex)) + peekIndex;
+        } else {
+            endIndex = valueTid.length + peekIndex;
+        }
+        if (valueTid.type != null && valueTid.type.ordinal() >= LIST_TYPE_ORDINAL) {
+            event = Event.START_CONTAINER;
+        } else if (valueTid.isNopPad) {
+            uncheckedSeekPastNopPad(endIndex, isAnnotated);
+        } else {
+            event = Event.START_SCALAR;
+        }
+        return endIndex;
+    }
+
+    /**
+     * Reads the field name that starts at `peekIndex`: a FlexSym in structs that allow inline field names, and a
+     * FlexUInt symbol ID otherwise. This must only be called when it is known that the buffer already contains all the
+     * bytes in the field name.
+     */
+    private void uncheckedReadFieldName_1_1() {
+        if (!parent.typeId.isInlineable) {
+            long sid = uncheckedReadFlexUInt_1_1();
+            if (sid > Integer.MAX_VALUE) {
+                throw new IonException("Unsupported value: symbol ID is too large.");
+            }
+            fieldSid = (int) sid;
+            return;
+        }
+        byte b = byteAt(peekIndex);
+        if (b > 1 && (b & 1) == 1) {
+            // Fast path: a single-byte FlexInt representing a positive symbol ID.
+            fieldSid = b >> 1;
+            peekIndex++;
+            return;
+        }
+        long length = bufferedFlexSymLength_1_1(peekIndex);
+        if (length < 0) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        fieldSid = readFlexSym_1_1(peekIndex, fieldTextMarker);
+        if (fieldSid == FLEX_SYM_DELIMITED_END_1_1) {
+            throw new IonException("Malformed data: delimited end marker found in a length-prefixed struct.");
+        }
+        peekIndex += length;
+    }
+
+    /**
+     * Reads the field name that starts at `peekIndex`, ensuring enough data is available in the buffer.
+     * @return true if there are not enough bytes in the stream to complete the field name; otherwise, false.
+     */
+    private boolean slowReadFieldName_1_1() {
+        if (!parent.typeId.isInlineable) {
+            long sid = slowReadFlexUInt_1_1();
+            if (sid < 0) {
+                return true;
+            }
+            if (sid > Integer.MAX_VALUE) {
+                throw new IonException("Unsupported value: symbol ID is too large.");
+            }
+            fieldSid = (int) sid;
+            return false;
+        }
+        long length = slowFillFlexSym_1_1(0);
+        if (length < 0) {
+            return true;
+        }
+        fieldSid = readFlexSym_1_1(peekIndex, fieldTextMarker);
+        if (fieldSid == FLEX_SYM_DELIMITED_END_1_1) {
+            throw new IonException("Malformed data: delimited end marker found in a length-prefixed struct.");
+        }
+        peekIndex += length;
+        return false;
+    }
+
+    /**
+     * Consumes the end marker of the delimited container at the current depth, which has been found at `peekIndex`.
+     * From this point on, the container's end index is known, so it is treated like a length-prefixed container.
+     * @param markerLength the length of the end marker.
+     */
+    private void endDelimitedContainer_1_1(int markerLength) {
+        peekIndex += markerLength;
+        parent.endIndex = peekIndex;
+        event = Event.END_CONTAINER;
+        valueTid = null;
+        fieldSid = -1;
+    }
+
+    /**
+     * Determines whether `peekIndex` points at the end marker of the delimited container at the current depth,
+     * consuming the marker if so. This must only be called when `peekIndex` is before a field name (if applicable) or
+     * opcode.
+     * @return true if the end of the container has been reached; otherwise, false.
      */
-    private long calculateEndIndex_1_0(IonTypeID valueTid, boolean isAnnotated) {
-        long endIndex;
-        if (valueTid.variableLength) {
-            if (peekIndex >= limit) {
-                throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
-            }
-            byte b = buffer[(int) peekIndex++];
-            if (b < 0) {
-                endIndex = (b & LOWER_SEVEN_BITS_BITMASK) + peekIndex;
-            } else {
-                endIndex = uncheckedReadVarUInt_1_0(b) + peekIndex;
-                if (endIndex < 0) {
-                    throw new IonException("Unsupported value: declared length is too long.");
-                }
-            }
-        } else {
-            endIndex = valueTid.length + peekIndex;
+    private boolean uncheckedIsDelimitedEnd_1_1() {
+        if (peekIndex >= limit) {
+            return false;
         }
-        if (valueTid.type != null && valueTid.type.ordinal() >= LIST_TYPE_ORDINAL) {
-            event = Event.START_CONTAINER;
-        } else if (valueTid.isNopPad) {
-            uncheckedSeekPastNopPad(endIndex, isAnnotated);
+        int b = byteAt(peekIndex) & SINGLE_BYTE_MASK;
+        if (parent.typeId.type == IonType.STRUCT) {
+            if (b != FLEX_SYM_ESCAPE_1_1 || peekIndex + 1 >= limit || (byteAt(peekIndex + 1) & SINGLE_BYTE_MASK) != DELIMITED_END_MARKER_1_1) {
+                return false;
+            }
+            endDelimitedContainer_1_1(2);
+        } else if (b == DELIMITED_END_MARKER_1_1) {
+            endDelimitedContainer_1_1(1);
         } else {
-            event = Event.START_SCALAR;
+            return false;
         }
-        return endIndex;
+        return true;
     }
 
     /**
-     * Reads the field SID from the VarUInt starting at `peekIndex`, ensuring enough data is available in the buffer.
-     * @return true if there are not enough bytes in the stream to complete the field SID; otherwise, false.
+     * Determines whether the checkpoint is at the end marker of the delimited container at the current depth,
+     * consuming the marker if so, and ensuring enough data is available in the buffer.
+     * @return true if the end of the container has been reached or if there are not enough bytes in the stream to
+     *  determine whether it has been reached (in which case `event` is NEEDS_DATA); otherwise, false.
      */
-    private boolean slowReadFieldName_1_0() {
-        // The value must have at least 2 more bytes: 1 for the smallest-possible field SID and 1 for
-        // the smallest-possible representation.
-        if (!fillAt(peekIndex, 2)) {
+    private boolean slowIsDelimitedEnd_1_1() {
+        if (checkpointLocation != CheckpointLocation.BEFORE_UNANNOTATED_TYPE_ID) {
+            // The cursor is positioned within a value, which must be completed before the end can be reached.
+            return false;
+        }
+        if (!fillAt(peekIndex, 1)) {
             return true;
         }
-        fieldSid = (int) slowReadVarUInt_1_0();
-        return fieldSid < 0;
+        int b = byteAt(peekIndex) & SINGLE_BYTE_MASK;
+        if (parent.typeId.type == IonType.STRUCT) {
+            if (b != FLEX_SYM_ESCAPE_1_1) {
+                return false;
+            }
+            if (!fillAt(peekIndex, 2)) {
+                return true;
+            }
+            if ((byteAt(peekIndex + 1) & SINGLE_BYTE_MASK) != DELIMITED_END_MARKER_1_1) {
+                return false;
+            }
+            endDelimitedContainer_1_1(2);
+        } else if (b == DELIMITED_END_MARKER_1_1) {
+            endDelimitedContainer_1_1(1);
+        } else {
+            return false;
+        }
+        setCheckpointBeforeUnannotatedTypeId();
+        event = Event.END_CONTAINER;
+        return true;
     }
 
-    /* ---- Ion 1.1 ---- */
+    /**
+     * Begins a search for the end of a delimited container or e-expression.
+     * @param index the index at which to begin scanning, which must be before a field name (if applicable) or opcode
+     *              of an element in the container, before the container's end marker, or before an argument of the
+     *              e-expression.
+     * @param frame the scan frame (see `SCAN_SEQUENCE`, `SCAN_STRUCT`) for the container or e-expression.
+     * @param isAtValue true if `index` points at the opcode of an element whose field name has already been consumed.
+     * @param target the Marker whose endIndex will be set to the index after the container or e-expression once found.
+     */
+    private void startDelimitedScan_1_1(long index, int frame, boolean isAtValue, Marker target) {
+        delimitedScanIndex = index;
+        delimitedScanDepth = 0;
+        delimitedScanFrames[0] = frame;
+        isDelimitedScanAtValue = isAtValue;
+        delimitedScanTarget = target;
+    }
 
-    private long uncheckedReadVarUInt_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Records that the scan has entered a delimited container or e-expression nested within the one whose end is
+     * sought.
+     * @param frame the scan frame for the container or e-expression.
+     */
+    private void pushDelimitedScan_1_1(int frame) {
+        if (++delimitedScanDepth >= delimitedScanFrames.length) {
+            delimitedScanFrames = Arrays.copyOf(delimitedScanFrames, delimitedScanFrames.length * 2);
+        }
+        delimitedScanFrames[delimitedScanDepth] = frame;
     }
 
-    private long slowReadVarUInt_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * @param containerTid the type ID of a delimited container.
+     * @return the scan frame for the container.
+     */
+    private static int delimitedScanFrame_1_1(IonTypeID containerTid) {
+        return containerTid.type == IonType.STRUCT ? SCAN_STRUCT : SCAN_SEQUENCE;
     }
 
-    private boolean uncheckedReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
-        throw new UnsupportedOperationException();
+    /**
+     * @return the scan frame for the value on which the cursor is positioned, which must be a delimited container or
+     *  an e-expression.
+     */
+    private int currentValueScanFrame_1_1() {
+        return valueTid.isTemplateInvocation
+            ? macroTable.get(macroAddress).getParameterCount()
+            : delimitedScanFrame_1_1(valueTid);
     }
 
-    private boolean slowReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
-        throw new UnsupportedOperationException();
+    /**
+     * @param tid a type ID, or null.
+     * @return true if the given type ID denotes a value whose end can only be found by scanning its contents.
+     */
+    private static boolean isScanned_1_1(IonTypeID tid) {
+        return tid != null && (tid.isDelimited || tid.isTemplateInvocation);
     }
 
-    private long calculateEndIndex_1_1(IonTypeID valueTid, boolean isAnnotated) {
-        throw new UnsupportedOperationException();
+    /**
+     * Determines the number of bytes in the annotation sequence that starts at the given index, examining only the
+     * bytes that are currently buffered.
+     * @param index the index of the first byte after the annotation wrapper's opcode.
+     * @param wrapperTid the type ID of the annotation wrapper.
+     * @return the number of bytes, including any length prefix, or -1 if not enough bytes are buffered to determine it.
+     */
+    private long bufferedAnnotationsLength_1_1(long index, IonTypeID wrapperTid) {
+        if (wrapperTid.variableLength) {
+            return bufferedLengthPrefixedLength_1_1(index);
+        }
+        long startIndex = index;
+        for (int i = 0; i < wrapperTid.length; i++) {
+            long length = wrapperTid.isInlineable ? bufferedFlexSymLength_1_1(index) : bufferedFlexLength_1_1(index);
+            if (length < 0) {
+                return -1;
+            }
+            index += length;
+        }
+        return index - startIndex;
     }
 
-    private void uncheckedReadFieldName_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * @param index the index of a FlexUInt length prefix.
+     * @return the number of bytes in the FlexUInt plus its value, or -1 if the FlexUInt is not entirely buffered.
+     */
+    private long bufferedLengthPrefixedLength_1_1(long index) {
+        long length = bufferedFlexLength_1_1(index);
+        if (length < 0 || index + length > limit) {
+            return -1;
+        }
+        return length + readFlexIntOrUInt_1_1(index, (int) length, false);
     }
 
-    private boolean slowReadFieldName_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Determines the number of bytes in the value whose opcode is at the given index, examining only the bytes that
+     * are currently buffered.
+     * @param index the index of the opcode.
+     * @param valueTid the type ID of the value. Must not be an annotation wrapper, a delimited container, or an
+     *                 e-expression.
+     * @return the number of bytes, including the opcode, or -1 if not enough bytes are buffered to determine it.
+     */
+    private long bufferedValueLength_1_1(long index, IonTypeID valueTid) {
+        if (!valueTid.isValid) {
+            throw new IonException("Invalid type ID.");
+        }
+        if (valueTid.variableLength) {
+            long length = bufferedLengthPrefixedLength_1_1(index + 1);
+            return length < 0 ? -1 : 1 + length;
+        }
+        if (valueTid.isFlexLength) {
+            long length = bufferedFlexLength_1_1(index + 1);
+            return length < 0 ? -1 : 1 + length;
+        }
+        return 1 + valueTid.length;
     }
 
-    private boolean uncheckedIsDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Scans forward from `delimitedScanIndex` for the end of the delimited container or e-expression whose search was
+     * begun with `startDelimitedScan_1_1`, examining only the bytes that are currently buffered. The bodies of
+     * length-prefixed values are skipped without being examined, and nested delimited containers and e-expressions are
+     * tracked by depth. On return, `delimitedScanIndex` points at the first byte that has not been scanned, which may be
+     * beyond `limit` if the body of a length-prefixed value is not yet entirely buffered.
+     * @return true if the end was found, in which case `delimitedScanIndex` points at the first byte after it and the
+     *  scan target's endIndex has been set; otherwise, false.
+     */
+    private boolean scanForDelimitedEnd_1_1() {
+        long index = delimitedScanIndex;
+        while (true) {
+            if (!isDelimitedScanAtValue) {
+                int frame = delimitedScanFrames[delimitedScanDepth];
+                if (frame >= 0) {
+                    // An e-expression's arguments have neither field names nor an end marker; the e-expression ends
+                    // after its last argument.
+                    if (frame > 0) {
+                        delimitedScanFrames[delimitedScanDepth] = frame - 1;
+                        isDelimitedScanAtValue = true;
+                    } else if (--delimitedScanDepth < 0) {
+                        delimitedScanIndex = index;
+                        delimitedScanTarget.endIndex = index;
+                        return true;
+                    }
+                    continue;
+                }
+                if (index >= limit) {
+                    break;
+                }
+                long length;
+                boolean isEnd;
+                if (frame == SCAN_STRUCT) {
+                    length = bufferedFlexSymLength_1_1(index);
+                    if (length < 0) {
+                        break;
+                    }
+                    isEnd = byteAt(index) == FLEX_SYM_ESCAPE_1_1 && (byteAt(index + 1) & SINGLE_BYTE_MASK) == DELIMITED_END_MARKER_1_1;
+                } else {
+                    isEnd = (byteAt(index) & SINGLE_BYTE_MASK) == DELIMITED_END_MARKER_1_1;
+                    length = isEnd ? 1 : 0;
+                }
+                index += length;
+                if (isEnd) {
+                    if (--delimitedScanDepth < 0) {
+                        delimitedScanIndex = index;
+                        delimitedScanTarget.endIndex = index;
+                        return true;
+                    }
+                } else {
+                    isDelimitedScanAtValue = true;
+                }
+                delimitedScanIndex = index;
+                continue;
+            }
+            if (index >= limit) {
+                break;
+            }
+            IonTypeID valueTid = IonTypeID.TYPE_IDS_1_1[byteAt(index) & SINGLE_BYTE_MASK];
+            if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
+                long length = bufferedAnnotationsLength_1_1(index + 1, valueTid);
+                if (length < 0) {
+                    break;
+                }
+                // The wrapped value follows; the scan remains at a value.
+                index += 1 + length;
+            } else if (valueTid.isDelimited) {
+                index++;
+                pushDelimitedScan_1_1(delimitedScanFrame_1_1(valueTid));
+                isDelimitedScanAtValue = false;
+            } else if (valueTid.isTemplateInvocation) {
+                if (macroTable == null) {
+                    throwOnTemplateInvocation_1_1();
+                }
+                int opcode = byteAt(index) & SINGLE_BYTE_MASK;
+                long length = bufferedMacroAddressLength_1_1(opcode, index + 1);
+                if (length < 0) {
+                    break;
+                }
+                long address = readMacroAddress_1_1(opcode, index + 1, (int) length);
+                index += 1 + length;
+                pushDelimitedScan_1_1(macroTable.get(address).getParameterCount());
+                isDelimitedScanAtValue = false;
+            } else {
+                long length = bufferedValueLength_1_1(index, valueTid);
+                if (length < 0) {
+                    break;
+                }
+                index += length;
+                isDelimitedScanAtValue = false;
+            }
+            delimitedScanIndex = index;
+        }
+        return false;
     }
 
-    private boolean slowIsDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Completes the search for the end of a delimited container, which must be entirely buffered unless the buffer is
+     * fixed and the data is truncated. After return, `peekIndex` points at the first byte after the container, or at
+     * `limit` if the container is incomplete.
+     */
+    private void uncheckedSeekToDelimitedEnd_1_1() {
+        if (scanForDelimitedEnd_1_1()) {
+            peekIndex = delimitedScanIndex;
+        } else {
+            isValueIncomplete = true;
+            peekIndex = limit;
+        }
+        delimitedScanDepth = -1;
     }
 
-    boolean skipRemainingDelimitedContainerElements_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Skips past the remaining elements of the delimited container at the current depth, as well as its end marker.
+     * This must only be called when the container is entirely buffered. After return, `peekIndex` points at the first
+     * byte after the container.
+     */
+    private void skipRemainingDelimitedContainerElements_1_1() {
+        if (isScanned_1_1(valueTid) && valueMarker.endIndex == DELIMITED_MARKER) {
+            // The cursor is positioned on a delimited container that has not been stepped into, or on an e-expression.
+            startDelimitedScan_1_1(valueMarker.startIndex, delimitedScanFrame_1_1(parent.typeId), false, parent);
+            pushDelimitedScan_1_1(currentValueScanFrame_1_1());
+        } else {
+            startDelimitedScan_1_1(Math.max(peekIndex, valueMarker.endIndex), delimitedScanFrame_1_1(parent.typeId), false, parent);
+        }
+        uncheckedSeekToDelimitedEnd_1_1();
     }
 
+    /**
+     * Seeks past the delimited container (which has not been stepped into) or e-expression on which the cursor is
+     * positioned. This must only be called when it is entirely buffered. After return, `peekIndex` points at the first
+     * byte after it.
+     */
     private void seekPastDelimitedContainer_1_1() {
-        throw new UnsupportedOperationException();
+        startDelimitedScan_1_1(valueMarker.startIndex, currentValueScanFrame_1_1(), false, valueMarker);
+        uncheckedSeekToDelimitedEnd_1_1();
     }
 
+    /**
+     * Continues the search for the end of the delimited container on which the cursor is positioned, ensuring that
+     * all of its bytes are buffered.
+     * @return true if the end was found (or the container was found to be oversized), in which case
+     *  `valueMarker.endIndex` has been set; false if not enough data was available in the stream.
+     */
     private boolean slowFindDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
+        while (!scanForDelimitedEnd_1_1()) {
+            if (!fillAt(delimitedScanIndex, Math.max(1, availableAt(delimitedScanIndex) + 1))) {
+                refillableState.state = State.FILL_DELIMITED;
+                return false;
+            }
+            if (refillableState.isSkippingCurrentValue) {
+                // The container cannot be buffered in its entirety. The search will be completed without buffering
+                // when the container is skipped (see `seekPastOversizedValue`).
+                return true;
+            }
+        }
+        delimitedScanDepth = -1;
+        return true;
     }
 
+    /**
+     * Continues the search for the end of a delimited container, discarding the bytes that have already been scanned
+     * so that the buffer does not need to hold the entire container.
+     * @return true if the end was found, in which case `offset` points at the first byte after the container and the
+     *  scan target's endIndex has been set; false if not enough data was available in the stream.
+     */
     private boolean slowSeekToDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
+        refillableState.state = State.READY;
+        while (!scanForDelimitedEnd_1_1()) {
+            if (delimitedScanIndex > limit) {
+                // The remainder of a length-prefixed value is not buffered; skip it directly from the input.
+                if (slowSeek(delimitedScanIndex - offset)) {
+                    refillableState.state = State.SEEK_DELIMITED;
+                    return false;
+                }
+            } else {
+                offset = delimitedScanIndex;
+            }
+            if (!fillAt(delimitedScanIndex, availableAt(delimitedScanIndex) + 1)) {
+                refillableState.state = State.SEEK_DELIMITED;
+                return false;
+            }
+        }
+        offset = delimitedScanIndex;
+        delimitedScanDepth = -1;
+        return true;
+    }
+
+    /**
+     * Seeks past the delimited container (which has not been stepped into) or e-expression on which the cursor is
+     * positioned, ensuring that enough data is available in the stream. After successful return, `offset` points at
+     * the first byte after it.
+     * @return true if not enough data was available in the stream; otherwise, false.
+     */
+    private boolean slowSeekPastDelimitedContainer_1_1() {
+        startDelimitedScan_1_1(valueMarker.startIndex, currentValueScanFrame_1_1(), false, valueMarker);
+        return !slowSeekToDelimitedEnd_1_1();
     }
 
+    /**
+     * Begins filling the delimited container or e-expression on which the cursor is positioned.
+     * @return true if not enough data was available in the stream to fill the container; otherwise, false.
+     */
     private boolean slowFillDelimitedContainer_1_1() {
-        throw new UnsupportedOperationException();
+        startDelimitedScan_1_1(valueMarker.startIndex, currentValueScanFrame_1_1(), false, valueMarker);
+        return !slowFindDelimitedEnd_1_1();
     }
 
+    /**
+     * Skips past the remaining elements of the delimited container at the current depth, as well as its end marker,
+     * ensuring that enough data is available in the stream. After successful return, `peekIndex` points at the first
+     * byte after the container.
+     * @return true if not enough data was available in the stream; otherwise, false.
+     */
     private boolean slowSkipRemainingDelimitedContainerElements_1_1() {
-        throw new UnsupportedOperationException();
+        int parentFrame = delimitedScanFrame_1_1(parent.typeId);
+        switch (checkpointLocation) {
+            case BEFORE_UNANNOTATED_TYPE_ID:
+                startDelimitedScan_1_1(checkpoint, parentFrame, false, parent);
+                break;
+            case BEFORE_ANNOTATED_TYPE_ID:
+                startDelimitedScan_1_1(checkpoint, parentFrame, true, parent);
+                break;
+            default:
+                if (valueMarker.endIndex == DELIMITED_MARKER) {
+                    startDelimitedScan_1_1(valueMarker.startIndex, parentFrame, false, parent);
+                    pushDelimitedScan_1_1(currentValueScanFrame_1_1());
+                } else {
+                    startDelimitedScan_1_1(valueMarker.endIndex, parentFrame, false, parent);
+                }
+                break;
+        }
+        if (!slowSeekToDelimitedEnd_1_1()) {
+            return true;
+        }
+        peekIndex = offset;
+        return false;
     }
 
     /* ---- End: version-dependent parsing methods ---- */
@@ -1104,7 +2456,17 @@ class IonCursorBinary implements IonCursor {
         valueMarker.startIndex = -1;
         valueMarker.endIndex = -1;
         fieldSid = -1;
+        fieldTextMarker.startIndex = -1;
         hasAnnotations = false;
+        if (expansion != null && parent == null) {
+            // Values at the top level of an expansion take the field name of the e-expression, whose inline text (if
+            // any) precedes the values in the expansion's buffer.
+            fieldSid = expansion.fieldSid;
+            if (expansion.fieldTextLength >= 0) {
+                fieldTextMarker.startIndex = 0;
+                fieldTextMarker.endIndex = expansion.fieldTextLength;
+            }
+        }
     }
 
     /**
@@ -1113,9 +2475,9 @@ class IonCursorBinary implements IonCursor {
      * point to the first byte after the IVM.
      */
     private void readIvm() {
-        majorVersion = buffer[(int) (peekIndex++)];
-        minorVersion = buffer[(int) (peekIndex++)];
-        if ((buffer[(int) (peekIndex++)] & SINGLE_BYTE_MASK) != IVM_FINAL_BYTE) {
+        majorVersion = byteAt(peekIndex++);
+        minorVersion = byteAt(peekIndex++);
+        if ((byteAt(peekIndex++) & SINGLE_BYTE_MASK) != IVM_FINAL_BYTE) {
             throw new IonException("Invalid Ion version marker.");
         }
         if (majorVersion != 1) {
@@ -1123,6 +2485,8 @@ class IonCursorBinary implements IonCursor {
         }
         if (minorVersion == 0) {
             typeIds = IonTypeID.TYPE_IDS_1_0;
+        } else if (minorVersion == 1) {
+            typeIds = IonTypeID.TYPE_IDS_1_1;
         } else {
             throw new IonException(String.format("Unsupported Ion version: %d.%d", majorVersion, minorVersion));
         }
@@ -1208,8 +2572,14 @@ class IonCursorBinary implements IonCursor {
                 return true;
             }
             hasAnnotations = true;
-            return uncheckedReadHeader(buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK, true, valueMarker);
+            return uncheckedReadHeader(byteAt(peekIndex++) & SINGLE_BYTE_MASK, true, valueMarker);
         } else {
+            if (valueTid.isTypedNull) {
+                if (peekIndex >= limit) {
+                    throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+                }
+                valueTid = readTypedNull_1_1();
+            }
             long endIndex = minorVersion == 0
                 ? calculateEndIndex_1_0(valueTid, isAnnotated)
                 : calculateEndIndex_1_1(valueTid, isAnnotated);
@@ -1245,6 +2615,12 @@ class IonCursorBinary implements IonCursor {
      */
     private boolean slowReadHeader(final int typeIdByte, final boolean isAnnotated, final Marker markerToSet) {
         IonTypeID valueTid = typeIds[typeIdByte];
+        if (valueTid.isTypedNull) {
+            if (!fillAt(peekIndex, 1)) {
+                return true;
+            }
+            valueTid = readTypedNull_1_1();
+        }
         if (!valueTid.isValid) {
             throw new IonException("Invalid type ID.");
         } else if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
@@ -1290,22 +2666,32 @@ class IonCursorBinary implements IonCursor {
     private boolean slowReadValueHeader(IonTypeID valueTid, boolean isAnnotated, Marker markerToSet) {
         long valueLength = 0;
         long endIndex = 0;
-        if (valueTid.isDelimited) {
+        if (valueTid.isTemplateInvocation) {
+            if (slowReadMacroAddress_1_1(isAnnotated)) {
+                return true;
+            }
+            endIndex = DELIMITED_MARKER;
+        } else if (valueTid.isDelimited) {
             endIndex = DELIMITED_MARKER;
         } else if (valueTid.variableLength) {
             // At this point the value must be at least 2 more bytes: 1 for the smallest-possible value length
-            // and 1 for the smallest-possible value representation.
-            if (!fillAt(peekIndex, 2)) {
+            // and 1 for the smallest-possible value representation. Ion 1.1 allows empty variable-length values.
+            if (!fillAt(peekIndex, minorVersion == 0 ? 2 : 1)) {
                 return true;
             }
-            valueLength = minorVersion == 0 ? slowReadVarUInt_1_0() : slowReadVarUInt_1_1();
+            valueLength = minorVersion == 0 ? slowReadVarUInt_1_0() : slowReadFlexUInt_1_1();
             if (valueLength < 0) {
                 return true;
             }
+        } else if (valueTid.isFlexLength) {
+            if (!fillAt(peekIndex, 1)) {
+                return true;
+            }
+            valueLength = flexLength_1_1(byteAt(peekIndex));
         } else {
             valueLength = valueTid.length;
         }
-        if (valueTid.type != null && valueTid.type.ordinal() >= LIST_TYPE_ORDINAL) {
+        if (valueTid.isTemplateInvocation || (valueTid.type != null && valueTid.type.ordinal() >= LIST_TYPE_ORDINAL)) {
             setCheckpoint(CheckpointLocation.AFTER_CONTAINER_HEADER);
             event = Event.START_CONTAINER;
         } else if (valueTid.isNopPad) {
@@ -1363,7 +2749,7 @@ class IonCursorBinary implements IonCursor {
      * Step into the current container.
      */
     private void uncheckedStepIntoContainer() {
-        if (valueTid == null || valueTid.type.ordinal() < LIST_TYPE_ORDINAL) {
+        if (valueTid == null || valueTid.type == null || valueTid.type.ordinal() < LIST_TYPE_ORDINAL) {
             // Note: this is IllegalStateException for consistency with the legacy binary IonReader implementation.
             // Ideally it would be IonException and IllegalStateException would be reserved for indicating bugs in
             // within the library.
@@ -1387,7 +2773,7 @@ class IonCursorBinary implements IonCursor {
             return event;
         }
         // Must be positioned on a container.
-        if (checkpointLocation != CheckpointLocation.AFTER_CONTAINER_HEADER) {
+        if (checkpointLocation != CheckpointLocation.AFTER_CONTAINER_HEADER || valueTid.isTemplateInvocation) {
             // Note: this is IllegalStateException for consistency with the legacy binary IonReader implementation.
             // Ideally it would be IonException and IllegalStateException would be reserved for indicating bugs in
             // within the library.
@@ -1444,23 +2830,23 @@ class IonCursorBinary implements IonCursor {
         }
         // Seek past the remaining bytes at this depth and pop from the stack.
         if (parent.endIndex == DELIMITED_MARKER) {
-            if (skipRemainingDelimitedContainerElements_1_1()) {
-                return event;
-            }
+            skipRemainingDelimitedContainerElements_1_1();
         } else {
             peekIndex = parent.endIndex;
         }
         if (!isSlowMode) {
             setCheckpointBeforeUnannotatedTypeId();
         }
-        if (--containerIndex >= 0) {
+        // The top level of an expansion is the depth at which its e-expression occurred.
+        int topLevelIndex = expansion == null ? -1 : expansion.containerIndex;
+        if (--containerIndex > topLevelIndex) {
             parent = containerStack[containerIndex];
             if (refillableState != null && containerIndex < refillableState.fillDepth) {
                 resumeSlowMode();
             }
         } else {
             parent = null;
-            containerIndex = -1;
+            containerIndex = topLevelIndex;
             if (refillableState != null) {
                 resumeSlowMode();
             }
@@ -1517,15 +2903,18 @@ class IonCursorBinary implements IonCursor {
      */
     private boolean uncheckedNextContainedToken() {
         if (parent.endIndex == DELIMITED_MARKER) {
-            return uncheckedIsDelimitedEnd_1_1();
+            if (uncheckedIsDelimitedEnd_1_1()) {
+                return true;
+            }
         } else if (parent.endIndex == peekIndex) {
             event = Event.END_CONTAINER;
             return true;
         } else if (parent.endIndex < peekIndex) {
             throw new IonException("Contained values overflowed the parent container length.");
-        } else if (parent.typeId.type == IonType.STRUCT) {
+        }
+        if (parent.typeId.type == IonType.STRUCT) {
             if (minorVersion == 0) {
-                byte b = buffer[(int) peekIndex++];
+                byte b = byteAt(peekIndex++);
                 if (b < 0) {
                     fieldSid = (b & LOWER_SEVEN_BITS_BITMASK);
                 } else {
@@ -1543,6 +2932,10 @@ class IonCursorBinary implements IonCursor {
      * Reports the total number of bytes consumed from the stream since the last report, up to the current `peekIndex`.
      */
     private void reportConsumedData() {
+        if (expansion != null) {
+            // The bytes of an expansion were not consumed from the stream.
+            return;
+        }
         long totalNumberOfBytesRead = getTotalOffset() + (peekIndex - valuePreHeaderIndex);
         dataHandler.onData((int) (totalNumberOfBytesRead - lastReportedByteTotal));
         lastReportedByteTotal = totalNumberOfBytesRead;
@@ -1557,7 +2950,7 @@ class IonCursorBinary implements IonCursor {
     private boolean uncheckedNextToken() {
         if (peekIndex < valueMarker.endIndex) {
             peekIndex = valueMarker.endIndex;
-        } else if (valueTid != null && valueTid.isDelimited) {
+        } else if (isScanned_1_1(valueTid)) {
             seekPastDelimitedContainer_1_1();
         }
         valueTid = null;
@@ -1575,7 +2968,7 @@ class IonCursorBinary implements IonCursor {
         int b;
         if (parent == null) { // Depth 0
             valuePreHeaderIndex = peekIndex;
-            b = buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+            b = byteAt(peekIndex++) & SINGLE_BYTE_MASK;
             if (b == IVM_START_BYTE) {
                 readIvm();
                 return true;
@@ -1587,7 +2980,7 @@ class IonCursorBinary implements IonCursor {
             if (peekIndex >= limit) {
                 throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the container.");
             }
-            b = buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+            b = byteAt(peekIndex++) & SINGLE_BYTE_MASK;
         }
         if (uncheckedReadHeader(b, false, valueMarker)) {
             valueTid = valueMarker.typeId;
@@ -1667,9 +3060,8 @@ class IonCursorBinary implements IonCursor {
      * @return true if not enough data was available in the stream; otherwise, false.
      */
     private boolean slowSkipRemainingValueBytes() {
-        if (valueMarker.endIndex == DELIMITED_MARKER && valueTid != null && valueTid.isDelimited) {
-            seekPastDelimitedContainer_1_1();
-            if (event == Event.NEEDS_DATA) {
+        if (valueMarker.endIndex == DELIMITED_MARKER && isScanned_1_1(valueTid)) {
+            if (slowSeekPastDelimitedContainer_1_1()) {
                 return true;
             }
         } else if (limit >= valueMarker.endIndex) {
@@ -1709,9 +3101,20 @@ class IonCursorBinary implements IonCursor {
      */
     private void seekPastOversizedValue() {
         refillableState.oversizedValueHandler.onOversizedValue();
-        if (refillableState.state != State.TERMINATED) {
+        if (refillableState.state != State.TERMINATED && delimitedScanDepth >= 0) {
+            // The end of an oversized delimited container is not yet known. Continue searching for it without
+            // buffering the bytes that are scanned. If the search cannot yet be completed, it will be resumed by the
+            // next operation, which will then skip the container using its known end index.
+            if (slowSeekToDelimitedEnd_1_1()) {
+                peekIndex = offset;
+                setCheckpointBeforeUnannotatedTypeId();
+            }
+        } else if (refillableState.state != State.TERMINATED) {
             slowSeek(valueMarker.endIndex - offset - refillableState.individualBytesSkippedWithoutBuffering);
             refillableState.totalDiscardedBytes += refillableState.individualBytesSkippedWithoutBuffering;
+            if (metricsListener != null && refillableState.individualBytesSkippedWithoutBuffering > 0) {
+                metricsListener.onSkip(refillableState.individualBytesSkippedWithoutBuffering);
+            }
             peekIndex = offset;
             // peekIndex now points at the first byte after the value. If any bytes were skipped directly from
             // the input stream before the 'slowSeek', peekIndex will be less than the value's pre-calculated endIndex.
@@ -1837,6 +3240,7 @@ class IonCursorBinary implements IonCursor {
         // Slices are treated as if they were at the top level.
         parent = null;
         containerIndex = -1;
+        expansion = null;
         if (SystemSymbols.ION_1_0.equals(ionVersionId)) {
             typeIds = IonTypeID.TYPE_IDS_1_0;
             majorVersion = 1;
@@ -1847,6 +3251,150 @@ class IonCursorBinary implements IonCursor {
         }
     }
 
+    /**
+     * Locates the arguments of the e-expression on which the cursor is positioned, which must be entirely buffered,
+     * and sets the e-expression's end index so that it can be skipped without being scanned again.
+     * @param argumentBounds receives the index of the first byte of each argument, followed by the index after the
+     *                       last argument.
+     * @param numberOfArguments the number of arguments, as given by the invoked macro's parameters.
+     * @return true if the arguments were located; false if the e-expression is incomplete.
+     */
+    boolean findMacroArguments_1_1(long[] argumentBounds, int numberOfArguments) {
+        long index = valueMarker.startIndex;
+        for (int i = 0; i < numberOfArguments; i++) {
+            argumentBounds[i] = index;
+            // A scan frame for an e-expression with one remaining argument ends after that argument.
+            startDelimitedScan_1_1(index, 1, false, argumentMarker);
+            boolean isFound = scanForDelimitedEnd_1_1();
+            delimitedScanDepth = -1;
+            if (!isFound) {
+                return false;
+            }
+            index = argumentMarker.endIndex;
+        }
+        argumentBounds[numberOfArguments] = index;
+        valueMarker.endIndex = index;
+        return true;
+    }
+
+    /**
+     * @return the reusable frame for an expansion nested at the next depth.
+     */
+    private Expansion nextExpansion() {
+        if (expansion == null) {
+            if (outermostExpansion == null) {
+                outermostExpansion = new Expansion(null);
+            }
+            return outermostExpansion;
+        }
+        if (expansion.nested == null) {
+            expansion.nested = new Expansion(expansion);
+        }
+        return expansion.nested;
+    }
+
+    /**
+     * Provides the buffer into which the expansion of the e-expression on which the cursor is positioned must be
+     * written before calling `startExpansion`. The buffer is reused, so it is only valid until the next expansion at
+     * the same depth begins.
+     * @param length the number of bytes in the expansion.
+     * @return a buffer with room for at least `length` bytes.
+     */
+    byte[] expansionBuffer(int length) {
+        Expansion next = nextExpansion();
+        next.ensureCapacity(length);
+        return next.bytes;
+    }
+
+    /**
+     * Begins reading the expansion of the e-expression on which the cursor is positioned, whose arguments must have
+     * been located (see `findMacroArguments_1_1`). Until the expansion ends (see `endExpansion`), the cursor reads the
+     * expansion's values as if they occurred in place of the e-expression. Each value at the top level of the
+     * expansion takes the e-expression's field name, if any.
+     * @param length the number of bytes written to the buffer provided by `expansionBuffer`: the UTF-8 text of the
+     *               e-expression's field name if that name is inline text, followed by the Ion 1.1 encoding of the
+     *               expansion's values.
+     * @param fieldTextLength the number of bytes of field name text that precede the values, or -1 if the field name
+     *                        is not inline text.
+     */
+    void startExpansion(int length, int fieldTextLength) {
+        Expansion next = nextExpansion();
+        next.save(this, fieldTextLength);
+        expansion = next;
+        buffer = next.bytes;
+        directBuffer = null;
+        byteBuffer = next.bytesWrapper;
+        // The expansion is read from a fixed buffer, so slow mode is not needed until the expansion ends.
+        refillableState = null;
+        isSlowMode = false;
+        int startIndex = Math.max(fieldTextLength, 0);
+        offset = startIndex;
+        limit = length;
+        peekIndex = startIndex;
+        valuePreHeaderIndex = startIndex;
+        setCheckpointBeforeUnannotatedTypeId();
+        // The containers that enclose the e-expression remain on the stack below the expansion's top level.
+        parent = null;
+        valueTid = null;
+        valueMarker.startIndex = -1;
+        valueMarker.endIndex = -1;
+        hasAnnotations = false;
+        event = Event.NEEDS_INSTRUCTION;
+    }
+
+    /**
+     * Ends the innermost expansion, leaving the cursor positioned on the e-expression that produced it. The next call
+     * to `nextValue` advances past the e-expression.
+     */
+    void endExpansion() {
+        Expansion ended = expansion;
+        expansion = ended.enclosing;
+        buffer = ended.buffer;
+        directBuffer = ended.directBuffer;
+        byteBuffer = ended.byteBuffer;
+        refillableState = ended.refillableState;
+        isSlowMode = ended.isSlowMode;
+        offset = ended.offset;
+        limit = ended.limit;
+        peekIndex = ended.peekIndex;
+        checkpoint = ended.checkpoint;
+        checkpointLocation = ended.checkpointLocation;
+        valuePreHeaderIndex = ended.valuePreHeaderIndex;
+        parent = ended.parent;
+        containerIndex = ended.containerIndex;
+        fieldSid = ended.fieldSid;
+        fieldTextMarker.startIndex = ended.fieldTextStartIndex;
+        fieldTextMarker.endIndex = ended.fieldTextEndIndex;
+        valueTid = ended.valueTid;
+        valueMarker.typeId = ended.valueTid;
+        valueMarker.startIndex = ended.valueStartIndex;
+        valueMarker.endIndex = ended.valueEndIndex;
+        macroAddress = ended.macroAddress;
+        if (isSlowMode && refillableState.fillDepth > containerIndex) {
+            // The e-expression was filled, but it will never be stepped into. Its end is known, so the next value can
+            // be found without the fill depth, which would otherwise outlive the e-expression if the cursor stepped
+            // out of the enclosing container.
+            refillableState.fillDepth = -1;
+        }
+        hasAnnotations = false;
+        isValueIncomplete = false;
+        event = Event.START_CONTAINER;
+    }
+
+    /**
+     * @return true if the cursor is at the top level of a macro expansion; otherwise, false.
+     */
+    boolean isAtExpansionTopLevel() {
+        return expansion != null && parent == null;
+    }
+
+    /**
+     * @return true if the cursor is at the top level of a macro expansion whose e-expression is a struct field.
+     */
+    boolean isExpansionInStruct() {
+        return expansion != null && parent == null && expansion.isInStruct;
+    }
+
     /**
      * @return the total number of bytes read since the stream began.
      */
@@ -1862,6 +3410,18 @@ class IonCursorBinary implements IonCursor {
         this.ivmConsumer = ivmConsumer;
     }
 
+    /**
+     * Sets the listener that will be notified of buffer management events. Any bytes that were read from the source
+     * before the cursor was constructed (e.g. in order to detect the format of the data) are reported as a refill.
+     * @param listener the listener, or null.
+     */
+    void setMetricsListener(ReaderMetricsListener listener) {
+        metricsListener = listener;
+        if (listener != null && refillableState != null && limit > 0) {
+            listener.onRefill((int) limit, listener.isTimingEnabled() ? 0 : -1);
+        }
+    }
+
     void registerOversizedValueHandler(BufferConfiguration.OversizedValueHandler oversizedValueHandler) {
         // Non-refillable streams cannot overflow.
         if (refillableState != null) {
@@ -1920,7 +3480,18 @@ class IonCursorBinary implements IonCursor {
                 throwAsIonException(e);
             }
         }
+        if (channel != null) {
+            if (isChannelClosedOnClose) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throwAsIonException(e);
+                }
+            }
+            channel = null;
+        }
         buffer = null;
+        directBuffer = null;
         containerStack = null;
         byteBuffer = null;
         terminate();
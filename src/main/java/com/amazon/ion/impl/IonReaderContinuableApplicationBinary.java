@@ -17,11 +17,14 @@ import com.amazon.ion.SystemSymbols;
 import com.amazon.ion.UnknownSymbolException;
 import com.amazon.ion.ValueFactory;
 import com.amazon.ion.impl.bin.IntList;
+import com.amazon.ion.impl.bin._Private_IonTemplateBuffer_1_1;
 import com.amazon.ion.system.IonReaderBuilder;
 import com.amazon.ion.system.SimpleCatalog;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,6 +33,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
 
 import static com.amazon.ion.SystemSymbols.IMPORTS_SID;
 import static com.amazon.ion.SystemSymbols.ION;
@@ -57,22 +61,34 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     // Initial capacity of the ArrayList used to hold the text in the current symbol table.
     private static final int SYMBOLS_LIST_INITIAL_CAPACITY = 128;
 
+    // The annotation that identifies an Ion 1.1 encoding directive, and the keywords used within one.
+    private static final String ION_ENCODING = "$ion_encoding";
+    private static final String MACRO_TABLE = "macro_table";
+    private static final String MACRO = "macro";
+    private static final String VARIABLE_REFERENCE = "%";
+
+    // Initial capacity of the array that holds the bounds of the arguments of the e-expression being expanded.
+    private static final int MACRO_ARGUMENT_BOUNDS_INITIAL_CAPACITY = 8;
+
+    // Initial capacity of the array that holds each scalar copied from an encoding directive into a macro template.
+    private static final int SCALAR_BYTES_INITIAL_CAPACITY = 64;
+
     // The imports for Ion 1.0 data with no shared user imports.
     private static final LocalSymbolTableImports ION_1_0_IMPORTS
         = new LocalSymbolTableImports(SharedSymbolTable.getSystemSymbolTable(1));
 
     // The text representations of the symbol table that is currently in scope, indexed by symbol ID. If the element at
     // a particular index is null, that symbol has unknown text.
-    private String[] symbols;
+    private String[] symbols = new String[SYMBOLS_LIST_INITIAL_CAPACITY];
 
     // The maximum offset into the 'symbols' array that points to a valid local symbol.
     private int localSymbolMaxOffset = -1;
 
     // The catalog used by the reader to resolve shared symbol table imports.
-    private final IonCatalog catalog;
+    private IonCatalog catalog;
 
     // Uses the underlying raw reader to read the symbol tables from the stream.
-    private final SymbolTableReader symbolTableReader;
+    private final SymbolTableReader symbolTableReader = new SymbolTableReader();
 
     // The shared symbol tables imported by the local symbol table that is currently in scope.
     private LocalSymbolTableImports imports = ION_1_0_IMPORTS;
@@ -87,6 +103,25 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     // The reusable annotation iterator.
     private final AnnotationSequenceIterator annotationIterator = new AnnotationSequenceIterator();
 
+    // Determines which values surface when the reader is configured with field paths; null if all values surface.
+    FieldPathProjection projection;
+
+    // Maps registered field names to slots; null until the first field name is registered.
+    private FieldNameSlots fieldSlots = null;
+
+    // Provides the text for symbol IDs in the current symbol table to `projection` and `fieldSlots`.
+    private final IntFunction<String> symbolLookup = this::getSymbol;
+
+    // Reads Ion 1.1 encoding directives, compiling the templates of the macros they define.
+    private final EncodingDirectiveReader encodingDirectiveReader = new EncodingDirectiveReader();
+
+    // Receives the bounds of the arguments of the e-expression being expanded. Grown as needed.
+    private long[] macroArgumentBounds = new long[MACRO_ARGUMENT_BOUNDS_INITIAL_CAPACITY];
+
+    // True if the reader is positioned on an e-expression that could not be expanded because it was not yet buffered
+    // in its entirety.
+    private boolean isExpansionPending = false;
+
     // ------
 
     /**
@@ -98,16 +133,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
      */
     IonReaderContinuableApplicationBinary(IonReaderBuilder builder, byte[] bytes, int offset, int length) {
         super(builder.getBufferConfiguration(), bytes, offset, length);
-        this.catalog = builder.getCatalog() == null ? EMPTY_CATALOG : builder.getCatalog();
-        symbols = new String[SYMBOLS_LIST_INITIAL_CAPACITY];
-        symbolTableReader = new SymbolTableReader();
-        resetImports();
-        registerIvmNotificationConsumer((x, y) -> {
-            // Note: for Ion 1.1 support, use the versions to set the proper system symbol table and local symbol table
-            // processing logic.
-            resetSymbolTable();
-            resetImports();
-        });
+        initialize(builder);
     }
 
     /**
@@ -119,45 +145,86 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
      */
     IonReaderContinuableApplicationBinary(final IonReaderBuilder builder, final InputStream inputStream, byte[] alreadyRead, int alreadyReadOff, int alreadyReadLen) {
         super(builder.getBufferConfiguration(), inputStream, alreadyRead, alreadyReadOff, alreadyReadLen);
+        initialize(builder);
+        registerOversizedValueHandler(() -> handleOversizedValue(builder));
+    }
+
+    /**
+     * Constructs a new reader from the given ByteBuffer.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param buffer the ByteBuffer containing the bytes to read between its position and its limit.
+     */
+    IonReaderContinuableApplicationBinary(IonReaderBuilder builder, ByteBuffer buffer) {
+        super(builder.getBufferConfiguration(), buffer);
+        initialize(builder);
+    }
+
+    /**
+     * Constructs a new reader over a region of the given file, which is memory-mapped.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param channel the channel over the file containing the bytes to read.
+     * @param position the position in the file at which the first byte of Ion data begins.
+     * @param length the number of bytes to be read from the file.
+     */
+    IonReaderContinuableApplicationBinary(final IonReaderBuilder builder, final FileChannel channel, long position, long length) {
+        super(builder.getBufferConfiguration(), channel, position, length);
+        initialize(builder);
+        registerOversizedValueHandler(() -> handleOversizedValue(builder));
+    }
+
+    /**
+     * Applies the builder's configuration and initializes the symbol table state. Shared by all constructors.
+     * @param builder the builder containing the configuration for the new reader.
+     */
+    private void initialize(IonReaderBuilder builder) {
         this.catalog = builder.getCatalog() == null ? EMPTY_CATALOG : builder.getCatalog();
-        symbols = new String[SYMBOLS_LIST_INITIAL_CAPACITY];
-        symbolTableReader = new SymbolTableReader();
+        this.projection = FieldPathProjection.create(builder.getFieldPathProjection());
+        setMetricsListener(builder.getMetricsListener());
         resetImports();
         registerIvmNotificationConsumer((x, y) -> {
             // Note: for Ion 1.1 support, use the versions to set the proper system symbol table and local symbol table
             // processing logic.
             resetSymbolTable();
             resetImports();
+            // An IVM resets the encoding context, discarding any macros defined by encoding directives.
+            macroTable = null;
         });
-        registerOversizedValueHandler(
-            () -> {
-                boolean mightBeSymbolTable = true;
-                if (state == State.READING_VALUE) {
-                    // The reader is not currently processing a symbol table.
-                    if (parent != null || !hasAnnotations) {
-                        // Only top-level annotated values can be symbol tables.
-                        mightBeSymbolTable = false;
-                    } else if (annotationSequenceMarker.startIndex >= 0 && annotationSequenceMarker.endIndex <= limit) {
-                        // The annotations on the value are available.
-                        if (startsWithIonSymbolTable()) {
-                            // The first annotation on the value is $ion_symbol_table. It may be a symbol table if
-                            // its type is not yet known (null); it is definitely a symbol table if its type is STRUCT.
-                            IonType type = super.getType();
-                            mightBeSymbolTable = type == null || type == IonType.STRUCT;
-                        } else {
-                            // The first annotation on the value is not $ion_symbol_table, so it cannot be a symbol table.
-                            mightBeSymbolTable = false;
-                        }
-                    }
-                }
-                if (mightBeSymbolTable) {
-                    builder.getBufferConfiguration().getOversizedSymbolTableHandler().onOversizedSymbolTable();
-                    terminate();
+    }
+
+    /**
+     * Notifies the appropriate handler that an oversized value was encountered. If the value might be a symbol table
+     * (or is an encoding directive), the reader is terminated, as it cannot continue without the symbols (or macros).
+     * @param builder the builder containing the configuration for the reader.
+     */
+    private void handleOversizedValue(IonReaderBuilder builder) {
+        boolean mightBeSymbolTable = true;
+        if (state == State.READING_VALUE) {
+            // The reader is not currently processing a symbol table.
+            if (parent != null || !hasAnnotations) {
+                // Only top-level annotated values can be symbol tables.
+                mightBeSymbolTable = false;
+            } else if (annotationSequenceMarker.startIndex >= 0 && annotationSequenceMarker.endIndex <= limit) {
+                // The annotations on the value are available.
+                if (startsWithIonSymbolTable()) {
+                    // The first annotation on the value is $ion_symbol_table. It may be a symbol table if
+                    // its type is not yet known (null); it is definitely a symbol table if its type is STRUCT.
+                    IonType type = super.getType();
+                    mightBeSymbolTable = type == null || type == IonType.STRUCT;
                 } else {
-                    builder.getBufferConfiguration().getOversizedValueHandler().onOversizedValue();
+                    // The first annotation on the value is not $ion_symbol_table, so it cannot be a symbol table.
+                    mightBeSymbolTable = false;
                 }
             }
-        );
+        }
+        if (metricsListener != null) {
+            metricsListener.onOversizedValue(mightBeSymbolTable);
+        }
+        if (mightBeSymbolTable) {
+            builder.getBufferConfiguration().getOversizedSymbolTableHandler().onOversizedSymbolTable();
+            terminate();
+        } else {
+            builder.getBufferConfiguration().getOversizedValueHandler().onOversizedValue();
+        }
     }
 
     /**
@@ -183,7 +250,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         @Override
         public String next() {
             int sid = annotationSids.get(index);
-            String annotation = getSymbol(sid);
+            String annotation = sid < 0 ? getAnnotationText(index) : getSymbol(sid);
             if (annotation == null) {
                 throw new UnknownSymbolException(sid);
             }
@@ -444,6 +511,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         Arrays.fill(symbols, 0, localSymbolMaxOffset + 1, null);
         localSymbolMaxOffset = -1;
         cachedReadOnlySymbolTable = null;
+        resetSymbolIdMappings();
     }
 
     /**
@@ -454,6 +522,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         // must be added here.
         imports = ION_1_0_IMPORTS;
         firstLocalSymbolId = imports.getMaxId() + 1;
+        resetSymbolIdMappings();
     }
 
     /**
@@ -464,13 +533,18 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         if (cachedReadOnlySymbolTable == symbolTable) {
             return;
         }
+        resetSymbolIdMappings();
         if (symbolTable instanceof LocalSymbolTableSnapshot) {
             LocalSymbolTableSnapshot snapshot = (LocalSymbolTableSnapshot) symbolTable;
             cachedReadOnlySymbolTable = snapshot;
             imports = snapshot.importedTables;
             firstLocalSymbolId = imports.getMaxId() + 1;
             localSymbolMaxOffset = snapshot.maxId - firstLocalSymbolId;
-            // Note: because `symbols` only grows, `snapshot.listView` will always fit within `symbols`.
+            // Note: because `symbols` only grows, `snapshot.idToText` will always fit within `symbols` if the snapshot
+            // was created by this reader. Snapshots created by other readers may be larger.
+            if (snapshot.idToText.length > symbols.length) {
+                symbols = new String[nextPowerOfTwo(snapshot.idToText.length)];
+            }
             System.arraycopy(snapshot.idToText, 0, symbols, 0, snapshot.idToText.length);
         } else {
             // Note: this will only happen when `symbolTable` is the system symbol table.
@@ -624,6 +698,9 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
                 }
                 localSymbolMaxOffset += newSymbols.size();
             }
+            if (metricsListener != null) {
+                metricsListener.onLocalSymbolTable(newSymbols == null ? 0 : newSymbols.size(), localSymbolMaxOffset + 1);
+            }
             state = State.READING_VALUE;
         }
 
@@ -662,6 +739,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             stepOutOfContainer();
             imports = new LocalSymbolTableImports(newImports);
             firstLocalSymbolId = imports.getMaxId() + 1;
+            resetSymbolIdMappings();
             state = State.ON_SYMBOL_TABLE_FIELD;
         }
 
@@ -852,10 +930,256 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     }
 
     /**
-     * The reader's state. `READING_VALUE` indicates that the reader is reading a user-level value; all other states
-     * indicate that the reader is in the middle of reading a symbol table.
+     * Reads an Ion 1.1 encoding directive (a top-level s-expression annotated with `$ion_encoding`) and installs the
+     * macros it defines as the macro table of the new encoding context. Each macro's template is compiled once, here,
+     * to the Ion 1.1 binary encoding: symbols are written as inline text so that expansions do not depend on the
+     * symbol table, and each variable reference, written `(% name)`, is replaced by the location at which the
+     * corresponding argument is spliced during expansion. Only the `macro_table` clause is supported; macro parameters
+     * must have exactly-one cardinality, and any s-expression that is not a variable reference is a literal.
+     */
+    private class EncodingDirectiveReader {
+
+        // The variable references in the template being compiled; see `Macro`.
+        private final IntList variableIndices = new IntList();
+        private final IntList variableParameters = new IntList();
+
+        // Holds each scalar copied from the directive into a template. Grown as needed.
+        private byte[] scalarBytes = new byte[SCALAR_BYTES_INITIAL_CAPACITY];
+
+        // The buffer into which templates are compiled; set while reading a directive.
+        private _Private_IonTemplateBuffer_1_1 templateBuffer = null;
+
+        /**
+         * @return true if the next value in the directive is available; false if the end of the directive or one of
+         *  its enclosed s-expressions has been reached.
+         */
+        private boolean nextInDirective() {
+            Event event = IonReaderContinuableApplicationBinary.super.nextValue();
+            if (event == Event.NEEDS_DATA) {
+                // The directive is buffered in its entirety, so this can only happen if it is malformed.
+                throw new IonException("Malformed data: unexpected end of encoding directive.");
+            }
+            return event != Event.END_CONTAINER;
+        }
+
+        /**
+         * @return the type of the current value in the directive.
+         */
+        private IonType currentType() {
+            return IonReaderContinuableApplicationBinary.super.getType();
+        }
+
+        /**
+         * @return the text of the current value if it is a non-null symbol; otherwise, null.
+         */
+        private String currentSymbolText() {
+            if (currentType() != IonType.SYMBOL || isNullValue()) {
+                return null;
+            }
+            return stringValue();
+        }
+
+        /**
+         * Steps into the current value, which must be a non-null s-expression.
+         * @param message the message of the exception raised if the current value is not a non-null s-expression.
+         */
+        private void stepIntoSexp(String message) {
+            if (currentType() != IonType.SEXP || isNullValue()) {
+                throw new IonException(message);
+            }
+            stepIntoContainer();
+        }
+
+        /**
+         * Reads the directive on which the reader is positioned, after ensuring that it is buffered in its entirety.
+         * @return true if the directive was read; false if not enough data was available in the stream.
+         */
+        boolean readEncodingDirective() {
+            Event event = fillValue();
+            if (event == Event.NEEDS_DATA || event == Event.NEEDS_INSTRUCTION) {
+                return false;
+            }
+            List<Macro> macros = new ArrayList<>();
+            try (_Private_IonTemplateBuffer_1_1 buffer = new _Private_IonTemplateBuffer_1_1()) {
+                templateBuffer = buffer;
+                stepIntoContainer();
+                while (nextInDirective()) {
+                    stepIntoSexp("Encoding directive clauses must be s-expressions.");
+                    if (!nextInDirective() || !MACRO_TABLE.equals(currentSymbolText())) {
+                        throw new IonException("Unsupported encoding directive clause; only macro_table is supported.");
+                    }
+                    while (nextInDirective()) {
+                        macros.add(compileMacro());
+                    }
+                    stepOutOfContainer();
+                }
+                stepOutOfContainer();
+            } finally {
+                templateBuffer = null;
+            }
+            // The directive replaces the encoding context, so macros defined previously are no longer available.
+            macroTable = new MacroTable(macros.toArray(new Macro[0]));
+            state = State.READING_VALUE;
+            return true;
+        }
+
+        /**
+         * Compiles the macro definition on which the reader is positioned, which has the form
+         * `(macro name (parameter ...) template)`. The name may be null to define an anonymous macro.
+         * @return the compiled macro.
+         */
+        private Macro compileMacro() {
+            stepIntoSexp("Macro definitions must be s-expressions.");
+            if (!nextInDirective() || !MACRO.equals(currentSymbolText())) {
+                throw new IonException("Macro definitions must begin with 'macro'.");
+            }
+            if (!nextInDirective() || (currentType() != IonType.SYMBOL && currentType() != IonType.NULL)) {
+                throw new IonException("Macro names must be symbols or null.");
+            }
+            String name = currentSymbolText();
+            if (!nextInDirective()) {
+                throw new IonException("Macro definitions must declare their parameters.");
+            }
+            String[] parameterNames = readParameters();
+            if (!nextInDirective()) {
+                throw new IonException("Macro definitions must have a template.");
+            }
+            templateBuffer.reset();
+            variableIndices.clear();
+            variableParameters.clear();
+            compileTemplateExpression(parameterNames);
+            if (nextInDirective()) {
+                throw new IonException("Unsupported macro definition: templates must consist of exactly one expression.");
+            }
+            stepOutOfContainer();
+            int[] indices = new int[variableIndices.size()];
+            int[] parameters = new int[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = variableIndices.get(i);
+                parameters[i] = variableParameters.get(i);
+            }
+            return new Macro(name, parameterNames, templateBuffer.toByteArray(), indices, parameters);
+        }
+
+        /**
+         * Reads the macro signature on which the reader is positioned, which is an s-expression of parameter names.
+         * @return the parameter names.
+         */
+        private String[] readParameters() {
+            stepIntoSexp("Macro signatures must be s-expressions.");
+            List<String> parameterNames = new ArrayList<>();
+            while (nextInDirective()) {
+                String parameterName = currentSymbolText();
+                if (parameterName == null) {
+                    throw new IonException("Macro parameter names must be symbols.");
+                }
+                switch (parameterName) {
+                    case "?":
+                    case "*":
+                    case "+":
+                    case "!":
+                        throw new IonException("Unsupported macro parameter: only exactly-one cardinality is supported.");
+                    default:
+                        break;
+                }
+                if (parameterNames.contains(parameterName)) {
+                    throw new IonException(String.format("Duplicate macro parameter %s.", parameterName));
+                }
+                parameterNames.add(parameterName);
+            }
+            stepOutOfContainer();
+            return parameterNames.toArray(new String[0]);
+        }
+
+        /**
+         * Compiles the template expression on which the reader is positioned into `templateBuffer`.
+         * @param parameterNames the parameters of the macro being compiled.
+         */
+        private void compileTemplateExpression(String[] parameterNames) {
+            IonType type = currentType();
+            if (type == null) {
+                throw new IonException("Unsupported template expression: e-expressions may not occur in encoding directives.");
+            }
+            String[] annotations = getTypeAnnotations();
+            if (type == IonType.SEXP && !isNullValue()) {
+                compileSexp(annotations, parameterNames);
+                return;
+            }
+            templateBuffer.writeAnnotations(annotations);
+            if (IonType.isContainer(type) && !isNullValue()) {
+                boolean isStruct = type == IonType.STRUCT;
+                templateBuffer.stepIn(type);
+                stepIntoContainer();
+                while (nextInDirective()) {
+                    if (isStruct) {
+                        String fieldName = getFieldName();
+                        if (fieldName == null) {
+                            throw new IonException("Template field names must have known text.");
+                        }
+                        templateBuffer.writeFieldName(fieldName);
+                    }
+                    compileTemplateExpression(parameterNames);
+                }
+                stepOutOfContainer();
+                templateBuffer.stepOut(type);
+            } else if (type == IonType.SYMBOL && !isNullValue()) {
+                templateBuffer.writeSymbolValue(stringValue());
+            } else {
+                // Other scalars do not depend on the encoding context, so their encoding is copied unchanged.
+                long startIndex = hasAnnotations ? annotationSequenceMarker.endIndex : valuePreHeaderIndex;
+                int length = (int) (valueMarker.endIndex - startIndex);
+                if (scalarBytes.length < length) {
+                    scalarBytes = new byte[nextPowerOfTwo(length)];
+                }
+                copyBytes(startIndex, scalarBytes, 0, length);
+                templateBuffer.writeBytes(scalarBytes, 0, length);
+            }
+        }
+
+        /**
+         * Compiles the non-null s-expression on which the reader is positioned, which is either a variable reference
+         * or a literal s-expression.
+         * @param annotations the s-expression's annotations.
+         * @param parameterNames the parameters of the macro being compiled.
+         */
+        private void compileSexp(String[] annotations, String[] parameterNames) {
+            stepIntoContainer();
+            boolean hasFirst = nextInDirective();
+            if (hasFirst && VARIABLE_REFERENCE.equals(currentSymbolText())) {
+                if (annotations.length > 0) {
+                    throw new IonException("Variable references may not be annotated.");
+                }
+                String parameterName = nextInDirective() ? currentSymbolText() : null;
+                int parameter = parameterName == null ? -1 : Arrays.asList(parameterNames).indexOf(parameterName);
+                if (parameter < 0) {
+                    throw new IonException(String.format("Variable reference to undeclared parameter %s.", parameterName));
+                }
+                if (nextInDirective()) {
+                    throw new IonException("Variable references must name exactly one parameter.");
+                }
+                variableIndices.add(templateBuffer.position());
+                variableParameters.add(parameter);
+            } else {
+                templateBuffer.writeAnnotations(annotations);
+                templateBuffer.stepIn(IonType.SEXP);
+                if (hasFirst) {
+                    do {
+                        compileTemplateExpression(parameterNames);
+                    } while (nextInDirective());
+                }
+                templateBuffer.stepOut(IonType.SEXP);
+            }
+            stepOutOfContainer();
+        }
+    }
+
+    /**
+     * The reader's state. `READING_VALUE` indicates that the reader is reading a user-level value;
+     * `ON_ENCODING_DIRECTIVE` indicates that the reader is positioned on an encoding directive that has not yet been
+     * read; all other states indicate that the reader is in the middle of reading a symbol table.
      */
     private enum State {
+        ON_ENCODING_DIRECTIVE,
         ON_SYMBOL_TABLE_STRUCT,
         ON_SYMBOL_TABLE_FIELD,
         ON_SYMBOL_TABLE_SYMBOLS,
@@ -880,7 +1204,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     boolean startsWithIonSymbolTable() {
         long savedPeekIndex = peekIndex;
         peekIndex = annotationSequenceMarker.startIndex;
-        int sid = minorVersion == 0 ? readVarUInt_1_0() : readVarUInt_1_1();
+        int sid = minorVersion == 0 ? readVarUInt_1_0() : readAnnotationToken_1_1();
         peekIndex = savedPeekIndex;
         return ION_SYMBOL_TABLE_SID == sid;
     }
@@ -894,33 +1218,206 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             startsWithIonSymbolTable();
     }
 
+    /**
+     * @return true if the current value is an Ion 1.1 encoding directive, i.e. an s-expression whose first annotation
+     *  is `$ion_encoding`; otherwise, false.
+     */
+    private boolean isPositionedOnEncodingDirective() {
+        if (minorVersion == 0 || !hasAnnotations || super.getType() != IonType.SEXP) {
+            return false;
+        }
+        int sid = getAnnotationSidList().get(0);
+        return ION_ENCODING.equals(sid < 0 ? getAnnotationText(0) : getSymbol(sid));
+    }
+
     @Override
     public Event nextValue() {
         Event event;
-        if (parent == null || state != State.READING_VALUE) {
+        // Symbol tables and encoding directives may occur only at the top level of the stream, which includes the top
+        // level of the expansion of a top-level e-expression.
+        if (containerIndex < 0 || state != State.READING_VALUE) {
             while (true) {
-                if (state != State.READING_VALUE) {
+                if (state == State.ON_ENCODING_DIRECTIVE) {
+                    if (!encodingDirectiveReader.readEncodingDirective()) {
+                        event = Event.NEEDS_DATA;
+                        break;
+                    }
+                } else if (state != State.READING_VALUE) {
                     symbolTableReader.readSymbolTable();
                     if (state != State.READING_VALUE) {
                         event = Event.NEEDS_DATA;
                         break;
                     }
                 }
-                event = super.nextValue();
-                if (parent == null && isPositionedOnSymbolTable()) {
-                    cachedReadOnlySymbolTable = null;
-                    symbolTableReader.resetState();
-                    state = State.ON_SYMBOL_TABLE_STRUCT;
-                    continue;
+                event = nextExpandedValue();
+                if (containerIndex < 0 && event != Event.NEEDS_DATA) {
+                    if (isPositionedOnSymbolTable()) {
+                        cachedReadOnlySymbolTable = null;
+                        symbolTableReader.resetState();
+                        state = State.ON_SYMBOL_TABLE_STRUCT;
+                        continue;
+                    }
+                    if (isPositionedOnEncodingDirective()) {
+                        state = State.ON_ENCODING_DIRECTIVE;
+                        continue;
+                    }
                 }
                 break;
             }
         } else {
-            event = super.nextValue();
+            event = nextExpandedValue();
+        }
+        if (projection != null) {
+            // Skip values that are not selected by the projection. Each skip uses the value's length prefix, so
+            // neither the value nor its field name is ever decoded.
+            while ((event == Event.START_SCALAR || event == Event.START_CONTAINER) && !isProjected()) {
+                event = nextExpandedValue();
+            }
         }
         return event;
     }
 
+    /**
+     * Advances to the next value, expanding any e-expressions encountered along the way so that only the values they
+     * produce are surfaced. Expansions are evaluated lazily: an e-expression is expanded only when the reader reaches
+     * it, and its values are read in place of the e-expression before the reader continues past it.
+     * @return an Event conveying the result of the operation.
+     */
+    private Event nextExpandedValue() {
+        if (isExpansionPending && !expandMacroInvocation()) {
+            return Event.NEEDS_DATA;
+        }
+        while (true) {
+            Event event = super.nextValue();
+            if (event == Event.NEEDS_DATA && isAtExpansionTopLevel()) {
+                // The expansion is exhausted. Resume after the e-expression that produced it.
+                endExpansion();
+                continue;
+            }
+            if (event == Event.START_CONTAINER && valueTid.isTemplateInvocation) {
+                if (!expandMacroInvocation()) {
+                    return Event.NEEDS_DATA;
+                }
+                continue;
+            }
+            return event;
+        }
+    }
+
+    /**
+     * Expands the e-expression on which the reader is positioned, after ensuring that it is buffered in its entirety.
+     * The expansion is formed from the invoked macro's compiled template by splicing in the encoded arguments, which
+     * are not decoded. If the e-expression is oversized, it is skipped without being expanded.
+     * @return false if not enough data was available in the stream to buffer the e-expression; otherwise, true.
+     */
+    private boolean expandMacroInvocation() {
+        isExpansionPending = false;
+        Event event = fillValue();
+        if (event == Event.NEEDS_DATA) {
+            isExpansionPending = true;
+            return false;
+        }
+        if (event == Event.NEEDS_INSTRUCTION) {
+            // The e-expression was oversized, and has been skipped.
+            return true;
+        }
+        Macro macro = macroTable.get(macroAddress);
+        int numberOfArguments = macro.getParameterCount();
+        if (macroArgumentBounds.length <= numberOfArguments) {
+            macroArgumentBounds = new long[nextPowerOfTwo(numberOfArguments + 1)];
+        }
+        if (!findMacroArguments_1_1(macroArgumentBounds, numberOfArguments)) {
+            // The e-expression extends past the end of the data.
+            isValueIncomplete = true;
+            this.event = Event.NEEDS_DATA;
+            return false;
+        }
+        int fieldTextLength = -1;
+        if (fieldTextMarker.startIndex >= 0) {
+            fieldTextLength = (int) (fieldTextMarker.endIndex - fieldTextMarker.startIndex);
+        }
+        int valuesIndex = Math.max(fieldTextLength, 0);
+        int expansionLength = valuesIndex + macro.expansionLength(macroArgumentBounds);
+        byte[] expansionBytes = expansionBuffer(expansionLength);
+        if (fieldTextLength > 0) {
+            copyBytes(fieldTextMarker.startIndex, expansionBytes, 0, fieldTextLength);
+        }
+        macro.expand(this, macroArgumentBounds, expansionBytes, valuesIndex);
+        startExpansion(expansionLength, fieldTextLength);
+        return true;
+    }
+
+    @Override
+    public Event stepOutOfContainer() {
+        // Values at the top level of an expansion belong to the container that encloses the e-expression.
+        while (isAtExpansionTopLevel()) {
+            endExpansion();
+        }
+        return super.stepOutOfContainer();
+    }
+
+    /**
+     * Discards any mappings from symbol IDs to field names that were resolved against the previous symbol table. Must
+     * be called whenever the symbol table is replaced rather than appended to.
+     */
+    private void resetSymbolIdMappings() {
+        if (projection != null) {
+            projection.resetSymbols();
+        }
+        if (fieldSlots != null) {
+            fieldSlots.resetSymbols();
+        }
+    }
+
+    /**
+     * @see com.amazon.ion.FieldSlotReader#registerFieldName(String)
+     */
+    int registerFieldName(String fieldName) {
+        if (fieldName == null) {
+            throw new IllegalArgumentException("Field name must not be null.");
+        }
+        if (fieldSlots == null) {
+            fieldSlots = new FieldNameSlots();
+        }
+        return fieldSlots.add(fieldName);
+    }
+
+    /**
+     * @see com.amazon.ion.FieldSlotReader#getFieldSlot()
+     */
+    int getFieldSlot() {
+        if (fieldSlots == null) {
+            return FieldNameSlots.NO_SLOT;
+        }
+        if (fieldSid < 0) {
+            String fieldText = getFieldText();
+            return fieldText == null ? FieldNameSlots.NO_SLOT : fieldSlots.get(fieldText);
+        }
+        return fieldSlots.get(fieldSid, firstLocalSymbolId + localSymbolMaxOffset, symbolLookup);
+    }
+
+    /**
+     * @return true if the value on which the reader is positioned is selected by the projection.
+     */
+    private boolean isProjected() {
+        if (!projection.isFiltering()) {
+            return projection.accept(false, FieldPathProjection.NO_NAME, false);
+        }
+        boolean isInStruct = isInStruct();
+        int nameIndex = FieldPathProjection.NO_NAME;
+        if (isInStruct) {
+            if (fieldSid < 0) {
+                String fieldText = getFieldText();
+                if (fieldText != null) {
+                    nameIndex = projection.nameIndex(fieldText);
+                }
+            } else {
+                nameIndex = projection.nameIndex(fieldSid, firstLocalSymbolId + localSymbolMaxOffset, symbolLookup);
+            }
+        }
+        return projection.accept(isInStruct, nameIndex, !isNullValue() && IonType.isContainer(super.getType()));
+    }
+
     @Override
     public SymbolTable getSymbolTable() {
         if (cachedReadOnlySymbolTable == null) {
@@ -942,8 +1439,8 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         } else if (type == IonType.SYMBOL) {
             int sid = symbolValueId();
             if (sid < 0) {
-                // The raw reader uses this to denote null.symbol.
-                return null;
+                // The raw reader uses this to denote null.symbol, or, in Ion 1.1, inline symbol text.
+                return getSymbolText();
             }
             value = getSymbol(sid);
             if (value == null) {
@@ -959,8 +1456,9 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     public SymbolToken symbolValue() {
         int sid = symbolValueId();
         if (sid < 0) {
-            // The raw reader uses this to denote null.symbol.
-            return null;
+            // The raw reader uses this to denote null.symbol, or, in Ion 1.1, inline symbol text.
+            String text = getSymbolText();
+            return text == null ? null : new SymbolTokenImpl(text, -1);
         }
         return getSymbolToken(sid);
     }
@@ -973,7 +1471,8 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         IntList annotationSids = getAnnotationSidList();
         String[] annotationArray = new String[annotationSids.size()];
         for (int i = 0; i < annotationArray.length; i++) {
-            String symbol = getSymbol(annotationSids.get(i));
+            int sid = annotationSids.get(i);
+            String symbol = sid < 0 ? getAnnotationText(i) : getSymbol(sid);
             if (symbol == null) {
                 throw new UnknownSymbolException(annotationSids.get(i));
             }
@@ -990,7 +1489,8 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         IntList annotationSids = getAnnotationSidList();
         SymbolToken[] annotationArray = new SymbolToken[annotationSids.size()];
         for (int i = 0; i < annotationArray.length; i++) {
-            annotationArray[i] = getSymbolToken(annotationSids.get(i));
+            int sid = annotationSids.get(i);
+            annotationArray[i] = sid < 0 ? new SymbolTokenImpl(getAnnotationText(i), -1) : getSymbolToken(sid);
         }
         return annotationArray;
     }
@@ -1025,7 +1525,8 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     @Override
     public String getFieldName() {
         if (fieldSid < 0) {
-            return null;
+            // In Ion 1.1, the field name may have inline text.
+            return getFieldText();
         }
         String fieldName = getSymbol(fieldSid);
         if (fieldName == null) {
@@ -1037,7 +1538,9 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     @Override
     public SymbolToken getFieldNameSymbol() {
         if (fieldSid < 0) {
-            return null;
+            // In Ion 1.1, the field name may have inline text.
+            String fieldText = getFieldText();
+            return fieldText == null ? null : new SymbolTokenImpl(fieldText, -1);
         }
         return getSymbolToken(fieldSid);
     }
@@ -3,6 +3,8 @@
 
 package com.amazon.ion.impl;
 
+import static com.amazon.ion._Private_TrampolineKt.createTimestampFromUtcFields;
+
 import com.amazon.ion.Decimal;
 import com.amazon.ion.IntegerSize;
 import com.amazon.ion.IonBufferConfiguration;
@@ -17,7 +19,10 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * An IonCursor capable of raw parsing of binary Ion streams.
@@ -51,6 +56,9 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
     // The number of bytes occupied by a Java long.
     private static final int LONG_SIZE_IN_BYTES = 8;
 
+    // Timestamp fractional seconds with up to this many digits can be held by Timestamp without a BigDecimal.
+    private static final int MAX_COMPACT_FRACTION_SCALE = 9;
+
     // The smallest negative 8-byte integer that can fit in a long is 0x80_00_00_00_00_00_00_00 and the smallest
     // negative 4-byte integer that can fit in an int is 0x80_00_00_00.
     private static final int MOST_SIGNIFICANT_BYTE_OF_MIN_INTEGER = 0x80;
@@ -65,6 +73,53 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
     // 32-bit floats must declare length 4.
     private static final int FLOAT_32_BYTE_LENGTH = 4;
 
+    // The lower nibble of the Ion 1.1 boolean true opcode (0x5E).
+    private static final int BOOLEAN_TRUE_NIBBLE_1_1 = 0xE;
+
+    // Ion 1.1 short-form timestamps, identified by the lower nibble of the opcode (0x70 through 0x7C).
+    private static final int S_TIMESTAMP_YEAR_1_1 = 0x0;
+    private static final int S_TIMESTAMP_MONTH_1_1 = 0x1;
+    private static final int S_TIMESTAMP_DAY_1_1 = 0x2;
+    private static final int S_TIMESTAMP_MINUTE_1_1 = 0x3;
+    private static final int S_TIMESTAMP_SECOND_1_1 = 0x4;
+    private static final int S_TIMESTAMP_MINUTE_WITH_OFFSET_1_1 = 0x8;
+    private static final int S_TIMESTAMP_SECOND_WITH_OFFSET_1_1 = 0x9;
+
+    // The bit layout of Ion 1.1 short-form timestamps.
+    private static final int S_TIMESTAMP_YEAR_BIAS_1_1 = 1970;
+    private static final int S_TIMESTAMP_MONTH_BIT_OFFSET_1_1 = 7;
+    private static final int S_TIMESTAMP_DAY_BIT_OFFSET_1_1 = 11;
+    private static final int S_TIMESTAMP_HOUR_BIT_OFFSET_1_1 = 16;
+    private static final int S_TIMESTAMP_MINUTE_BIT_OFFSET_1_1 = 21;
+    private static final long S_U_TIMESTAMP_UTC_FLAG_1_1 = 1L << 27;
+    private static final int S_U_TIMESTAMP_SECOND_BIT_OFFSET_1_1 = 28;
+    private static final int S_U_TIMESTAMP_FRACTION_BIT_OFFSET_1_1 = 34;
+    private static final int S_O_TIMESTAMP_OFFSET_BIT_OFFSET_1_1 = 27;
+    private static final int S_O_TIMESTAMP_OFFSET_BIAS_1_1 = 56;
+    private static final int S_O_TIMESTAMP_OFFSET_INCREMENT_1_1 = 15;
+    private static final int S_O_TIMESTAMP_SECOND_BIT_OFFSET_1_1 = 34;
+    private static final int S_O_TIMESTAMP_FRACTION_BYTE_OFFSET_1_1 = 5;
+
+    // The bit layout of Ion 1.1 long-form timestamps, and the lengths that determine their precision.
+    private static final int L_TIMESTAMP_MONTH_BIT_OFFSET_1_1 = 14;
+    private static final int L_TIMESTAMP_DAY_BIT_OFFSET_1_1 = 18;
+    private static final int L_TIMESTAMP_HOUR_BIT_OFFSET_1_1 = 23;
+    private static final int L_TIMESTAMP_MINUTE_BIT_OFFSET_1_1 = 28;
+    private static final int L_TIMESTAMP_OFFSET_BIT_OFFSET_1_1 = 34;
+    private static final int L_TIMESTAMP_SECOND_BIT_OFFSET_1_1 = 46;
+    private static final int L_TIMESTAMP_UNKNOWN_OFFSET_1_1 = 0xFFF;
+    private static final int L_TIMESTAMP_OFFSET_BIAS_1_1 = 24 * 60;
+    private static final int L_TIMESTAMP_YEAR_PRECISION_LENGTH_1_1 = 2;
+    private static final int L_TIMESTAMP_DAY_PRECISION_LENGTH_1_1 = 3;
+    private static final int L_TIMESTAMP_MINUTE_PRECISION_LENGTH_1_1 = 6;
+    private static final int L_TIMESTAMP_SECOND_PRECISION_LENGTH_1_1 = 7;
+
+    // Combined with the lower nibble of an Ion 1.1 symbol address opcode, yields the opcode (0xE1 through 0xE3).
+    private static final int SYMBOL_ADDRESS_OPCODE_MASK_1_1 = 0xE0;
+
+    // 16-bit floats must declare length 2.
+    private static final int FLOAT_16_BYTE_LENGTH = 2;
+
     // Initial capacity of the ArrayList used to hold the symbol IDs of the annotations on the current value.
     private static final int ANNOTATIONS_LIST_INITIAL_CAPACITY = 8;
 
@@ -82,6 +137,13 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
     // The symbol IDs for the annotations on the current value.
     private final IntList annotationSids;
 
+    // The inline text of the Ion 1.1 annotations on the current value, parallel to `annotationSids`. Only populated
+    // for annotation sequences that may contain inline text.
+    private final List<String> annotationTexts = new ArrayList<>(ANNOTATIONS_LIST_INITIAL_CAPACITY);
+
+    // The location of the inline text of the most recently read Ion 1.1 annotation, if any.
+    final Marker annotationTextMarker = new Marker(-1, 0);
+
     /**
      * Constructs a new reader from the given byte array.
      * @param configuration the configuration to use. The buffer size and oversized value configuration are unused, as
@@ -109,6 +171,31 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         annotationSids = new IntList(ANNOTATIONS_LIST_INITIAL_CAPACITY);
     }
 
+    /**
+     * Constructs a new reader from the given ByteBuffer.
+     * @param configuration the configuration to use. The buffer size and oversized value configuration are unused, as
+     *                      the given buffer is used directly.
+     * @param buffer the ByteBuffer containing the bytes to read between its position and its limit.
+     */
+    IonReaderContinuableCoreBinary(IonBufferConfiguration configuration, ByteBuffer buffer) {
+        super(configuration, buffer);
+        scalarConverter = new _Private_ScalarConversions.ValueVariant();
+        annotationSids = new IntList(ANNOTATIONS_LIST_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new reader over a region of the given file, which is memory-mapped.
+     * @param configuration the configuration to use.
+     * @param channel the channel over the file containing the bytes to read.
+     * @param position the position in the file at which the first byte of Ion data begins.
+     * @param length the number of bytes to be read from the file.
+     */
+    IonReaderContinuableCoreBinary(IonBufferConfiguration configuration, FileChannel channel, long position, long length) {
+        super(configuration, channel, position, length);
+        scalarConverter = new _Private_ScalarConversions.ValueVariant();
+        annotationSids = new IntList(ANNOTATIONS_LIST_INITIAL_CAPACITY);
+    }
+
     // Scratch space for various byte sizes. Only for use while computing a single value.
     private final byte[][] scratchForSize = new byte[][] {
         new byte[0],
@@ -144,7 +231,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         }
         // The correct number of bytes will be requested from the buffer, so the limit is set at the capacity to
         // avoid having to calculate a limit.
-        System.arraycopy(buffer, (int) startIndex, bytes, 0, bytes.length);
+        copyBytes(startIndex, bytes, 0, bytes.length);
         return bytes;
     }
 
@@ -160,7 +247,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             if (peekIndex >= limit) {
                 throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
             }
-            currentByte = buffer[(int)(peekIndex++)];
+            currentByte = byteAt(peekIndex++);
             result = (result << VALUE_BITS_PER_VARUINT_BYTE) | (currentByte & LOWER_SEVEN_BITS_BITMASK);
         }
         return result;
@@ -181,7 +268,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             if (peekIndex >= limit) {
                 throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
             }
-            currentByte = buffer[(int)(peekIndex++)];
+            currentByte = byteAt(peekIndex++);
             result = (result << VALUE_BITS_PER_VARUINT_BYTE) | (currentByte & LOWER_SEVEN_BITS_BITMASK);
         }
         return result * sign;
@@ -193,7 +280,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
      * @return the value.
      */
     private int readVarInt_1_0() {
-        return readVarInt_1_0(buffer[(int)(peekIndex++)]);
+        return readVarInt_1_0(byteAt(peekIndex++));
     }
 
     /**
@@ -259,12 +346,12 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             long coefficient = 0;
             int sign = 1;
             if (peekIndex < valueMarker.endIndex) {
-                int firstByte = buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+                int firstByte = byteAt(peekIndex++) & SINGLE_BYTE_MASK;
                 sign = (firstByte & HIGHEST_BIT_BITMASK) == 0 ? 1 : -1;
                 coefficient = firstByte & LOWER_SEVEN_BITS_BITMASK;
             }
             while (peekIndex < valueMarker.endIndex) {
-                coefficient = (coefficient << VALUE_BITS_PER_UINT_BYTE) | buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+                coefficient = (coefficient << VALUE_BITS_PER_UINT_BYTE) | byteAt(peekIndex++) & SINGLE_BYTE_MASK;
             }
             value = BigDecimal.valueOf(coefficient * sign, scale);
         } else {
@@ -331,14 +418,43 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return value;
     }
 
+    /**
+     * Reads the coefficient of a timestamp's fractional seconds, which begins at `peekIndex` and ends at
+     * `valueMarker.endIndex`, if the fractional seconds can be held by Timestamp without a BigDecimal. When this
+     * method returns a non-negative value, `peekIndex` will point at `valueMarker.endIndex`.
+     * @param scale the scale of the fractional seconds, which has already been read.
+     * @return the non-negative coefficient, or -1 if the fractional seconds must be read as a BigDecimal.
+     */
+    private int readCompactFractionCoefficient_1_0(int scale) {
+        int length = (int) (valueMarker.endIndex - peekIndex);
+        if (scale < 1 || scale > MAX_COMPACT_FRACTION_SCALE || length > INT_SIZE_IN_BYTES) {
+            return -1;
+        }
+        int coefficient = 0;
+        if (length > 0) {
+            int firstByte = byteAt(peekIndex) & SINGLE_BYTE_MASK;
+            coefficient = firstByte & LOWER_SEVEN_BITS_BITMASK;
+            for (long i = peekIndex + 1; i < valueMarker.endIndex; i++) {
+                coefficient = (coefficient << VALUE_BITS_PER_UINT_BYTE) | byteAt(i) & SINGLE_BYTE_MASK;
+            }
+            if ((firstByte & HIGHEST_BIT_BITMASK) != 0 && coefficient != 0) {
+                // Negative fractional seconds are invalid, and are reported in the usual way.
+                return -1;
+            }
+        }
+        peekIndex = valueMarker.endIndex;
+        return coefficient;
+    }
+
     /**
      * Reads the timestamp that begins at `peekIndex` and ends at `valueMarker.endIndex`.
      * @return the value.
      */
     private Timestamp readTimestamp_1_0() {
-        int firstByte = buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
-        Integer offset = null;
-        if (firstByte != VAR_INT_NEGATIVE_ZERO) {
+        int firstByte = byteAt(peekIndex++) & SINGLE_BYTE_MASK;
+        boolean isOffsetKnown = firstByte != VAR_INT_NEGATIVE_ZERO;
+        int offset = 0;
+        if (isOffsetKnown) {
             offset = readVarInt_1_0(firstByte);
         }
         int year = readVarUInt_1_0();
@@ -348,6 +464,8 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         int minute = 0;
         int second = 0;
         BigDecimal fractionalSecond = null;
+        int fractionScale = 0;
+        int fractionCoefficient = 0;
         Timestamp.Precision precision = Timestamp.Precision.YEAR;
         if (peekIndex < valueMarker.endIndex) {
             month = readVarUInt_1_0();
@@ -366,13 +484,37 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
                         second = readVarUInt_1_0();
                         precision = Timestamp.Precision.SECOND;
                         if (peekIndex < valueMarker.endIndex) {
-                            fractionalSecond = readBigDecimal_1_0();
+                            long fractionStartIndex = peekIndex;
+                            fractionScale = -readVarInt_1_0();
+                            fractionCoefficient = readCompactFractionCoefficient_1_0(fractionScale);
+                            if (fractionCoefficient < 0) {
+                                peekIndex = fractionStartIndex;
+                                fractionScale = 0;
+                                fractionCoefficient = 0;
+                                fractionalSecond = readBigDecimal_1_0();
+                            }
                         }
                     }
                 }
             }
         }
         try {
+            if (fractionalSecond == null) {
+                // The common case, which requires no objects besides the Timestamp.
+                return createTimestampFromUtcFields(
+                    precision,
+                    year,
+                    month,
+                    day,
+                    hour,
+                    minute,
+                    second,
+                    fractionCoefficient,
+                    fractionScale,
+                    offset,
+                    isOffsetKnown
+                );
+            }
             return Timestamp.createFromUtcFields(
                 precision,
                 year,
@@ -382,7 +524,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
                 minute,
                 second,
                 fractionalSecond,
-                offset
+                isOffsetKnown ? offset : null
             );
         } catch (IllegalArgumentException e) {
             throw new IonException("Illegal timestamp encoding. ", e);
@@ -406,52 +548,377 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
      */
     private boolean classifyInteger_1_0() {
         if (valueTid.isNegativeInt) {
-            int firstByte = buffer[(int)(valueMarker.startIndex)] & SINGLE_BYTE_MASK;
+            int firstByte = byteAt(valueMarker.startIndex) & SINGLE_BYTE_MASK;
             if (firstByte < MOST_SIGNIFICANT_BYTE_OF_MIN_INTEGER) {
                 return true;
             } else if (firstByte > MOST_SIGNIFICANT_BYTE_OF_MIN_INTEGER) {
                 return false;
             }
             for (long i = valueMarker.startIndex + 1; i < valueMarker.endIndex; i++) {
-                if (0x00 != buffer[(int)(i)]) {
+                if (0x00 != byteAt(i)) {
                     return false;
                 }
             }
             return true;
         }
-        return (buffer[(int) (valueMarker.startIndex)] & SINGLE_BYTE_MASK) <= MOST_SIGNIFICANT_BYTE_OF_MAX_INTEGER;
+        return (byteAt(valueMarker.startIndex) & SINGLE_BYTE_MASK) <= MOST_SIGNIFICANT_BYTE_OF_MAX_INTEGER;
+    }
+
+    /**
+     * Reads the FlexUInt starting at `peekIndex`. When this method returns, `peekIndex` will point at the first byte
+     * that follows the FlexUInt. NOTE: the FlexUInt must fit in an `int`.
+     * @return the value.
+     */
+    int readFlexUInt_1_1() {
+        if (peekIndex >= limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        int length = flexLength_1_1(byteAt(peekIndex));
+        if (peekIndex + length > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        long value = readFlexIntOrUInt_1_1(peekIndex, length, false);
+        if (value > Integer.MAX_VALUE) {
+            throw new IonException("Unsupported value: symbol ID is too large.");
+        }
+        peekIndex += length;
+        return (int) value;
+    }
+
+    /**
+     * Reads the FlexSym starting at `peekIndex`. When this method returns, `peekIndex` will point at the first byte
+     * that follows the FlexSym.
+     * @param textMarker the Marker to set with the location of the FlexSym's inline text, if any.
+     * @return the FlexSym's symbol ID, or -1 if the FlexSym has inline text.
+     */
+    private int readFlexSym_1_1(Marker textMarker) {
+        long length = bufferedFlexSymLength_1_1(peekIndex);
+        if (length < 0) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        int sid = readFlexSym_1_1(peekIndex, textMarker);
+        if (sid == FLEX_SYM_DELIMITED_END_1_1) {
+            throw new IonException("Malformed data: delimited end marker found in an annotation sequence.");
+        }
+        peekIndex += length;
+        return sid;
+    }
+
+    /**
+     * Reads the next annotation in the current value's annotation sequence, starting at `peekIndex`. When this method
+     * returns, `peekIndex` will point at the first byte that follows the annotation.
+     * @return the annotation's symbol ID, or -1 if the annotation has inline text, in which case
+     *  `annotationTextMarker` is set with the location of the text.
+     */
+    int readAnnotationToken_1_1() {
+        return annotationSequenceMarker.typeId.isInlineable ? readFlexSym_1_1(annotationTextMarker) : readFlexUInt_1_1();
     }
 
-    int readVarUInt_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Reads the FlexInt starting at `peekIndex` into a BigInteger. Unlike `readFlexIntOrUInt_1_1`, this supports
+     * FlexInts longer than eight bytes, whose first byte is zero. When this method returns, `peekIndex` will point at
+     * the first byte that follows the FlexInt.
+     * @param endIndex the index after the last byte that may belong to the FlexInt.
+     * @return the value.
+     */
+    private BigInteger readFlexIntAsBigInteger_1_1(long endIndex) {
+        long index = peekIndex;
+        int length = 0;
+        while (index < endIndex && byteAt(index) == 0) {
+            length += Byte.SIZE;
+            index++;
+        }
+        if (index >= endIndex) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the value.");
+        }
+        length += flexLength_1_1(byteAt(index));
+        if (peekIndex + length > endIndex) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the value.");
+        }
+        // FlexInts are little-endian; BigInteger requires big-endian.
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[length - 1 - i] = byteAt(peekIndex + i);
+        }
+        peekIndex += length;
+        // The lowest `length` bits encode the length, not the value.
+        return new BigInteger(bytes).shiftRight(length);
+    }
+
+    /**
+     * Reads the little-endian FixedInt that occupies the given range. NOTE: the value must fit in a `long`.
+     * @param startIndex the index of the first byte.
+     * @param endIndex the index after the last byte.
+     * @return the value.
+     */
+    private long readFixedInt_1_1(long startIndex, long endIndex) {
+        int length = (int) (endIndex - startIndex);
+        if (length == 0) {
+            return 0;
+        }
+        int unusedBits = (LONG_SIZE_IN_BYTES - length) * VALUE_BITS_PER_UINT_BYTE;
+        // Shifting left and then right extends the sign bit of the most significant byte.
+        return (readFixedUInt_1_1(startIndex, endIndex) << unusedBits) >> unusedBits;
+    }
+
+    /**
+     * Reads the little-endian FixedInt that occupies the given range into a BigInteger.
+     * @param startIndex the index of the first byte.
+     * @param endIndex the index after the last byte.
+     * @return the value.
+     */
+    private BigInteger readFixedIntAsBigInteger_1_1(long startIndex, long endIndex) {
+        int length = (int) (endIndex - startIndex);
+        if (length == 0) {
+            return BigInteger.ZERO;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[length - 1 - i] = byteAt(startIndex + i);
+        }
+        return new BigInteger(bytes);
     }
 
-    private int readVarSym_1_1(Marker marker) {
-        throw new UnsupportedOperationException();
+    /**
+     * Reads the exponent of the Ion 1.1 decimal value that begins at `valueMarker.startIndex`, leaving `peekIndex`
+     * at the start of its coefficient, if any.
+     * @return the scale, which is the negation of the exponent.
+     */
+    private int readDecimalScale_1_1() {
+        long exponent;
+        if (valueTid.isFlexLength) {
+            // A zero coefficient, represented only by a FlexInt exponent.
+            exponent = readFlexIntOrUInt_1_1(peekIndex, flexLength_1_1(byteAt(peekIndex)), true);
+        } else {
+            // The coefficient is a FlexInt; the rest of the value is the FixedInt exponent, if any.
+            long index = peekIndex;
+            long coefficientLength = 0;
+            while (index < valueMarker.endIndex && byteAt(index) == 0) {
+                // Each leading zero byte adds eight bytes to the length of the FlexInt.
+                coefficientLength += Byte.SIZE;
+                index++;
+            }
+            if (index >= valueMarker.endIndex) {
+                throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the value.");
+            }
+            long coefficientEnd = peekIndex + coefficientLength + flexLength_1_1(byteAt(index));
+            if (coefficientEnd > valueMarker.endIndex || valueMarker.endIndex - coefficientEnd > LONG_SIZE_IN_BYTES) {
+                throw new IonException("Malformed data: invalid decimal encoding.");
+            }
+            exponent = readFixedInt_1_1(coefficientEnd, valueMarker.endIndex);
+        }
+        if (exponent > Integer.MAX_VALUE || exponent <= Integer.MIN_VALUE) {
+            throw new IonException("Unsupported value: decimal exponent is too large.");
+        }
+        return (int) -exponent;
     }
 
+    /**
+     * Reads into a BigDecimal the decimal value that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private BigDecimal readBigDecimal_1_1() {
-        throw new UnsupportedOperationException();
+        int scale = readDecimalScale_1_1();
+        if (valueTid.isFlexLength) {
+            return BigDecimal.valueOf(0, scale);
+        }
+        int firstByte = byteAt(peekIndex);
+        if (firstByte != 0) {
+            // No need to allocate a BigInteger to hold the coefficient.
+            return BigDecimal.valueOf(readFlexIntOrUInt_1_1(peekIndex, flexLength_1_1((byte) firstByte), true), scale);
+        }
+        return new BigDecimal(readFlexIntAsBigInteger_1_1(valueMarker.endIndex), scale);
     }
 
+    /**
+     * Reads into a Decimal the decimal value that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private Decimal readDecimal_1_1() {
-        throw new UnsupportedOperationException();
+        int scale = readDecimalScale_1_1();
+        if (valueTid.isFlexLength) {
+            return Decimal.valueOf(BigInteger.ZERO, scale);
+        }
+        return Decimal.valueOf(readFlexIntAsBigInteger_1_1(valueMarker.endIndex), scale);
     }
 
+    /**
+     * Reads into a long the integer value that begins at `valueMarker.startIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private long readLong_1_1() {
-        throw new UnsupportedOperationException();
+        if (valueMarker.endIndex - valueMarker.startIndex > LONG_SIZE_IN_BYTES) {
+            // Only variable-length integers may be this long; the value is truncated, as with Ion 1.0 BigIntegers.
+            return readBigInteger_1_1().longValue();
+        }
+        return readFixedInt_1_1(valueMarker.startIndex, valueMarker.endIndex);
     }
 
+    /**
+     * Reads into a BigInteger the integer value that begins at `valueMarker.startIndex` and ends at
+     * `valueMarker.endIndex`.
+     * @return the value.
+     */
     private BigInteger readBigInteger_1_1() {
-        throw new UnsupportedOperationException();
+        return readFixedIntAsBigInteger_1_1(valueMarker.startIndex, valueMarker.endIndex);
+    }
+
+    /**
+     * Extracts the given number of bits from the given value.
+     * @param bits the value.
+     * @param offset the index of the lowest bit to extract.
+     * @param width the number of bits to extract.
+     * @return the bits.
+     */
+    private static int bitField(long bits, int offset, int width) {
+        return (int) ((bits >>> offset) & ((1L << width) - 1));
+    }
+
+    /**
+     * Reads the short-form timestamp that begins at `valueMarker.startIndex`. The opcode's lower nibble determines
+     * the precision and whether the timestamp has a known offset.
+     * @return the value.
+     */
+    private Timestamp readShortFormTimestamp_1_1() {
+        int form = valueTid.lowerNibble;
+        long start = valueMarker.startIndex;
+        long bits = readFixedUInt_1_1(start, Math.min(valueMarker.endIndex, start + LONG_SIZE_IN_BYTES));
+        int year = bitField(bits, 0, 7) + S_TIMESTAMP_YEAR_BIAS_1_1;
+        if (form == S_TIMESTAMP_YEAR_1_1) {
+            return Timestamp.forYear(year);
+        }
+        int month = bitField(bits, S_TIMESTAMP_MONTH_BIT_OFFSET_1_1, 4);
+        if (form == S_TIMESTAMP_MONTH_1_1) {
+            return Timestamp.forMonth(year, month);
+        }
+        int day = bitField(bits, S_TIMESTAMP_DAY_BIT_OFFSET_1_1, 5);
+        if (form == S_TIMESTAMP_DAY_1_1) {
+            return Timestamp.forDay(year, month, day);
+        }
+        int hour = bitField(bits, S_TIMESTAMP_HOUR_BIT_OFFSET_1_1, 5);
+        int minute = bitField(bits, S_TIMESTAMP_MINUTE_BIT_OFFSET_1_1, 6);
+        Integer offset;
+        int second;
+        long fraction = 0;
+        int scale;
+        if (form < S_TIMESTAMP_MINUTE_WITH_OFFSET_1_1) {
+            offset = (bits & S_U_TIMESTAMP_UTC_FLAG_1_1) == 0 ? null : 0;
+            if (form == S_TIMESTAMP_MINUTE_1_1) {
+                return Timestamp.forMinute(year, month, day, hour, minute, offset);
+            }
+            second = bitField(bits, S_U_TIMESTAMP_SECOND_BIT_OFFSET_1_1, 6);
+            scale = (form - S_TIMESTAMP_SECOND_1_1) * 3;
+            if (scale > 0) {
+                fraction = bits >>> S_U_TIMESTAMP_FRACTION_BIT_OFFSET_1_1;
+            }
+        } else {
+            offset = (bitField(bits, S_O_TIMESTAMP_OFFSET_BIT_OFFSET_1_1, 7) - S_O_TIMESTAMP_OFFSET_BIAS_1_1)
+                * S_O_TIMESTAMP_OFFSET_INCREMENT_1_1;
+            if (form == S_TIMESTAMP_MINUTE_WITH_OFFSET_1_1) {
+                return Timestamp.forMinute(year, month, day, hour, minute, offset);
+            }
+            second = bitField(bits, S_O_TIMESTAMP_SECOND_BIT_OFFSET_1_1, 6);
+            scale = (form - S_TIMESTAMP_SECOND_WITH_OFFSET_1_1) * 3;
+            if (scale > 0) {
+                // The fractional seconds follow the first five bytes as a separate FixedUInt.
+                fraction = readFixedUInt_1_1(start + S_O_TIMESTAMP_FRACTION_BYTE_OFFSET_1_1, valueMarker.endIndex);
+            }
+        }
+        if (scale == 0) {
+            return Timestamp.forSecond(year, month, day, hour, minute, second, offset);
+        }
+        return Timestamp.forSecond(
+            year, month, day, hour, minute, BigDecimal.valueOf(second).add(BigDecimal.valueOf(fraction, scale)), offset
+        );
     }
 
+    /**
+     * Reads the long-form timestamp that begins at `valueMarker.startIndex`, whose precision is determined by its
+     * length.
+     * @return the value.
+     */
+    private Timestamp readLongFormTimestamp_1_1() {
+        long start = valueMarker.startIndex;
+        int length = (int) (valueMarker.endIndex - start);
+        long bits = readFixedUInt_1_1(start, start + Math.min(length, L_TIMESTAMP_SECOND_PRECISION_LENGTH_1_1));
+        int year = bitField(bits, 0, 14);
+        if (length == L_TIMESTAMP_YEAR_PRECISION_LENGTH_1_1) {
+            return Timestamp.forYear(year);
+        }
+        int month = bitField(bits, L_TIMESTAMP_MONTH_BIT_OFFSET_1_1, 4);
+        int day = bitField(bits, L_TIMESTAMP_DAY_BIT_OFFSET_1_1, 5);
+        if (length == L_TIMESTAMP_DAY_PRECISION_LENGTH_1_1) {
+            return day == 0 ? Timestamp.forMonth(year, month) : Timestamp.forDay(year, month, day);
+        }
+        if (length < L_TIMESTAMP_MINUTE_PRECISION_LENGTH_1_1) {
+            throw new IonException("Illegal timestamp encoding: invalid length.");
+        }
+        int hour = bitField(bits, L_TIMESTAMP_HOUR_BIT_OFFSET_1_1, 5);
+        int minute = bitField(bits, L_TIMESTAMP_MINUTE_BIT_OFFSET_1_1, 6);
+        int offsetBits = bitField(bits, L_TIMESTAMP_OFFSET_BIT_OFFSET_1_1, 12);
+        Integer offset = offsetBits == L_TIMESTAMP_UNKNOWN_OFFSET_1_1 ? null : offsetBits - L_TIMESTAMP_OFFSET_BIAS_1_1;
+        if (length == L_TIMESTAMP_MINUTE_PRECISION_LENGTH_1_1) {
+            return Timestamp.forMinute(year, month, day, hour, minute, offset);
+        }
+        int second = bitField(bits, L_TIMESTAMP_SECOND_BIT_OFFSET_1_1, 6);
+        if (length == L_TIMESTAMP_SECOND_PRECISION_LENGTH_1_1) {
+            return Timestamp.forSecond(year, month, day, hour, minute, second, offset);
+        }
+        // A FlexUInt coefficient and FixedUInt scale of the fractional seconds follow the first seven bytes.
+        peekIndex = start + L_TIMESTAMP_SECOND_PRECISION_LENGTH_1_1;
+        int coefficientLength = flexLength_1_1(byteAt(peekIndex));
+        if (peekIndex + coefficientLength > valueMarker.endIndex) {
+            throw new IonException("Illegal timestamp encoding: invalid length.");
+        }
+        long coefficient = readFlexIntOrUInt_1_1(peekIndex, coefficientLength, false);
+        long scale = readFixedUInt_1_1(peekIndex + coefficientLength, valueMarker.endIndex);
+        if (scale > Integer.MAX_VALUE) {
+            throw new IonException("Illegal timestamp encoding: fractional second scale is too large.");
+        }
+        BigDecimal fractionalSecond = BigDecimal.valueOf(coefficient, (int) scale);
+        if (fractionalSecond.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IonException("Illegal timestamp encoding: fractional seconds must be less than one.");
+        }
+        return Timestamp.forSecond(year, month, day, hour, minute, fractionalSecond.add(BigDecimal.valueOf(second)), offset);
+    }
+
+    /**
+     * Reads the timestamp that begins at `valueMarker.startIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private Timestamp readTimestamp_1_1() {
-        throw new UnsupportedOperationException();
+        try {
+            return valueTid.variableLength ? readLongFormTimestamp_1_1() : readShortFormTimestamp_1_1();
+        } catch (IllegalArgumentException e) {
+            throw new IonException("Illegal timestamp encoding. ", e);
+        }
     }
 
+    /**
+     * Reads the boolean value using the type ID of the current value.
+     * @return the value.
+     */
     private boolean readBoolean_1_1() {
-        throw new UnsupportedOperationException();
+        return valueTid.lowerNibble == BOOLEAN_TRUE_NIBBLE_1_1;
+    }
+
+    /**
+     * Converts the given IEEE-754 binary16 (half precision) bits to a double.
+     * @param bits the bits, in the lowest sixteen bits of the int.
+     * @return the value.
+     */
+    private static double halfToDouble(int bits) {
+        int sign = (bits & 0x8000) == 0 ? 1 : -1;
+        int exponent = (bits >> 10) & 0x1F;
+        int significand = bits & 0x3FF;
+        if (exponent == 0x1F) {
+            return significand == 0 ? sign * Double.POSITIVE_INFINITY : Double.NaN;
+        }
+        if (exponent == 0) {
+            // Subnormal: no implicit leading one.
+            return sign * Math.scalb((double) significand, -24);
+        }
+        return sign * Math.scalb((double) (significand | 0x400), exponent - 25);
     }
 
     @Override
@@ -469,7 +936,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
     ByteBuffer prepareByteBuffer(long startIndex, long endIndex) {
         // Setting the limit to the capacity first is required because setting the position will fail if the new
         // position is outside the limit.
-        byteBuffer.limit(buffer.length);
+        byteBuffer.limit(byteBuffer.capacity());
         byteBuffer.position((int) startIndex);
         byteBuffer.limit((int) endIndex);
         return byteBuffer;
@@ -483,9 +950,18 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
      * @return the value.
      */
     private long readUInt(long startIndex, long endIndex) {
+        if (buffer == null) {
+            // ByteBuffers are big-endian, like UInts, so common sizes can be read without assembling individual bytes.
+            long length = endIndex - startIndex;
+            if (length == LONG_SIZE_IN_BYTES) {
+                return directBuffer.getLong((int) startIndex);
+            } else if (length == INT_SIZE_IN_BYTES) {
+                return directBuffer.getInt((int) startIndex) & 0xFFFFFFFFL;
+            }
+        }
         long result = 0;
         for (long i = startIndex; i < endIndex; i++) {
-            result = (result << VALUE_BITS_PER_UINT_BYTE) | buffer[(int) i] & SINGLE_BYTE_MASK;
+            result = (result << VALUE_BITS_PER_UINT_BYTE) | byteAt(i) & SINGLE_BYTE_MASK;
         }
         return result;
     }
@@ -545,7 +1021,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         byte[] bytes = new byte[byteSize()];
         // The correct number of bytes will be requested from the buffer, so the limit is set at the capacity to
         // avoid having to calculate a limit.
-        System.arraycopy(buffer, (int) valueMarker.startIndex, bytes, 0, bytes.length);
+        copyBytes(valueMarker.startIndex, bytes, 0, bytes.length);
         return bytes;
     }
 
@@ -554,7 +1030,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         int length = Math.min(len, byteSize() - lobBytesRead);
         // The correct number of bytes will be requested from the buffer, so the limit is set at the capacity to
         // avoid having to calculate a limit.
-        System.arraycopy(buffer, (int) (valueMarker.startIndex + lobBytesRead), bytes, offset, length);
+        copyBytes(valueMarker.startIndex + lobBytesRead, bytes, offset, length);
         lobBytesRead += length;
         return length;
     }
@@ -708,6 +1184,9 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             ByteBuffer bytes = prepareByteBuffer(valueMarker.startIndex, valueMarker.endIndex);
             if (length == FLOAT_32_BYTE_LENGTH) {
                 value = bytes.getFloat();
+            } else if (length == FLOAT_16_BYTE_LENGTH) {
+                // Only Ion 1.1 has 16-bit floats.
+                value = halfToDouble(bytes.getShort());
             } else {
                 // Note: there is no need to check for other lengths here; the type ID byte is validated during next().
                 value = bytes.getDouble();
@@ -782,7 +1261,58 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             return -1;
         }
         prepareScalar();
-        return (int) readUInt(valueMarker.startIndex, valueMarker.endIndex);
+        if (minorVersion == 0) {
+            return (int) readUInt(valueMarker.startIndex, valueMarker.endIndex);
+        }
+        if (valueTid.isInlineable) {
+            // The symbol has inline text; see `getSymbolText()`.
+            return -1;
+        }
+        return readSymbolAddress_1_1(SYMBOL_ADDRESS_OPCODE_MASK_1_1 | valueTid.lowerNibble, valueMarker.startIndex);
+    }
+
+    /**
+     * Decodes the UTF-8 text in the given range of the buffer.
+     * @param startIndex the index of the first byte of the text.
+     * @param endIndex the index after the last byte of the text.
+     * @return the text.
+     */
+    private String decodeText(long startIndex, long endIndex) {
+        ByteBuffer utf8InputBuffer = prepareByteBuffer(startIndex, endIndex);
+        return utf8Decoder.decode(utf8InputBuffer, (int) (endIndex - startIndex));
+    }
+
+    /**
+     * @return the inline text of the Ion 1.1 symbol value on which the reader is positioned, or null if the symbol
+     *  is null or is represented by a symbol ID (see `symbolValueId()`).
+     */
+    String getSymbolText() {
+        if (valueTid == null || IonType.SYMBOL != valueTid.type || valueTid.isNull || !valueTid.isInlineable) {
+            return null;
+        }
+        prepareScalar();
+        return decodeText(valueMarker.startIndex, valueMarker.endIndex);
+    }
+
+    /**
+     * @return the inline text of the current value's Ion 1.1 field name, or null if the value has no field name or its
+     *  field name is represented by a symbol ID (see `getFieldId()`).
+     */
+    String getFieldText() {
+        if (fieldSid >= 0 || fieldTextMarker.startIndex < 0) {
+            return null;
+        }
+        return decodeText(fieldTextMarker.startIndex, fieldTextMarker.endIndex);
+    }
+
+    /**
+     * Gets the inline text of an annotation on the current value. Must only be called after `getAnnotationSidList()`
+     * for an annotation whose symbol ID is -1.
+     * @param index the index of the annotation.
+     * @return the text.
+     */
+    String getAnnotationText(int index) {
+        return annotationTexts.get(index);
     }
 
     /**
@@ -798,8 +1328,16 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
                 annotationSids.add(readVarUInt_1_0());
             }
         } else {
+            boolean isInlineable = annotationSequenceMarker.typeId.isInlineable;
+            if (isInlineable) {
+                annotationTexts.clear();
+            }
             while (peekIndex < annotationSequenceMarker.endIndex) {
-                annotationSids.add(readVarUInt_1_1());
+                int sid = readAnnotationToken_1_1();
+                annotationSids.add(sid);
+                if (isInlineable) {
+                    annotationTexts.add(sid < 0 ? decodeText(annotationTextMarker.startIndex, annotationTextMarker.endIndex) : null);
+                }
             }
         }
         peekIndex = savedPeekIndex;
@@ -823,7 +1361,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
 
     @Override
     public boolean isInStruct() {
-        return parent != null && parent.typeId.type == IonType.STRUCT;
+        return parent == null ? isExpansionInStruct() : parent.typeId.type == IonType.STRUCT;
     }
 
     @Override
@@ -3,6 +3,7 @@
 
 package com.amazon.ion.impl;
 
+import com.amazon.ion.FieldSlotReader;
 import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
@@ -18,6 +19,8 @@ import com.amazon.ion.SymbolTable;
 import com.amazon.ion.system.IonReaderBuilder;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * An optionally continuable (i.e., incremental) binary {@link IonReader} implementation. Continuability is enabled
@@ -43,6 +46,12 @@ import java.io.InputStream;
  * rare for a single top-level value or symbol table to exceed a few megabytes in size. However, if the size of the
  * stream's values risk exceeding the available memory, then continuable reading must not be used.
  * </p>
+ * <p>
+ * When constructed from a {@link FileChannel}, the file is memory-mapped and no bytes are copied into the Java heap;
+ * likewise, direct {@link ByteBuffer}s are read in place.
+ * Files larger than the configured maximum buffer size (by default, about 2GB) are mapped in successive windows, so
+ * only the second of the limits above applies to each value.
+ * </p>
  */
 final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableApplicationBinary implements IonReader, _Private_ReaderWriter {
 
@@ -88,6 +97,48 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         isFillRequired = false;
     }
 
+    /**
+     * Constructs a new reader from the given ByteBuffer.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param buffer the ByteBuffer containing the bytes to read between its position and its limit.
+     */
+    IonReaderContinuableTopLevelBinary(IonReaderBuilder builder, ByteBuffer buffer) {
+        super(builder, buffer);
+        isNonContinuable = !builder.isIncrementalReadingEnabled();
+        isFillRequired = false;
+    }
+
+    /**
+     * Constructs a new reader over a region of the given file, which is memory-mapped.
+     * @param builder the builder containing the configuration for the new reader.
+     * @param channel the channel over the file containing the bytes to read.
+     * @param position the position in the file at which the first byte of Ion data begins.
+     * @param length the number of bytes to be read from the file.
+     */
+    IonReaderContinuableTopLevelBinary(IonReaderBuilder builder, FileChannel channel, long position, long length) {
+        super(builder, channel, position, length);
+        isNonContinuable = !builder.isIncrementalReadingEnabled();
+        // When the file is mapped in a single window, the reader behaves as if it were constructed from a byte array.
+        isFillRequired = isNonContinuable && !isByteBacked();
+    }
+
+    /**
+     * Prepares the reader to read the given range of its data as a sequence of top-level values that begins in the
+     * middle of a stream, where the given symbol table is in effect.
+     * @param startIndex the index of the first byte of the first value in the range.
+     * @param endIndex the index of the first byte after the last value in the range.
+     * @param symbolTable the symbol table in effect at the start of the range. Must have been returned by
+     *                    {@link #getSymbolTable()} of a reader of this type.
+     */
+    void startAt(long startIndex, long endIndex, SymbolTable symbolTable) {
+        restoreSymbolTable(symbolTable);
+        slice(startIndex, endIndex, symbolTable.getIonVersionId());
+        type = null;
+        if (projection != null) {
+            projection.reset();
+        }
+    }
+
     @Override
     public SymbolTable pop_passed_symbol_table() {
         SymbolTable currentSymbolTable = getSymbolTable();
@@ -174,6 +225,11 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
                 // Setting the event to NEEDS_DATA ensures that if the user attempts to skip past the incomplete
                 // value, null will continue to be returned.
                 event = Event.NEEDS_DATA;
+            } else if (isSlowMode && !isNonContinuable && parent == null) {
+                // Reading past the end of a macro expansion returned the reader to the top level of the stream, where
+                // values must be filled before they are surfaced.
+                isFillingValue = true;
+                nextAndFill();
             } else {
                 isFillingValue = false;
                 type = super.getType();
@@ -187,12 +243,18 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
     @Override
     public void stepIn() {
         super.stepIntoContainer();
+        if (projection != null) {
+            projection.stepIn();
+        }
         type = null;
     }
 
     @Override
     public void stepOut() {
         super.stepOutOfContainer();
+        if (projection != null) {
+            projection.stepOut();
+        }
         type = null;
     }
 
@@ -257,6 +319,30 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
 
     }
 
+    private class FieldSlotReaderFacet implements FieldSlotReader {
+
+        @Override
+        public int registerFieldName(String fieldName) {
+            return IonReaderContinuableTopLevelBinary.this.registerFieldName(fieldName);
+        }
+
+        @Override
+        public int getFieldSlot() {
+            return IonReaderContinuableTopLevelBinary.this.getFieldSlot();
+        }
+    }
+
+    /**
+     * Spans are not yet supported over Ion 1.1 data: the end of a delimited container is not always known, and
+     * seeking cannot yet restore an Ion 1.1 encoding context.
+     * @throws UnsupportedOperationException if the reader is positioned on Ion 1.1 data.
+     */
+    private void requireSpanSupport() {
+        if (getIonMinorVersion() > 0) {
+            throw new UnsupportedOperationException("Spans are not yet supported over Ion 1.1 data.");
+        }
+    }
+
     private class SpanProviderFacet implements SpanProvider {
 
         @Override
@@ -264,6 +350,7 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             if (type == null) {
                 throw new IllegalStateException("IonReader isn't positioned on a value");
             }
+            requireSpanSupport();
             return new IonReaderBinarySpan(
                 valuePreHeaderIndex,
                 valueMarker.endIndex,
@@ -280,6 +367,7 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             if (type == null) {
                 throw new IllegalStateException("IonReader isn't positioned on a value");
             }
+            requireSpanSupport();
             return new IonReaderBinarySpan(
                 valueMarker.startIndex,
                 valueMarker.endIndex,
@@ -312,6 +400,9 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             restoreSymbolTable(binarySpan.symbolTable);
             slice(binarySpan.bufferOffset, binarySpan.bufferLimit, binarySpan.symbolTable.getIonVersionId());
             type = null;
+            if (projection != null) {
+                projection.reset();
+            }
         }
     }
 
@@ -320,6 +411,9 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         if (facetType == SpanProvider.class) {
             return facetType.cast(new SpanProviderFacet());
         }
+        if (facetType == FieldSlotReader.class) {
+            return facetType.cast(new FieldSlotReaderFacet());
+        }
         // Note: because IonCursorBinary has an internal buffer that can grow, it is possible to relax the restriction
         // that readers must have been constructed with a byte array in order to be seekable or provide raw value spans.
         // However, it requires some considerations that do not fit well with the existing interfaces. Most importantly,
@@ -331,7 +425,8 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             if (facetType == SeekableReader.class) {
                 return facetType.cast(new SeekableReaderFacet());
             }
-            if (facetType == RawValueSpanProvider.class) {
+            // Raw value spans are only available when the bytes are held in a byte array, not a ByteBuffer.
+            if (facetType == RawValueSpanProvider.class && buffer != null) {
                 return facetType.cast(new RawValueSpanProviderFacet());
             }
         }
@@ -30,7 +30,7 @@ import com.amazon.ion.impl.IonTokenConstsX.CharacterSequence;
 import com.amazon.ion.impl.UnifiedSavePointManagerX.SavePoint;
 import com.amazon.ion.util.IonTextUtils;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Tokenizer for the Ion text parser in IonTextIterator. This
@@ -62,8 +62,11 @@ import java.util.ArrayList;
  *  The result is that only the most recent token is available to the
  *  calling reader.
  *
+ *  {@link IonReaderTextRawUtf8TokensX} overrides the hot scanning routines
+ *  for input held in a single UTF-8 byte array.
+ *
  */
-final class IonReaderTextRawTokensX
+class IonReaderTextRawTokensX
 {
     static final boolean _debug = false;
 
@@ -90,7 +93,7 @@ final class IonReaderTextRawTokensX
     static final int[] BASE64_CHAR_TO_BIN = Base64Encoder.Base64EncodingCharToInt;
     static final int   BASE64_TERMINATOR_CHAR = Base64Encoder.Base64EncodingTerminator;
 
-    private UnifiedInputStreamX  _stream = null;
+    protected UnifiedInputStreamX _stream = null;
     private int                 _token = -1;
     /** are we at the beginning of this token (false == done with it) */
     private boolean             _unfinished_token;
@@ -111,7 +114,13 @@ final class IonReaderTextRawTokensX
     // This value was chosen somewhat arbitrarily; it can/should be changed if it is found to be insufficient.
     private static final int CONTAINER_STACK_INITIAL_CAPACITY = 16;
     // Used for tracking terminator characters when skipping a container
-    private final ArrayList<Integer> containerSkipTerminatorStack = new ArrayList<>(CONTAINER_STACK_INITIAL_CAPACITY);
+    private int[] containerSkipTerminatorStack = new int[CONTAINER_STACK_INITIAL_CAPACITY];
+    private int containerSkipTerminatorDepth = 0;
+
+    /** whether containers may be skipped using a structural index of the input */
+    private boolean             _structural_index_enabled = false;
+    /** created on the first container skip */
+    private IonTextStructuralIndex _structural_index;
 
     /**
      * IonTokenReader constructor requires a UnifiedInputStream
@@ -137,6 +146,17 @@ final class IonReaderTextRawTokensX
         _stream.close();
     }
 
+    /**
+     * Enables skipping containers by jumping past their closing characters
+     * using a structural index of the input, rather than tokenizing their
+     * contents. This has no effect unless the input is a single in-memory
+     * buffer.
+     */
+    public void enableStructuralIndex()
+    {
+        _structural_index_enabled = true;
+    }
+
     public int  getToken()      { return _token; }
     public long getLineNumber() { return _line_count; }
     public long getLineOffset() {
@@ -308,6 +328,21 @@ final class IonReaderTextRawTokensX
             throw new IllegalStateException();
         }
 
+        // anything else (and that should only be either a new line
+        // of IonTokenConsts.ESCAPED_NEWLINE_SEQUENCE passed in) we will
+        // return the char unchanged and line count
+        count_line(_stream.getPosition());
+
+        return c;
+    }
+
+    /**
+     * Starts a new line, remembering the current one so that the line
+     * terminator can be unread.
+     * @param next_position the stream position just past the line terminator.
+     */
+    protected final void count_line(long next_position)
+    {
         // before we adjust the line count we save it so that
         // we can recover from a unread of a line terminator
         // note that we can only recover from a single line
@@ -318,14 +353,9 @@ final class IonReaderTextRawTokensX
         _line_offset_cached = _line_starting_position;
         _line_count_has_cached = true;
 
-        // anything else (and that should only be either a new line
-        // of IonTokenConsts.ESCAPED_NEWLINE_SEQUENCE passed in) we will
-        // return the char unchanged and line count
         _line_count++;
         // since we want the first character of the line to be 1, not 0:
-        _line_starting_position = _stream.getPosition() - 1;
-
-        return c;
+        _line_starting_position = next_position - 1;
     }
 
     /**
@@ -808,7 +838,8 @@ final class IonReaderTextRawTokensX
      */
     private final int skip_over_whitespace() throws IOException
     {
-        return skip_over_whitespace(CommentStrategy.IGNORE);
+        skip_whitespace();
+        return read_char();
     }
 
     /**
@@ -863,7 +894,7 @@ final class IonReaderTextRawTokensX
      * @return true if whitespace or comments were encountered
      * @throws IOException
      */
-    protected final boolean skip_whitespace() throws IOException
+    protected boolean skip_whitespace() throws IOException
     {
         return skip_whitespace(CommentStrategy.IGNORE);
     }
@@ -881,6 +912,9 @@ final class IonReaderTextRawTokensX
         int c;
 
         loop: for (;;) {
+            if (_stream.skipRun(IonTokenConstsX.isSpaceOrTab) > 0) {
+                any_whitespace = true;
+            }
             c = read_char();
             switch (c) {
             case -1:
@@ -1028,7 +1062,7 @@ final class IonReaderTextRawTokensX
      * @return numeric token type
      * @throws IOException
      */
-    private final int scan_for_numeric_type(int c1) throws IOException
+    protected int scan_for_numeric_type(int c1) throws IOException
     {
         int   t = IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC;
         int[] read_chars = new int[6];
@@ -1212,13 +1246,19 @@ final class IonReaderTextRawTokensX
     {
         assert( terminator == '}' || terminator == ']' || terminator == ')' );
 
+        if (_structural_index_enabled && skip_over_indexed_container(terminator)) {
+            return;
+        }
+
         // In theory, this should be empty at the start and end of every call to this
         // method, but we'll clear it here anyway just in case.
-        containerSkipTerminatorStack.clear();
+        containerSkipTerminatorDepth = 0;
 
         int c;
 
         for (;;) {
+            // content without structure (scalars, whitespace) is skipped a run at a time
+            _stream.skipRun(IonTokenConstsX.isInertContainerCharacter);
             c = skip_over_whitespace();
             switch (c) {
             case -1:
@@ -1227,11 +1267,11 @@ final class IonReaderTextRawTokensX
             case ']':
             case ')':
                 if (c == terminator) { // no point is checking this on every char
-                    if (containerSkipTerminatorStack.isEmpty()) {
+                    if (containerSkipTerminatorDepth == 0) {
                         return;
                     } else {
                         // Pop one off the stack to continue
-                        terminator = containerSkipTerminatorStack.remove(containerSkipTerminatorStack.size() - 1);
+                        terminator = containerSkipTerminatorStack[--containerSkipTerminatorDepth];
                     }
                 }
                 break;
@@ -1248,11 +1288,11 @@ final class IonReaderTextRawTokensX
                 }
                 break;
             case '(':
-                containerSkipTerminatorStack.add(terminator);
+                pushContainerSkipTerminator(terminator);
                 terminator = ')';
                 break;
             case '[':
-                containerSkipTerminatorStack.add(terminator);
+                pushContainerSkipTerminator(terminator);
                 terminator = ']';
                 break;
             case '{':
@@ -1290,7 +1330,7 @@ final class IonReaderTextRawTokensX
                 }
                 else {
                     unread_char(c);
-                    containerSkipTerminatorStack.add(terminator);
+                    pushContainerSkipTerminator(terminator);
                     terminator = '}';
                 }
                 break;
@@ -1300,6 +1340,44 @@ final class IonReaderTextRawTokensX
         }
     }
 
+    /**
+     * Skips the rest of the container that encloses the current position by
+     * walking the structural index to its closing character.
+     * @return false, without consuming anything, if the index can't be used,
+     * which includes any input that the tokenizer would report an error for.
+     */
+    private boolean skip_over_indexed_container(int terminator)
+    {
+        if (_structural_index == null) {
+            _structural_index = _stream.makeStructuralIndex();
+            if (_structural_index == null) {
+                _structural_index_enabled = false;
+                return false;
+            }
+        }
+        int closer = _structural_index.findCloser(_stream.getOffset(), terminator);
+        if (closer < 0 || !_stream.skipTo(closer + 1)) {
+            return false;
+        }
+        // account for the lines we jumped over as line_count() would have
+        int lines = _structural_index.getLineBreaks();
+        if (lines > 0) {
+            _line_count += lines;
+            _line_starting_position = _stream.getPosition()
+                - (closer + 1 - _structural_index.getLastLineBreak());
+        }
+        _line_count_has_cached = false;
+        return true;
+    }
+
+    private void pushContainerSkipTerminator(int terminator)
+    {
+        if (containerSkipTerminatorDepth == containerSkipTerminatorStack.length) {
+            containerSkipTerminatorStack = Arrays.copyOf(containerSkipTerminatorStack, containerSkipTerminatorDepth * 2);
+        }
+        containerSkipTerminatorStack[containerSkipTerminatorDepth++] = terminator;
+    }
+
     private int skip_over_number(SavePoint sp) throws IOException
     {
         int c = read_char();
@@ -1854,6 +1932,7 @@ final class IonReaderTextRawTokensX
 
     private final int skip_over_symbol_identifier(SavePoint sp) throws IOException
     {
+        _stream.skipRun(IonTokenConstsX.isValidSymbolCharacter);
         int c = read_char();
 
         while(IonTokenConstsX.isValidSymbolCharacter(c)) {
@@ -1868,6 +1947,7 @@ final class IonReaderTextRawTokensX
 
     protected void load_symbol_identifier(StringBuilder sb) throws IOException
     {
+        _stream.appendRun(IonTokenConstsX.isValidSymbolCharacter, sb);
         int c = read_char();
         while(IonTokenConstsX.isValidSymbolCharacter(c)) {
             sb.append((char)c);
@@ -2009,10 +2089,11 @@ final class IonReaderTextRawTokensX
         }
     }
 
-    private final void skip_double_quoted_string_helper() throws IOException
+    protected void skip_double_quoted_string_helper() throws IOException
     {
         int c;
         for (;;) {
+            _stream.skipRun(IonTokenConstsX.isPlainShortStringCharacter);
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case -1:
@@ -2038,6 +2119,10 @@ final class IonReaderTextRawTokensX
         boolean expectLowSurrogate = false;
 
         for (;;) {
+            if (!expectLowSurrogate) {
+                // characters that need no decoding, escaping or validation are copied a run at a time
+                _stream.appendRun(IonTokenConstsX.isPlainShortStringCharacter, sb);
+            }
             c = read_string_char(ProhibitedCharacters.SHORT_CHAR);
             switch (c) {
             case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_1:
@@ -0,0 +1,442 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonType;
+import com.amazon.ion.util.IonTextUtils;
+import java.io.IOException;
+
+/**
+ * Tokenizer for Ion text held in a single in-memory buffer of UTF-8 bytes.
+ * <p>
+ * The routines that dominate text parsing (skipping whitespace and comments,
+ * scanning numbers, and loading or skipping double-quoted strings) are
+ * overridden to classify and decode the bytes of the buffer directly, rather
+ * than reading them one character at a time through the
+ * {@link UnifiedInputStreamX}. Each override consumes only what it can fully
+ * recognize within the readable limit of the buffer, leaving the stream
+ * positioned just past it. Anything else, including escapes, the end of the
+ * input or an active save point's limit, and any malformed input, is left
+ * to the general routine in {@link IonReaderTextRawTokensX}, so values,
+ * positions, line numbers and errors are the same as they would be without
+ * this tokenizer.
+ */
+final class IonReaderTextRawUtf8TokensX extends IonReaderTextRawTokensX
+{
+    /** the stream position of the start of the buffer; constant since the input is a single page */
+    private final long _file_offset;
+
+    IonReaderTextRawUtf8TokensX(UnifiedInputStreamX iis, long starting_line, long starting_column)
+    {
+        super(iis, starting_line, starting_column);
+        assert iis._is_byte_data && !iis._is_stream;
+        _file_offset = iis.getPosition() - iis._pos;
+    }
+
+    /**
+     * Counts the line terminator that ends just before the given buffer
+     * offset, as {@link #read_char()} would have.
+     */
+    private void count_line_before(int pos)
+    {
+        count_line(_file_offset + pos);
+    }
+
+    @Override
+    protected boolean skip_whitespace() throws IOException
+    {
+        final byte[] bytes = _stream._bytes;
+        final int limit = _stream._limit;
+        final int start = _stream._pos;
+        int pos = start;
+
+        while (pos < limit) {
+            switch (bytes[pos]) {
+            case ' ':
+            case '\t':
+                pos++;
+                break;
+            case '\n':
+                pos++;
+                count_line_before(pos);
+                break;
+            case '\r':
+                if (pos + 1 >= limit) {
+                    // whether this is a <cr><lf> pair is decided by the general routine
+                    return fall_back_to_skip_whitespace(pos, start);
+                }
+                pos += (bytes[pos + 1] == '\n') ? 2 : 1;
+                count_line_before(pos);
+                break;
+            case '/':
+                int end = skip_comment(bytes, pos, limit);
+                if (end < 0) {
+                    return fall_back_to_skip_whitespace(pos, start);
+                }
+                if (end == pos) {
+                    // not a comment, so this starts the next token
+                    _stream._pos = pos;
+                    return pos > start;
+                }
+                pos = end;
+                break;
+            default:
+                _stream._pos = pos;
+                return pos > start;
+            }
+        }
+        return fall_back_to_skip_whitespace(pos, start);
+    }
+
+    private boolean fall_back_to_skip_whitespace(int pos, int start) throws IOException
+    {
+        _stream._pos = pos;
+        return super.skip_whitespace() || pos > start;
+    }
+
+    /**
+     * Skips the comment, if any, that starts with the '/' at the given offset.
+     * @return the offset just past the comment, including the line terminator
+     * that ends a single-line comment; the given offset if the '/' does not
+     * start a comment; or -1, without counting any lines, if the comment
+     * doesn't end before the limit.
+     */
+    private int skip_comment(byte[] bytes, int pos, int limit)
+    {
+        if (pos + 1 >= limit) {
+            return -1;
+        }
+        int c = bytes[pos + 1];
+        if (c == '/') {
+            for (int ii = pos + 2; ii < limit; ii++) {
+                c = bytes[ii];
+                if (c == '\n') {
+                    count_line_before(ii + 1);
+                    return ii + 1;
+                }
+                if (c == '\r') {
+                    if (ii + 1 >= limit) {
+                        return -1;
+                    }
+                    int end = (bytes[ii + 1] == '\n') ? ii + 2 : ii + 1;
+                    count_line_before(end);
+                    return end;
+                }
+            }
+            return -1;
+        }
+        if (c == '*') {
+            int close = pos + 2;
+            while (close + 1 < limit && !(bytes[close] == '*' && bytes[close + 1] == '/')) {
+                close++;
+            }
+            if (close + 1 >= limit) {
+                return -1;
+            }
+            // the comment is complete, so the lines it spans can be counted
+            for (int ii = pos + 2; ii < close; ii++) {
+                c = bytes[ii];
+                if (c == '\n') {
+                    count_line_before(ii + 1);
+                }
+                else if (c == '\r') {
+                    if (bytes[ii + 1] == '\n') {
+                        ii++;
+                    }
+                    count_line_before(ii + 1);
+                }
+            }
+            return close + 2;
+        }
+        return pos;
+    }
+
+    @Override
+    protected int scan_for_numeric_type(int c1) throws IOException
+    {
+        final byte[] bytes = _stream._bytes;
+        final int pos = _stream._pos;
+
+        // the general routine reads at most four characters past the first
+        if (pos + 4 > _stream._limit || !IonTokenConstsX.isDigit(c1)) {
+            return super.scan_for_numeric_type(c1);
+        }
+        int c = bytes[pos] & 0xff;
+        if (c1 == '0') {
+            switch (c) {
+            case 'x':
+            case 'X':
+                return IonTokenConstsX.TOKEN_HEX;
+            case 'd':
+            case 'D':
+                return IonTokenConstsX.TOKEN_DECIMAL;
+            case 'e':
+            case 'E':
+                return IonTokenConstsX.TOKEN_FLOAT;
+            case 'b':
+            case 'B':
+                return IonTokenConstsX.TOKEN_BINARY;
+            case '.':
+                break;
+            default:
+                if (is_value_terminator_at(bytes, pos, pos + 2)) {
+                    return IonTokenConstsX.TOKEN_INT;
+                }
+                break;
+            }
+        }
+        // dddd- or ddddT looks like a timestamp (or invalid input)
+        if (IonTokenConstsX.isDigit(c)
+            && IonTokenConstsX.isDigit(bytes[pos + 1])
+            && IonTokenConstsX.isDigit(bytes[pos + 2])
+            && (bytes[pos + 3] == '-' || bytes[pos + 3] == 'T')) {
+            return IonTokenConstsX.TOKEN_TIMESTAMP;
+        }
+        return IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC;
+    }
+
+    /**
+     * Determines whether the byte at the given offset ends a number.
+     * @param limit the readable limit, which must be beyond the offset.
+     * @return false if that can't be told without reading up to the limit.
+     */
+    private static boolean is_value_terminator_at(byte[] bytes, int pos, int limit)
+    {
+        int c = bytes[pos] & 0xff;
+        if (c == '/') {
+            // this is terminating only if it starts a comment of some sort
+            if (pos + 1 >= limit) {
+                return false;
+            }
+            c = bytes[pos + 1];
+            return c == '/' || c == '*';
+        }
+        return IonTextUtils.isNumericStop(c);
+    }
+
+    /**
+     * Loads decimal ints, decimals and floats without underscores, when they
+     * lie within the limit. Anything else that starts like a number is loaded
+     * by the general routine.
+     */
+    @Override
+    protected IonType load_number(StringBuilder sb) throws IOException
+    {
+        final byte[] bytes = _stream._bytes;
+        final int limit = _stream._limit;
+        final int start = _stream._pos;
+        int pos = start;
+        int token = IonTokenConstsX.TOKEN_INT;
+
+        if (pos < limit && bytes[pos] == '-') {
+            pos++;
+        }
+        int digits = pos;
+        pos = skip_digits(bytes, pos, limit);
+        if (pos == digits || (pos - digits > 1 && bytes[digits] == '0')) {
+            // no digits, or a leading zero
+            return super.load_number(sb);
+        }
+        if (pos < limit && bytes[pos] == '.') {
+            token = IonTokenConstsX.TOKEN_DECIMAL;
+            pos = skip_digits(bytes, pos + 1, limit);
+        }
+        if (pos < limit) {
+            switch (bytes[pos]) {
+            case 'e':
+            case 'E':
+                token = IonTokenConstsX.TOKEN_FLOAT;
+                break;
+            case 'd':
+            case 'D':
+                token = IonTokenConstsX.TOKEN_DECIMAL;
+                break;
+            default:
+                digits = -1;
+                break;
+            }
+            if (digits >= 0) {
+                pos++;
+                if (pos < limit && (bytes[pos] == '-' || bytes[pos] == '+')) {
+                    pos++;
+                }
+                digits = pos;
+                pos = skip_digits(bytes, pos, limit);
+                if (pos == digits) {
+                    return super.load_number(sb);
+                }
+            }
+        }
+        // anything else that follows, such as an underscore, a radix prefix
+        // or a timestamp's dash, is handled (or reported) by the general routine
+        if (pos >= limit || !is_value_terminator_at(bytes, pos, limit)) {
+            return super.load_number(sb);
+        }
+
+        sb.ensureCapacity(sb.length() + pos - start);
+        for (int ii = start; ii < pos; ii++) {
+            sb.append((char) bytes[ii]);
+        }
+        _stream._pos = pos;
+        return IonTokenConstsX.ion_type_of_scalar(token);
+    }
+
+    private static int skip_digits(byte[] bytes, int pos, int limit)
+    {
+        while (pos < limit && IonTokenConstsX.isDigit(bytes[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Loads the characters of a string up to its closing quote, decoding
+     * well-formed UTF-8 directly from the buffer. The rest of the string is
+     * loaded by the general routine from the first escape, line break,
+     * control character or ill-formed sequence, if any.
+     */
+    @Override
+    protected int load_double_quoted_string(StringBuilder sb, boolean is_clob)
+        throws IOException
+    {
+        if (is_clob) {
+            return super.load_double_quoted_string(sb, is_clob);
+        }
+        final byte[] bytes = _stream._bytes;
+        final int limit = _stream._limit;
+        int pos = _stream._pos;
+
+        while (pos < limit) {
+            int c = bytes[pos];
+            if (c >= 0) {
+                if (c == '"') {
+                    _stream._pos = pos + 1;
+                    return c;
+                }
+                if (!IonTokenConstsX.isPlainShortStringCharacter[c]) {
+                    break;
+                }
+                sb.append((char) c);
+                pos++;
+                continue;
+            }
+            int len = utf8_sequence_length(bytes, pos, limit);
+            if (len < 0) {
+                break;
+            }
+            switch (len) {
+            case 2:
+                sb.append(IonUTF8.twoByteScalar(c, bytes[pos + 1]));
+                break;
+            case 3:
+                sb.append((char) IonUTF8.threeByteScalar(c, bytes[pos + 1], bytes[pos + 2]));
+                break;
+            default:
+                sb.appendCodePoint(IonUTF8.fourByteScalar(c, bytes[pos + 1], bytes[pos + 2], bytes[pos + 3]));
+                break;
+            }
+            pos += len;
+        }
+        _stream._pos = pos;
+        return super.load_double_quoted_string(sb, is_clob);
+    }
+
+    /**
+     * Determines the length of the well-formed UTF-8 sequence of two or more
+     * bytes that starts at the given offset. Overlong encodings, encoded
+     * surrogates and code points beyond U+10FFFF are not well-formed.
+     * @return the length, or -1 if the sequence is not well-formed or
+     * doesn't end before the limit.
+     */
+    private static int utf8_sequence_length(byte[] bytes, int pos, int limit)
+    {
+        int b1 = bytes[pos] & 0xff;
+        int len;
+        // the range of the second byte, which is narrower than that of a
+        // continuation byte where the first byte alone can't exclude values
+        int min = 0x80;
+        int max = 0xbf;
+        if (b1 < 0xc2) {
+            return -1;
+        }
+        else if (b1 < 0xe0) {
+            len = 2;
+        }
+        else if (b1 < 0xf0) {
+            len = 3;
+            if (b1 == 0xe0) {
+                min = 0xa0;
+            }
+            else if (b1 == 0xed) {
+                max = 0x9f;
+            }
+        }
+        else if (b1 < 0xf5) {
+            len = 4;
+            if (b1 == 0xf0) {
+                min = 0x90;
+            }
+            else if (b1 == 0xf4) {
+                max = 0x8f;
+            }
+        }
+        else {
+            return -1;
+        }
+        if (pos + len > limit) {
+            return -1;
+        }
+        int b2 = bytes[pos + 1] & 0xff;
+        if (b2 < min || b2 > max) {
+            return -1;
+        }
+        for (int ii = pos + 2; ii < pos + len; ii++) {
+            if ((bytes[ii] & 0xc0) != 0x80) {
+                return -1;
+            }
+        }
+        return len;
+    }
+
+    @Override
+    protected void skip_double_quoted_string_helper() throws IOException
+    {
+        final byte[] bytes = _stream._bytes;
+        final int limit = _stream._limit;
+        int pos = _stream._pos;
+
+        while (pos < limit) {
+            int c = bytes[pos];
+            if (c == '"') {
+                _stream._pos = pos + 1;
+                return;
+            }
+            if (c == '\\') {
+                // an escaped line break may be <cr><lf>, so look two ahead
+                if (pos + 2 >= limit) {
+                    break;
+                }
+                c = bytes[pos + 1];
+                if (c == '\n') {
+                    pos += 2;
+                    count_line_before(pos);
+                }
+                else if (c == '\r') {
+                    pos += (bytes[pos + 2] == '\n') ? 3 : 2;
+                    count_line_before(pos);
+                }
+                else {
+                    pos += 2;
+                }
+                continue;
+            }
+            if (c == '\n' || c == '\r') {
+                // reported by the general routine
+                break;
+            }
+            pos++;
+        }
+        _stream._pos = pos;
+        super.skip_double_quoted_string_helper();
+    }
+}
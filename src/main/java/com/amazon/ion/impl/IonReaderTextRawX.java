@@ -258,6 +258,7 @@ abstract class IonReaderTextRawX
     //
 
     IonReaderTextRawTokensX  _scanner;
+    private boolean          _utf8_tokenizer_enabled;
 
     boolean             _eof;
     int                 _state;
@@ -330,7 +331,7 @@ abstract class IonReaderTextRawX
     ) {
 
         assert(parent != null);
-        _scanner = new IonReaderTextRawTokensX(iis, start_line, start_column);
+        _scanner = make_scanner(iis, start_line, start_column);
         _value_start_line = start_line;
         _value_start_column = start_column;
         _current_value_save_point = iis.savePointAllocate();
@@ -380,6 +381,35 @@ abstract class IonReaderTextRawX
         _scanner.close();
     }
 
+    /**
+     * Lets this reader skip containers using a structural index of its
+     * input, when the input is a single in-memory buffer.
+     */
+    void enableStructuralIndex()
+    {
+        _scanner.enableStructuralIndex();
+    }
+
+    /**
+     * Lets this reader tokenize its input directly from the buffer, when the
+     * input is a single in-memory buffer of UTF-8 bytes. This must be called
+     * before anything is read, and also applies to the scanners created when
+     * the reader is repositioned.
+     */
+    void enableUtf8Tokenizer()
+    {
+        _utf8_tokenizer_enabled = true;
+        _scanner = make_scanner(_scanner.getSourceStream(), _scanner.getLineNumber(), _scanner.getLineOffset());
+    }
+
+    private IonReaderTextRawTokensX make_scanner(UnifiedInputStreamX iis, long start_line, long start_column)
+    {
+        if (_utf8_tokenizer_enabled && iis._is_byte_data && !iis._is_stream) {
+            return new IonReaderTextRawUtf8TokensX(iis, start_line, start_column);
+        }
+        return new IonReaderTextRawTokensX(iis, start_line, start_column);
+    }
+
     private final void set_state(int new_state) {
         _state = new_state;
     }
@@ -119,13 +119,13 @@ class IonReaderTextSystemX
         {
 
             @Override
-            boolean isInt(String image, int len)
+            boolean isInt(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_INT_IMAGE, MAX_INT_IMAGE);
             }
 
             @Override
-            boolean isLong(String image, int len)
+            boolean isLong(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_LONG_IMAGE, MAX_LONG_IMAGE);
             }
@@ -135,13 +135,13 @@ class IonReaderTextSystemX
         {
 
             @Override
-            boolean isInt(String image, int len)
+            boolean isInt(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_HEX_INT_IMAGE, MAX_HEX_INT_IMAGE);
             }
 
             @Override
-            boolean isLong(String image, int len)
+            boolean isLong(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_HEX_LONG_IMAGE, MAX_HEX_LONG_IMAGE);
             }
@@ -151,13 +151,13 @@ class IonReaderTextSystemX
         {
 
             @Override
-            boolean isInt(String image, int len)
+            boolean isInt(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_BINARY_INT_IMAGE, MAX_BINARY_INT_IMAGE);
             }
 
             @Override
-            boolean isLong(String image, int len)
+            boolean isLong(CharSequence image, int len)
             {
                 return valueWithinBounds(image, len, MIN_BINARY_LONG_IMAGE, MAX_BINARY_LONG_IMAGE);
             }
@@ -177,10 +177,10 @@ class IonReaderTextSystemX
         private static final char[] MAX_HEX_LONG_IMAGE = Long.toHexString(Long.MAX_VALUE).toCharArray();
         private static final char[] MIN_HEX_LONG_IMAGE = ("-" + Long.toHexString(Long.MIN_VALUE)).toCharArray();
 
-        abstract boolean isInt(String image, int len);
-        abstract boolean isLong(String image, int len);
+        abstract boolean isInt(CharSequence image, int len);
+        abstract boolean isLong(CharSequence image, int len);
 
-        private static boolean valueWithinBounds(String value, int len, char[] minImage, char[] maxImage)
+        private static boolean valueWithinBounds(CharSequence value, int len, char[] minImage, char[] maxImage)
         {
             boolean negative = value.charAt(0) == '-';
             char[] boundaryImage = negative ? minImage : maxImage;
@@ -188,7 +188,7 @@ class IonReaderTextSystemX
             return len < maxImageLength || (len == maxImageLength && magnitudeLessThanOrEqualTo(value, len, boundaryImage));
         }
 
-        private static boolean magnitudeLessThanOrEqualTo(String lhs, int lhsLen, char[] rhs)
+        private static boolean magnitudeLessThanOrEqualTo(CharSequence lhs, int lhsLen, char[] rhs)
         {
             assert lhsLen == rhs.length;
             for (int i = lhsLen - 1; i >= 0; i--)
@@ -249,29 +249,40 @@ class IonReaderTextSystemX
         }
 
 
-        int          len = cs.length();
-        String       s  = cs.toString();
+        try {
+            load_scalar_value(token_type, cs);
+        }
+        finally {
+            clear_current_value_buffer();
+        }
+    }
 
-        clear_current_value_buffer();
+    /**
+     * Sets the current value from its text. Ints that fit in a long and
+     * floats are parsed straight from the buffer, rather than from a copy
+     * of it in a String.
+     */
+    private final void load_scalar_value(int token_type, StringBuilder cs) {
+        int len = cs.length();
 
         switch (token_type) {
         case IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC:
             switch (_value_type) {
             case INT:
-                if (Radix.DECIMAL.isInt(s, len)) {
-                    _v.setValue(Integer.parseInt(s));
+                if (Radix.DECIMAL.isInt(cs, len)) {
+                    _v.setValue((int) TextNumberParser.parseLong(cs, len, 10));
                 }
-                else if (Radix.DECIMAL.isLong(s, len)) {
-                    _v.setValue(Long.parseLong(s));
+                else if (Radix.DECIMAL.isLong(cs, len)) {
+                    _v.setValue(TextNumberParser.parseLong(cs, len, 10));
                 }
                 else {
-                    _v.setValue(new BigInteger(s));
+                    _v.setValue(new BigInteger(cs.toString()));
                 }
                 break;
             case DECIMAL:
                 // note that the string was modified above when it was a charsequence
                 try {
-                _v.setValue(Decimal.valueOf(s));
+                _v.setValue(Decimal.valueOf(cs.toString()));
                 }
                 catch (NumberFormatException e) {
                     parse_error(e);
@@ -279,14 +290,14 @@ class IonReaderTextSystemX
                 break;
             case FLOAT:
                 try {
-                    _v.setValue(Double.parseDouble(s));
+                    _v.setValue(TextNumberParser.parseDouble(cs));
                 }
                 catch (NumberFormatException e) {
                     parse_error(e);
                 }
                 break;
             case TIMESTAMP:
-                _v.setValue(Timestamp.valueOf(s));
+                _v.setValue(Timestamp.valueOf(cs.toString()));
                 break;
             default:
                 String message = "unexpected prefectched value type "
@@ -296,44 +307,44 @@ class IonReaderTextSystemX
             }
             break;
         case IonTokenConstsX.TOKEN_INT:
-            if (Radix.DECIMAL.isInt(s, len)) {
-                _v.setValue(Integer.parseInt(s));
+            if (Radix.DECIMAL.isInt(cs, len)) {
+                _v.setValue((int) TextNumberParser.parseLong(cs, len, 10));
             }
-            else if (Radix.DECIMAL.isLong(s, len)) {
-                _v.setValue(Long.parseLong(s));
+            else if (Radix.DECIMAL.isLong(cs, len)) {
+                _v.setValue(TextNumberParser.parseLong(cs, len, 10));
             }
             else {
-                _v.setValue(new BigInteger(s));
+                _v.setValue(new BigInteger(cs.toString()));
             }
             break;
         case IonTokenConstsX.TOKEN_BINARY:
-            if (Radix.BINARY.isInt(s, len)) {
-                _v.setValue(Integer.parseInt(s, 2));
+            if (Radix.BINARY.isInt(cs, len)) {
+                _v.setValue((int) TextNumberParser.parseLong(cs, len, 2));
             }
-            else if (Radix.BINARY.isLong(s, len)) {
-                _v.setValue(Long.parseLong(s, 2));
+            else if (Radix.BINARY.isLong(cs, len)) {
+                _v.setValue(TextNumberParser.parseLong(cs, len, 2));
             }
             else {
-                _v.setValue(new BigInteger(s, 2));
+                _v.setValue(new BigInteger(cs.toString(), 2));
             }
             break;
         case IonTokenConstsX.TOKEN_HEX:
-            if (Radix.HEX.isInt(s, len)) {
-                int v_int = Integer.parseInt(s, 16);
+            if (Radix.HEX.isInt(cs, len)) {
+                int v_int = (int) TextNumberParser.parseLong(cs, len, 16);
                 _v.setValue(v_int);
             }
-            else if (Radix.HEX.isLong(s, len)) {
-                long v_long = Long.parseLong(s, 16);
+            else if (Radix.HEX.isLong(cs, len)) {
+                long v_long = TextNumberParser.parseLong(cs, len, 16);
                 _v.setValue(v_long);
             }
             else {
-                BigInteger v_big_int = new BigInteger(s, 16);
+                BigInteger v_big_int = new BigInteger(cs.toString(), 16);
                 _v.setValue(v_big_int);
             }
             break;
         case IonTokenConstsX.TOKEN_DECIMAL:
             try {
-            _v.setValue(Decimal.valueOf(s));
+            _v.setValue(Decimal.valueOf(cs.toString()));
             }
             catch (NumberFormatException e) {
                 parse_error(e);
@@ -341,7 +352,7 @@ class IonReaderTextSystemX
             break;
         case IonTokenConstsX.TOKEN_FLOAT:
             try {
-                _v.setValue(Double.parseDouble(s));
+                _v.setValue(TextNumberParser.parseDouble(cs));
             }
             catch (NumberFormatException e) {
                 parse_error(e);
@@ -351,7 +362,7 @@ class IonReaderTextSystemX
         case IonTokenConstsX.TOKEN_TIMESTAMP:
             Timestamp t = null;
             try {
-                t = Timestamp.valueOf(s);
+                t = Timestamp.valueOf(cs.toString());
             }
             catch (IllegalArgumentException e) {
                 parse_error(e);
@@ -376,7 +387,7 @@ class IonReaderTextSystemX
                 switch(getType()) {
                 case SYMBOL:
                     // TODO this is catching SIDs too, using wrong text.
-                    _v.setValue(s);
+                    _v.setValue(cs.toString());
                     break;
                 case FLOAT:
                     switch (_value_keyword) {
@@ -385,7 +396,7 @@ class IonReaderTextSystemX
                         break;
                     default:
                         String message = "unexpected keyword "
-                                       + s
+                                       + cs
                                        + " identified as a FLOAT";
                         parse_error(message);
                     }
@@ -400,7 +411,7 @@ class IonReaderTextSystemX
                         break;
                     default:
                         String message = "unexpected keyword "
-                            + s
+                            + cs
                             + " identified as a BOOL";
                         parse_error(message);
                     }
@@ -416,13 +427,13 @@ class IonReaderTextSystemX
         case IonTokenConstsX.TOKEN_SYMBOL_QUOTED:
         case IonTokenConstsX.TOKEN_SYMBOL_OPERATOR:
         case IonTokenConstsX.TOKEN_STRING_DOUBLE_QUOTE:
-            _v.setValue(s);
+            _v.setValue(cs.toString());
             break;
         case IonTokenConstsX.TOKEN_STRING_TRIPLE_QUOTE:
             // long strings (triple quoted strings) are never
             // finished by the raw parser.  At most it reads
             // the first triple quoted string.
-            _v.setValue(s);
+            _v.setValue(cs.toString());
             break;
         default:
             parse_error("scalar token "+IonTokenConstsX.getTokenName(_scanner.getToken())+"isn't a recognized type");
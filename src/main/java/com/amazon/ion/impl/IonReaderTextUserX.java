@@ -70,6 +70,10 @@ class IonReaderTextUserX
     IonCatalog  _catalog;
     SymbolTable _symbols;
 
+    // Determines which values surface when the reader is configured with
+    // field paths; null if all values surface.
+    private FieldPathProjection _projection;
+
 
     protected IonReaderTextUserX(IonCatalog catalog,
                                  _Private_LocalSymbolTableFactory lstFactory,
@@ -89,6 +93,16 @@ class IonReaderTextUserX
         this(catalog, lstFactory, uis, 0);
     }
 
+    /**
+     * Limits the values surfaced by this reader to those selected by the
+     * given projection.
+     * @param projection the projection, or null to surface all values.
+     */
+    void setProjection(FieldPathProjection projection)
+    {
+        _projection = projection;
+    }
+
     /**
      * this looks forward to see if there is an upcoming value
      * and if there is it returns true.  It may have to clean up
@@ -132,9 +146,18 @@ class IonReaderTextUserX
                 switch (_value_type) {
                 case STRUCT:
                     if (_annotation_count > 0 && ION_SYMBOL_TABLE.equals(_annotations[0].getText())) {
-                        _symbols = _lstFactory.newLocalSymtab(_catalog,
-                                                              this,
-                                                              true);
+                        // The symbol table is read through this reader, so
+                        // the projection must not apply to its fields.
+                        FieldPathProjection projection = _projection;
+                        _projection = null;
+                        try {
+                            _symbols = _lstFactory.newLocalSymtab(_catalog,
+                                                                  this,
+                                                                  true);
+                        }
+                        finally {
+                            _projection = projection;
+                        }
                         push_symbol_table(_symbols);
                         _has_next_called = false;
                     }
@@ -166,10 +189,57 @@ class IonReaderTextUserX
                     break;
                 }
             }
+            if (_projection != null && _has_next_called && !_eof && !is_projected())
+            {
+                // Not selected by the projection; skip it.
+                _has_next_called = false;
+            }
         }
         return (!_eof);
     }
 
+    /**
+     * @return true if the value on which the reader is positioned is
+     * selected by the projection.
+     */
+    private boolean is_projected()
+    {
+        if (!_projection.isFiltering()) {
+            return _projection.accept(false, FieldPathProjection.NO_NAME, false);
+        }
+        boolean isInStruct = isInStruct();
+        int nameIndex = FieldPathProjection.NO_NAME;
+        if (isInStruct) {
+            String name = getRawFieldName();
+            if (name == null && _field_name_sid > 0) {
+                name = _symbols.findKnownSymbol(_field_name_sid);
+            }
+            nameIndex = _projection.nameIndex(name);
+        }
+        boolean isNonNullContainer = _value_type != null
+            && IonType.isContainer(_value_type)
+            && !isNullValue();
+        return _projection.accept(isInStruct, nameIndex, isNonNullContainer);
+    }
+
+    @Override
+    public void stepIn()
+    {
+        super.stepIn();
+        if (_projection != null) {
+            _projection.stepIn();
+        }
+    }
+
+    @Override
+    public void stepOut()
+    {
+        super.stepOut();
+        if (_projection != null) {
+            _projection.stepOut();
+        }
+    }
+
     private static boolean isIonVersionMarker(String text)
     {
         return text != null && ION_VERSION_MARKER_REGEX.matcher(text).matches();
@@ -431,6 +501,9 @@ class IonReaderTextUserX
         public void hoist(Span span)
         {
             hoistImpl(span);
+            if (_projection != null) {
+                _projection.reset();
+            }
         }
     }
 }
@@ -0,0 +1,388 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.util.Arrays;
+
+/**
+ * A structural index of a buffer of Ion text, which lets a reader skip the rest of a container by visiting only the
+ * characters that can affect structure instead of tokenizing everything in between.
+ * <p>
+ * Skipping works in two stages, as in simdjson. The first classifies the characters of the buffer, 64 at a time and
+ * without branching, into a bitmap of the structural characters: brackets, quotes, backslashes, comment delimiters
+ * and line breaks. Each block of the bitmap is computed the first time a skip reaches it, so text that is only ever
+ * read is never classified. The second stage walks the set bits of the bitmap from the reader's position to the
+ * container's closing character, stepping over strings, quoted symbols, comments and lobs in the same way as
+ * {@link IonReaderTextRawTokensX}'s container skipping, and counting the line breaks it passes.
+ * <p>
+ * The walk gives up at anything the tokenizer would report as an error, such as the end of the buffer or a line
+ * break in a short string, so that the reader can fall back to tokenizing and report it in the usual way.
+ */
+final class IonTextStructuralIndex {
+
+    /**
+     * 1 for each structural character, else 0. Characters at or above 255 are classified as 255, which is not
+     * structural.
+     */
+    private static final byte[] IS_STRUCTURAL = new byte[256];
+    static {
+        for (char c : "()[]{}\"'\\/*\n\r".toCharArray()) {
+            IS_STRUCTURAL[c] = 1;
+        }
+    }
+
+    private static final int TERMINATOR_STACK_INITIAL_CAPACITY = 16;
+
+    private final byte[] bytes;
+    private final char[] chars;
+    private final int start;
+    private final int end;
+
+    /** One bit per character, set for the structural characters; valid for the first {@code classifiedBlocks}. */
+    private final long[] structural;
+    private int classifiedBlocks = 0;
+
+    /**
+     * The structural characters at or after {@code cursorPosition} in the block at {@code cursorBlock}, which is where
+     * a walk almost always continues.
+     */
+    private int cursorPosition = -1;
+    private int cursorBlock;
+    private long cursorBits;
+
+    /** The number of line breaks passed by the last walk, where "\r\n" is a single line break. */
+    private int lineBreaks;
+    /** The position of the last line break passed by the last walk, or -1. */
+    private int lastLineBreak;
+
+    private int[] terminatorStack = new int[TERMINATOR_STACK_INITIAL_CAPACITY];
+
+    private IonTextStructuralIndex(byte[] bytes, char[] chars, int start, int end) {
+        this.bytes = bytes;
+        this.chars = chars;
+        this.start = start;
+        this.end = end;
+        structural = new long[(end - start + 63) >>> 6];
+    }
+
+    /**
+     * Indexes the UTF-8 Ion text in {@code bytes[start, end)}.
+     */
+    IonTextStructuralIndex(byte[] bytes, int start, int end) {
+        this(bytes, null, start, end);
+    }
+
+    /**
+     * Indexes the Ion text in {@code chars[start, end)}.
+     */
+    IonTextStructuralIndex(char[] chars, int start, int end) {
+        this(null, chars, start, end);
+    }
+
+    /**
+     * @return the bitmap of the given block, computing it and any blocks before it that have not been computed.
+     */
+    private long block(int block) {
+        while (classifiedBlocks <= block) {
+            int base = start + (classifiedBlocks << 6);
+            int length = Math.min(64, end - base);
+            long bits = 0;
+            if (bytes != null) {
+                for (int j = 0; j < length; j++) {
+                    bits |= (long) IS_STRUCTURAL[bytes[base + j] & 0xFF] << j;
+                }
+            }
+            else {
+                for (int j = 0; j < length; j++) {
+                    bits |= (long) IS_STRUCTURAL[Math.min(chars[base + j], 0xFF)] << j;
+                }
+            }
+            structural[classifiedBlocks++] = bits;
+        }
+        return structural[block];
+    }
+
+    /**
+     * @return the character at the given position, or -1 if the position is past the end of the buffer.
+     */
+    private int charAt(int position) {
+        if (position >= end) {
+            return -1;
+        }
+        return bytes != null ? bytes[position] & 0xFF : chars[position];
+    }
+
+    /**
+     * @return the position of the first structural character at or after the given position, or -1 if there is none.
+     */
+    private int nextStructural(int position) {
+        int block;
+        long bits;
+        if (position == cursorPosition) {
+            block = cursorBlock;
+            bits = cursorBits;
+        }
+        else {
+            if (position >= end) {
+                return -1;
+            }
+            int offset = position - start;
+            block = offset >>> 6;
+            bits = block(block) & (-1L << (offset & 63));
+        }
+        while (bits == 0) {
+            if (++block == structural.length) {
+                return -1;
+            }
+            bits = block(block);
+        }
+        int p = start + (block << 6) + Long.numberOfTrailingZeros(bits);
+        cursorPosition = p + 1;
+        cursorBlock = block;
+        cursorBits = bits & (bits - 1);
+        return p;
+    }
+
+    /**
+     * Counts the given character if it is a line break. A '\r' followed by '\n' is half of a single line break, which
+     * is counted at the '\n', as the tokenizer does.
+     */
+    private void visit(int c, int position) {
+        if (c == '\n' || (c == '\r' && charAt(position + 1) != '\n')) {
+            lineBreaks++;
+            lastLineBreak = position;
+        }
+    }
+
+    /**
+     * Finds the end of the container that encloses the given position, which must be between two values of the
+     * container or at the start of its contents. Afterward, {@link #getLineBreaks()} and {@link #getLastLineBreak()}
+     * describe the characters before the closing character.
+     * @param position the position from which to skip.
+     * @param terminator the container's closing character.
+     * @return the position of the closing character, or -1 if the tokenizer must be used instead.
+     */
+    int findCloser(int position, int terminator) {
+        lineBreaks = 0;
+        lastLineBreak = -1;
+        int depth = 0;
+        int p = nextStructural(position);
+        while (p >= 0) {
+            int c = charAt(p);
+            int next = p + 1;
+            switch (c) {
+                case '}':
+                case ']':
+                case ')':
+                    // like the tokenizer, ignore closing characters that do not match the innermost container
+                    if (c == terminator) {
+                        if (depth == 0) {
+                            return p;
+                        }
+                        terminator = terminatorStack[--depth];
+                    }
+                    break;
+                case '{':
+                case '(':
+                case '[':
+                    if (c == '{' && charAt(p + 1) == '{') {
+                        next = skipLob(p + 2);
+                        break;
+                    }
+                    if (c == '{' && charAt(p + 1) == '}') {
+                        // an empty struct
+                        next = p + 2;
+                        break;
+                    }
+                    if (depth == terminatorStack.length) {
+                        terminatorStack = Arrays.copyOf(terminatorStack, depth * 2);
+                    }
+                    terminatorStack[depth++] = terminator;
+                    terminator = c == '{' ? '}' : c == '[' ? ']' : ')';
+                    break;
+                case '"':
+                    next = skipShortString(p + 1, '"');
+                    break;
+                case '\'':
+                    if (charAt(p + 1) == '\'' && charAt(p + 2) == '\'') {
+                        next = skipLongString(p + 3);
+                    }
+                    else {
+                        next = skipShortString(p + 1, '\'');
+                    }
+                    break;
+                case '/':
+                    if (charAt(p + 1) == '/') {
+                        next = skipLineComment(p + 2);
+                    }
+                    else if (charAt(p + 1) == '*') {
+                        next = skipBlockComment(p + 2);
+                    }
+                    break;
+                default:
+                    // line breaks, and backslashes and asterisks outside of strings and comments
+                    visit(c, p);
+                    break;
+            }
+            if (next < 0) {
+                return -1;
+            }
+            p = nextStructural(next);
+        }
+        return -1;
+    }
+
+    /**
+     * @return the number of line breaks passed by the last call to {@link #findCloser(int, int)}.
+     */
+    int getLineBreaks() {
+        return lineBreaks;
+    }
+
+    /**
+     * @return the position of the last line break passed by the last call to {@link #findCloser(int, int)}, or -1.
+     */
+    int getLastLineBreak() {
+        return lastLineBreak;
+    }
+
+    /**
+     * @param position the position after the opening quote.
+     * @return the position after the closing quote, or -1 if the string is not terminated on the same line.
+     */
+    private int skipShortString(int position, int quote) {
+        for (int p = nextStructural(position); p >= 0; p = nextStructural(p + 1)) {
+            int c = charAt(p);
+            if (c == quote) {
+                return p + 1;
+            }
+            if (c == '\\') {
+                p = skipEscaped(p + 1);
+            }
+            else if (c == '\n' || c == '\r') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Steps over the character after a backslash in a string. That may be a line break, which continues the string on
+     * the next line, and is still counted.
+     * @param position the position after the backslash.
+     * @return the position of the last character of the line break, or the position.
+     */
+    private int skipEscaped(int position) {
+        int p = position;
+        if (charAt(p) == '\r' && charAt(p + 1) == '\n') {
+            p++;
+        }
+        visit(charAt(p), p);
+        return p;
+    }
+
+    /**
+     * @param position the position after the opening triple quote.
+     * @return the position after the closing triple quote, or -1 if there is none.
+     */
+    private int skipLongString(int position) {
+        for (int p = nextStructural(position); p >= 0; p = nextStructural(p + 1)) {
+            int c = charAt(p);
+            if (c == '\\') {
+                p = skipEscaped(p + 1);
+            }
+            else if (c == '\'' && charAt(p + 1) == '\'' && charAt(p + 2) == '\'') {
+                return p + 3;
+            }
+            else {
+                visit(c, p);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param position the position after the opening "//".
+     * @return the position of the line break that ends the comment, or -1 if there is none.
+     */
+    private int skipLineComment(int position) {
+        for (int p = nextStructural(position); p >= 0; p = nextStructural(p + 1)) {
+            int c = charAt(p);
+            if (c == '\n' || c == '\r') {
+                // the line break is left to the caller, so that "\r\n" is read as one
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param position the position after the opening "/*".
+     * @return the position after the closing "*&#47;", or -1 if there is none.
+     */
+    private int skipBlockComment(int position) {
+        for (int p = nextStructural(position); p >= 0; p = nextStructural(p + 1)) {
+            int c = charAt(p);
+            if (c == '*' && charAt(p + 1) == '/') {
+                return p + 2;
+            }
+            visit(c, p);
+        }
+        return -1;
+    }
+
+    /**
+     * Skips a blob or clob in the way the tokenizer does: a blob ends at its first '}', and the strings of a clob may
+     * be separated by whitespace but not by comments.
+     * @param position the position after the opening "{{".
+     * @return the position after the closing "}}", or -1 if the lob is malformed.
+     */
+    private int skipLob(int position) {
+        int p = skipWhitespace(position);
+        int c = charAt(p);
+        if (c == '"') {
+            p = skipShortString(p + 1, '"');
+            if (p < 0) {
+                return -1;
+            }
+            p = skipWhitespace(p);
+        }
+        else if (c == '\'') {
+            while (charAt(p) == '\'' && charAt(p + 1) == '\'' && charAt(p + 2) == '\'') {
+                p = skipLongString(p + 3);
+                if (p < 0) {
+                    return -1;
+                }
+                p = skipWhitespace(p);
+            }
+        }
+        else {
+            while ((c = charAt(p)) >= 0 && c != '}') {
+                visit(c, p++);
+            }
+        }
+        return charAt(p) == '}' && charAt(p + 1) == '}' ? p + 2 : -1;
+    }
+
+    private int skipWhitespace(int position) {
+        int p = position;
+        for (;;) {
+            int c = charAt(p);
+            switch (c) {
+                case '\n':
+                case '\r':
+                    visit(c, p);
+                    p++;
+                    break;
+                case ' ':
+                case '\t':
+                case 0x0B: // vertical tab
+                case 0x0C: // form feed
+                    p++;
+                    break;
+                default:
+                    return p;
+            }
+        }
+    }
+}
@@ -188,6 +188,69 @@ final class IonTokenConstsX
         return (c == ' ' || c == '\t' || c == '\n' || c == '\r');
     }
 
+    /**
+     * The whitespace characters that may be skipped between tokens without
+     * counting lines: spaces and tabs.
+     */
+    static final boolean[] isSpaceOrTab = makeSpaceOrTabArray();
+    private static boolean[] makeSpaceOrTabArray()
+    {
+        boolean[] values = new boolean[128];
+        values[' '] = true;
+        values['\t'] = true;
+        return values;
+    }
+
+    /**
+     * The ASCII characters that stand for themselves in a double-quoted
+     * string: printable characters other than the quote and backslash, plus
+     * the non-newline whitespace characters. Runs of these characters may be
+     * copied in bulk; any other character needs the per-character handling of
+     * escapes, newlines, prohibited control characters and UTF-8 sequences.
+     */
+    static final boolean[] isPlainShortStringCharacter = makePlainShortStringCharacterArray();
+    private static boolean[] makePlainShortStringCharacterArray()
+    {
+        boolean[] values = new boolean[128];
+        for (int ii=0x20; ii<0x7f; ii++) {
+            values[ii] = true;
+        }
+        values['"'] = false;
+        values['\\'] = false;
+        values['\t'] = true;
+        values[0x0b] = true; // vertical tab
+        values['\f'] = true;
+        return values;
+    }
+
+    /**
+     * The ASCII characters that have no structural meaning while skipping
+     * over a container: anything but newlines (which are counted), the
+     * comment start, quotes (which start strings that may contain brackets)
+     * and brackets, braces and parentheses. Runs of these characters may be
+     * skipped in bulk.
+     */
+    static final boolean[] isInertContainerCharacter = makeInertContainerCharacterArray();
+    private static boolean[] makeInertContainerCharacterArray()
+    {
+        boolean[] values = new boolean[128];
+        for (int ii=0; ii<128; ii++) {
+            values[ii] = true;
+        }
+        values['\n'] = false;
+        values['\r'] = false;
+        values['/'] = false;
+        values['"'] = false;
+        values['\''] = false;
+        values['('] = false;
+        values[')'] = false;
+        values['['] = false;
+        values[']'] = false;
+        values['{'] = false;
+        values['}'] = false;
+        return values;
+    }
+
     public final static boolean[] isBase64Character = makeBase64Array();
     public final static int       base64FillerCharacter = '=';
     private static boolean[] makeBase64Array()
@@ -462,7 +525,8 @@ final class IonTokenConstsX
         return (isValidExtendedSymbolCharacter[c & 0xff] && is8bitValue(c));
     }
 
-    private static final boolean isValidSymbolCharacter[] = makeIsValidSymbolCharacterArray();
+    // Package-visible so that runs of identifier characters can be scanned in bulk; see UnifiedInputStreamX.skipRun.
+    static final boolean isValidSymbolCharacter[] = makeIsValidSymbolCharacterArray();
     private static final boolean [] makeIsValidSymbolCharacterArray() {
         boolean [] values = new boolean [256];
 
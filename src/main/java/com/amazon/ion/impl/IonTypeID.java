@@ -20,6 +20,27 @@ final class IonTypeID {
     private static final int ANNOTATION_WRAPPER_MIN_LENGTH = 0x3;
     private static final int ANNOTATION_WRAPPER_MAX_LENGTH = 0xE;
     static final int ORDERED_STRUCT_NIBBLE = 0x1;
+    private static final int MACRO_INVOCATION_MAX_ID_1_1 = 0x4F;
+    private static final int MACRO_INVOCATION_FLEX_UINT_ADDRESS_1_1 = 0xF4;
+    private static final int INT_MAX_LENGTH_1_1 = 0x8;
+    private static final int NULL_UNTYPED_1_1 = 0xEA;
+    private static final int TYPED_NULL_1_1 = 0xEB;
+    private static final int DELIMITED_LIST_1_1 = 0xF1;
+    private static final int DELIMITED_SEXP_1_1 = 0xF2;
+    private static final int DELIMITED_STRUCT_1_1 = 0xF3;
+    private static final int VARIABLE_LENGTH_INLINE_SYMBOL_1_1 = 0xF9;
+    private static final int VARIABLE_LENGTH_STRUCT_FLEX_SYM_1_1 = 0xFD;
+    private static final int FLOAT_ZERO_1_1 = 0x5A;
+    private static final int FLOAT_16_1_1 = 0x5B;
+    private static final int FLOAT_32_1_1 = 0x5C;
+    private static final int FLOAT_64_1_1 = 0x5D;
+    private static final int DECIMAL_ZERO_WITH_EXPONENT_1_1 = 0x6F;
+    private static final int TIMESTAMP_MAX_SHORT_FORM_1_1 = 0x7C;
+    private static final int SYMBOL_ADDRESS_MANY_BYTES_1_1 = 0xE3;
+    private static final int ANNOTATIONS_MANY_SYMBOL_ADDRESS_1_1 = 0xE6;
+    private static final int ANNOTATIONS_MANY_FLEX_SYM_1_1 = 0xE9;
+    private static final int ONE_BYTE_NOP_1_1 = 0xEC;
+    private static final int VARIABLE_LENGTH_NOP_1_1 = 0xED;
 
     // NOTE: 'annotation wrapper' is not an IonType, but it is simplest to treat it as one for the purposes of this
     // implementation in order to have a direct mapping from binary type IDs to IonType enum values. IonType.DATAGRAM
@@ -49,18 +70,46 @@ final class IonTypeID {
         null // The 0xF type code is illegal in Ion 1.0.
     };
 
+    // The lengths of the Ion 1.1 short-form timestamps, indexed by the lower nibble of the opcode.
+    private static final int[] TIMESTAMP_LENGTHS_1_1 = new int[] {1, 2, 2, 4, 5, 6, 7, 8, 5, 5, 7, 8, 9, 0, 0, 0};
+
+    // The Ion types of the typed nulls in Ion 1.1, indexed by the byte that follows the typed null opcode (0xEB).
+    private static final IonType[] TYPED_NULL_TYPES_1_1 = new IonType[] {
+        IonType.BOOL,
+        IonType.INT,
+        IonType.FLOAT,
+        IonType.DECIMAL,
+        IonType.TIMESTAMP,
+        IonType.STRING,
+        IonType.SYMBOL,
+        IonType.BLOB,
+        IonType.CLOB,
+        IonType.LIST,
+        IonType.SEXP,
+        IonType.STRUCT
+    };
+
     // Singleton invalid type ID.
     private static final IonTypeID ALWAYS_INVALID_TYPE_ID = new IonTypeID((byte) 0xFF, 0);
 
     // Pre-compute all possible type ID bytes.
     static final IonTypeID[] TYPE_IDS_NO_IVM;
     static final IonTypeID[] TYPE_IDS_1_0;
+    static final IonTypeID[] TYPE_IDS_1_1;
+    // The type IDs of Ion 1.1 typed nulls, indexed by the byte that follows the typed null opcode.
+    static final IonTypeID[] NULL_TYPE_IDS_1_1;
     static {
         TYPE_IDS_NO_IVM = new IonTypeID[NUMBER_OF_BYTES];
         TYPE_IDS_1_0 = new IonTypeID[NUMBER_OF_BYTES];
+        TYPE_IDS_1_1 = new IonTypeID[NUMBER_OF_BYTES];
         for (int b = 0x00; b < NUMBER_OF_BYTES; b++) {
             TYPE_IDS_NO_IVM[b] = ALWAYS_INVALID_TYPE_ID;
             TYPE_IDS_1_0[b] = new IonTypeID((byte) b, 0);
+            TYPE_IDS_1_1[b] = new IonTypeID((byte) b, 1);
+        }
+        NULL_TYPE_IDS_1_1 = new IonTypeID[TYPED_NULL_TYPES_1_1.length];
+        for (int i = 0; i < NULL_TYPE_IDS_1_1.length; i++) {
+            NULL_TYPE_IDS_1_1[i] = new IonTypeID(TYPED_NULL_TYPES_1_1[i]);
         }
     }
 
@@ -75,8 +124,13 @@ final class IonTypeID {
     final boolean isTemplateInvocation; // Unused in Ion 1.0
     final int templateId; // Unused in Ion 1.0
     final boolean isDelimited; // Unused in Ion 1.0
-    // For structs, denotes whether field names are VarSyms. For symbols, denotes whether the text is inline.
-    // For annotation wrappers, denotes whether tokens are VarSyms.
+    // Denotes that the value's representation is a single FlexInt or FlexUInt, whose length is determined by its own
+    // first byte rather than by the type ID or a length prefix.
+    final boolean isFlexLength; // Unused in Ion 1.0
+    // Denotes the Ion 1.1 typed null opcode, whose type is given by the byte that follows it.
+    final boolean isTypedNull; // Unused in Ion 1.0
+    // For structs, denotes whether field names are FlexSyms. For symbols, denotes whether the text is inline.
+    // For annotation wrappers, denotes whether tokens are FlexSyms.
     final boolean isInlineable; // Unused in Ion 1.0
 
     /**
@@ -140,8 +194,190 @@ final class IonTypeID {
             this.templateId = -1;
             this.isDelimited = false;
             this.isInlineable = false;
+            this.isFlexLength = false;
+            this.isTypedNull = false;
+        } else if (minorVersion == 1) {
+            int b = id & 0xFF;
+            this.lowerNibble = (byte) (b & LOW_NIBBLE_BITMASK);
+            this.isNegativeInt = false;
+            this.isTemplateInvocation = b <= MACRO_INVOCATION_MAX_ID_1_1 || b == MACRO_INVOCATION_FLEX_UINT_ADDRESS_1_1;
+            this.templateId = b <= MACRO_INVOCATION_MAX_ID_1_1 ? b : -1;
+            this.isDelimited = b == DELIMITED_LIST_1_1
+                || b == DELIMITED_SEXP_1_1
+                || b == DELIMITED_STRUCT_1_1;
+            this.isFlexLength = b == SYMBOL_ADDRESS_MANY_BYTES_1_1 || b == DECIMAL_ZERO_WITH_EXPONENT_1_1;
+            this.isTypedNull = b == TYPED_NULL_1_1;
+            this.isNopPad = b == ONE_BYTE_NOP_1_1 || b == VARIABLE_LENGTH_NOP_1_1;
+            this.isNull = b == NULL_UNTYPED_1_1 || isTypedNull;
+            this.type = binaryTokenType_1_1(b);
+            this.isValid = isTemplateInvocation || isNopPad || type != null;
+            this.isInlineable = (b >= 0x90 && b <= 0x9F)
+                || b == VARIABLE_LENGTH_INLINE_SYMBOL_1_1
+                || (b >= 0xD0 && b <= 0xDF)
+                || b == VARIABLE_LENGTH_STRUCT_FLEX_SYM_1_1
+                || b == DELIMITED_STRUCT_1_1
+                || (b > ANNOTATIONS_MANY_SYMBOL_ADDRESS_1_1 && b <= ANNOTATIONS_MANY_FLEX_SYM_1_1);
+            this.variableLength = b >= 0xF5
+                || b == VARIABLE_LENGTH_NOP_1_1
+                || b == ANNOTATIONS_MANY_SYMBOL_ADDRESS_1_1
+                || b == ANNOTATIONS_MANY_FLEX_SYM_1_1;
+            this.length = length_1_1(b, variableLength);
         } else {
-            throw new IllegalStateException("Only Ion 1.0 is currently supported.");
+            throw new IllegalStateException("Only Ion 1.0 and Ion 1.1 are currently supported.");
+        }
+    }
+
+    /**
+     * Constructs the type ID of an Ion 1.1 typed null of the given type.
+     * @param type the type.
+     */
+    private IonTypeID(IonType type) {
+        this.type = type;
+        this.length = 0;
+        this.variableLength = false;
+        this.isNull = true;
+        this.isNopPad = false;
+        this.lowerNibble = NULL_VALUE_NIBBLE;
+        this.isValid = true;
+        this.isNegativeInt = false;
+        this.isTemplateInvocation = false;
+        this.templateId = -1;
+        this.isDelimited = false;
+        this.isInlineable = false;
+        this.isFlexLength = false;
+        this.isTypedNull = false;
+    }
+
+    /**
+     * @param b an Ion 1.1 opcode.
+     * @return the binary token type of the given opcode, or null if the opcode is not a value, annotation wrapper, or
+     *  typed null.
+     */
+    private static IonType binaryTokenType_1_1(int b) {
+        switch (b >> BITS_PER_NIBBLE) {
+            case 0x5:
+                if (b <= INT_MAX_LENGTH_1_1 + 0x50) {
+                    return IonType.INT;
+                } else if (b >= FLOAT_ZERO_1_1 && b <= FLOAT_64_1_1) {
+                    return IonType.FLOAT;
+                } else if (b > FLOAT_64_1_1) {
+                    return IonType.BOOL;
+                }
+                return null;
+            case 0x6:
+                return IonType.DECIMAL;
+            case 0x7:
+                return b <= TIMESTAMP_MAX_SHORT_FORM_1_1 ? IonType.TIMESTAMP : null;
+            case 0x8:
+                return IonType.STRING;
+            case 0x9:
+                return IonType.SYMBOL;
+            case 0xA:
+                return IonType.LIST;
+            case 0xB:
+                return IonType.SEXP;
+            case 0xC:
+            case 0xD:
+                return IonType.STRUCT;
+            case 0xE:
+                if (b >= 0xE1 && b <= SYMBOL_ADDRESS_MANY_BYTES_1_1) {
+                    return IonType.SYMBOL;
+                } else if (b > SYMBOL_ADDRESS_MANY_BYTES_1_1 && b <= ANNOTATIONS_MANY_FLEX_SYM_1_1) {
+                    return ION_TYPE_ANNOTATION_WRAPPER;
+                } else if (b == NULL_UNTYPED_1_1 || b == TYPED_NULL_1_1) {
+                    return IonType.NULL;
+                }
+                return null;
+            case 0xF:
+                switch (b) {
+                    case 0xF1:
+                    case 0xFA:
+                        return IonType.LIST;
+                    case 0xF2:
+                    case 0xFB:
+                        return IonType.SEXP;
+                    case 0xF3:
+                    case 0xFC:
+                    case 0xFD:
+                        return IonType.STRUCT;
+                    case 0xF5:
+                        return IonType.INT;
+                    case 0xF6:
+                        return IonType.DECIMAL;
+                    case 0xF7:
+                        return IonType.TIMESTAMP;
+                    case 0xF8:
+                        return IonType.STRING;
+                    case 0xF9:
+                        return IonType.SYMBOL;
+                    case 0xFE:
+                        return IonType.BLOB;
+                    case 0xFF:
+                        return IonType.CLOB;
+                    default:
+                        // 0xF0 (delimited end) is handled by the cursor; 0xF4 (macro invocation with a FlexUInt
+                        // address) is not a value.
+                        return null;
+                }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param b an Ion 1.1 opcode.
+     * @param variableLength true if the opcode is followed by a FlexUInt length prefix (for annotation wrappers, the
+     *                       length of the annotation sequence).
+     * @return the number of bytes that follow the given opcode in the value's representation, or -1 if the length
+     *  is not determined by the opcode alone. For annotation wrappers with fixed-length sequences, the number of
+     *  annotations.
+     */
+    private static int length_1_1(int b, boolean variableLength) {
+        if (variableLength || b == SYMBOL_ADDRESS_MANY_BYTES_1_1 || b == DECIMAL_ZERO_WITH_EXPONENT_1_1) {
+            return -1;
+        }
+        switch (b >> BITS_PER_NIBBLE) {
+            case 0x5:
+                if (b <= INT_MAX_LENGTH_1_1 + 0x50) {
+                    return b & LOW_NIBBLE_BITMASK;
+                }
+                switch (b) {
+                    case FLOAT_16_1_1:
+                        return 2;
+                    case FLOAT_32_1_1:
+                        return 4;
+                    case FLOAT_64_1_1:
+                        return 8;
+                    default:
+                        return 0;
+                }
+            case 0x6:
+            case 0x8:
+            case 0x9:
+            case 0xA:
+            case 0xB:
+            case 0xC:
+            case 0xD:
+                return b & LOW_NIBBLE_BITMASK;
+            case 0x7:
+                return TIMESTAMP_LENGTHS_1_1[b & LOW_NIBBLE_BITMASK];
+            case 0xE:
+                switch (b) {
+                    case 0xE1:
+                    case 0xE4:
+                    case 0xE7:
+                        return 1;
+                    case 0xE2:
+                    case 0xE5:
+                    case 0xE8:
+                        return 2;
+                    case TYPED_NULL_1_1:
+                        return 1;
+                    default:
+                        return 0;
+                }
+            default:
+                return 0;
         }
     }
 
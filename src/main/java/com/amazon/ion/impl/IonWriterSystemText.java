@@ -47,6 +47,9 @@ class IonWriterSystemText
 
     private final _Private_IonTextAppender _output;
 
+    /** Holds the text of each timestamp written, so that it need not be copied into a new String. */
+    private final StringBuilder _timestamp_text = new StringBuilder(32);
+
     /** Ensure we don't use a closed {@link #output} stream. */
     private boolean _closed;
 
@@ -639,17 +642,21 @@ class IonWriterSystemText
             long millis = value.getMillis();
             _output.appendAscii(Long.toString(millis));
         }
-        else if (_options._timestamp_as_string)
-        {
-            // Timestamp is ASCII-safe so this is easy
-            String valueText = printTimestamp(value, _options.getMaximumTimestampPrecisionDigits());
-            _output.appendAscii('"');
-            _output.appendAscii(valueText);
-            _output.appendAscii('"');
-        }
         else
         {
-            _output.appendAscii(printTimestamp(value, _options.getMaximumTimestampPrecisionDigits()));
+            _timestamp_text.setLength(0);
+            printTimestamp(value, _options.getMaximumTimestampPrecisionDigits(), _timestamp_text);
+            if (_options._timestamp_as_string)
+            {
+                // Timestamp is ASCII-safe so this is easy
+                _output.appendAscii('"');
+                _output.appendAscii(_timestamp_text);
+                _output.appendAscii('"');
+            }
+            else
+            {
+                _output.appendAscii(_timestamp_text);
+            }
         }
 
         closeValue();
@@ -0,0 +1,98 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonException;
+
+/**
+ * An Ion 1.1 macro whose template has been compiled for expansion by the binary reader. The template is held in the
+ * Ion 1.1 binary encoding with its variable references removed. Expanding an e-expression that invokes the macro
+ * copies the encoded template, splicing the encoded bytes of each argument into the positions at which the template
+ * referenced it, so the template is never re-interpreted.
+ */
+final class Macro {
+
+    // The macro's name, or null if it is anonymous.
+    private final String name;
+
+    // The names of the macro's parameters, in the order their arguments appear in an e-expression.
+    private final String[] parameterNames;
+
+    // The encoded template, less its variable references.
+    private final byte[] template;
+
+    // The indices in `template` at which arguments are spliced, in ascending order.
+    private final int[] variableIndices;
+
+    // The parameter whose argument is spliced at the corresponding index in `variableIndices`.
+    private final int[] variableParameters;
+
+    /**
+     * @param name the macro's name, or null if it is anonymous.
+     * @param parameterNames the names of the macro's parameters.
+     * @param template the encoded template, less its variable references.
+     * @param variableIndices the indices in `template` at which arguments are spliced, in ascending order.
+     * @param variableParameters the parameter whose argument is spliced at each index in `variableIndices`.
+     */
+    Macro(String name, String[] parameterNames, byte[] template, int[] variableIndices, int[] variableParameters) {
+        this.name = name;
+        this.parameterNames = parameterNames;
+        this.template = template;
+        this.variableIndices = variableIndices;
+        this.variableParameters = variableParameters;
+    }
+
+    /**
+     * @return the macro's name, or null if it is anonymous.
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of arguments in an e-expression that invokes this macro.
+     */
+    int getParameterCount() {
+        return parameterNames.length;
+    }
+
+    /**
+     * @param argumentBounds the index of the first byte of each argument in the invoking e-expression, followed by the
+     *                       index after the last argument.
+     * @return the number of bytes in the expansion.
+     */
+    int expansionLength(long[] argumentBounds) {
+        long length = template.length;
+        for (int parameter : variableParameters) {
+            length += argumentBounds[parameter + 1] - argumentBounds[parameter];
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IonException("Unsupported value: macro expansion is too large.");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Writes the expansion of an e-expression that invokes this macro.
+     * @param source the cursor whose buffer holds the e-expression's arguments.
+     * @param argumentBounds the index of the first byte of each argument in the cursor's buffer, followed by the index
+     *                       after the last argument.
+     * @param destination the array to which the expansion will be written. Must have room for
+     *                    `expansionLength(argumentBounds)` bytes after `offset`.
+     * @param offset the index in `destination` at which the expansion will begin.
+     */
+    void expand(IonCursorBinary source, long[] argumentBounds, byte[] destination, int offset) {
+        int templateIndex = 0;
+        for (int i = 0; i < variableIndices.length; i++) {
+            int chunkLength = variableIndices[i] - templateIndex;
+            System.arraycopy(template, templateIndex, destination, offset, chunkLength);
+            offset += chunkLength;
+            templateIndex = variableIndices[i];
+            int parameter = variableParameters[i];
+            int argumentLength = (int) (argumentBounds[parameter + 1] - argumentBounds[parameter]);
+            source.copyBytes(argumentBounds[parameter], destination, offset, argumentLength);
+            offset += argumentLength;
+        }
+        System.arraycopy(template, templateIndex, destination, offset, template.length - templateIndex);
+    }
+}
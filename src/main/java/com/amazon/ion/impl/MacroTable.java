@@ -0,0 +1,41 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonException;
+
+/**
+ * The macros that e-expressions may invoke in an Ion 1.1 encoding context, indexed by address. Each macro's template
+ * is compiled once, when the encoding directive that defines it is read, and is reused by every invocation until the
+ * encoding context is replaced.
+ */
+final class MacroTable {
+
+    private final Macro[] macros;
+
+    /**
+     * @param macros the macros, indexed by address.
+     */
+    MacroTable(Macro[] macros) {
+        this.macros = macros;
+    }
+
+    /**
+     * @param address a macro address.
+     * @return the macro at the given address.
+     * @throws IonException if no macro has the given address.
+     */
+    Macro get(long address) {
+        if (address < 0 || address >= macros.length) {
+            throw new IonException(String.format("Invocation of undefined macro at address %d.", address));
+        }
+        return macros[(int) address];
+    }
+
+    /**
+     * @return the number of macros in the table.
+     */
+    int size() {
+        return macros.length;
+    }
+}
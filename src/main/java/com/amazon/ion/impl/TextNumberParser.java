@@ -0,0 +1,243 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.math.BigInteger;
+
+/**
+ * Parses the text of Ion ints and floats directly from the reader's buffer, so that values which fit in a long or a
+ * double don't require the text to be copied into a String, nor any intermediate big number.
+ * <p>
+ * Floats are parsed by the method of Clinger when the decimal significand and power of ten are both exactly
+ * representable as doubles, and otherwise by the method of Eisel and Lemire, which computes the correctly-rounded
+ * result from a 128-bit approximation of the power of ten in almost all cases. The rare values that neither handles,
+ * e.g. those with more than 19 significant digits or that are too close to halfway between two doubles to round from
+ * the approximation, are parsed by {@link Double#parseDouble(String)}.
+ */
+final class TextNumberParser {
+
+    private TextNumberParser() {}
+
+    /**
+     * Parses an integer whose magnitude is known to fit in a long.
+     * @param image the digits, optionally preceded by a sign, without any radix prefix.
+     * @param len the number of characters in the image.
+     * @param radix the radix of the digits.
+     */
+    static long parseLong(CharSequence image, int len, int radix) {
+        int i = 0;
+        boolean negative = false;
+        char first = image.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+        }
+        // accumulate negatively, as Long.parseLong does, so that Long.MIN_VALUE can be reached
+        long value = 0;
+        for (; i < len; i++) {
+            value = value * radix - Character.digit(image.charAt(i), radix);
+        }
+        return negative ? value : -value;
+    }
+
+    /** The powers of ten that are exactly representable as doubles. */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_SIGNIFICAND = 1L << 53;
+    private static final int MAX_SIGNIFICAND_DIGITS = 19;
+    /** Exponents beyond this can't be accumulated without overflow, and are well beyond the range of doubles. */
+    private static final int MAX_EXPONENT_MAGNITUDE = 100_000;
+
+    /**
+     * Parses the text of an Ion float, i.e. digits with an optional sign, fraction and exponent.
+     * @throws NumberFormatException if the text is not a valid float.
+     */
+    static double parseDouble(CharSequence text) {
+        int len = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (len > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i = 1;
+        }
+        // the significand is accumulated as an unsigned long, which holds any 19 digits
+        long significand = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        for (; i < len; i++) {
+            int d = text.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                break;
+            }
+            significand = significand * 10 + d;
+            if (significantDigits > 0 || d != 0) {
+                significantDigits++;
+            }
+            digits++;
+        }
+        if (i < len && text.charAt(i) == '.') {
+            for (i++; i < len; i++) {
+                int d = text.charAt(i) - '0';
+                if (d < 0 || d > 9) {
+                    break;
+                }
+                significand = significand * 10 + d;
+                if (significantDigits > 0 || d != 0) {
+                    significantDigits++;
+                }
+                digits++;
+                exponent--;
+            }
+        }
+        if (digits == 0 || significantDigits > MAX_SIGNIFICAND_DIGITS) {
+            return Double.parseDouble(text.toString());
+        }
+        if (i < len && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < len && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negativeExponent = text.charAt(i) == '-';
+                i++;
+            }
+            int explicitExponent = 0;
+            int exponentDigits = 0;
+            for (; i < len; i++) {
+                int d = text.charAt(i) - '0';
+                if (d < 0 || d > 9) {
+                    break;
+                }
+                if (explicitExponent < MAX_EXPONENT_MAGNITUDE) {
+                    explicitExponent = explicitExponent * 10 + d;
+                }
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return Double.parseDouble(text.toString());
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i != len) {
+            // let the JDK report the error
+            return Double.parseDouble(text.toString());
+        }
+
+        if (significand == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (significand >= 0 && significand <= MAX_EXACT_SIGNIFICAND
+            && exponent >= -22 && exponent <= 22) {
+            // both operands are exact, so the single rounding of the operation is correct
+            double value = significand;
+            value = exponent < 0 ? value / EXACT_POWERS_OF_TEN[-exponent] : value * EXACT_POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+        if (exponent >= PowersOfTen.MIN_EXPONENT && exponent <= PowersOfTen.MAX_EXPONENT) {
+            long bits = eiselLemire(significand, exponent);
+            if (bits >= 0) {
+                return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+            }
+        }
+        return Double.parseDouble(text.toString());
+    }
+
+    /**
+     * Computes the bits of the correctly-rounded double nearest to {@code significand * 10^exponent}, which must be
+     * positive.
+     * @param significand an unsigned significand.
+     * @return the bits, or -1 if the result can't be determined from the 128-bit approximation of the power of ten,
+     * or is subnormal or infinite.
+     */
+    private static long eiselLemire(long significand, int exponent) {
+        // normalize so that the most significant bit is set
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        long m = significand << leadingZeros;
+        // 217706 / 2^16 approximates log2(10), giving the floor of exponent * log2(10) over this exponent range
+        long binaryExponent = ((217706L * exponent) >> 16) + 64 + 1023 - leadingZeros;
+
+        int index = exponent - PowersOfTen.MIN_EXPONENT;
+        long powerHigh = PowersOfTen.HIGH[index];
+        long xHigh = unsignedMultiplyHigh(m, powerHigh);
+        long xLow = m * powerHigh;
+        if ((xHigh & 0x1FF) == 0x1FF && Long.compareUnsigned(xLow + m, m) < 0) {
+            // the truncated product may be off by one in its lowest retained bit; refine with the low half
+            long powerLow = PowersOfTen.LOW[index];
+            long yHigh = unsignedMultiplyHigh(m, powerLow);
+            long yLow = m * powerLow;
+            long mergedHigh = xHigh;
+            long mergedLow = xLow + yHigh;
+            if (Long.compareUnsigned(mergedLow, xLow) < 0) {
+                mergedHigh++;
+            }
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow + 1 == 0 && Long.compareUnsigned(yLow + m, m) < 0) {
+                return -1;
+            }
+            xHigh = mergedHigh;
+            xLow = mergedLow;
+        }
+
+        // keep 54 bits, one more than the double's precision
+        int msb = (int) (xHigh >>> 63);
+        long mantissa = xHigh >>> (msb + 9);
+        binaryExponent -= 1 ^ msb;
+        if (xLow == 0 && (xHigh & 0x1FF) == 0 && (mantissa & 3) == 1) {
+            // exactly halfway between two doubles, so rounding to even depends on bits that were truncated
+            return -1;
+        }
+        // round to 53 bits
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if ((mantissa >>> 53) > 0) {
+            mantissa >>>= 1;
+            binaryExponent++;
+        }
+        if (binaryExponent <= 0 || binaryExponent >= 0x7FF) {
+            return -1;
+        }
+        return binaryExponent << 52 | (mantissa & 0x000FFFFFFFFFFFFFL);
+    }
+
+    /**
+     * @return the high 64 bits of the unsigned 128-bit product of the given values.
+     */
+    static long unsignedMultiplyHigh(long a, long b) {
+        long aHigh = a >>> 32;
+        long aLow = a & 0xFFFFFFFFL;
+        long bHigh = b >>> 32;
+        long bLow = b & 0xFFFFFFFFL;
+        long lowLow = aLow * bLow;
+        long highLow = aHigh * bLow;
+        long lowHigh = aLow * bHigh;
+        long cross = (lowLow >>> 32) + (highLow & 0xFFFFFFFFL) + lowHigh;
+        return aHigh * bHigh + (highLow >>> 32) + (cross >>> 32);
+    }
+
+    /**
+     * The 128-bit significands of the powers of ten from 10^-348 to 10^347, truncated and normalized so that the most
+     * significant bit is set. They are computed when a float first needs them.
+     */
+    private static final class PowersOfTen {
+        static final int MIN_EXPONENT = -348;
+        static final int MAX_EXPONENT = 347;
+        static final long[] HIGH = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+        static final long[] LOW = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+        static {
+            for (int exponent = MIN_EXPONENT; exponent <= MAX_EXPONENT; exponent++) {
+                BigInteger power = BigInteger.TEN.pow(Math.abs(exponent));
+                BigInteger significand;
+                if (exponent >= 0) {
+                    int shift = power.bitLength() - 128;
+                    significand = shift > 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+                }
+                else {
+                    // 2^(bitLength + 127) / 10^-exponent is between 2^127 and 2^128
+                    significand = BigInteger.ONE.shiftLeft(power.bitLength() + 127).divide(power);
+                }
+                HIGH[exponent - MIN_EXPONENT] = significand.shiftRight(64).longValue();
+                LOW[exponent - MIN_EXPONENT] = significand.longValue();
+            }
+        }
+    }
+}
@@ -303,6 +303,116 @@ abstract class UnifiedInputStreamX
         return (_is_byte_data) ? (_bytes[_pos++] & 0xff) : _chars[_pos++];
     }
 
+    /*
+     * bulk scanning - these consume a run of ASCII characters that are
+     * marked in the given table, stopping before the first character that
+     * is not, or at the end of the current page.  They never refill, so
+     * the caller must fall back to read() for whatever follows, which
+     * keeps save points and unread working exactly as they do for single
+     * characters.  Scanning the page array directly avoids the per
+     * character call, buffer checks and (for the tokenizer) switch.
+     */
+
+    /**
+     * Skips the run of characters at the current position that are marked in the given table.
+     * @param table indexed by ASCII character; no character at or above its length is skipped.
+     * @return the number of characters skipped.
+     */
+    public final int skipRun(boolean[] table)
+    {
+        int pos = _pos;
+        final int limit = _limit;
+        final int max = table.length;
+        if (_is_byte_data) {
+            final byte[] bytes = _bytes;
+            while (pos < limit) {
+                int c = bytes[pos];
+                // bytes above 0x7f are negative, and never skipped
+                if (c < 0 || c >= max || !table[c]) break;
+                pos++;
+            }
+        }
+        else {
+            final char[] chars = _chars;
+            while (pos < limit) {
+                char c = chars[pos];
+                if (c >= max || !table[c]) break;
+                pos++;
+            }
+        }
+        int skipped = pos - _pos;
+        _pos = pos;
+        return skipped;
+    }
+
+    /**
+     * Appends to the given builder the run of characters at the current position that are marked in the given table,
+     * consuming them.
+     * @param table indexed by ASCII character; no character at or above its length is appended.
+     * @return the number of characters appended.
+     */
+    public final int appendRun(boolean[] table, StringBuilder sb)
+    {
+        final int start = _pos;
+        final int count = skipRun(table);
+        if (count > 0) {
+            if (_is_byte_data) {
+                // ASCII bytes are their own chars
+                final byte[] bytes = _bytes;
+                sb.ensureCapacity(sb.length() + count);
+                for (int ii = start; ii < start + count; ii++) {
+                    sb.append((char) bytes[ii]);
+                }
+            }
+            else {
+                sb.append(_chars, start, count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Creates a structural index of the whole input, whose positions are
+     * offsets into the page array, like {@link #getOffset()}.
+     * @return the index, or null if the input is read from a stream, and so
+     * is never all in memory at once.
+     */
+    public final IonTextStructuralIndex makeStructuralIndex()
+    {
+        if (_is_stream || (_bytes == null && _chars == null)) {
+            return null;
+        }
+        UnifiedDataPageX curr = _buffer.getCurrentPage();
+        int start = curr.getOriginalStartingOffset();
+        int end = curr.getBufferLimit();
+        return (_is_byte_data)
+            ? new IonTextStructuralIndex(_bytes, start, end)
+            : new IonTextStructuralIndex(_chars, start, end);
+    }
+
+    /**
+     * @return the offset of the next character in the current page array.
+     */
+    public final int getOffset()
+    {
+        return _pos;
+    }
+
+    /**
+     * Consumes the characters from the current position up to the given
+     * offset in the current page array, if they are all available.
+     * @return false, without consuming anything, if the offset is behind
+     * the current position or beyond the readable limit.
+     */
+    public final boolean skipTo(int offset)
+    {
+        if (offset < _pos || offset > _limit) {
+            return false;
+        }
+        _pos = offset;
+        return true;
+    }
+
     protected final int read_helper() throws IOException
     {
         if (_eof) {
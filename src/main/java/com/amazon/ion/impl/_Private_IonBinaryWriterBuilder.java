@@ -25,13 +25,16 @@ import com.amazon.ion.IonWriter;
 import com.amazon.ion.SubstituteSymbolTableException;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.ValueFactory;
+import com.amazon.ion.WriterMetricsListener;
 import com.amazon.ion.impl.BlockedBuffer.BufferedOutputStream;
+import com.amazon.ion.impl.bin.BlockPool;
 import com.amazon.ion.impl.bin._Private_IonManagedBinaryWriterBuilder;
 import com.amazon.ion.impl.bin._Private_IonManagedBinaryWriterBuilder.AllocatorMode;
 import com.amazon.ion.system.IonBinaryWriterBuilder;
 import com.amazon.ion.system.IonSystemBuilder;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * NOT FOR APPLICATION USE!
@@ -296,6 +299,50 @@ public class _Private_IonBinaryWriterBuilder
         myBinaryWriterBuilder.withStreamCopyOptimization(optimized);
     }
 
+    @Override
+    public void setMetricsListener(final WriterMetricsListener listener)
+    {
+        super.setMetricsListener(listener);
+        myBinaryWriterBuilder.withMetricsListener(listener);
+    }
+
+    @Override
+    public void setBlockPool(final BlockPool pool)
+    {
+        super.setBlockPool(pool);
+        myBinaryWriterBuilder.withBlockPool(pool);
+    }
+
+    @Override
+    public void setReverseEncodingEnabled(final boolean enabled)
+    {
+        super.setReverseEncodingEnabled(enabled);
+        if (enabled)
+        {
+            myBinaryWriterBuilder.withReverseEncodingEnabled();
+        }
+        else
+        {
+            myBinaryWriterBuilder.withReverseEncodingDisabled();
+        }
+    }
+
+    @Override
+    public void setIonMinorVersion(final int minorVersion)
+    {
+        super.setIonMinorVersion(minorVersion);
+        myBinaryWriterBuilder.withMinorVersion(minorVersion);
+    }
+
+    @Override
+    public void setMacroDefinitions(final String definitions)
+    {
+        mutationCheck();
+        // parse before recording the definitions so that invalid definitions leave this builder unchanged
+        myBinaryWriterBuilder.withMacros(definitions);
+        super.setMacroDefinitions(definitions);
+    }
+
     //=========================================================================
 
     public void setBlockSize(int size) {
@@ -311,6 +358,12 @@ public class _Private_IonBinaryWriterBuilder
      */
     private _Private_IonBinaryWriterBuilder fillDefaults()
     {
+        if (getIonMinorVersion() == 1 && !isExperimentalIon11Enabled())
+        {
+            throw new UnsupportedOperationException(
+                "Writing Ion 1.1 is experimental and must be enabled with setExperimentalIon11Enabled(true)");
+        }
+
         // Ensure that we don't modify the user's builder.
         _Private_IonBinaryWriterBuilder b = copy();
 
@@ -402,6 +455,21 @@ public class _Private_IonBinaryWriterBuilder
     }
 
 
+    @Override
+    public final IonWriter build(WritableByteChannel out)
+    {
+        _Private_IonBinaryWriterBuilder b = fillDefaults();
+        try
+        {
+            return b.myBinaryWriterBuilder.newWriter(out);
+        }
+        catch (final IOException e)
+        {
+            throw new IonException("I/O Error", e);
+        }
+    }
+
+
     @Deprecated
     public final IonBinaryWriter buildLegacy()
     {
@@ -113,6 +113,14 @@ public final class _Private_IonConstants
                                                              (byte) 0x00,
                                                              (byte) 0xEA };
 
+    /**
+     * The byte sequence indicating use of Ion 1.1 binary format.
+     */
+    public static final byte[] BINARY_VERSION_MARKER_1_1 = { (byte) 0xE0,
+                                                             (byte) 0x01,
+                                                             (byte) 0x01,
+                                                             (byte) 0xEA };
+
     /**
      * The number of bytes in {@link #BINARY_VERSION_MARKER_1_0}.
      */
@@ -16,6 +16,11 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.Set;
 import java.util.zip.GZIPInputStream;
 
 import static com.amazon.ion.impl.LocalSymbolTable.DEFAULT_LST_FACTORY;
@@ -182,6 +187,59 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
         }
     }
 
+    /**
+     * InputStream over the remaining bytes of a ByteBuffer. Used when data provided in a ByteBuffer cannot be parsed
+     * in place, e.g. because it is text or GZIPped.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        /**
+         * The bytes to read, between the position and the limit.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Constructor.
+         * @param buffer the ByteBuffer. Its position and limit are not modified.
+         */
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer.duplicate();
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public int read() {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int bytesToRead = Math.min(len, buffer.remaining());
+            buffer.get(b, off, bytesToRead);
+            return bytesToRead;
+        }
+
+        @Override
+        public long skip(final long n) {
+            int bytesToSkip = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + bytesToSkip);
+            return bytesToSkip;
+        }
+    }
+
     @FunctionalInterface
     interface IonReaderFromBytesFactoryText {
         IonReader makeReader(IonCatalog catalog, byte[] ionData, int offset, int length, _Private_LocalSymbolTableFactory lstFactory);
@@ -212,10 +270,10 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
                 throw new IonException(e);
             }
         }
-        if (IonStreamUtils.isIonBinary(ionData, offset, length)) {
+        if (IonStreamUtils.isIonBinary(ionData, offset, length) || isIon11Binary(ionData, offset, length)) {
             return binary.makeReader(builder, ionData, offset, length);
         }
-        return text.makeReader(builder.validateCatalog(), ionData, offset, length, builder.lstFactory);
+        return configureTextReader(builder, text.makeReader(builder.validateCatalog(), ionData, offset, length, builder.lstFactory));
     }
 
     @Override
@@ -247,6 +305,24 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
         return true;
     }
 
+    /**
+     * @param buffer the data to check.
+     * @param offset the position in the buffer at which to start reading.
+     * @param length the number of bytes in the buffer that are valid, starting from `offset`.
+     * @return true if the buffer begins with the Ion 1.1 binary IVM.
+     */
+    private static boolean isIon11Binary(byte[] buffer, int offset, int length) {
+        if (buffer == null || length < _Private_IonConstants.BINARY_VERSION_MARKER_SIZE) {
+            return false;
+        }
+        for (int i = 0; i < _Private_IonConstants.BINARY_VERSION_MARKER_SIZE; i++) {
+            if (buffer[offset + i] != _Private_IonConstants.BINARY_VERSION_MARKER_1_1[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     static final byte[] GZIP_HEADER = {0x1F, (byte) 0x8B};
 
     private static boolean startsWithGzipHeader(byte[] buffer, int length) {
@@ -323,7 +399,7 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
         } else {
             wrapper = ionData;
         }
-        return text.makeReader(builder.validateCatalog(), wrapper, builder.lstFactory);
+        return configureTextReader(builder, text.makeReader(builder.validateCatalog(), wrapper, builder.lstFactory));
     }
 
     @Override
@@ -337,19 +413,120 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
         );
     }
 
+    @Override
+    public IonReader build(ByteBuffer ionData)
+    {
+        if (ionData == null) {
+            throw new NullPointerException("Cannot build a reader from a null ByteBuffer.");
+        }
+        if (ionData.hasArray()) {
+            // Heap buffers are read directly from their backing arrays.
+            return build(ionData.array(), ionData.arrayOffset() + ionData.position(), ionData.remaining());
+        }
+        byte[] possibleIVM = new byte[_Private_IonConstants.BINARY_VERSION_MARKER_SIZE];
+        int bytesRead = Math.min(possibleIVM.length, ionData.remaining());
+        for (int i = 0; i < bytesRead; i++) {
+            possibleIVM[i] = ionData.get(ionData.position() + i);
+        }
+        if (startsWithIvm(possibleIVM, bytesRead)) {
+            return _Private_IonReaderFactory.makeReaderBinary(this, ionData);
+        }
+        if (isUtf8TextTokenizerEnabled() && !IonStreamUtils.isGzip(possibleIVM, 0, bytesRead)) {
+            // The UTF-8 tokenizer reads text from an array.
+            byte[] text = new byte[ionData.remaining()];
+            ionData.duplicate().get(text);
+            return build(text);
+        }
+        // Text and GZIPped data are not parsed in place.
+        return build(new ByteBufferInputStream(ionData));
+    }
+
+    @Override
+    public IonReader build(FileChannel source)
+    {
+        if (source == null) {
+            throw new NullPointerException("Cannot build a reader from a null FileChannel.");
+        }
+        byte[] possibleIVM = new byte[_Private_IonConstants.BINARY_VERSION_MARKER_SIZE];
+        long position;
+        long length;
+        int bytesRead;
+        try {
+            position = source.position();
+            length = Math.max(0, source.size() - position);
+            // Note: this does not change the channel's position.
+            bytesRead = Math.max(0, source.read(ByteBuffer.wrap(possibleIVM), position));
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        if (startsWithIvm(possibleIVM, bytesRead)) {
+            return _Private_IonReaderFactory.makeReaderBinary(this, source, position, length);
+        }
+        // Text and GZIPped data are not parsed directly from a memory-mapped file.
+        return build(Channels.newInputStream(source));
+    }
+
+    /**
+     * Configures a text reader from the builder: applies the field path projection, if any, and selects the text
+     * backend, i.e. the UTF-8 tokenizer and the structural index, if they are enabled.
+     * @param builder the builder.
+     * @param reader the reader.
+     * @return `reader`.
+     */
+    private static <T extends IonReader> T configureTextReader(IonReaderBuilder builder, T reader) {
+        project(builder, reader);
+        if (reader instanceof IonReaderTextRawX) {
+            configureTextBackend(builder, (IonReaderTextRawX) reader);
+        }
+        return reader;
+    }
+
+    /**
+     * Applies the builder's field path projection, if any, to a text reader. Binary readers apply the projection
+     * themselves.
+     * @param builder the builder.
+     * @param reader the reader.
+     */
+    private static void project(IonReaderBuilder builder, IonReader reader) {
+        Set<List<String>> fieldPaths = builder.getFieldPathProjection();
+        if (fieldPaths != null && reader instanceof IonReaderTextUserX) {
+            ((IonReaderTextUserX) reader).setProjection(FieldPathProjection.create(fieldPaths));
+        }
+    }
+
+    /**
+     * Replaces a text reader's tokenizer with the UTF-8 tokenizer and enables its structural index, as the builder
+     * specifies. The UTF-8 tokenizer is only used for text held in memory as bytes; see
+     * {@link IonReaderBuilder#withUtf8TextTokenizerEnabled(boolean)}.
+     * @param builder the builder.
+     * @param reader the reader.
+     */
+    private static void configureTextBackend(IonReaderBuilder builder, IonReaderTextRawX reader) {
+        // The tokenizer is replaced, so this precedes the options that configure it.
+        if (builder.isUtf8TextTokenizerEnabled()) {
+            reader.enableUtf8Tokenizer();
+        }
+        if (builder.isStructuralIndexingEnabled()) {
+            reader.enableStructuralIndex();
+        }
+    }
+
     @Override
     public IonReader build(Reader ionText) {
-        return makeReaderText(validateCatalog(), ionText, lstFactory);
+        return configureTextReader(this, makeReaderText(validateCatalog(), ionText, lstFactory));
     }
 
     @Override
     public IonReader build(IonValue value) {
+        if (getFieldPathProjection() != null) {
+            throw new UnsupportedOperationException("Field path projection is not supported when reading IonValues.");
+        }
         return makeReader(validateCatalog(), value, lstFactory);
     }
 
     @Override
     public IonTextReader build(String ionText) {
-        return makeReaderText(validateCatalog(), ionText, lstFactory);
+        return configureTextReader(this, makeReaderText(validateCatalog(), ionText, lstFactory));
     }
 
 }
@@ -23,12 +23,15 @@ import com.amazon.ion.IonReader;
 import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonTextReader;
 import com.amazon.ion.IonValue;
+import com.amazon.ion.SymbolTable;
 import com.amazon.ion.system.IonReaderBuilder;
 import com.amazon.ion.util.IonStreamUtils;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -210,6 +213,52 @@ public final class _Private_IonReaderFactory
         );
     }
 
+    public static final IonReader makeReaderBinary(IonReaderBuilder builder, ByteBuffer buffer)
+    {
+        return new IonReaderContinuableTopLevelBinary(builder, buffer);
+    }
+
+    /**
+     * Creates a reader over a range of top-level values that begins in the middle of a binary Ion stream.
+     * @param symbolTable the symbol table in effect at the start of the range, as returned by
+     *                    {@link IonReader#getSymbolTable()} of a binary reader over the same stream.
+     */
+    public static final IonReader makeReaderBinary(IonReaderBuilder builder, byte[] buffer, int off, int len, SymbolTable symbolTable)
+    {
+        IonReaderContinuableTopLevelBinary reader = new IonReaderContinuableTopLevelBinary(builder, buffer, off, len);
+        reader.startAt(off, off + len, symbolTable);
+        return reader;
+    }
+
+    /**
+     * Creates a reader over a range of top-level values that begins in the middle of a binary Ion stream.
+     * @param buffer the range, between the buffer's position and limit.
+     * @param symbolTable the symbol table in effect at the start of the range, as returned by
+     *                    {@link IonReader#getSymbolTable()} of a binary reader over the same stream.
+     */
+    public static final IonReader makeReaderBinary(IonReaderBuilder builder, ByteBuffer buffer, SymbolTable symbolTable)
+    {
+        IonReaderContinuableTopLevelBinary reader = new IonReaderContinuableTopLevelBinary(builder, buffer);
+        reader.startAt(0, buffer.remaining(), symbolTable);
+        return reader;
+    }
+
+    public static final IonReader makeReaderBinary(IonReaderBuilder builder, FileChannel channel, long position, long length)
+    {
+        return new IonReaderContinuableTopLevelBinary(builder, channel, position, length);
+    }
+
+    /**
+     * Like {@link #makeReaderBinary(IonReaderBuilder, FileChannel, long, long)}, except that closing the reader does
+     * not close the channel.
+     */
+    public static final IonReader makeReaderBinaryRetainingChannel(IonReaderBuilder builder, FileChannel channel, long position, long length)
+    {
+        IonReaderContinuableTopLevelBinary reader = new IonReaderContinuableTopLevelBinary(builder, channel, position, length);
+        reader.retainChannelOnClose();
+        return reader;
+    }
+
 
     //=========================================================================
     //
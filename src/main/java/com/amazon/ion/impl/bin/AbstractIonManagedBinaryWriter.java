@@ -0,0 +1,975 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import static com.amazon.ion.IonType.LIST;
+import static com.amazon.ion.IonType.STRUCT;
+import static com.amazon.ion.SystemSymbols.IMPORTS_SID;
+import static com.amazon.ion.SystemSymbols.ION_1_0_MAX_ID;
+import static com.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
+import static com.amazon.ion.SystemSymbols.MAX_ID_SID;
+import static com.amazon.ion.SystemSymbols.NAME_SID;
+import static com.amazon.ion.SystemSymbols.SYMBOLS_SID;
+import static com.amazon.ion.SystemSymbols.VERSION_SID;
+import static com.amazon.ion.impl.bin.Symbols.symbol;
+import static com.amazon.ion.impl.bin.Symbols.systemSymbolTable;
+
+import com.amazon.ion.IonCatalog;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.UnknownSymbolException;
+import com.amazon.ion.WriterMetricsListener;
+import com.amazon.ion.impl.bin.IonManagedBinaryWriter.ImportedSymbolContext;
+import com.amazon.ion.impl.bin.IonManagedBinaryWriter.ImportedSymbolResolverMode;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamCloseMode;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.ThrowingRunnable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Symbol table management shared by the managed binary writers of each Ion version. One raw writer receives the local
+ * symbol table, which is written in front of the user values received by another, so that symbols are written by
+ * symbol ID. Local symbol tables written by the user are intercepted and replace the writer's symbol context.
+ * <p>
+ * Subclasses write user values to {@link #user}, notifying {@link #userState} of the values that may belong to a
+ * local symbol table written by the user.
+ *
+ * @param <W> the type of the raw writers.
+ */
+@SuppressWarnings("deprecation")
+/*package*/ abstract class AbstractIonManagedBinaryWriter<W extends AbstractIonRawBinaryWriter>
+    extends AbstractIonWriter implements _Private_IonManagedWriter
+{
+    /** Creates the raw writers to which the local symbol table and the user values are written. */
+    @FunctionalInterface
+    /*package*/ interface RawWriterFactory<W extends AbstractIonRawBinaryWriter>
+    {
+        W create(BlockAllocatorProvider provider,
+                 int blockSize,
+                 OutputStream out,
+                 StreamCloseMode streamCloseMode,
+                 StreamFlushMode streamFlushMode,
+                 boolean isAutoFlushEnabled,
+                 ThrowingRunnable autoFlush)
+                 throws IOException;
+    }
+
+    private enum SymbolState {
+        SYSTEM_SYMBOLS
+        {
+            @Override
+            public void closeTable(final AbstractIonRawBinaryWriter writer) throws IOException
+            {
+                // never generated a table, so emit the IVM
+                writer.writeIonVersionMarker();
+            }
+        },
+        LOCAL_SYMBOLS_WITH_IMPORTS_ONLY
+        {
+            @Override
+            public void closeTable(final AbstractIonRawBinaryWriter writer) throws IOException
+            {
+                // never wrote any locals so we only have to pop out one level
+                writer.stepOut();
+            }
+        },
+        LOCAL_SYMBOLS
+        {
+            @Override
+            public void closeTable(final AbstractIonRawBinaryWriter writer) throws IOException {
+                // close out locals
+                writer.stepOut();
+
+                // close out the local symtab struct
+                writer.stepOut();
+            }
+        },
+        LOCAL_SYMBOLS_FLUSHED
+        {
+            @Override
+            public void closeTable(final AbstractIonRawBinaryWriter writer) throws IOException {
+                // we already emitted local symbols -- there is nothing to close
+            }
+        };
+
+        public abstract void closeTable(AbstractIonRawBinaryWriter writer) throws IOException;
+    }
+
+    private static class ImportDescriptor
+    {
+        public String name;
+        public int version;
+        public int maxId;
+
+        public ImportDescriptor()
+        {
+            reset();
+        }
+
+        public void reset()
+        {
+            name = null;
+            version = -1;
+            maxId = -1;
+        }
+
+        public boolean isDefined()
+        {
+            return name != null && version >= 1;
+        }
+
+        public boolean isUndefined()
+        {
+            return name == null && version == -1 && maxId == -1;
+        }
+
+        public boolean isMalformed()
+        {
+            return !isDefined() && !isUndefined();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "{name: \"" + name + "\", version: " + version + ", max_id: " + maxId + "}";
+        }
+
+    }
+
+    /*package*/ enum UserState
+    {
+        /** no-op for all the interceptors. */
+        NORMAL
+        {
+            @Override
+            public void beforeStepIn(final AbstractIonManagedBinaryWriter<?> self, final IonType type)
+            {
+                if (self.user.hasTopLevelSymbolTableAnnotation() && type == STRUCT)
+                {
+                    self.userState = LOCALS_AT_TOP;
+
+                    // record where the user symbol table is written
+                    // we're going to clear this out later
+                    self.userSymbolTablePosition = self.user.position();
+                }
+            }
+
+            @Override
+            public void afterStepOut(final AbstractIonManagedBinaryWriter<?> self) {}
+
+            @Override
+            public void writeInt(AbstractIonManagedBinaryWriter<?> self, BigInteger value) {}
+        },
+        LOCALS_AT_TOP
+        {
+            @Override
+            public void beforeStepIn(final AbstractIonManagedBinaryWriter<?> self, final IonType type)
+            {
+                if (self.user.getDepth() == 1)
+                {
+                    switch (self.user.getFieldId())
+                    {
+                        case IMPORTS_SID:
+                            if (type != LIST)
+                            {
+                                throw new IllegalArgumentException(
+                                    "Cannot step into Local Symbol Table 'symbols' field as non-list: " + type);
+                            }
+                            self.userState = LOCALS_AT_IMPORTS;
+                            break;
+                        case SYMBOLS_SID:
+                            if (type != LIST)
+                            {
+                                throw new IllegalArgumentException(
+                                    "Cannot step into Local Symbol Table 'symbols' field as non-list: " + type);
+                            }
+                            self.userState = LOCALS_AT_SYMBOLS;
+                            break;
+                    }
+                }
+            }
+
+            @Override
+            public void afterStepOut(final AbstractIonManagedBinaryWriter<?> self) throws IOException
+            {
+                if (self.user.getDepth() == 0)
+                {
+                    // TODO deal with the fact that any open content in the user provided local symbol table is lost...
+                    //      the requirements here are not clear through the API contract, we push through
+                    //      the logical symbol table content but basically erase open content and erroneous data
+                    //      (e.g. integer in the symbol list or some non-struct in the import list)
+
+                    // at this point we have to ditch the user provided symbol table and open our own
+                    // since we don't know what's coming after (i.e. new local symbols)
+                    self.user.truncate(self.userSymbolTablePosition);
+
+                    if (self.isUserLSTAppend)
+                    {
+                        self.flush();
+                    }
+                    else
+                    {
+
+                        // flush out the pre-existing symbol and user content before the user provided symbol table
+                        self.finish();
+
+                        // replace the symbol table context with the user provided one
+                        // TODO determine if the resolver mode should be configurable for this use case
+                        self.imports = new ImportedSymbolContext(ImportedSymbolResolverMode.DELEGATE, self.userImports);
+                    }
+
+                    // explicitly start the local symbol table with no version marker
+                    // in case we need the previous symbols, unless there are none and no version marker has been
+                    // written for the pending values (i.e. an append before the writer started a local symbol table)
+                    final boolean writeIVM = self.isUserLSTAppend && self.symbolState == SymbolState.SYSTEM_SYMBOLS;
+                    self.startLocalSymbolTableIfNeeded(writeIVM);
+
+                    // let's go intern all of the local symbols that were provided
+                    // note that this may erase out redundant locals
+                    for (final String text : self.userSymbols)
+                    {
+                        // go and intern all of the locals now that we have context built
+                        self.intern(text);
+                    }
+
+                    // clear transient work state
+                    self.userSymbolTablePosition = 0L;
+                    self.userCurrentImport.reset();
+                    self.userImports.clear();
+                    self.userSymbols.clear();
+                    self.isUserLSTAppend = false;
+
+                    self.userState = NORMAL;
+                }
+            }
+
+            @Override
+            public void writeSymbolToken(final AbstractIonManagedBinaryWriter<?> self, final SymbolToken value)
+            {
+                if (
+                    self.user.getDepth() == 1
+                    && self.user.getFieldId() == IMPORTS_SID
+                    && value.getSid() == ION_SYMBOL_TABLE_SID
+                ) {
+                    self.isUserLSTAppend = true;
+                    self.userState = LOCALS_AT_TOP;
+                }
+            }
+        },
+        LOCALS_AT_IMPORTS
+        {
+            @Override
+            public void beforeStepIn(final AbstractIonManagedBinaryWriter<?> self, final IonType type)
+            {
+                if (type != STRUCT)
+                {
+                    throw new IllegalArgumentException(
+                        "Cannot step into non-struct in Local Symbol Table import list: " + type);
+                }
+            }
+
+            @Override
+            public void afterStepOut(final AbstractIonManagedBinaryWriter<?> self)
+            {
+                switch (self.user.getDepth())
+                {
+                    // finishing up a import struct
+                    case 2:
+                        final ImportDescriptor desc = self.userCurrentImport;
+                        if (desc.isMalformed())
+                        {
+                            throw new IllegalArgumentException("Invalid import: " + desc);
+                        }
+                        if (desc.isDefined())
+                        {
+                            SymbolTable symbols =
+                                self.catalog.getTable(desc.name, desc.version);
+                            if (symbols == null)
+                            {
+                                if (desc.maxId == -1)
+                                {
+                                    throw new IllegalArgumentException(
+                                        "Import is not in catalog and no max ID provided: " + desc);
+                                }
+
+                                // TODO determine what the correct behavior here is...
+                                // we don't know what the imports are in the context given
+                                // this is somewhat problematic, but let's put in a substitute
+                                // in case this is intentional
+                                symbols = Symbols.unknownSharedSymbolTable(desc.name, desc.version, desc.maxId);
+                            }
+                            if (desc.maxId != -1 && desc.maxId != symbols.getMaxId())
+                            {
+                                throw new IllegalArgumentException("Import doesn't match Max ID: " + desc);
+                            }
+                            self.userImports.add(symbols);
+                        }
+                        break;
+                    // done with the import list
+                    case 1:
+                        self.userState = LOCALS_AT_TOP;
+                        break;
+                }
+            }
+
+            @Override
+            public void writeString(final AbstractIonManagedBinaryWriter<?> self, final String value)
+            {
+                if (self.user.getDepth() == 3 && self.user.getFieldId() == NAME_SID)
+                {
+                    if (value == null)
+                    {
+                        throw new NullPointerException("Cannot have null import name");
+                    }
+                    self.userCurrentImport.name = value;
+                }
+            }
+
+            @Override
+            public void writeInt(final AbstractIonManagedBinaryWriter<?> self, final long value)
+            {
+                if (self.user.getDepth() == 3)
+                {
+                    if (value > Integer.MAX_VALUE || value < 1)
+                    {
+                        throw new IllegalArgumentException("Invalid integer value in import: " + value);
+                    }
+                    switch (self.user.getFieldId())
+                    {
+                        case VERSION_SID:
+                            self.userCurrentImport.version = (int) value;
+                            break;
+                        case MAX_ID_SID:
+                            self.userCurrentImport.maxId = (int) value;
+                            break;
+                    }
+                }
+            }
+        },
+        // TODO deal with the case that nonsense is written into the list
+        LOCALS_AT_SYMBOLS
+        {
+            @Override
+            public void beforeStepIn(final AbstractIonManagedBinaryWriter<?> self, final IonType type) {}
+
+            @Override
+            public void afterStepOut(final AbstractIonManagedBinaryWriter<?> self) {
+                if (self.user.getDepth() == 1)
+                {
+                    self.userState = LOCALS_AT_TOP;
+                }
+            }
+
+            @Override
+            public void writeString(final AbstractIonManagedBinaryWriter<?> self, String value)
+            {
+                if (self.user.getDepth() == 2)
+                {
+                    self.userSymbols.add(value);
+                }
+            }
+        };
+
+        public abstract void beforeStepIn(final AbstractIonManagedBinaryWriter<?> self, final IonType type) throws IOException;
+        public abstract void afterStepOut(final AbstractIonManagedBinaryWriter<?> self) throws IOException;
+
+        public void writeString(final AbstractIonManagedBinaryWriter<?> self, final String value) throws IOException {}
+        public void writeSymbolToken(final AbstractIonManagedBinaryWriter<?> self, final SymbolToken value) {}
+        public void writeInt(final AbstractIonManagedBinaryWriter<?> self, final long value) throws IOException {}
+        public void writeInt(AbstractIonManagedBinaryWriter<?> self, BigInteger value) throws IOException
+        {
+            // this will truncate if too big--but we don't care for interception
+            writeInt(self, value.longValue());
+        }
+    }
+
+    private static final SymbolTable[] EMPTY_SYMBOL_TABLE_ARRAY = new SymbolTable[0];
+
+    /** View over the internal local symbol table state as a symbol table. */
+    private class LocalSymbolTableView extends AbstractSymbolTable
+    {
+        public LocalSymbolTableView()
+        {
+            super(null, 0);
+        }
+
+        public Iterator<String> iterateDeclaredSymbolNames()
+        {
+            return locals.keySet().iterator();
+        }
+
+        public int getMaxId()
+        {
+            return getImportedMaxId() + locals.size();
+        }
+
+        public SymbolTable[] getImportedTables()
+        {
+            return imports.parents.toArray(EMPTY_SYMBOL_TABLE_ARRAY);
+        }
+
+        public int getImportedMaxId()
+        {
+            return imports.localSidStart - 1;
+        }
+
+        public boolean isSystemTable() { return false; }
+        public boolean isSubstitute()  { return false; }
+        public boolean isSharedTable() { return false; }
+        public boolean isLocalTable()  { return true; }
+        public boolean isReadOnly()    { return localsLocked; }
+
+        public SymbolTable getSystemSymbolTable()
+        {
+            return systemSymbolTable();
+        }
+
+        public SymbolToken intern(final String text)
+        {
+            SymbolToken token = find(text);
+            if (token == null)
+            {
+                if (localsLocked)
+                {
+                    throw new IonException("Cannot intern into locked (read-only) local symbol table");
+                }
+                token = AbstractIonManagedBinaryWriter.this.intern(text);
+            }
+            return token;
+        }
+
+        public String findKnownSymbol(final int id)
+        {
+            for (final SymbolTable table : imports.parents)
+            {
+                final String text = table.findKnownSymbol(id);
+                if (text != null)
+                {
+                    return text;
+                }
+            }
+            // TODO decide if it is worth making this better than O(N)
+            //      requires more state tracking (but for what use case?)
+            for (final SymbolToken token : locals.values())
+            {
+                if (token.getSid() == id)
+                {
+                    return token.getText();
+                }
+            }
+            return null;
+        }
+
+        public SymbolToken find(final String text)
+        {
+            final SymbolToken token = imports.importedSymbols.get(text);
+            if (token != null)
+            {
+                return token;
+            }
+            return locals.get(text);
+        }
+
+        @Override
+        public void makeReadOnly()
+        {
+            localsLocked = true;
+        }
+    }
+
+    private final IonCatalog                    catalog;
+    private final ImportedSymbolContext         bootstrapImports;
+
+    private ImportedSymbolContext               imports;
+    private final Map<String, SymbolToken>      locals;
+    private boolean                             localsLocked;
+    private final SymbolTable                   localSymbolTableView;
+
+    private final W                             symbols;
+    /*package*/ final W                         user;
+
+    /*package*/ UserState                       userState;
+    private SymbolState                         symbolState;
+
+    // local symbol table management for when user writes a local symbol table through us
+    private long                                userSymbolTablePosition;
+    private final List<SymbolTable>             userImports;
+    private final List<String>                  userSymbols;
+    private final ImportDescriptor              userCurrentImport;
+    private final boolean                       lstAppendEnabled;
+    private boolean                             isUserLSTAppend;
+
+    private boolean                             closed;
+
+    private final WriterMetricsListener         metricsListener;
+    // Non-null if the output is a channel, in which case both raw writers queue their output to it.
+    private final ChannelOutputStream           channelOut;
+    // Written to the symbols writer after each version marker, e.g. to declare macros. Null if there is none.
+    private final byte[]                        encodingDirective;
+
+    /**
+     * @param optimization      the optimization to apply when values are written with
+     *                          {@link #writeValue(com.amazon.ion.IonReader)}.
+     * @param rawWriterFactory  creates the raw writers for the Ion version being written.
+     * @param encodingDirective the encoded value to write after each version marker, or null.
+     */
+    /*package*/ AbstractIonManagedBinaryWriter(final _Private_IonManagedBinaryWriterBuilder builder,
+                                               final OutputStream out,
+                                               final WriteValueOptimization optimization,
+                                               final RawWriterFactory<W> rawWriterFactory,
+                                               final byte[] encodingDirective)
+                                               throws IOException
+    {
+        super(optimization);
+        this.metricsListener = builder.metricsListener;
+        this.channelOut = out instanceof ChannelOutputStream ? (ChannelOutputStream) out : null;
+        final BlockAllocatorProvider provider = metricsListener == null
+            ? builder.allocatorProvider()
+            : BlockAllocatorProviders.meteredProvider(builder.allocatorProvider(), metricsListener);
+        this.symbols = rawWriterFactory.create(
+            provider,
+            builder.symbolsBlockSize,
+            out,
+            StreamCloseMode.NO_CLOSE,
+            StreamFlushMode.NO_FLUSH,
+            false,
+            this::flush
+        );
+        this.user = rawWriterFactory.create(
+            provider,
+            builder.userBlockSize,
+            out,
+            StreamCloseMode.CLOSE,
+            StreamFlushMode.FLUSH,
+            builder.isAutoFlushEnabled,
+            this::flush
+        );
+        this.encodingDirective = encodingDirective;
+
+        this.catalog = builder.catalog;
+        this.bootstrapImports = builder.imports;
+
+        this.locals = new LinkedHashMap<String, SymbolToken>();
+        this.localsLocked = false;
+        this.localSymbolTableView = new LocalSymbolTableView();
+        this.symbolState = SymbolState.SYSTEM_SYMBOLS;
+        this.closed = false;
+
+        this.userState = UserState.NORMAL;
+
+        this.userSymbolTablePosition = 0L;
+        this.userImports = new ArrayList<SymbolTable>();
+        this.userSymbols = new ArrayList<String>();
+        this.userCurrentImport = new ImportDescriptor();
+        this.lstAppendEnabled = builder.isLocalSymbolTableAppendEnabled;
+        this.isUserLSTAppend = false;
+
+        // TODO decide if initial LST should survive finish() and seed the next LST
+        final SymbolTable lst = builder.initialSymbolTable;
+        if (lst != null)
+        {
+            // build import context from seeded LST
+            final List<SymbolTable> lstImportList = Arrays.asList(lst.getImportedTables());
+            // TODO determine if the resolver mode should be configurable for this use case
+            final ImportedSymbolContext lstImports = new ImportedSymbolContext(ImportedSymbolResolverMode.DELEGATE, lstImportList);
+            this.imports = lstImports;
+
+            // intern all of the local symbols provided from LST
+            final Iterator<String> symbolIter = lst.iterateDeclaredSymbolNames();
+            while (symbolIter.hasNext())
+            {
+                final String text = symbolIter.next();
+                intern(text);
+            }
+
+            // TODO determine if we really need to force emitting LST if there are no imports/locals
+            startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
+        }
+        else
+        {
+            this.imports = builder.imports;
+        }
+    }
+
+    public _Private_IonRawWriter getRawWriter()
+    {
+        return user;
+    }
+
+    // Compatibility with Implementation Writer Interface
+
+    public IonCatalog getCatalog()
+    {
+        return catalog;
+    }
+
+    public boolean isFieldNameSet()
+    {
+        return user.isFieldNameSet();
+    }
+
+    public void writeIonVersionMarker() throws IOException
+    {
+        // this has to force a reset of symbol table context
+        finish();
+    }
+
+    public int getDepth()
+    {
+        return user.getDepth();
+    }
+
+    // Symbol Table Management
+
+    /*package*/ void startLocalSymbolTableIfNeeded(final boolean writeIVM) throws IOException
+    {
+        boolean isAppend = symbolState == SymbolState.LOCAL_SYMBOLS_FLUSHED && lstAppendEnabled;
+        if (symbolState == SymbolState.SYSTEM_SYMBOLS || isAppend)
+        {
+            if (writeIVM && !isAppend)
+            {
+                symbols.writeIonVersionMarker();
+                writeEncodingDirective();
+            }
+            symbols.addTypeAnnotationSymbol(ION_SYMBOL_TABLE_SID);
+            symbols.stepIn(STRUCT);
+            {
+                if (isAppend)
+                {
+                    symbols.setFieldNameSymbol(IMPORTS_SID);
+                    symbols.writeSymbolToken(ION_SYMBOL_TABLE_SID);
+                }
+                else if (imports.parents.size() > 0)
+                {
+                    symbols.setFieldNameSymbol(IMPORTS_SID);
+                    symbols.stepIn(LIST);
+                    for (final SymbolTable st : imports.parents)
+                    {
+                        symbols.stepIn(STRUCT);
+                        {
+                            symbols.setFieldNameSymbol(NAME_SID);
+                            symbols.writeString(st.getName());
+                            symbols.setFieldNameSymbol(VERSION_SID);
+                            symbols.writeInt(st.getVersion());
+                            symbols.setFieldNameSymbol(MAX_ID_SID);
+                            symbols.writeInt(st.getMaxId());
+                        }
+                        symbols.stepOut();
+                    }
+                    symbols.stepOut();
+                }
+            }
+            // XXX no step out
+            symbolState = SymbolState.LOCAL_SYMBOLS_WITH_IMPORTS_ONLY;
+        }
+    }
+
+    private void writeEncodingDirective() throws IOException
+    {
+        if (encodingDirective != null)
+        {
+            symbols.writeBytes(encodingDirective, 0, encodingDirective.length);
+        }
+    }
+
+    private void startLocalSymbolTableSymbolListIfNeeded() throws IOException
+    {
+        if (symbolState == SymbolState.LOCAL_SYMBOLS_WITH_IMPORTS_ONLY)
+        {
+            symbols.setFieldNameSymbol(SYMBOLS_SID);
+            symbols.stepIn(LIST);
+            // XXX no step out
+
+            symbolState = SymbolState.LOCAL_SYMBOLS;
+        }
+    }
+
+    /*package*/ SymbolToken intern(final String text)
+    {
+        if (text == null)
+        {
+            return null;
+        }
+        try
+        {
+            SymbolToken token = imports.importedSymbols.get(text);
+            if (token != null)
+            {
+                if (token.getSid() > ION_1_0_MAX_ID)
+                {
+                    // using a symbol from an import triggers emitting locals
+                    startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
+                }
+                return token;
+            }
+            // try the locals
+            token = locals.get(text);
+            if (token == null)
+            {
+                if (localsLocked)
+                {
+                    throw new IonException("Local symbol table was locked (made read-only)");
+                }
+
+                // if we got here, this is a new symbol and we better start up the locals
+                startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
+                startLocalSymbolTableSymbolListIfNeeded();
+
+                token = symbol(text, imports.localSidStart + locals.size());
+                locals.put(text, token);
+                if (metricsListener != null)
+                {
+                    metricsListener.onLocalSymbolAdded(locals.size());
+                }
+
+                symbols.writeString(text);
+            }
+            return token;
+        }
+        catch (final IOException e)
+        {
+            throw new IonException("Error synthesizing symbols", e);
+        }
+    }
+
+    /*package*/ SymbolToken intern(final SymbolToken token)
+    {
+        if (token == null)
+        {
+            return null;
+        }
+        final String text = token.getText();
+        if (text != null)
+        {
+            // string content always makes us intern
+            return intern(text);
+        }
+        final int sid = token.getSid();
+        if (sid > getSymbolTable().getMaxId()) {
+            // There is no slot for this symbol ID in the symbol table,
+            // so an error would be raised on read. Fail early on write.
+            throw new UnknownSymbolException(sid);
+        }
+        // no text, we just return what we got
+        return token;
+    }
+
+    public SymbolTable getSymbolTable()
+    {
+        if (symbolState == SymbolState.SYSTEM_SYMBOLS && imports.parents.isEmpty())
+        {
+            return Symbols.systemSymbolTable();
+        }
+
+        // TODO this returns a symbol table view that gets truncated across reset boundaries (e.g. IVM/LST definitions)
+        //      we need to figure out, what the actual API contract is, because this *probably* violates the expectation of the caller.
+
+        return localSymbolTableView;
+    }
+
+    // Current Value Meta
+
+    public void setFieldName(final String name)
+    {
+        if (!isInStruct())
+        {
+            throw new IllegalStateException("IonWriter.setFieldName() must be called before writing a value into a struct.");
+        }
+        if (name == null)
+        {
+            throw new NullPointerException("Null field name is not allowed.");
+        }
+        final SymbolToken token = intern(name);
+        user.setFieldNameSymbol(token);
+    }
+
+    public void setFieldNameSymbol(SymbolToken token)
+    {
+        token = intern(token);
+        user.setFieldNameSymbol(token);
+    }
+
+    public void requireLocalSymbolTable() throws IOException
+    {
+        startLocalSymbolTableIfNeeded(true);
+    }
+
+    public void setTypeAnnotations(final String... annotations)
+    {
+        // Clear the current list of annotations
+        user.setTypeAnnotationSymbols((SymbolToken[]) null);
+        if (annotations == null) {
+            return;
+        }
+
+        // Add each string to the annotations list.
+        // XXX: This is a very hot path. This code avoids allocating temporary iterators/arrays.
+        for (int i = 0; i < annotations.length; i++) {
+            addTypeAnnotation(annotations[i]);
+        }
+    }
+
+    public void setTypeAnnotationSymbols(final SymbolToken... annotations)
+    {
+        if (annotations == null)
+        {
+            user.setTypeAnnotationSymbols((SymbolToken[]) null);
+        }
+        else
+        {
+            for (int i = 0; i < annotations.length; i++)
+            {
+                annotations[i] = intern(annotations[i]);
+            }
+            user.setTypeAnnotationSymbols(annotations);
+        }
+    }
+
+    public void addTypeAnnotation(final String annotation)
+    {
+        final SymbolToken token = intern(annotation);
+        user.addTypeAnnotationSymbol(token);
+    }
+
+    public boolean isInStruct()
+    {
+        return user.isInStruct();
+    }
+
+    /**
+     * Handles a symbol ID that, if written, would be an Ion version marker.
+     * @return true if the symbol ID was handled, in which case it must not be written.
+     */
+    /*package*/ boolean handleIVM(int sid) throws IOException {
+        if (user.isIVM(sid))
+        {
+            if (user.hasWrittenValuesSinceFinished())
+            {
+                // this explicitly translates SID 2 to an IVM and flushes out local symbol state
+                finish();
+            }
+            else
+            {
+                // no-op the write--we already wrote the IVM for the user
+                // TODO should this not no-op when called multiple times with IVMs?
+                // TODO integrate with all that IVM configuration-fu
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // Stream Terminators
+
+    public void flush() throws IOException {
+        if (getDepth() == 0 && !user.hasAnnotations() && (localsLocked || lstAppendEnabled))
+        {
+           unsafeFlush();
+        }
+    }
+
+    private void unsafeFlush() throws IOException
+    {
+        if (user.hasWrittenValuesSinceFinished())
+        {
+            final boolean isNewContext = symbolState == SymbolState.SYSTEM_SYMBOLS;
+            // this implies that we have a local symbol table of some sort and the user locked it
+            symbolState.closeTable(symbols);
+            if (isNewContext)
+            {
+                // no table was started, so the version marker was just written
+                writeEncodingDirective();
+            }
+            // make sure that until the local symbol state changes we no-op the table closing routine
+            symbolState = SymbolState.LOCAL_SYMBOLS_FLUSHED;
+        }
+        // push the data out
+        if (metricsListener == null)
+        {
+            finishRawWriters();
+            return;
+        }
+        final long bytesBefore = symbols.getNumberOfBytesFinished() + user.getNumberOfBytesFinished();
+        final int patchesBefore = symbols.getNumberOfPatchesFinished() + user.getNumberOfPatchesFinished();
+        final long patchedBytesBefore = symbols.getNumberOfPatchedBytesFinished() + user.getNumberOfPatchedBytesFinished();
+        finishRawWriters();
+        final long bytes = symbols.getNumberOfBytesFinished() + user.getNumberOfBytesFinished() - bytesBefore;
+        if (bytes > 0)
+        {
+            metricsListener.onFlush(
+                bytes,
+                symbols.getNumberOfPatchesFinished() + user.getNumberOfPatchesFinished() - patchesBefore,
+                symbols.getNumberOfPatchedBytesFinished() + user.getNumberOfPatchedBytesFinished() - patchedBytesBefore
+            );
+        }
+    }
+
+    private void finishRawWriters() throws IOException
+    {
+        if (channelOut == null)
+        {
+            symbols.finish();
+            user.finish();
+            return;
+        }
+        // Queue the contents of both buffers so that they can be written with a single gathering write.
+        symbols.stageFinish();
+        user.stageFinish();
+        channelOut.flush();
+        symbols.completeFinish();
+        user.completeFinish();
+    }
+
+    public void finish() throws IOException
+    {
+        if (getDepth() != 0)
+        {
+            throw new IllegalStateException("IonWriter.finish() can only be called at top-level.");
+        }
+        unsafeFlush();
+        // Reset local symbols
+        // TODO be more configurable with respect to local symbol table caching
+        locals.clear();
+        localsLocked = false;
+        symbolState = SymbolState.SYSTEM_SYMBOLS;
+        imports = bootstrapImports;
+    }
+
+    public void close() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            finish();
+        }
+        catch (IllegalStateException e)
+        {
+            // callers do not expect this...
+        }
+        finally
+        {
+            try
+            {
+                symbols.close();
+            }
+            finally
+            {
+                user.close();
+            }
+        }
+    }
+}
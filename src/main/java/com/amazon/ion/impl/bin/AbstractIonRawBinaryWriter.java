@@ -0,0 +1,59 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.SymbolToken;
+import java.io.IOException;
+
+/**
+ * Common base for the raw binary writers wrapped by {@link AbstractIonManagedBinaryWriter}, which declares the state
+ * and buffer operations that symbol table management requires in addition to {@link _Private_IonRawWriter}.
+ */
+@SuppressWarnings("deprecation")
+/*package*/ abstract class AbstractIonRawBinaryWriter extends AbstractIonWriter implements _Private_IonRawWriter
+{
+    /*package*/ AbstractIonRawBinaryWriter(final WriteValueOptimization optimization)
+    {
+        super(optimization);
+    }
+
+    /*package*/ abstract void addTypeAnnotationSymbol(SymbolToken annotation);
+
+    /*package*/ abstract boolean hasAnnotations();
+
+    /** Returns true if the pending annotations of a top-level value include {@code $ion_symbol_table}. */
+    /*package*/ abstract boolean hasTopLevelSymbolTableAnnotation();
+
+    /** Returns the symbol ID of the pending field name, or a negative number if there is none. */
+    /*package*/ abstract int getFieldId();
+
+    /** Returns true if a value has been written since construction or {@link #finish()}. */
+    /*package*/ abstract boolean hasWrittenValuesSinceFinished();
+
+    /** Returns true if writing the given symbol ID here would write an Ion version marker. */
+    /*package*/ abstract boolean isIVM(int sid);
+
+    /** Returns the position in the buffer at which the next byte will be written. */
+    /*package*/ abstract long position();
+
+    /** Discards everything written to the buffer at or after the given position. */
+    /*package*/ abstract void truncate(long position);
+
+    /**
+     * Writes the buffered top-level values to the output, or queues them if the output is a
+     * {@link ChannelOutputStream}. Must be followed by {@link #completeFinish()} once anything queued has been written.
+     */
+    /*package*/ abstract void stageFinish() throws IOException;
+
+    /** Resets the buffer after {@link #stageFinish()}, and flushes the output if configured to do so. */
+    /*package*/ abstract void completeFinish() throws IOException;
+
+    /** Returns the total number of bytes written to the output by {@link #finish()}. */
+    /*package*/ abstract long getNumberOfBytesFinished();
+
+    /** Returns the total number of length patches written to the output by {@link #finish()}. */
+    /*package*/ abstract int getNumberOfPatchesFinished();
+
+    /** Returns the total number of bytes written to the output by length patches. */
+    /*package*/ abstract long getNumberOfPatchedBytesFinished();
+}
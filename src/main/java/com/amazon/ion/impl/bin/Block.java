@@ -16,17 +16,27 @@
 package com.amazon.ion.impl.bin;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 
 /**
  * An abstraction for a block of managed memory.  A {@link Block} is acquired by a caller via
  * {@link BlockAllocator#allocateBlock()} and released by {@link #close()}.
  * <p>
+ * Most blocks store their contents in {@link #data}. A block may instead store its contents elsewhere, e.g. off-heap,
+ * in which case {@link #data} is a staging array that holds the block's contents only while the block is
+ * <i>active</i>, i.e. between calls to {@link #activate()} and {@link #deactivate()}. Callers that write to
+ * {@link #data} directly must therefore activate the block first, and must use the accessor methods such as
+ * {@link #get(int)} and {@link #put(int, byte)} for blocks that may not be active. At most one block from a given
+ * {@link BlockAllocator} may be active at a time.
+ * <p>
  * This class and its implementations are <b>not</b> thread-safe.
  */
 /*package*/ abstract class Block implements Closeable
 {
-    /** The data backing this block. */
+    /** The data backing this block, or, for blocks stored elsewhere, the staging array used while active. */
     public final byte[] data;
     /** The first index for which data has not been written to or read from. */
     public int limit;
@@ -55,6 +65,75 @@ import java.io.Closeable;
         return data.length;
     }
 
+    /**
+     * Makes {@link #data} hold the contents of this block, so that they may be read and written directly. This is a
+     * no-op for blocks stored in {@link #data}.
+     */
+    public void activate() {}
+
+    /**
+     * Moves the contents of this block, i.e. the bytes before its {@link #limit}, out of {@link #data}, which may then
+     * be used by another block from the same allocator. This is a no-op for blocks stored in {@link #data}.
+     */
+    public void deactivate() {}
+
+    /** Returns the byte at the given index, whether or not the block is active. */
+    public byte get(final int index)
+    {
+        return data[index];
+    }
+
+    /** Copies bytes starting at the given index to an array, whether or not the block is active. */
+    public void get(final int index, final byte[] destination, final int offset, final int length)
+    {
+        System.arraycopy(data, index, destination, offset, length);
+    }
+
+    /** Sets the byte at the given index, whether or not the block is active. */
+    public void put(final int index, final byte value)
+    {
+        data[index] = value;
+    }
+
+    /** Copies bytes from the given array into this block at the given index, whether or not the block is active. */
+    public void put(final int index, final byte[] source, final int offset, final int length)
+    {
+        System.arraycopy(source, offset, data, index, length);
+    }
+
+    /**
+     * Copies the remaining bytes from the given buffer into this block at the given index, whether or not the block
+     * is active.
+     */
+    public void put(final int index, final ByteBuffer source)
+    {
+        source.get(data, index, source.remaining());
+    }
+
+    /**
+     * Copies bytes from this block into the given block, whether or not either block is active. The ranges may
+     * overlap if the blocks are the same block and the destination precedes the source.
+     */
+    public void copyTo(final int offset, final Block destination, final int destinationOffset, final int length)
+    {
+        destination.put(destinationOffset, data, offset, length);
+    }
+
+    /** Writes bytes from this block to the given stream, whether or not the block is active. */
+    public void writeTo(final OutputStream out, final int offset, final int length) throws IOException
+    {
+        out.write(data, offset, length);
+    }
+
+    /**
+     * Returns a {@link ByteBuffer} view of the given range of this block's contents, whether or not the block is
+     * active. The view is valid until the block is next activated, deactivated, or closed.
+     */
+    public ByteBuffer byteBuffer(final int offset, final int length)
+    {
+        return ByteBuffer.wrap(data, offset, length);
+    }
+
     /**
      * Releases the block back to the {@link BlockAllocator} from whence it was allocated from.
      * This method <b>must</b> be called when the block is no longer needed.
@@ -15,6 +15,11 @@
 
 package com.amazon.ion.impl.bin;
 
+import com.amazon.ion.WriterMetricsListener;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * Utility implementations of {@link BlockAllocatorProvider}.
  */
@@ -50,6 +55,94 @@ package com.amazon.ion.impl.bin;
         }
     }
 
+    /**
+     * Delegates to a block, reporting its release to a listener. The {@link WriteBuffer} only maintains this block's
+     * {@link Block#limit}, so it is copied to the delegate before the delegate is activated or deactivated, which may
+     * move the bytes before it (see {@link DirectBlock}); all other state is the delegate's.
+     */
+    private static final class MeteredBlock extends Block
+    {
+        private final Block block;
+        private final WriterMetricsListener listener;
+
+        MeteredBlock(final Block block, final WriterMetricsListener listener)
+        {
+            super(block.data);
+            this.block = block;
+            this.listener = listener;
+        }
+
+        @Override
+        public void activate()
+        {
+            block.limit = limit;
+            block.activate();
+            limit = block.limit;
+        }
+
+        @Override
+        public void deactivate()
+        {
+            block.limit = limit;
+            block.deactivate();
+        }
+
+        @Override
+        public byte get(final int index)
+        {
+            return block.get(index);
+        }
+
+        @Override
+        public void get(final int index, final byte[] destination, final int offset, final int length)
+        {
+            block.get(index, destination, offset, length);
+        }
+
+        @Override
+        public void put(final int index, final byte value)
+        {
+            block.put(index, value);
+        }
+
+        @Override
+        public void put(final int index, final byte[] source, final int offset, final int length)
+        {
+            block.put(index, source, offset, length);
+        }
+
+        @Override
+        public void put(final int index, final ByteBuffer source)
+        {
+            block.put(index, source);
+        }
+
+        @Override
+        public void copyTo(final int offset, final Block destination, final int destinationOffset, final int length)
+        {
+            block.copyTo(offset, destination, destinationOffset, length);
+        }
+
+        @Override
+        public void writeTo(final OutputStream out, final int offset, final int length) throws IOException
+        {
+            block.writeTo(out, offset, length);
+        }
+
+        @Override
+        public ByteBuffer byteBuffer(final int offset, final int length)
+        {
+            return block.byteBuffer(offset, length);
+        }
+
+        @Override
+        public void close()
+        {
+            block.close();
+            listener.onBlockRecycled(block.capacity());
+        }
+    }
+
     private static final BlockAllocatorProvider BASIC_PROVIDER = new BasicBlockAllocatorProvider();
 
     /**
@@ -58,4 +151,80 @@ package com.amazon.ion.impl.bin;
     public static BlockAllocatorProvider basicProvider() {
         return BASIC_PROVIDER;
     }
+
+    private static final class DirectBlockAllocatorProvider extends BlockAllocatorProvider
+    {
+        @Override
+        public BlockAllocator vendAllocator(final int blockSize)
+        {
+            final DirectBlock.Staging staging = new DirectBlock.Staging(blockSize);
+            return new BlockAllocator() {
+                @Override
+                public Block allocateBlock()
+                {
+                    return new DirectBlock(staging, ByteBuffer.allocateDirect(blockSize))
+                    {
+                        @Override
+                        public void close() {}
+                    };
+                }
+
+                @Override
+                public int getBlockSize()
+                {
+                    return blockSize;
+                }
+
+                @Override
+                public void close() {}
+            };
+        }
+    }
+
+    private static final BlockAllocatorProvider DIRECT_PROVIDER = new DirectBlockAllocatorProvider();
+
+    /**
+     * A {@link BlockAllocatorProvider} that vends blocks stored in newly-allocated direct buffers, with no caching.
+     * Each allocator it vends holds a block-sized staging array; see {@link DirectBlock}.
+     */
+    public static BlockAllocatorProvider directProvider() {
+        return DIRECT_PROVIDER;
+    }
+
+    /**
+     * A {@link BlockAllocatorProvider} that vends blocks from the given provider, reporting each block's allocation
+     * and release to the given listener.
+     */
+    public static BlockAllocatorProvider meteredProvider(final BlockAllocatorProvider provider,
+                                                         final WriterMetricsListener listener)
+    {
+        return new BlockAllocatorProvider() {
+            @Override
+            public BlockAllocator vendAllocator(final int blockSize)
+            {
+                final BlockAllocator allocator = provider.vendAllocator(blockSize);
+                return new BlockAllocator() {
+                    @Override
+                    public Block allocateBlock()
+                    {
+                        final Block block = allocator.allocateBlock();
+                        listener.onBlockAllocated(block.capacity());
+                        return new MeteredBlock(block, listener);
+                    }
+
+                    @Override
+                    public int getBlockSize()
+                    {
+                        return allocator.getBlockSize();
+                    }
+
+                    @Override
+                    public void close()
+                    {
+                        allocator.close();
+                    }
+                };
+            }
+        };
+    }
 }
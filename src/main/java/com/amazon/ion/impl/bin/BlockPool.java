@@ -0,0 +1,432 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of the buffer blocks used by binary writers, which may be shared by any number of writers. Unlike the
+ * default pool, which retains up to 64MB of free blocks for each distinct block size, a {@code BlockPool} retains
+ * free blocks of all sizes within a single memory budget.
+ * <p>
+ * Block sizes are rounded up to the next power of two (the block's <i>size class</i>), so that writers configured with
+ * similar block sizes share free blocks. Each size class stores its free blocks in several stripes, selected by the
+ * ID of the thread that releases or acquires a block, so that writers on different threads rarely contend. A thread
+ * whose stripe is empty takes free blocks from the other stripes before allocating a new block.
+ * <p>
+ * When a writer releases a block that would cause the free blocks to exceed the budget, the pool evicts free blocks
+ * from the size class that holds the most free memory, if that is a different size class; otherwise, the released
+ * block is discarded. The budget is enforced on a best-effort basis: under concurrent release it may be exceeded by a
+ * few blocks.
+ * <p>
+ * By default, blocks are stored in byte arrays on the Java heap. A pool configured via
+ * {@link Builder#withDirectBuffers(boolean)} instead stores blocks in direct {@link ByteBuffer}s, so that large
+ * amounts of buffered output do not occupy the heap. Each writer then holds one block-sized staging array on the heap,
+ * into which it encodes the block it is currently writing; when the writer moves on to the next block, the staging
+ * array's contents are copied to the direct buffer. Direct buffers are expensive to allocate, so such pools should be
+ * long-lived and shared.
+ * <p>
+ * Provide a pool to writers via
+ * {@link com.amazon.ion.system.IonBinaryWriterBuilder#withBlockPool(BlockPool)}. This class is thread-safe.
+ */
+public final class BlockPool extends BlockAllocatorProvider
+{
+    /** The default maximum number of bytes of free blocks to retain. */
+    public static final long DEFAULT_MAXIMUM_FREE_BYTES = 64L * 1024 * 1024;
+
+    // The largest supported size class is 2^30 bytes.
+    private static final int MAX_SIZE_CLASS = 30;
+
+    /**
+     * Builds {@link BlockPool} instances.
+     */
+    public static final class Builder
+    {
+        private long maximumFreeBytes = DEFAULT_MAXIMUM_FREE_BYTES;
+        private int numberOfStripes = Runtime.getRuntime().availableProcessors();
+        private boolean isDirect = false;
+
+        private Builder() {}
+
+        /**
+         * Sets the maximum number of bytes of free blocks, across all block sizes, that the pool retains for reuse.
+         * Blocks in use by writers do not count against this budget. The default is
+         * {@link #DEFAULT_MAXIMUM_FREE_BYTES}. A value of 0 disables pooling.
+         * @param maximumFreeBytes the budget, in bytes.
+         * @return this builder.
+         */
+        public Builder withMaximumFreeBytes(final long maximumFreeBytes)
+        {
+            if (maximumFreeBytes < 0)
+            {
+                throw new IllegalArgumentException("Maximum free bytes cannot be negative: " + maximumFreeBytes);
+            }
+            this.maximumFreeBytes = maximumFreeBytes;
+            return this;
+        }
+
+        /**
+         * Sets the number of stripes per size class. More stripes reduce contention between threads, but spread the
+         * free blocks more thinly. The value is rounded up to a power of two. The default is the number of available
+         * processors.
+         * @param numberOfStripes the number of stripes.
+         * @return this builder.
+         */
+        public Builder withStripes(final int numberOfStripes)
+        {
+            if (numberOfStripes < 1)
+            {
+                throw new IllegalArgumentException("Number of stripes cannot be less than 1: " + numberOfStripes);
+            }
+            this.numberOfStripes = numberOfStripes;
+            return this;
+        }
+
+        /**
+         * Sets whether blocks are stored in direct {@link ByteBuffer}s rather than in byte arrays on the heap. The
+         * default is false.
+         * @param isDirect true to use direct buffers.
+         * @return this builder.
+         */
+        public Builder withDirectBuffers(final boolean isDirect)
+        {
+            this.isDirect = isDirect;
+            return this;
+        }
+
+        /**
+         * @return a new pool with this builder's configuration.
+         */
+        public BlockPool build()
+        {
+            return new BlockPool(this);
+        }
+    }
+
+    /**
+     * @return a new builder with the default configuration.
+     */
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    /**
+     * The blocks of one size class. For heap pools, this is the allocator for the size class, and is shared by all
+     * writers that use the size class, so its {@link #close()} does nothing. The free lists hold {@link PooledBlock}s
+     * for heap pools and {@link ByteBuffer}s for direct pools.
+     */
+    private final class SizeClass extends BlockAllocator
+    {
+        private final int blockSize;
+        private final Queue<Object>[] stripes;
+        // The number of free blocks in this size class, used to choose the size class from which to evict.
+        private final LongAdder numberOfFreeBlocks = new LongAdder();
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        SizeClass(final int blockSize)
+        {
+            this.blockSize = blockSize;
+            this.stripes = new Queue[stripeMask + 1];
+            for (int i = 0; i < stripes.length; i++)
+            {
+                stripes[i] = new ConcurrentLinkedQueue<Object>();
+            }
+        }
+
+        @Override
+        public Block allocateBlock()
+        {
+            Block block = (Block) acquire();
+            if (block == null)
+            {
+                block = new PooledBlock(this);
+            }
+            else
+            {
+                block.reset();
+            }
+            return block;
+        }
+
+        /** Removes and returns a free block's storage, or returns null if there are none, counting a block in use. */
+        Object acquire()
+        {
+            final Object storage = pollFree(stripeIndex());
+            if (storage != null)
+            {
+                onFreeBlockRemoved(this);
+            }
+            blocksInUse.increment();
+            bytesInUse.add(blockSize);
+            return storage;
+        }
+
+        /** Removes a free block's storage, preferring the given stripe, or returns null if there are none. */
+        private Object pollFree(final int preferredStripe)
+        {
+            for (int i = 0; i < stripes.length; i++)
+            {
+                final Object storage = stripes[(preferredStripe + i) & stripeMask].poll();
+                if (storage != null)
+                {
+                    return storage;
+                }
+            }
+            return null;
+        }
+
+        /** Returns a block's storage to the free list, or discards it if the budget does not allow it. */
+        void release(final Object storage)
+        {
+            blocksInUse.decrement();
+            bytesInUse.add(-blockSize);
+            if (bytesFree.sum() + blockSize > maximumFreeBytes && !evictFor(this))
+            {
+                // Discard the block; the garbage collector will reclaim it.
+                return;
+            }
+            stripes[stripeIndex()].offer(storage);
+            numberOfFreeBlocks.increment();
+            blocksFree.increment();
+            bytesFree.add(blockSize);
+        }
+
+        long freeBytes()
+        {
+            return numberOfFreeBlocks.sum() * blockSize;
+        }
+
+        @Override
+        public int getBlockSize()
+        {
+            return blockSize;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static final class PooledBlock extends Block
+    {
+        private final SizeClass sizeClass;
+
+        PooledBlock(final SizeClass sizeClass)
+        {
+            super(new byte[sizeClass.blockSize]);
+            this.sizeClass = sizeClass;
+        }
+
+        @Override
+        public void close()
+        {
+            sizeClass.release(this);
+        }
+    }
+
+    /**
+     * Allocates blocks stored in direct buffers from a size class. One is vended to each writer, and holds the
+     * writer's staging array.
+     */
+    private static final class DirectAllocator extends BlockAllocator
+    {
+        private final SizeClass sizeClass;
+        private final DirectBlock.Staging staging;
+
+        DirectAllocator(final SizeClass sizeClass)
+        {
+            this.sizeClass = sizeClass;
+            this.staging = new DirectBlock.Staging(sizeClass.blockSize);
+        }
+
+        @Override
+        public Block allocateBlock()
+        {
+            final ByteBuffer pooled = (ByteBuffer) sizeClass.acquire();
+            final ByteBuffer buffer = pooled == null ? ByteBuffer.allocateDirect(sizeClass.blockSize) : pooled;
+            return new DirectBlock(staging, buffer)
+            {
+                private boolean isClosed = false;
+
+                @Override
+                public void close()
+                {
+                    if (!isClosed)
+                    {
+                        isClosed = true;
+                        sizeClass.release(buffer);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public int getBlockSize()
+        {
+            return sizeClass.blockSize;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private final long maximumFreeBytes;
+    private final boolean isDirect;
+    private final int stripeMask;
+    // The size class for each power of two, created on first use.
+    private final AtomicReferenceArray<SizeClass> sizeClasses = new AtomicReferenceArray<SizeClass>(MAX_SIZE_CLASS + 1);
+
+    private final LongAdder blocksInUse = new LongAdder();
+    private final LongAdder bytesInUse = new LongAdder();
+    private final LongAdder blocksFree = new LongAdder();
+    private final LongAdder bytesFree = new LongAdder();
+
+    private BlockPool(final Builder builder)
+    {
+        this.maximumFreeBytes = builder.maximumFreeBytes;
+        this.isDirect = builder.isDirect;
+        int numberOfStripes = 1;
+        while (numberOfStripes < builder.numberOfStripes && numberOfStripes < (1 << 16))
+        {
+            numberOfStripes <<= 1;
+        }
+        this.stripeMask = numberOfStripes - 1;
+    }
+
+    /** Returns the stripe used by the calling thread. */
+    private int stripeIndex()
+    {
+        final long id = Thread.currentThread().getId();
+        // Mix the bits so that threads with consecutive IDs use different stripes.
+        final int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    private void onFreeBlockRemoved(final SizeClass sizeClass)
+    {
+        sizeClass.numberOfFreeBlocks.decrement();
+        blocksFree.decrement();
+        bytesFree.add(-sizeClass.blockSize);
+    }
+
+    /**
+     * Evicts free blocks from the size class that holds the most free memory until there is room for a block of the
+     * given size class.
+     * @return true if there is now room; false if the given size class holds the most free memory, or if there is not
+     *  enough free memory in other size classes to make room.
+     */
+    private boolean evictFor(final SizeClass requester)
+    {
+        if (requester.blockSize > maximumFreeBytes)
+        {
+            return false;
+        }
+        SizeClass victim = null;
+        long victimFreeBytes = 0;
+        for (int i = 0; i <= MAX_SIZE_CLASS; i++)
+        {
+            final SizeClass sizeClass = sizeClasses.get(i);
+            if (sizeClass != null)
+            {
+                final long freeBytes = sizeClass.freeBytes();
+                if (freeBytes > victimFreeBytes)
+                {
+                    victim = sizeClass;
+                    victimFreeBytes = freeBytes;
+                }
+            }
+        }
+        if (victim == null || victim == requester)
+        {
+            return false;
+        }
+        final int start = stripeIndex();
+        while (bytesFree.sum() + requester.blockSize > maximumFreeBytes)
+        {
+            if (victim.pollFree(start) == null)
+            {
+                return false;
+            }
+            onFreeBlockRemoved(victim);
+        }
+        return true;
+    }
+
+    /**
+     * Returns an allocator for blocks of the size class that contains the given size, i.e. the smallest power of two
+     * that is greater than or equal to the given size. The allocator's {@link BlockAllocator#getBlockSize()} reports
+     * the size class. For direct pools, each call returns a new allocator with its own staging array.
+     */
+    @Override
+    public BlockAllocator vendAllocator(final int blockSize)
+    {
+        if (blockSize <= 0 || blockSize > (1 << MAX_SIZE_CLASS))
+        {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        final int index = 32 - Integer.numberOfLeadingZeros(blockSize - 1);
+        SizeClass sizeClass = sizeClasses.get(index);
+        if (sizeClass == null)
+        {
+            sizeClass = new SizeClass(1 << index);
+            if (!sizeClasses.compareAndSet(index, null, sizeClass))
+            {
+                sizeClass = sizeClasses.get(index);
+            }
+        }
+        return isDirect ? new DirectAllocator(sizeClass) : sizeClass;
+    }
+
+    /**
+     * @return the number of blocks that have been allocated from this pool and not yet released by writers.
+     */
+    public long getBlocksInUse()
+    {
+        return blocksInUse.sum();
+    }
+
+    /**
+     * @return the total size, in bytes, of the blocks that have been allocated from this pool and not yet released by
+     *  writers.
+     */
+    public long getBytesInUse()
+    {
+        return bytesInUse.sum();
+    }
+
+    /**
+     * @return the number of free blocks retained by this pool for reuse.
+     */
+    public long getBlocksFree()
+    {
+        return blocksFree.sum();
+    }
+
+    /**
+     * @return the total size, in bytes, of the free blocks retained by this pool for reuse.
+     */
+    public long getBytesFree()
+    {
+        return bytesFree.sum();
+    }
+
+    /**
+     * @return true if this pool stores blocks in direct buffers.
+     */
+    public boolean isDirect()
+    {
+        return isDirect;
+    }
+
+    /**
+     * @return the maximum number of bytes of free blocks that this pool retains.
+     */
+    public long getMaximumFreeBytes()
+    {
+        return maximumFreeBytes;
+    }
+}
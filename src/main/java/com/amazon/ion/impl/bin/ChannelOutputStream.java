@@ -0,0 +1,183 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * An {@link OutputStream} over a {@link WritableByteChannel} that queues its output and writes everything queued
+ * with a single gathering write when flushed.
+ * <p>
+ * Besides the usual stream methods, which copy the given bytes, {@link #queue(ByteBuffer)} accepts views of
+ * {@link Block}s without copying. This allows the managed binary writer to write the contents of both its symbol
+ * table and user value buffers with one call to {@link GatheringByteChannel#write(ByteBuffer[], int, int)} rather
+ * than one write per block. Queued views must remain valid until the next {@link #flush()}.
+ */
+/*package*/ final class ChannelOutputStream extends OutputStream
+{
+    // Writes larger than this are not copied into the scratch array; the queue is written before they are written
+    // directly.
+    private static final int MAX_COPY_LENGTH = 512;
+    private static final int SCRATCH_SIZE = 1024;
+
+    private final WritableByteChannel channel;
+    private ByteBuffer[] queue = new ByteBuffer[16];
+    private int queueLength = 0;
+
+    // Holds the bytes written through the OutputStream methods, which callers are free to modify after the write.
+    private byte[] scratch = new byte[SCRATCH_SIZE];
+    private int scratchPosition = 0;
+    // The queued view of the scratch array that ends at scratchPosition, if it is the last one queued.
+    private ByteBuffer scratchTail = null;
+
+    /**
+     * @param channel the channel, which must be in blocking mode.
+     */
+    /*package*/ ChannelOutputStream(final WritableByteChannel channel)
+    {
+        if (channel == null)
+        {
+            throw new NullPointerException();
+        }
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking())
+        {
+            throw new IllegalArgumentException("Channel must be in blocking mode");
+        }
+        this.channel = channel;
+    }
+
+    /** Queues the remaining bytes of the given buffer, which must not be modified until the next flush. */
+    /*package*/ void queue(final ByteBuffer buffer)
+    {
+        if (!buffer.hasRemaining())
+        {
+            return;
+        }
+        if (queueLength == queue.length)
+        {
+            final ByteBuffer[] newQueue = new ByteBuffer[queue.length * 2];
+            System.arraycopy(queue, 0, newQueue, 0, queueLength);
+            queue = newQueue;
+        }
+        queue[queueLength++] = buffer;
+        scratchTail = null;
+    }
+
+    /** Copies the given bytes to the scratch array and queues them. */
+    private void copy(final byte[] bytes, final int offset, final int length)
+    {
+        if (scratch.length - scratchPosition < length)
+        {
+            // Views of the old array may still be queued, so it cannot be reused until the queue is written.
+            scratch = new byte[SCRATCH_SIZE];
+            scratchPosition = 0;
+            scratchTail = null;
+        }
+        System.arraycopy(bytes, offset, scratch, scratchPosition, length);
+        if (scratchTail != null)
+        {
+            scratchTail.limit(scratchTail.limit() + length);
+        }
+        else
+        {
+            queue(ByteBuffer.wrap(scratch, scratchPosition, length));
+            scratchTail = queue[queueLength - 1];
+        }
+        scratchPosition += length;
+    }
+
+    @Override
+    public void write(final int b)
+    {
+        if (scratchTail != null && scratchPosition < scratch.length)
+        {
+            scratch[scratchPosition++] = (byte) b;
+            scratchTail.limit(scratchTail.limit() + 1);
+            return;
+        }
+        copy(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException
+    {
+        if (length <= MAX_COPY_LENGTH)
+        {
+            copy(bytes, offset, length);
+            return;
+        }
+        flush();
+        writeFully(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    private void writeFully(final ByteBuffer buffer) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer);
+        }
+    }
+
+    /** Writes everything queued, using a single gathering write if the channel supports it. */
+    @Override
+    public void flush() throws IOException
+    {
+        if (queueLength == 0)
+        {
+            return;
+        }
+        try
+        {
+            if (channel instanceof GatheringByteChannel)
+            {
+                final GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+                int start = 0;
+                while (start < queueLength)
+                {
+                    gatheringChannel.write(queue, start, queueLength - start);
+                    // A single write may be partial; resume from the first buffer with bytes remaining.
+                    while (start < queueLength && !queue[start].hasRemaining())
+                    {
+                        start++;
+                    }
+                }
+            }
+            else
+            {
+                for (int i = 0; i < queueLength; i++)
+                {
+                    writeFully(queue[i]);
+                }
+            }
+        }
+        finally
+        {
+            // Discard the queue even if the write failed, since it may refer to blocks that are about to be recycled.
+            for (int i = 0; i < queueLength; i++)
+            {
+                queue[i] = null;
+            }
+            queueLength = 0;
+            scratchPosition = 0;
+            scratchTail = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+}
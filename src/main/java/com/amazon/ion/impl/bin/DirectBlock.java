@@ -0,0 +1,189 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Block} stored in a {@link ByteBuffer}, typically a direct one. While the block is active, its contents are
+ * held in a staging array shared by all of the blocks from the same {@link BlockAllocator}, so that the
+ * {@link WriteBuffer} can encode into it as quickly as into a heap block. When the block is deactivated, the bytes
+ * written to the staging array, i.e. those before the block's {@link #limit}, are copied to the buffer.
+ */
+/*package*/ abstract class DirectBlock extends Block
+{
+    /**
+     * The heap arrays shared by the blocks of one allocator.
+     */
+    static final class Staging
+    {
+        private final byte[] data;
+        // Used to copy inactive blocks to OutputStreams, which only accept arrays. Allocated on first use.
+        private byte[] transfer;
+
+        Staging(final int blockSize)
+        {
+            this.data = new byte[blockSize];
+        }
+
+        private byte[] transfer()
+        {
+            if (transfer == null)
+            {
+                transfer = new byte[Math.min(data.length, 8192)];
+            }
+            return transfer;
+        }
+    }
+
+    private final Staging staging;
+    private final ByteBuffer buffer;
+    // True if the block's contents are in the staging array rather than the buffer.
+    private boolean isActive = false;
+    // True if the buffer holds contents that must be restored when the block is activated.
+    private boolean isSpilled = false;
+
+    /**
+     * @param staging the staging arrays of the block's allocator.
+     * @param buffer the block's storage, which must have the same capacity as the staging array.
+     */
+    DirectBlock(final Staging staging, final ByteBuffer buffer)
+    {
+        super(staging.data);
+        this.staging = staging;
+        this.buffer = buffer;
+    }
+
+    /** Returns a view of the given range of the buffer. */
+    private ByteBuffer view(final int offset, final int length)
+    {
+        final ByteBuffer view = buffer.duplicate();
+        view.limit(offset + length);
+        view.position(offset);
+        return view;
+    }
+
+    @Override
+    public final void activate()
+    {
+        if (!isActive)
+        {
+            if (isSpilled)
+            {
+                view(0, limit).get(data, 0, limit);
+            }
+            isActive = true;
+        }
+    }
+
+    @Override
+    public final void deactivate()
+    {
+        if (isActive)
+        {
+            // Bytes are only ever written to the staging array at or before the limit, so nothing beyond it needs to
+            // be preserved.
+            view(0, limit).put(data, 0, limit);
+            isSpilled = limit > 0;
+            isActive = false;
+        }
+    }
+
+    @Override
+    public final byte get(final int index)
+    {
+        return isActive ? data[index] : buffer.get(index);
+    }
+
+    @Override
+    public final void get(final int index, final byte[] destination, final int offset, final int length)
+    {
+        if (isActive)
+        {
+            System.arraycopy(data, index, destination, offset, length);
+        }
+        else
+        {
+            view(index, length).get(destination, offset, length);
+        }
+    }
+
+    @Override
+    public final void put(final int index, final byte value)
+    {
+        if (isActive)
+        {
+            data[index] = value;
+        }
+        else
+        {
+            buffer.put(index, value);
+        }
+    }
+
+    @Override
+    public final void put(final int index, final byte[] source, final int offset, final int length)
+    {
+        if (isActive)
+        {
+            System.arraycopy(source, offset, data, index, length);
+        }
+        else
+        {
+            view(index, length).put(source, offset, length);
+        }
+    }
+
+    @Override
+    public final void put(final int index, final ByteBuffer source)
+    {
+        if (isActive)
+        {
+            source.get(data, index, source.remaining());
+        }
+        else
+        {
+            view(index, source.remaining()).put(source);
+        }
+    }
+
+    @Override
+    public final void copyTo(final int offset, final Block destination, final int destinationOffset, final int length)
+    {
+        if (isActive)
+        {
+            destination.put(destinationOffset, data, offset, length);
+        }
+        else
+        {
+            destination.put(destinationOffset, view(offset, length));
+        }
+    }
+
+    @Override
+    public final void writeTo(final OutputStream out, final int offset, int length) throws IOException
+    {
+        if (isActive)
+        {
+            out.write(data, offset, length);
+            return;
+        }
+        final byte[] transfer = staging.transfer();
+        final ByteBuffer view = view(offset, length);
+        while (length > 0)
+        {
+            final int amount = Math.min(length, transfer.length);
+            view.get(transfer, 0, amount);
+            out.write(transfer, 0, amount);
+            length -= amount;
+        }
+    }
+
+    @Override
+    public final ByteBuffer byteBuffer(final int offset, final int length)
+    {
+        return isActive ? ByteBuffer.wrap(data, offset, length) : view(offset, length);
+    }
+}
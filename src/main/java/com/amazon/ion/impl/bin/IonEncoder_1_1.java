@@ -18,7 +18,7 @@ import static java.lang.Float.floatToIntBits;
 /**
  * Provides functions for writing various Ion values to a WriteBuffer.
  *
- * This class can be subsumed by IonRawBinaryWriter_1_1, when it is created.
+ * These functions are the encoding layer of {@link IonRawBinaryWriter_1_1}.
  */
 public class IonEncoder_1_1 {
 
@@ -133,7 +133,8 @@ public class IonEncoder_1_1 {
      */
     public static int writeFloat(WriteBuffer buffer, final float value) {
         // TODO: Optimization to write a 16 bit float for non-finite and possibly other values
-        if (value == 0.0) {
+        if (floatToIntBits(value) == 0) {
+            // Only positive zero has a zero-length encoding; negative zero must keep its sign bit.
             buffer.writeByte(OpCodes.FLOAT_ZERO_LENGTH);
             return 1;
         } else {
@@ -149,7 +150,8 @@ public class IonEncoder_1_1 {
      */
     public static int writeFloat(WriteBuffer buffer, final double value) {
         // TODO: Optimization to write a 16 bit float for non-finite and possibly other values
-        if (value == 0.0) {
+        if (doubleToRawLongBits(value) == 0) {
+            // Only positive zero has a zero-length encoding; negative zero must keep its sign bit.
             buffer.writeByte(OpCodes.FLOAT_ZERO_LENGTH);
             return 1;
         } else if (!Double.isFinite(value) || value == (float) value) {
@@ -437,7 +439,18 @@ public class IonEncoder_1_1 {
      * @return the number of bytes written
      */
     public static int writeStringValue(WriteBuffer buffer, String value) {
-        return writeInlineText(buffer, value, IonType.STRING, OpCodes.STRING_ZERO_LENGTH, OpCodes.VARIABLE_LENGTH_STRING);
+        try (Utf8StringEncoder encoder = Utf8StringEncoderPool.getInstance().getOrCreate()) {
+            return writeStringValue(buffer, value, encoder);
+        }
+    }
+
+    /**
+     * Writes a String to the given WriteBuffer using the Ion 1.1 encoding for Ion Strings, encoding its text with the
+     * given encoder.
+     * @return the number of bytes written
+     */
+    static int writeStringValue(WriteBuffer buffer, String value, Utf8StringEncoder encoder) {
+        return writeInlineText(buffer, value, IonType.STRING, OpCodes.STRING_ZERO_LENGTH, OpCodes.VARIABLE_LENGTH_STRING, encoder);
     }
 
     /**
@@ -445,20 +458,29 @@ public class IonEncoder_1_1 {
      * @return the number of bytes written
      */
     public static int writeSymbolValue(WriteBuffer buffer, String value) {
-        return writeInlineText(buffer, value, IonType.SYMBOL, OpCodes.INLINE_SYMBOL_ZERO_LENGTH, OpCodes.VARIABLE_LENGTH_INLINE_SYMBOL);
+        try (Utf8StringEncoder encoder = Utf8StringEncoderPool.getInstance().getOrCreate()) {
+            return writeSymbolValue(buffer, value, encoder);
+        }
+    }
+
+    /**
+     * Writes an inline Symbol to the given WriteBuffer using the Ion 1.1 encoding for Ion Symbols, encoding its text
+     * with the given encoder.
+     * @return the number of bytes written
+     */
+    static int writeSymbolValue(WriteBuffer buffer, String value, Utf8StringEncoder encoder) {
+        return writeInlineText(buffer, value, IonType.SYMBOL, OpCodes.INLINE_SYMBOL_ZERO_LENGTH, OpCodes.VARIABLE_LENGTH_INLINE_SYMBOL, encoder);
     }
 
-    private static int writeInlineText(WriteBuffer buffer, String value, IonType type, byte zeroLengthOpCode, byte variableLengthOpCode) {
+    private static int writeInlineText(WriteBuffer buffer, String value, IonType type, byte zeroLengthOpCode, byte variableLengthOpCode, Utf8StringEncoder encoder) {
         if (value == null) {
             return writeNullValue(buffer, type);
         }
 
-        // TODO: When merging into the Ion 1.1 raw writer, keep a single instance of the Utf8StringEncoder
-        //       instead of fetching one on every call.
-        Utf8StringEncoder.Result encoderResult = Utf8StringEncoderPool.getInstance().getOrCreate().encode(value);
-
-        byte[] utf8Buffer = encoderResult.getBuffer();
-        int numValueBytes = encoderResult.getEncodedLength();
+        // ASCII text is its own UTF-8 encoding, so it is written directly rather than encoded into a separate buffer.
+        boolean isAscii = Utf8StringEncoder.isAscii(value);
+        Utf8StringEncoder.Result encoderResult = isAscii ? null : encoder.encode(value);
+        int numValueBytes = isAscii ? value.length() : encoderResult.getEncodedLength();
         int numLengthBytes = 0;
 
         if (numValueBytes <= 0xF) {
@@ -467,10 +489,22 @@ public class IonEncoder_1_1 {
             buffer.writeByte(variableLengthOpCode);
             numLengthBytes = buffer.writeFlexUInt(numValueBytes);
         }
-        buffer.writeBytes(utf8Buffer, 0, numValueBytes);
+        writeText(buffer, value, encoderResult);
         return 1 + numLengthBytes + numValueBytes;
     }
 
+    /**
+     * Writes text whose length prefix has already been written.
+     * @param encoderResult the UTF-8 encoding of the text, or null if the text is ASCII.
+     */
+    private static void writeText(WriteBuffer buffer, String text, Utf8StringEncoder.Result encoderResult) {
+        if (encoderResult == null) {
+            buffer.writeAscii(text);
+        } else {
+            buffer.writeBytes(encoderResult.getBuffer(), 0, encoderResult.getEncodedLength());
+        }
+    }
+
     /**
      * Writes an interned Symbol's address to the given WriteBuffer using the Ion 1.1 encoding for Ion Symbols.
      * @return the number of bytes written
@@ -503,11 +537,15 @@ public class IonEncoder_1_1 {
         if (value == null) {
             return writeNullValue(buffer, IonType.BLOB);
         }
+        return writeBlobValue(buffer, value, 0, value.length);
+    }
 
-        buffer.writeByte(OpCodes.VARIABLE_LENGTH_BLOB);
-        int numLengthBytes = buffer.writeFlexUInt(value.length);
-        buffer.writeBytes(value);
-        return 1 + numLengthBytes + value.length;
+    /**
+     * Writes a portion of the given bytes as a Blob to the given WriteBuffer.
+     * @return the number of bytes written
+     */
+    static int writeBlobValue(WriteBuffer buffer, byte[] value, int offset, int length) {
+        return writeLengthPrefixedBytes(buffer, OpCodes.VARIABLE_LENGTH_BLOB, value, offset, length);
     }
 
     /**
@@ -518,14 +556,105 @@ public class IonEncoder_1_1 {
         if (value == null) {
             return writeNullValue(buffer, IonType.CLOB);
         }
+        return writeClobValue(buffer, value, 0, value.length);
+    }
 
-        buffer.writeByte(OpCodes.VARIABLE_LENGTH_CLOB);
-        int numLengthBytes = buffer.writeFlexUInt(value.length);
-        buffer.writeBytes(value);
-        return 1 + numLengthBytes + value.length;
+    /**
+     * Writes a portion of the given bytes as a Clob to the given WriteBuffer.
+     * @return the number of bytes written
+     */
+    static int writeClobValue(WriteBuffer buffer, byte[] value, int offset, int length) {
+        return writeLengthPrefixedBytes(buffer, OpCodes.VARIABLE_LENGTH_CLOB, value, offset, length);
     }
 
-    // TODO: Implement FlexSym Annotations
+    /**
+     * Writes a portion of the given bytes, which must be well-formed UTF-8, as a String to the given WriteBuffer.
+     * @return the number of bytes written
+     */
+    static int writeUtf8StringValue(WriteBuffer buffer, byte[] utf8, int offset, int length) {
+        if (length <= 0xF) {
+            buffer.writeByte((byte) (OpCodes.STRING_ZERO_LENGTH | length));
+            buffer.writeBytes(utf8, offset, length);
+            return 1 + length;
+        }
+        return writeLengthPrefixedBytes(buffer, OpCodes.VARIABLE_LENGTH_STRING, utf8, offset, length);
+    }
+
+    /**
+     * Writes the opcode and address of an e-expression that invokes the macro at the given address. Addresses below
+     * 64 are the opcode itself, addresses below 4160 are a 0x4_ opcode carrying the high bits followed by a byte of
+     * low bits, and larger addresses follow the 0xF4 opcode as a FlexUInt. The arguments follow the address.
+     * @return the number of bytes written
+     */
+    static int writeEExpressionAddress(WriteBuffer buffer, long address) {
+        if (address < 0) {
+            throw new IllegalArgumentException("Macro address cannot be negative; was: " + address);
+        }
+        if (address < 64) {
+            buffer.writeByte((byte) address);
+            return 1;
+        }
+        if (address < 64 + 4096) {
+            long bias = address - 64;
+            buffer.writeByte((byte) (0x40 | (bias >> 8)));
+            buffer.writeByte((byte) bias);
+            return 2;
+        }
+        buffer.writeByte(OpCodes.E_EXPRESSION_FLEX_UINT_ADDRESS);
+        return 1 + buffer.writeFlexUInt(address);
+    }
+
+    private static int writeLengthPrefixedBytes(WriteBuffer buffer, byte opCode, byte[] value, int offset, int length) {
+        buffer.writeByte(opCode);
+        int numLengthBytes = buffer.writeFlexUInt(length);
+        buffer.writeBytes(value, offset, length);
+        return 1 + numLengthBytes + length;
+    }
+
+    /**
+     * Writes a FlexSym referring to the given symbol address. Addresses are written as positive FlexInts, except for
+     * address zero, which is written as the FlexSym escape followed by a one-byte symbol address.
+     * @return the number of bytes written
+     */
+    public static int writeFlexSym(WriteBuffer buffer, long sid) {
+        if (sid < 0) {
+            throw new IllegalArgumentException("Symbol Address cannot be negative; was: " + sid);
+        }
+        if (sid == 0) {
+            buffer.writeByte(FLEX_SYM_ESCAPE);
+            return 1 + writeSymbolValue(buffer, 0);
+        }
+        return buffer.writeFlexInt(sid);
+    }
+
+    /**
+     * Writes a FlexSym with the given inline text. Text is written as a negative FlexInt length followed by its UTF-8
+     * bytes, except for empty text, which is written as the FlexSym escape followed by an empty inline symbol.
+     * @return the number of bytes written
+     */
+    static int writeFlexSym(WriteBuffer buffer, String text, Utf8StringEncoder encoder) {
+        if (text.isEmpty()) {
+            buffer.writeByte(FLEX_SYM_ESCAPE);
+            buffer.writeByte(OpCodes.INLINE_SYMBOL_ZERO_LENGTH);
+            return 2;
+        }
+        Utf8StringEncoder.Result encoderResult = Utf8StringEncoder.isAscii(text) ? null : encoder.encode(text);
+        int numTextBytes = encoderResult == null ? text.length() : encoderResult.getEncodedLength();
+        int numLengthBytes = buffer.writeFlexInt(-numTextBytes);
+        writeText(buffer, text, encoderResult);
+        return numLengthBytes + numTextBytes;
+    }
+
+    /**
+     * Gets the number of bytes needed to write a FlexSym with the given inline text.
+     */
+    static int flexSymLength(String text, Utf8StringEncoder encoder) {
+        if (text.isEmpty()) {
+            return 2;
+        }
+        int numTextBytes = Utf8StringEncoder.isAscii(text) ? text.length() : encoder.encode(text).getEncodedLength();
+        return WriteBuffer.flexIntLength(-numTextBytes) + numTextBytes;
+    }
 
     /**
      * Writes annotations using the given symbol addresses.
@@ -556,4 +685,64 @@ public class IonEncoder_1_1 {
             return 1 + numLengthBytes + numAddressBytes;
         }
     }
+
+    /**
+     * Writes annotations using the first {@code count} symbol addresses in the given array.
+     */
+    static int writeAnnotations(WriteBuffer buffer, int[] annotations, int count) {
+        if (count == 0) {
+            return 0;
+        }
+        if (count == 1) {
+            buffer.writeByte(OpCodes.ANNOTATIONS_1_SYMBOL_ADDRESS);
+            return 1 + buffer.writeFlexUInt(annotations[0]);
+        } else if (count == 2) {
+            buffer.writeByte(OpCodes.ANNOTATIONS_2_SYMBOL_ADDRESS);
+            int numAddressBytes = buffer.writeFlexUInt(annotations[0]);
+            numAddressBytes += buffer.writeFlexUInt(annotations[1]);
+            return 1 + numAddressBytes;
+        }
+        int numAddressBytes = 0;
+        for (int i = 0; i < count; i++) {
+            numAddressBytes += WriteBuffer.flexUIntLength(annotations[i]);
+        }
+        buffer.writeByte(OpCodes.ANNOTATIONS_MANY_SYMBOL_ADDRESS);
+        int numLengthBytes = buffer.writeFlexUInt(numAddressBytes);
+        for (int i = 0; i < count; i++) {
+            buffer.writeFlexUInt(annotations[i]);
+        }
+        return 1 + numLengthBytes + numAddressBytes;
+    }
+
+    /**
+     * Writes annotations as FlexSyms. Each annotation is the inline text at its index in {@code texts} if that is
+     * non-null, otherwise the symbol address at its index in {@code sids}.
+     */
+    static int writeFlexSymAnnotations(WriteBuffer buffer, int[] sids, String[] texts, int count, Utf8StringEncoder encoder) {
+        if (count == 0) {
+            return 0;
+        }
+        int numLengthBytes = 0;
+        if (count == 1) {
+            buffer.writeByte(OpCodes.ANNOTATIONS_1_FLEX_SYM);
+        } else if (count == 2) {
+            buffer.writeByte(OpCodes.ANNOTATIONS_2_FLEX_SYM);
+        } else {
+            int numFlexSymBytes = 0;
+            for (int i = 0; i < count; i++) {
+                numFlexSymBytes += texts[i] == null ? flexSymLength(sids[i]) : flexSymLength(texts[i], encoder);
+            }
+            buffer.writeByte(OpCodes.ANNOTATIONS_MANY_FLEX_SYM);
+            numLengthBytes = buffer.writeFlexUInt(numFlexSymBytes);
+        }
+        int numFlexSymBytes = 0;
+        for (int i = 0; i < count; i++) {
+            numFlexSymBytes += texts[i] == null ? writeFlexSym(buffer, sids[i]) : writeFlexSym(buffer, texts[i], encoder);
+        }
+        return 1 + numLengthBytes + numFlexSymBytes;
+    }
+
+    private static int flexSymLength(long sid) {
+        return sid == 0 ? 3 : WriteBuffer.flexIntLength(sid);
+    }
 }
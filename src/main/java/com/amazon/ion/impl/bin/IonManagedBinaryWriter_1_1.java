@@ -0,0 +1,494 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import static com.amazon.ion.IonType.STRUCT;
+
+import com.amazon.ion.IonType;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.Timestamp;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Managed binary {@link com.amazon.ion.IonWriter} that encodes Ion 1.1.
+ * <p>
+ * Like {@link IonManagedBinaryWriter}, this interns the text of field names, annotations, and symbol values into a
+ * local symbol table, which one {@link IonRawBinaryWriter_1_1} writes in front of the user values written by
+ * another, so that each symbol is written as an address. The local symbol table is the same
+ * {@code $ion_symbol_table} struct used by Ion 1.0, over the Ion 1.0 system symbol table, written after the Ion 1.1
+ * version marker.
+ * <p>
+ * As in Ion 1.0, local symbol tables written by the user are not written as values; they replace (or, if they import
+ * {@code $ion_symbol_table}, append to) the symbol context of this writer.
+ * <p>
+ * If the builder supplies {@link StructMacro}s, each stream declares them in an encoding directive that follows the
+ * version marker, and each struct that the user writes is matched against their templates as it is written. Structs
+ * that match a template are replaced with e-expressions that invoke its macro, passing the values of the struct's
+ * variable fields as arguments, so that the field names and constant values of fixed-shape records are not repeated.
+ */
+@SuppressWarnings("deprecation")
+/*package*/ final class IonManagedBinaryWriter_1_1 extends AbstractIonManagedBinaryWriter<IonRawBinaryWriter_1_1>
+{
+    /**
+     * Tracks whether a struct that is being written matches the template of any of the macros, recording the position
+     * of each of its field values so that they can be passed as arguments if it does.
+     */
+    private static final class StructMatch
+    {
+        // The depth of the writer within the struct.
+        private int depth;
+        // The position of the struct's opcode.
+        private long start;
+        private boolean[] isViable;
+        private int viableCount;
+        // For each macro, the bits of the template fields that have been written.
+        private long[] writtenTemplateFields;
+        // The name of the field whose value is about to be written, which is null if its text is unknown.
+        private String pendingFieldName;
+        private boolean isPendingValueAnnotated;
+        private String[] fieldNames;
+        // The start and end positions of each field's value, in pairs.
+        private long[] fieldValueBounds;
+        private int fieldCount;
+        private long[] argumentBounds;
+
+        private StructMatch(final int macroCount)
+        {
+            isViable = new boolean[macroCount];
+            writtenTemplateFields = new long[macroCount];
+            fieldNames = new String[8];
+            fieldValueBounds = new long[16];
+            argumentBounds = new long[16];
+        }
+
+        private void reset(final int depth, final long start)
+        {
+            this.depth = depth;
+            this.start = start;
+            Arrays.fill(isViable, true);
+            viableCount = isViable.length;
+            Arrays.fill(writtenTemplateFields, 0);
+            pendingFieldName = null;
+            Arrays.fill(fieldNames, 0, fieldCount, null);
+            fieldCount = 0;
+        }
+
+        /**
+         * Records a field value, eliminating the macros whose templates cannot match the struct given the value.
+         * @param type the type of the value, or null if it cannot match a constant.
+         * @param value the value, normalized with {@link StructMacro#constantValue(IonType, Object)}.
+         */
+        private void addField(final StructMacro[] macros,
+                              final IonType type,
+                              final Object value,
+                              final long valueStart,
+                              final long valueEnd)
+        {
+            if (viableCount == 0)
+            {
+                return;
+            }
+            final String name = pendingFieldName;
+            if (fieldCount == fieldNames.length)
+            {
+                fieldNames = Arrays.copyOf(fieldNames, fieldCount * 2);
+                fieldValueBounds = Arrays.copyOf(fieldValueBounds, fieldCount * 4);
+            }
+            fieldNames[fieldCount] = name;
+            fieldValueBounds[2 * fieldCount] = valueStart;
+            fieldValueBounds[2 * fieldCount + 1] = valueEnd;
+            fieldCount++;
+            for (int i = 0; i < macros.length; i++)
+            {
+                if (!isViable[i])
+                {
+                    continue;
+                }
+                final StructMacro macro = macros[i];
+                final int field = name == null ? -1 : macro.getFieldIndex(name);
+                if (field < 0
+                    || (writtenTemplateFields[i] & (1L << field)) != 0
+                    || (!macro.isVariable(field)
+                        && (type == null || isPendingValueAnnotated || !macro.matchesConstant(field, type, value))))
+                {
+                    isViable[i] = false;
+                    viableCount--;
+                    continue;
+                }
+                writtenTemplateFields[i] |= 1L << field;
+            }
+        }
+
+        /** Records the end position of the most recent field value, which is a container. */
+        private void endContainerField(final long valueEnd)
+        {
+            if (viableCount > 0)
+            {
+                fieldValueBounds[2 * fieldCount - 1] = valueEnd;
+            }
+        }
+
+        /**
+         * Returns the address of the first macro whose template the struct matches, or -1 if there is none. If there
+         * is one, {@link #argumentBounds} holds the bounds of the values to pass as arguments.
+         */
+        private int findMatchingMacro(final StructMacro[] macros)
+        {
+            for (int i = 0; i < macros.length && viableCount > 0; i++)
+            {
+                final StructMacro macro = macros[i];
+                // Each field has been matched with a distinct template field, so the struct matches if every template
+                // field has been written.
+                if (!isViable[i] || Long.bitCount(writtenTemplateFields[i]) != macro.getFieldCount())
+                {
+                    continue;
+                }
+                final int parameterCount = macro.getParameterCount();
+                if (argumentBounds.length < 2 * parameterCount)
+                {
+                    argumentBounds = new long[2 * parameterCount];
+                }
+                for (int parameter = 0; parameter < parameterCount; parameter++)
+                {
+                    final String name = macro.getFieldName(macro.getParameterField(parameter));
+                    int field = 0;
+                    while (!name.equals(fieldNames[field]))
+                    {
+                        field++;
+                    }
+                    argumentBounds[2 * parameter] = fieldValueBounds[2 * field];
+                    argumentBounds[2 * parameter + 1] = fieldValueBounds[2 * field + 1];
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+
+    // The macros that structs are matched against, indexed by address.
+    private final StructMacro[]                 macros;
+    // The structs being written that may match a macro's template, innermost last.
+    private StructMatch[]                       matches;
+    private int                                 matchCount;
+
+    /*package*/ IonManagedBinaryWriter_1_1(final _Private_IonManagedBinaryWriterBuilder builder,
+                                           final OutputStream out)
+                                           throws IOException
+    {
+        // Copy optimization transfers Ion 1.0 encoded values, which cannot be embedded in an Ion 1.1 stream.
+        super(
+            builder,
+            out,
+            WriteValueOptimization.NONE,
+            IonRawBinaryWriter_1_1::new,
+            builder.macros.length == 0 ? null : StructMacro.encodeDirective(builder.macros)
+        );
+        this.macros = builder.macros;
+        this.matches = new StructMatch[macros.length == 0 ? 0 : 4];
+        this.matchCount = 0;
+    }
+
+    // Current Value Meta
+
+    @Override
+    public void setFieldName(final String name)
+    {
+        super.setFieldName(name);
+        final StructMatch match = currentMatch();
+        if (match != null)
+        {
+            match.pendingFieldName = name;
+        }
+    }
+
+    @Override
+    public void setFieldNameSymbol(final SymbolToken token)
+    {
+        final SymbolToken interned = intern(token);
+        user.setFieldNameSymbol(interned);
+        final StructMatch match = currentMatch();
+        if (match != null)
+        {
+            final String text = interned.getText();
+            match.pendingFieldName = text != null ? text : getSymbolTable().findKnownSymbol(interned.getSid());
+        }
+    }
+
+    // Template Matching
+
+    /** Returns the struct being matched against the macros if the writer is directly within it, otherwise null. */
+    private StructMatch currentMatch()
+    {
+        if (matchCount > 0)
+        {
+            final StructMatch match = matches[matchCount - 1];
+            if (match.depth == user.getDepth())
+            {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    /** Must be called before writing a value; returns the struct being matched if the value is one of its fields. */
+    private StructMatch startValue()
+    {
+        final StructMatch match = currentMatch();
+        if (match != null)
+        {
+            match.isPendingValueAnnotated = user.hasAnnotations();
+        }
+        return match;
+    }
+
+    /** Records the scalar just written as a field of the given struct being matched. */
+    private void endScalar(final StructMatch match, final IonType type, final Object value)
+    {
+        match.addField(macros, type, StructMacro.constantValue(type, value), user.getFieldValuePosition(), user.position());
+    }
+
+    // Container Manipulation
+
+    public void stepIn(final IonType containerType) throws IOException
+    {
+        final StructMatch match = startValue();
+        final boolean isCandidate = containerType == STRUCT && macros.length > 0 && !user.hasAnnotations();
+        userState.beforeStepIn(this, containerType);
+        user.stepIn(containerType);
+        if (match != null)
+        {
+            // containers only match variable fields; the end position is recorded on step out
+            match.addField(macros, null, null, user.getFieldValuePosition(), -1);
+        }
+        if (isCandidate)
+        {
+            if (matchCount == matches.length)
+            {
+                matches = Arrays.copyOf(matches, matchCount * 2);
+            }
+            StructMatch candidate = matches[matchCount];
+            if (candidate == null)
+            {
+                candidate = new StructMatch(macros.length);
+                matches[matchCount] = candidate;
+            }
+            // the struct's opcode is the last byte written
+            candidate.reset(user.getDepth(), user.position() - 1);
+            matchCount++;
+        }
+    }
+
+    public void stepOut() throws IOException
+    {
+        final StructMatch completed = currentMatch();
+        if (completed == null)
+        {
+            user.stepOut();
+        }
+        else
+        {
+            matchCount--;
+            final int address = completed.findMatchingMacro(macros);
+            if (address < 0)
+            {
+                user.stepOut();
+            }
+            else
+            {
+                user.stepOutAsInvocation(completed.start, address, completed.argumentBounds, macros[address].getParameterCount());
+            }
+        }
+        final StructMatch match = currentMatch();
+        if (match != null)
+        {
+            match.endContainerField(user.position());
+        }
+        userState.afterStepOut(this);
+    }
+
+    // Write Value Methods
+
+    public void writeNull() throws IOException
+    {
+        writeNull(IonType.NULL);
+    }
+
+    public void writeNull(final IonType type) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeNull(type);
+        if (match != null)
+        {
+            endScalar(match, type == null ? IonType.NULL : type, null);
+        }
+    }
+
+    public void writeBool(final boolean value) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeBool(value);
+        if (match != null)
+        {
+            endScalar(match, IonType.BOOL, value);
+        }
+    }
+
+    public void writeInt(final long value) throws IOException
+    {
+        final StructMatch match = startValue();
+        userState.writeInt(this, value);
+        user.writeInt(value);
+        if (match != null)
+        {
+            endScalar(match, IonType.INT, value);
+        }
+    }
+
+    public void writeInt(final BigInteger value) throws IOException
+    {
+        final StructMatch match = startValue();
+        userState.writeInt(this, value);
+        user.writeInt(value);
+        if (match != null)
+        {
+            endScalar(match, IonType.INT, value);
+        }
+    }
+
+    public void writeFloat(final double value) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeFloat(value);
+        if (match != null)
+        {
+            endScalar(match, IonType.FLOAT, value);
+        }
+    }
+
+    public void writeDecimal(final BigDecimal value) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeDecimal(value);
+        if (match != null)
+        {
+            endScalar(match, IonType.DECIMAL, value);
+        }
+    }
+
+    public void writeTimestamp(final Timestamp value) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeTimestamp(value);
+        if (match != null)
+        {
+            endScalar(match, IonType.TIMESTAMP, value);
+        }
+    }
+
+    public void writeSymbol(final String content) throws IOException
+    {
+        writeSymbolToken(intern(content));
+    }
+
+    public void writeSymbolToken(SymbolToken token) throws IOException
+    {
+        if (token != null && handleIVM(token.getSid()))
+        {
+            return;
+        }
+        token = intern(token);
+        final StructMatch match = startValue();
+        userState.writeSymbolToken(this, token);
+        user.writeSymbolToken(token);
+        if (match != null)
+        {
+            if (token == null)
+            {
+                endScalar(match, IonType.SYMBOL, null);
+            }
+            else
+            {
+                final String text = token.getText() != null ? token.getText() : getSymbolTable().findKnownSymbol(token.getSid());
+                endScalar(match, text == null ? null : IonType.SYMBOL, text);
+            }
+        }
+    }
+
+    public void writeString(final String value) throws IOException
+    {
+        final StructMatch match = startValue();
+        userState.writeString(this, value);
+        user.writeString(value);
+        if (match != null)
+        {
+            endScalar(match, IonType.STRING, value);
+        }
+    }
+
+    public void writeClob(final byte[] data) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeClob(data);
+        if (match != null)
+        {
+            endScalar(match, null, null);
+        }
+    }
+
+    public void writeClob(final byte[] data, final int offset, final int length) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeClob(data, offset, length);
+        if (match != null)
+        {
+            endScalar(match, null, null);
+        }
+    }
+
+    public void writeBlob(final byte[] data) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeBlob(data);
+        if (match != null)
+        {
+            endScalar(match, null, null);
+        }
+    }
+
+    public void writeBlob(final byte[] data, final int offset, final int length) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeBlob(data, offset, length);
+        if (match != null)
+        {
+            endScalar(match, null, null);
+        }
+    }
+
+    @Override
+    public void writeString(final byte[] data, final int offset, final int length) throws IOException
+    {
+        final StructMatch match = startValue();
+        user.writeString(data, offset, length);
+        if (match != null)
+        {
+            endScalar(match, null, null);
+        }
+    }
+
+    public void writeBytes(final byte[] data, final int off, final int len) throws IOException
+    {
+        // this is a raw transfer--we basically have to dump the symbol table since we don't have much context
+        startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
+        final StructMatch match = startValue();
+        user.writeBytes(data, off, len);
+        if (match != null)
+        {
+            endScalar(match, null, null);
+        }
+    }
+}
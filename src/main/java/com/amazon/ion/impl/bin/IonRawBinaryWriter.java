@@ -63,7 +63,7 @@ import java.util.NoSuchElementException;
  * Low-level binary {@link IonWriter} that understands encoding concerns but doesn't operate with any sense of symbol table management.
  */
 @SuppressWarnings("deprecation")
-/*package*/ final class IonRawBinaryWriter extends AbstractIonWriter implements _Private_IonRawWriter
+/*package*/ final class IonRawBinaryWriter extends AbstractIonRawBinaryWriter
 {
     /** short-hand for array of bytes--useful for static definitions. */
     private static byte[] bytes(int... vals) {
@@ -123,6 +123,34 @@ import java.util.NoSuchElementException;
 
     private static final byte VARINT_NEG_ZERO   = (byte) 0xC0;
 
+    private static final byte LIST_TYPE         = (byte) 0xB0;
+    private static final byte SEXP_TYPE         = (byte) 0xC0;
+    private static final byte STRUCT_TYPE       = (byte) 0xD0;
+    private static final byte ANNOTATION_TYPE   = (byte) 0xE0;
+
+    // Kinds of events recorded while a value is being reverse encoded. Each event occupies REVERSE_EVENT_SIZE ints:
+    // the kind, the buffer position at which the event occurred relative to the start of the value, and two
+    // kind-specific arguments.
+    /** The start of a container body; the first argument is the container's type descriptor. */
+    private static final int REVERSE_CONTAINER   = 0;
+    /**
+     * The start of a value wrapped with annotations; the arguments are the index and number of the annotation SIDs in
+     * {@link #reverseAnnotationSids}.
+     */
+    private static final int REVERSE_ANNOTATIONS = 1;
+    /**
+     * The start of the representation of a scalar that was too long for the length to fit in its type descriptor,
+     * which precedes it in the buffer as a placeholder; the first argument is the type descriptor.
+     */
+    private static final int REVERSE_VALUE       = 2;
+    /** The end of the innermost container, annotation wrapper, or value started by one of the other events. */
+    private static final int REVERSE_END         = 3;
+    private static final int REVERSE_EVENT_SIZE  = 4;
+    // An upper bound on the number of bytes needed to encode a type descriptor and a VarUInt int length.
+    private static final int MAX_HEADER_LENGTH = 6;
+    // An upper bound on the number of bytes needed to encode a VarUInt int.
+    private static final int MAX_VAR_UINT_INT_LENGTH = 5;
+
 
     final Utf8StringEncoder utf8StringEncoder = Utf8StringEncoderPool
             .getInstance()
@@ -345,10 +373,13 @@ import java.util.NoSuchElementException;
 
     private final BlockAllocator                allocator;
     private final OutputStream                  out;
+    // Non-null if `out` writes to a channel, in which case the buffer is queued to it without copying.
+    private final ChannelOutputStream           channelOut;
     private final StreamCloseMode               streamCloseMode;
     private final StreamFlushMode               streamFlushMode;
     private final PreallocationMode             preallocationMode;
     private final boolean                       isFloatBinary32Enabled;
+    private final boolean                       isReverseEncodingEnabled;
     private final WriteBuffer                   buffer;
     private final _Private_RecyclingQueue<PatchPoint> patchPoints;
     private final _Private_RecyclingStack<ContainerInfo> containers;
@@ -362,6 +393,22 @@ import java.util.NoSuchElementException;
     private boolean                     hasTopLevelSymbolTableAnnotation;
 
     private boolean                     closed;
+
+    // State of the top-level value being reverse encoded. Scalars are encoded forwards into the buffer as usual, while
+    // the positions of the container, annotation wrapper, and long scalar headers are recorded as events. When the
+    // value is complete, it is encoded from back to front, when the length of each header's body is known, and the
+    // forward encoding in the buffer is replaced with the result.
+    private long                        reverseValueStart;
+    private final IntList               reverseEvents;
+    private final IntList               reverseAnnotationSids;
+    private int[]                       reverseEndStack;
+    private byte[]                      reverseBuffer;
+
+    // Running totals over all calls to finish(), for metrics.
+    private long                        numberOfBytesFinished;
+    private int                         numberOfPatchesFinished;
+    private long                        numberOfPatchedBytesFinished;
+
     boolean autoFlushEnabled;
     boolean flushAfterCurrentValue;
     ThrowingRunnable autoFlush;
@@ -383,6 +430,7 @@ import java.util.NoSuchElementException;
                                    final StreamFlushMode streamFlushMode,
                                    final PreallocationMode preallocationMode,
                                    final boolean isFloatBinary32Enabled,
+                                   final boolean isReverseEncodingEnabled,
                                    final boolean isAutoFlushEnabled,
                                    ThrowingRunnable autoFlush)
                                    throws IOException
@@ -393,10 +441,12 @@ import java.util.NoSuchElementException;
 
         this.allocator         = provider.vendAllocator(blockSize);
         this.out               = out;
+        this.channelOut        = out instanceof ChannelOutputStream ? (ChannelOutputStream) out : null;
         this.streamCloseMode   = streamCloseMode;
         this.streamFlushMode   = streamFlushMode;
         this.preallocationMode = preallocationMode;
         this.isFloatBinary32Enabled = isFloatBinary32Enabled;
+        this.isReverseEncodingEnabled = isReverseEncodingEnabled;
         this.buffer            = new WriteBuffer(allocator, this::endOfBlockSizeReached);
         this.patchPoints       = new _Private_RecyclingQueue<>(512, PatchPoint::new);
         this.containers        = new _Private_RecyclingStack<ContainerInfo>(
@@ -415,6 +465,11 @@ import java.util.NoSuchElementException;
         this.currentAnnotationSids            = new IntList();
         this.hasTopLevelSymbolTableAnnotation = false;
         this.closed = false;
+        this.reverseValueStart = -1;
+        this.reverseEvents = new IntList();
+        this.reverseAnnotationSids = new IntList();
+        this.reverseEndStack = new int[16];
+        this.reverseBuffer = null;
         this.autoFlushEnabled = isAutoFlushEnabled;
         this.autoFlush = autoFlush;
     }
@@ -619,6 +674,13 @@ import java.util.NoSuchElementException;
             throw new IllegalStateException("Tried to pop container state without said container");
         }
 
+        if (isReverseEncodingEnabled && currentContainer.type != ContainerType.VALUE)
+        {
+            // the header is written when the value is reverse encoded
+            addReverseEvent(REVERSE_END, 0, 0);
+            return currentContainer;
+        }
+
         // only patch for real containers and annotations -- we use VALUE for tracking only
         long length = currentContainer.length;
         if (currentContainer.type != ContainerType.VALUE)
@@ -700,6 +762,10 @@ import java.util.NoSuchElementException;
         {
             throw new IllegalStateException("IonWriter.setFieldName() must be called before writing a value into a struct.");
         }
+        if (isReverseEncodingEnabled && containers.isEmpty())
+        {
+            reverseValueStart = buffer.position();
+        }
         if (currentFieldSid > SID_UNASSIGNED)
         {
             checkSid(currentFieldSid);
@@ -708,7 +774,20 @@ import java.util.NoSuchElementException;
             // clear out field name
             currentFieldSid = SID_UNASSIGNED;
         }
-        if (!currentAnnotationSids.isEmpty())
+        if (!currentAnnotationSids.isEmpty() && isReverseEncodingEnabled)
+        {
+            addReverseEvent(REVERSE_ANNOTATIONS, reverseAnnotationSids.size(), currentAnnotationSids.size());
+            for (int m = 0; m < currentAnnotationSids.size(); m++)
+            {
+                final int symbol = currentAnnotationSids.get(m);
+                checkSid(symbol);
+                reverseAnnotationSids.add(symbol);
+            }
+            pushContainer(ContainerType.ANNOTATION);
+            currentAnnotationSids.clear();
+            hasTopLevelSymbolTableAnnotation = false;
+        }
+        else if (!currentAnnotationSids.isEmpty())
         {
             // we have to push a container context for annotations
             updateLength(preallocationMode.typedLength);
@@ -751,6 +830,10 @@ import java.util.NoSuchElementException;
             // close out and patch the length
             popContainer();
         }
+        if (isReverseEncodingEnabled && containers.isEmpty() && !reverseEvents.isEmpty())
+        {
+            encodeReverseValue();
+        }
         hasWrittenValuesSinceFinished = true;
         hasWrittenValuesSinceConstructed = true;
         if (this.flushAfterCurrentValue && depth == 0) {
@@ -768,6 +851,14 @@ import java.util.NoSuchElementException;
             throw new IonException("Cannot step into " + containerType);
         }
         prepareValue();
+        if (isReverseEncodingEnabled)
+        {
+            final byte type = containerType == STRUCT ? STRUCT_TYPE : containerType == LIST ? LIST_TYPE : SEXP_TYPE;
+            addReverseEvent(REVERSE_CONTAINER, type, 0);
+            pushContainer(containerType == STRUCT ? ContainerType.STRUCT : ContainerType.SEQUENCE);
+            depth++;
+            return;
+        }
         updateLength(preallocationMode.typedLength);
         pushContainer(containerType == STRUCT ? ContainerType.STRUCT : ContainerType.SEQUENCE);
         depth++;
@@ -1106,6 +1197,12 @@ import java.util.NoSuchElementException;
             // we fit -- overwrite the type byte
             buffer.writeUInt8At(info.position - 1, type | info.length);
         }
+        else if (isReverseEncodingEnabled)
+        {
+            // the type descriptor written before the representation is replaced when the value is reverse encoded
+            addReverseEvent(REVERSE_VALUE, info.position, type, 0);
+            addReverseEvent(REVERSE_END, 0, 0);
+        }
         else
         {
             // side patch
@@ -1114,6 +1211,136 @@ import java.util.NoSuchElementException;
         }
     }
 
+    // Reverse Encoding
+
+    private void addReverseEvent(final int kind, final int argument0, final int argument1)
+    {
+        addReverseEvent(kind, buffer.position(), argument0, argument1);
+    }
+
+    private void addReverseEvent(final int kind, final long position, final int argument0, final int argument1)
+    {
+        final long relativePosition = position - reverseValueStart;
+        if (relativePosition > Integer.MAX_VALUE)
+        {
+            throw new IonException("Value too large to reverse encode");
+        }
+        reverseEvents.add(kind);
+        reverseEvents.add((int) relativePosition);
+        reverseEvents.add(argument0);
+        reverseEvents.add(argument1);
+    }
+
+    /** Writes a VarUInt ending just before the given index of the reverse buffer, returning the index of its start. */
+    private int writeVarUIntReversed(long value, int index)
+    {
+        final byte[] bytes = reverseBuffer;
+        bytes[--index] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+        while (value != 0)
+        {
+            bytes[--index] = (byte) (value & 0x7F);
+            value >>>= 7;
+        }
+        return index;
+    }
+
+    /**
+     * Writes a type descriptor for a body of the given length ending just before the given index of the reverse
+     * buffer, returning the index of its start.
+     */
+    private int writeTypeDescriptorReversed(final int type, final int length, int index)
+    {
+        if (length <= 0xD)
+        {
+            reverseBuffer[--index] = (byte) (type | length);
+            return index;
+        }
+        index = writeVarUIntReversed(length, index);
+        reverseBuffer[--index] = (byte) (type | 0xE);
+        return index;
+    }
+
+    /**
+     * Replaces the forward encoding of the top-level value that was just completed with its complete encoding,
+     * produced from back to front so that the length of every header's body is known before the header is written.
+     */
+    private void encodeReverseValue()
+    {
+        final long end = buffer.position();
+        final int numberOfEvents = reverseEvents.size() / REVERSE_EVENT_SIZE;
+        final long maximumLength = (end - reverseValueStart)
+            + (long) numberOfEvents * (MAX_HEADER_LENGTH + MAX_VAR_UINT_INT_LENGTH)
+            + (long) reverseAnnotationSids.size() * MAX_VAR_UINT_INT_LENGTH;
+        if (maximumLength > Integer.MAX_VALUE - 8)
+        {
+            throw new IonException("Value too large to reverse encode");
+        }
+        if (reverseBuffer == null || reverseBuffer.length < maximumLength)
+        {
+            reverseBuffer = new byte[Math.max((int) maximumLength, allocator.getBlockSize())];
+        }
+        if (reverseEndStack.length < numberOfEvents)
+        {
+            reverseEndStack = new int[Math.max(numberOfEvents, reverseEndStack.length * 2)];
+        }
+        final int capacity = reverseBuffer.length;
+        int index = capacity;
+        int endStackSize = 0;
+        long cursor = end;
+        for (int e = reverseEvents.size() - REVERSE_EVENT_SIZE; e >= 0; e -= REVERSE_EVENT_SIZE)
+        {
+            final int kind = reverseEvents.get(e);
+            final long position = reverseValueStart + reverseEvents.get(e + 1);
+
+            // copy the forward encoded data between this event and the next one
+            final int length = (int) (cursor - position);
+            index -= length;
+            buffer.copyTo(position, reverseBuffer, index, length);
+            cursor = position;
+
+            switch (kind)
+            {
+                case REVERSE_END:
+                    reverseEndStack[endStackSize++] = index;
+                    break;
+                case REVERSE_CONTAINER:
+                    index = writeTypeDescriptorReversed(
+                        reverseEvents.get(e + 2), reverseEndStack[--endStackSize] - index, index
+                    );
+                    break;
+                case REVERSE_VALUE:
+                    index = writeTypeDescriptorReversed(
+                        reverseEvents.get(e + 2), reverseEndStack[--endStackSize] - index, index
+                    );
+                    // skip the placeholder type descriptor
+                    cursor--;
+                    break;
+                case REVERSE_ANNOTATIONS:
+                    final int valueEnd = reverseEndStack[--endStackSize];
+                    final int sidsEnd = index;
+                    final int firstSid = reverseEvents.get(e + 2);
+                    for (int m = firstSid + reverseEvents.get(e + 3) - 1; m >= firstSid; m--)
+                    {
+                        index = writeVarUIntReversed(reverseAnnotationSids.get(m), index);
+                    }
+                    index = writeVarUIntReversed(sidsEnd - index, index);
+                    index = writeTypeDescriptorReversed(ANNOTATION_TYPE, valueEnd - index, index);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown reverse encoding event: " + kind);
+            }
+        }
+        final int length = (int) (cursor - reverseValueStart);
+        index -= length;
+        buffer.copyTo(reverseValueStart, reverseBuffer, index, length);
+
+        buffer.truncate(reverseValueStart);
+        buffer.writeBytes(reverseBuffer, index, capacity - index);
+        reverseEvents.clear();
+        reverseAnnotationSids.clear();
+    }
+
     public void writeDecimal(final BigDecimal value) throws IOException
     {
         if (value == null)
@@ -1261,10 +1488,10 @@ import java.util.NoSuchElementException;
         }
         prepareValue();
 
-        // UTF-8 encode the String
-        Utf8StringEncoder.Result encoderResult = utf8StringEncoder.encode(value);
-        int utf8Length = encoderResult.getEncodedLength();
-        byte[] utf8Buffer = encoderResult.getBuffer();
+        // ASCII text is its own UTF-8 encoding, so it can be written without first being encoded into a separate buffer.
+        boolean isAscii = Utf8StringEncoder.isAscii(value);
+        Utf8StringEncoder.Result encoderResult = isAscii ? null : utf8StringEncoder.encode(value);
+        int utf8Length = isAscii ? value.length() : encoderResult.getEncodedLength();
 
         // Write the type and length codes to the output stream.
         long previousPosition = buffer.position();
@@ -1276,7 +1503,11 @@ import java.util.NoSuchElementException;
         }
 
         // Write the encoded UTF-8 bytes to the output stream
-        buffer.writeBytes(utf8Buffer, 0, utf8Length);
+        if (isAscii) {
+            buffer.writeAscii(value);
+        } else {
+            buffer.writeBytes(encoderResult.getBuffer(), 0, utf8Length);
+        }
 
         long bytesWritten = buffer.position() - previousPosition;
         updateLength(bytesWritten);
@@ -1382,6 +1613,24 @@ import java.util.NoSuchElementException;
     public void flush() throws IOException {}
 
     public void finish() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        stageFinish();
+        if (channelOut != null)
+        {
+            channelOut.flush();
+        }
+        completeFinish();
+    }
+
+    /**
+     * Writes the buffered top-level values and their length patches to the output, or queues them if the output is a
+     * {@link ChannelOutputStream}. Must be followed by {@link #completeFinish()} once anything queued has been written.
+     */
+    /*package*/ void stageFinish() throws IOException
     {
         if (closed)
         {
@@ -1394,7 +1643,14 @@ import java.util.NoSuchElementException;
         if (patchPoints.isEmpty())
         {
             // nothing to patch--write 'em out!
-            buffer.writeTo(out);
+            if (channelOut != null)
+            {
+                buffer.gatherTo(channelOut);
+            }
+            else
+            {
+                buffer.writeTo(out);
+            }
         }
         else
         {
@@ -1408,16 +1664,42 @@ import java.util.NoSuchElementException;
                 }
                 // write up to the thing to be patched
                 final long bufferLength = patch.oldPosition - bufferPosition;
-                buffer.writeTo(out, bufferPosition, bufferLength);
+                writeBufferTo(bufferPosition, bufferLength);
 
                 // write out the patch
                 WriteBuffer.writeVarUIntTo(out, patch.length);
+                final int patchLength = WriteBuffer.varUIntLength(patch.length);
+                numberOfPatchesFinished++;
+                numberOfPatchedBytesFinished += patchLength;
+                numberOfBytesFinished += patchLength - patch.oldLength;
 
                 // skip over the preallocated varuint field
                 bufferPosition = patch.oldPosition;
                 bufferPosition += patch.oldLength;
             }
-            buffer.writeTo(out, bufferPosition, buffer.position() - bufferPosition);
+            writeBufferTo(bufferPosition, buffer.position() - bufferPosition);
+        }
+        numberOfBytesFinished += buffer.position();
+    }
+
+    private void writeBufferTo(final long position, final long length) throws IOException
+    {
+        if (channelOut != null)
+        {
+            buffer.gatherTo(channelOut, position, length);
+        }
+        else
+        {
+            buffer.writeTo(out, position, length);
+        }
+    }
+
+    /** Resets the buffer after {@link #stageFinish()}, and flushes the output if configured to do so. */
+    /*package*/ void completeFinish() throws IOException
+    {
+        if (closed)
+        {
+            return;
         }
         patchPoints.clear();
         buffer.reset();
@@ -1430,6 +1712,24 @@ import java.util.NoSuchElementException;
         hasWrittenValuesSinceFinished = false;
     }
 
+    /** Returns the total number of bytes written to the output by {@link #finish()}. */
+    /*package*/ long getNumberOfBytesFinished()
+    {
+        return numberOfBytesFinished;
+    }
+
+    /** Returns the total number of length patches written to the output by {@link #finish()}. */
+    /*package*/ int getNumberOfPatchesFinished()
+    {
+        return numberOfPatchesFinished;
+    }
+
+    /** Returns the total number of bytes written to the output by length patches. */
+    /*package*/ long getNumberOfPatchedBytesFinished()
+    {
+        return numberOfPatchedBytesFinished;
+    }
+
     public void close() throws IOException
     {
         if (closed)
@@ -0,0 +1,789 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import static com.amazon.ion.IonType.STRUCT;
+import static com.amazon.ion.IonType.isContainer;
+import static com.amazon.ion.SystemSymbols.ION_1_0_SID;
+import static com.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
+import static com.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
+
+import com.amazon.ion.IonCatalog;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamCloseMode;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.ThrowingRunnable;
+import com.amazon.ion.impl.bin.utf8.Utf8StringEncoder;
+import com.amazon.ion.impl.bin.utf8.Utf8StringEncoderPool;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Low-level binary {@link com.amazon.ion.IonWriter} that encodes Ion 1.1 with {@link IonEncoder_1_1}.
+ * <p>
+ * Containers are written delimited: the container's opcode is written when it is stepped into and an end marker is
+ * written when it is stepped out of, so, unlike {@link IonRawBinaryWriter}, this writer never reserves or patches
+ * lengths and writes each value straight through to its buffer. Structs use FlexSym field names, which are symbol
+ * addresses or inline text.
+ * <p>
+ * Symbols are written by address when given a symbol ID and inline when given only text, so the caller is responsible
+ * for making sure each symbol ID has a mapping in the current context's symbol table.
+ */
+@SuppressWarnings("deprecation")
+/*package*/ final class IonRawBinaryWriter_1_1 extends AbstractIonRawBinaryWriter
+{
+    private static final int SID_UNASSIGNED = -1;
+
+    private final BlockAllocator                allocator;
+    private final OutputStream                  out;
+    // Non-null if `out` writes to a channel, in which case the buffer is queued to it without copying.
+    private final ChannelOutputStream           channelOut;
+    private final StreamCloseMode               streamCloseMode;
+    private final StreamFlushMode               streamFlushMode;
+    private final WriteBuffer                   buffer;
+    private final Utf8StringEncoder             utf8StringEncoder;
+
+    // The types of the containers that have been stepped into, innermost last. Delimited containers need no other
+    // state: their opcode is written on step in and their end marker on step out.
+    private IonType[]                           containers;
+    private int                                 depth;
+    private boolean                             hasWrittenValuesSinceFinished;
+    private boolean                             hasWrittenValuesSinceConstructed;
+
+    // The pending field name is inline text if currentFieldText is non-null, otherwise a symbol ID.
+    private int                                 currentFieldSid;
+    private String                              currentFieldText;
+    // Each pending annotation is inline text if its entry in annotationTexts is non-null, otherwise a symbol ID.
+    private int[]                               annotationSids;
+    private String[]                            annotationTexts;
+    private int                                 annotationCount;
+    private int                                 annotationTextCount;
+    // The position of the most recent value in a struct, after its field name.
+    private long                                fieldValuePosition;
+    // Scratch space for moving the arguments of an e-expression that replaces a struct.
+    private byte[]                              invocationArguments;
+
+    private boolean                             closed;
+
+    // Running total over all calls to finish(), for metrics.
+    private long                                numberOfBytesFinished;
+
+    private final boolean                       autoFlushEnabled;
+    private boolean                             flushAfterCurrentValue;
+    private final ThrowingRunnable              autoFlush;
+
+    /*package*/ IonRawBinaryWriter_1_1(final BlockAllocatorProvider provider,
+                                       final int blockSize,
+                                       final OutputStream out,
+                                       final StreamCloseMode streamCloseMode,
+                                       final StreamFlushMode streamFlushMode,
+                                       final boolean isAutoFlushEnabled,
+                                       final ThrowingRunnable autoFlush)
+    {
+        // Copy optimization transfers Ion 1.0 encoded values, which cannot be embedded in an Ion 1.1 stream.
+        super(WriteValueOptimization.NONE);
+
+        if (out == null) { throw new NullPointerException(); }
+
+        this.allocator         = provider.vendAllocator(blockSize);
+        this.out               = out;
+        this.channelOut        = out instanceof ChannelOutputStream ? (ChannelOutputStream) out : null;
+        this.streamCloseMode   = streamCloseMode;
+        this.streamFlushMode   = streamFlushMode;
+        this.buffer            = new WriteBuffer(allocator, this::endOfBlockSizeReached);
+        this.utf8StringEncoder = Utf8StringEncoderPool.getInstance().getOrCreate();
+        this.containers        = new IonType[10];
+        this.depth             = 0;
+        this.hasWrittenValuesSinceFinished    = false;
+        this.hasWrittenValuesSinceConstructed = false;
+        this.currentFieldSid   = SID_UNASSIGNED;
+        this.currentFieldText  = null;
+        this.annotationSids    = new int[4];
+        this.annotationTexts   = new String[4];
+        this.annotationCount   = 0;
+        this.annotationTextCount = 0;
+        this.closed            = false;
+        this.autoFlushEnabled  = isAutoFlushEnabled;
+        this.autoFlush         = autoFlush;
+    }
+
+    private void endOfBlockSizeReached()
+    {
+        flushAfterCurrentValue = autoFlushEnabled;
+    }
+
+    /** Always returns {@link Symbols#systemSymbolTable()}. */
+    public SymbolTable getSymbolTable()
+    {
+        return Symbols.systemSymbolTable();
+    }
+
+    // Current Value Meta
+
+    private void checkFieldNameAllowed()
+    {
+        if (!isInStruct())
+        {
+            throw new IonException("Cannot set field name outside of struct context");
+        }
+    }
+
+    /** Sets the current field name to the given inline text. */
+    public void setFieldName(final String name)
+    {
+        if (name == null)
+        {
+            throw new NullPointerException("Null field name is not allowed.");
+        }
+        checkFieldNameAllowed();
+        currentFieldSid = SID_UNASSIGNED;
+        currentFieldText = name;
+    }
+
+    /** Sets the current field name to the token's symbol ID if it has one, otherwise to its text. */
+    public void setFieldNameSymbol(final SymbolToken name)
+    {
+        final int sid = name.getSid();
+        if (sid == UNKNOWN_SYMBOL_ID)
+        {
+            setFieldName(name.getText());
+        }
+        else
+        {
+            setFieldNameSymbol(sid);
+        }
+    }
+
+    public void setFieldNameSymbol(final int sid)
+    {
+        checkFieldNameAllowed();
+        currentFieldSid = sid;
+        currentFieldText = null;
+    }
+
+    private void clearAnnotations()
+    {
+        Arrays.fill(annotationTexts, 0, annotationCount, null);
+        annotationCount = 0;
+        annotationTextCount = 0;
+    }
+
+    private void addAnnotation(final int sid, final String text)
+    {
+        if (annotationCount == annotationSids.length)
+        {
+            annotationSids = Arrays.copyOf(annotationSids, annotationCount * 2);
+            annotationTexts = Arrays.copyOf(annotationTexts, annotationCount * 2);
+        }
+        annotationSids[annotationCount] = sid;
+        annotationTexts[annotationCount] = text;
+        annotationCount++;
+        if (text != null)
+        {
+            annotationTextCount++;
+        }
+    }
+
+    /** Sets the annotations to the given inline text. */
+    public void setTypeAnnotations(final String... annotations)
+    {
+        clearAnnotations();
+        if (annotations != null)
+        {
+            for (final String annotation : annotations)
+            {
+                addTypeAnnotation(annotation);
+            }
+        }
+    }
+
+    public void setTypeAnnotationSymbols(final SymbolToken... annotations)
+    {
+        clearAnnotations();
+        if (annotations != null)
+        {
+            for (final SymbolToken annotation : annotations)
+            {
+                if (annotation == null) break;
+                addTypeAnnotationSymbol(annotation);
+            }
+        }
+    }
+
+    public void setTypeAnnotationSymbols(final int... sids)
+    {
+        clearAnnotations();
+        if (sids != null)
+        {
+            for (final int sid : sids)
+            {
+                addTypeAnnotationSymbol(sid);
+            }
+        }
+    }
+
+    /** Adds the given inline text to the annotations. */
+    public void addTypeAnnotation(final String annotation)
+    {
+        if (annotation == null)
+        {
+            throw new NullPointerException("Null annotation is not allowed.");
+        }
+        addAnnotation(SID_UNASSIGNED, annotation);
+    }
+
+    /** Adds the token's symbol ID to the annotations if it has one, otherwise its text. */
+    /*package*/ void addTypeAnnotationSymbol(final SymbolToken annotation)
+    {
+        final int sid = annotation.getSid();
+        if (sid == UNKNOWN_SYMBOL_ID)
+        {
+            addTypeAnnotation(annotation.getText());
+        }
+        else
+        {
+            addTypeAnnotationSymbol(sid);
+        }
+    }
+
+    public void addTypeAnnotationSymbol(final int sid)
+    {
+        addAnnotation(sid, null);
+    }
+
+    // Additional Current State Meta
+
+    /*package*/ boolean hasAnnotations()
+    {
+        return annotationCount > 0;
+    }
+
+    /*package*/ boolean hasTopLevelSymbolTableAnnotation()
+    {
+        if (depth == 0)
+        {
+            for (int i = 0; i < annotationCount; i++)
+            {
+                if (annotationTexts[i] == null && annotationSids[i] == ION_SYMBOL_TABLE_SID)
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /*package*/ int getFieldId()
+    {
+        return currentFieldText == null ? currentFieldSid : SID_UNASSIGNED;
+    }
+
+    /*package*/ boolean hasWrittenValuesSinceFinished()
+    {
+        return hasWrittenValuesSinceFinished;
+    }
+
+    /*package*/ boolean isIVM(final int sid)
+    {
+        // As in Ion 1.0, a top-level unannotated $ion_1_0 is treated as a version marker.
+        return depth == 0 && sid == ION_1_0_SID && annotationCount == 0;
+    }
+
+    /*package*/ long position()
+    {
+        return buffer.position();
+    }
+
+    /*package*/ void truncate(final long position)
+    {
+        // Delimited containers record no positions, so only the buffer needs to be truncated.
+        buffer.truncate(position);
+    }
+
+    /** Returns the position of the most recent value written in a struct, which follows its field name. */
+    /*package*/ long getFieldValuePosition()
+    {
+        return fieldValuePosition;
+    }
+
+    /** Returns true if a value has been written since the writer was constructed. */
+    /*package*/ boolean hasWrittenValuesSinceConstructed()
+    {
+        return hasWrittenValuesSinceConstructed;
+    }
+
+    // Compatibility with Implementation Writer Interface
+
+    public IonCatalog getCatalog()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean isFieldNameSet()
+    {
+        return currentFieldText != null || currentFieldSid > SID_UNASSIGNED;
+    }
+
+    /** Writes the Ion 1.1 version marker. */
+    public void writeIonVersionMarker() throws IOException
+    {
+        buffer.writeBytes(Ion_1_1_Constants.IVM);
+    }
+
+    public int getDepth()
+    {
+        return depth;
+    }
+
+    // Low-Level Writing
+
+    private static void checkSid(final int sid)
+    {
+        if (sid < 0)
+        {
+            throw new IllegalArgumentException("Invalid symbol with SID: " + sid);
+        }
+    }
+
+    /** prepare to write values with field name and annotations. */
+    private void prepareValue()
+    {
+        if (isInStruct())
+        {
+            if (currentFieldText != null)
+            {
+                IonEncoder_1_1.writeFlexSym(buffer, currentFieldText, utf8StringEncoder);
+                currentFieldText = null;
+            }
+            else if (currentFieldSid > SID_UNASSIGNED)
+            {
+                IonEncoder_1_1.writeFlexSym(buffer, currentFieldSid);
+                currentFieldSid = SID_UNASSIGNED;
+            }
+            else
+            {
+                throw new IllegalStateException("IonWriter.setFieldName() must be called before writing a value into a struct.");
+            }
+            fieldValuePosition = buffer.position();
+        }
+        if (annotationCount > 0)
+        {
+            if (annotationTextCount > 0)
+            {
+                IonEncoder_1_1.writeFlexSymAnnotations(buffer, annotationSids, annotationTexts, annotationCount, utf8StringEncoder);
+            }
+            else
+            {
+                for (int i = 0; i < annotationCount; i++)
+                {
+                    checkSid(annotationSids[i]);
+                }
+                IonEncoder_1_1.writeAnnotations(buffer, annotationSids, annotationCount);
+            }
+            clearAnnotations();
+        }
+    }
+
+    /** Closes out the current value. */
+    private void finishValue() throws IOException
+    {
+        hasWrittenValuesSinceFinished = true;
+        hasWrittenValuesSinceConstructed = true;
+        if (flushAfterCurrentValue && depth == 0)
+        {
+            autoFlush.run();
+            flushAfterCurrentValue = false;
+        }
+    }
+
+    // Container Manipulation
+
+    public void stepIn(final IonType containerType) throws IOException
+    {
+        if (!isContainer(containerType))
+        {
+            throw new IonException("Cannot step into " + containerType);
+        }
+        prepareValue();
+        switch (containerType)
+        {
+            case LIST:
+                buffer.writeByte(OpCodes.DELIMITED_LIST);
+                break;
+            case SEXP:
+                buffer.writeByte(OpCodes.DELIMITED_SEXP);
+                break;
+            default:
+                buffer.writeByte(OpCodes.DELIMITED_STRUCT);
+                break;
+        }
+        if (depth == containers.length)
+        {
+            containers = Arrays.copyOf(containers, depth * 2);
+        }
+        containers[depth++] = containerType;
+    }
+
+    public void stepOut() throws IOException
+    {
+        checkStepOut();
+        if (containers[--depth] == STRUCT)
+        {
+            // The end marker of a delimited struct occupies a field name position, so it is escaped as a FlexSym.
+            buffer.writeByte(Ion_1_1_Constants.FLEX_SYM_ESCAPE);
+        }
+        buffer.writeByte(OpCodes.DELIMITED_END_MARKER);
+        finishValue();
+    }
+
+    /**
+     * Steps out of the current struct, replacing it with an e-expression that invokes the macro at the given address
+     * with arguments copied from the struct's encoded field values. The caller is responsible for making sure that the
+     * expansion of the e-expression is equivalent to the struct.
+     *
+     * @param start             the position of the struct's opcode.
+     * @param address           the address of the macro to invoke.
+     * @param argumentBounds    the start and end positions of the encoded value of each argument, in pairs.
+     * @param argumentCount     the number of arguments.
+     */
+    /*package*/ void stepOutAsInvocation(final long start,
+                                         final int address,
+                                         final long[] argumentBounds,
+                                         final int argumentCount)
+                                         throws IOException
+    {
+        checkStepOut();
+        if (containers[--depth] != STRUCT)
+        {
+            throw new IonException("Only structs may be replaced by e-expressions");
+        }
+        int length = 0;
+        for (int i = 0; i < argumentCount; i++)
+        {
+            length += (int) (argumentBounds[2 * i + 1] - argumentBounds[2 * i]);
+        }
+        if (invocationArguments == null || invocationArguments.length < length)
+        {
+            invocationArguments = new byte[Math.max(length, 64)];
+        }
+        int offset = 0;
+        for (int i = 0; i < argumentCount; i++)
+        {
+            final int argumentLength = (int) (argumentBounds[2 * i + 1] - argumentBounds[2 * i]);
+            buffer.copyTo(argumentBounds[2 * i], invocationArguments, offset, argumentLength);
+            offset += argumentLength;
+        }
+        buffer.truncate(start);
+        IonEncoder_1_1.writeEExpressionAddress(buffer, address);
+        buffer.writeBytes(invocationArguments, 0, length);
+        finishValue();
+    }
+
+    private void checkStepOut()
+    {
+        if (isFieldNameSet())
+        {
+            throw new IonException("Cannot step out with field name set");
+        }
+        if (annotationCount > 0)
+        {
+            throw new IonException("Cannot step out with annotations set");
+        }
+        if (depth == 0)
+        {
+            throw new IonException("Cannot step out when not in container");
+        }
+    }
+
+    public boolean isInStruct()
+    {
+        return depth > 0 && containers[depth - 1] == STRUCT;
+    }
+
+    // Write Value Methods
+
+    public void writeNull() throws IOException
+    {
+        writeNull(IonType.NULL);
+    }
+
+    public void writeNull(IonType type) throws IOException
+    {
+        if (type == null)
+        {
+            type = IonType.NULL;
+        }
+        else if (type == IonType.DATAGRAM)
+        {
+            throw new IllegalArgumentException("Cannot write a null for: " + type);
+        }
+        prepareValue();
+        IonEncoder_1_1.writeNullValue(buffer, type);
+        finishValue();
+    }
+
+    public void writeBool(final boolean value) throws IOException
+    {
+        prepareValue();
+        IonEncoder_1_1.writeBoolValue(buffer, value);
+        finishValue();
+    }
+
+    public void writeInt(final long value) throws IOException
+    {
+        prepareValue();
+        IonEncoder_1_1.writeIntValue(buffer, value);
+        finishValue();
+    }
+
+    public void writeInt(final BigInteger value) throws IOException
+    {
+        prepareValue();
+        IonEncoder_1_1.writeIntValue(buffer, value);
+        finishValue();
+    }
+
+    public void writeFloat(final double value) throws IOException
+    {
+        prepareValue();
+        IonEncoder_1_1.writeFloat(buffer, value);
+        finishValue();
+    }
+
+    public void writeDecimal(final BigDecimal value) throws IOException
+    {
+        prepareValue();
+        IonEncoder_1_1.writeDecimalValue(buffer, value);
+        finishValue();
+    }
+
+    public void writeTimestamp(final Timestamp value) throws IOException
+    {
+        prepareValue();
+        IonEncoder_1_1.writeTimestampValue(buffer, value);
+        finishValue();
+    }
+
+    /** Writes the given text as an inline symbol. */
+    public void writeSymbol(final String content) throws IOException
+    {
+        prepareValue();
+        IonEncoder_1_1.writeSymbolValue(buffer, content, utf8StringEncoder);
+        finishValue();
+    }
+
+    /** Writes the token's symbol ID if it has one, otherwise its text as an inline symbol. */
+    public void writeSymbolToken(final SymbolToken content) throws IOException
+    {
+        if (content == null)
+        {
+            writeNull(IonType.SYMBOL);
+            return;
+        }
+        final int sid = content.getSid();
+        if (sid == UNKNOWN_SYMBOL_ID)
+        {
+            writeSymbol(content.getText());
+        }
+        else
+        {
+            writeSymbolToken(sid);
+        }
+    }
+
+    public void writeSymbolToken(final int sid) throws IOException
+    {
+        checkSid(sid);
+        prepareValue();
+        IonEncoder_1_1.writeSymbolValue(buffer, sid);
+        finishValue();
+    }
+
+    public void writeString(final String value) throws IOException
+    {
+        prepareValue();
+        IonEncoder_1_1.writeStringValue(buffer, value, utf8StringEncoder);
+        finishValue();
+    }
+
+    public void writeClob(final byte[] data) throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(IonType.CLOB);
+            return;
+        }
+        writeClob(data, 0, data.length);
+    }
+
+    public void writeClob(final byte[] data, final int offset, final int length) throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(IonType.CLOB);
+            return;
+        }
+        prepareValue();
+        IonEncoder_1_1.writeClobValue(buffer, data, offset, length);
+        finishValue();
+    }
+
+    public void writeBlob(final byte[] data) throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(IonType.BLOB);
+            return;
+        }
+        writeBlob(data, 0, data.length);
+    }
+
+    public void writeBlob(final byte[] data, final int offset, final int length) throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(IonType.BLOB);
+            return;
+        }
+        prepareValue();
+        IonEncoder_1_1.writeBlobValue(buffer, data, offset, length);
+        finishValue();
+    }
+
+    @Override
+    public void writeString(final byte[] data, final int offset, final int length) throws IOException
+    {
+        if (data == null)
+        {
+            writeNull(IonType.STRING);
+            return;
+        }
+        prepareValue();
+        IonEncoder_1_1.writeUtf8StringValue(buffer, data, offset, length);
+        finishValue();
+    }
+
+    /**
+     * Writes a raw value into the buffer.
+     * <p>
+     * The implication here is that the caller is dumping some valid Ion 1.1 payload with the correct context.
+     */
+    public void writeBytes(final byte[] data, final int offset, final int length) throws IOException
+    {
+        prepareValue();
+        buffer.writeBytes(data, offset, length);
+        finishValue();
+    }
+
+    // Stream Manipulation/Terminators
+
+    public void flush() throws IOException {}
+
+    public void finish() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        stageFinish();
+        if (channelOut != null)
+        {
+            channelOut.flush();
+        }
+        completeFinish();
+    }
+
+    /*package*/ void stageFinish() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        if (depth > 0)
+        {
+            throw new IllegalStateException("Cannot finish within container: " + Arrays.toString(Arrays.copyOf(containers, depth)));
+        }
+        if (channelOut != null)
+        {
+            buffer.gatherTo(channelOut);
+        }
+        else
+        {
+            buffer.writeTo(out);
+        }
+        numberOfBytesFinished += buffer.position();
+    }
+
+    /*package*/ void completeFinish() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        buffer.reset();
+
+        if (streamFlushMode == StreamFlushMode.FLUSH)
+        {
+            out.flush();
+        }
+
+        hasWrittenValuesSinceFinished = false;
+    }
+
+    /*package*/ long getNumberOfBytesFinished()
+    {
+        return numberOfBytesFinished;
+    }
+
+    /** Always returns zero, as delimited containers are never patched. */
+    /*package*/ int getNumberOfPatchesFinished()
+    {
+        return 0;
+    }
+
+    /** Always returns zero, as delimited containers are never patched. */
+    /*package*/ long getNumberOfPatchedBytesFinished()
+    {
+        return 0;
+    }
+
+    public void close() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+        try
+        {
+            try
+            {
+                finish();
+            }
+            catch (final IllegalStateException e)
+            {
+                // callers don't expect this...
+            }
+
+            // release all of our blocks -- these should never throw
+            buffer.close();
+            allocator.close();
+            utf8StringEncoder.close();
+        }
+        finally
+        {
+            closed = true;
+            if (streamCloseMode == StreamCloseMode.CLOSE)
+            {
+                // release the stream
+                out.close();
+            }
+        }
+    }
+}
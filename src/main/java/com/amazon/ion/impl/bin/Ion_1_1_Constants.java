@@ -9,6 +9,12 @@ public class Ion_1_1_Constants {
     static final int FIRST_2_BYTE_SYMBOL_ADDRESS = 256;
     static final int FIRST_MANY_BYTE_SYMBOL_ADDRESS = 65792;
 
+    static final byte[] IVM = {(byte) 0xE0, 0x01, 0x01, (byte) 0xEA};
+
+    // A FlexSym with a FlexInt of zero. It is followed by a single opcode: either an encoded symbol or the end marker of
+    // a delimited struct.
+    static final byte FLEX_SYM_ESCAPE = 0x01;
+
     //////// Timestamp Field Constants ////////
 
     // S_TIMESTAMP_* is applicable to all short-form timestamps
@@ -0,0 +1,412 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.Decimal;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamCloseMode;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
+import com.amazon.ion.system.IonReaderBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An Ion 1.1 macro whose template is a struct with a fixed set of field names, each of which holds either a constant
+ * scalar or a reference to one of the macro's parameters. {@link IonManagedBinaryWriter_1_1} declares these macros at
+ * the start of each stream and writes any struct that has the shape of a macro's template as an e-expression that
+ * invokes the macro with the values of the template's variable fields as arguments.
+ */
+/*package*/ final class StructMacro
+{
+    private static final String ION_ENCODING = "$ion_encoding";
+    private static final String MACRO_TABLE = "macro_table";
+    private static final String MACRO = "macro";
+    private static final String VARIABLE_REFERENCE = "%";
+
+    // The fields that have been seen while matching a struct are tracked as bits of a long.
+    /*package*/ static final int MAX_FIELD_COUNT = Long.SIZE;
+
+    private static final int DIRECTIVE_BLOCK_SIZE = 1024;
+
+    private final String name;
+    private final String[] parameterNames;
+    private final String[] fieldNames;
+    // The index of the parameter that each field references, or -1 if the field's value is a constant.
+    private final int[] fieldParameters;
+    // The index of the field that references each parameter.
+    private final int[] parameterFields;
+    // The type and value of each constant field. Null values of any type have a null constant value.
+    private final IonType[] constantTypes;
+    private final Object[] constantValues;
+    private final Map<String, Integer> fieldIndices;
+
+    private StructMacro(final String name,
+                        final String[] parameterNames,
+                        final String[] fieldNames,
+                        final int[] fieldParameters,
+                        final IonType[] constantTypes,
+                        final Object[] constantValues)
+    {
+        this.name = name;
+        this.parameterNames = parameterNames;
+        this.fieldNames = fieldNames;
+        this.fieldParameters = fieldParameters;
+        this.constantTypes = constantTypes;
+        this.constantValues = constantValues;
+        this.parameterFields = new int[parameterNames.length];
+        this.fieldIndices = new HashMap<String, Integer>();
+        for (int i = 0; i < fieldNames.length; i++)
+        {
+            fieldIndices.put(fieldNames[i], i);
+            if (fieldParameters[i] >= 0)
+            {
+                parameterFields[fieldParameters[i]] = i;
+            }
+        }
+    }
+
+    /** Returns the number of fields in the template. */
+    public int getFieldCount()
+    {
+        return fieldNames.length;
+    }
+
+    /** Returns the number of parameters, which is the number of arguments in each invocation. */
+    public int getParameterCount()
+    {
+        return parameterNames.length;
+    }
+
+    /** Returns the name of the template field with the given index. */
+    public String getFieldName(final int field)
+    {
+        return fieldNames[field];
+    }
+
+    /** Returns the index of the template field that references the given parameter. */
+    public int getParameterField(final int parameter)
+    {
+        return parameterFields[parameter];
+    }
+
+    /** Returns the index of the template field with the given name, or -1 if the template has no such field. */
+    public int getFieldIndex(final String fieldName)
+    {
+        final Integer index = fieldIndices.get(fieldName);
+        return index == null ? -1 : index;
+    }
+
+    /** Returns true if the given template field references a parameter, and so may hold any value. */
+    public boolean isVariable(final int field)
+    {
+        return fieldParameters[field] >= 0;
+    }
+
+    /**
+     * Returns true if the given constant template field has the given value.
+     * @param field the index of a constant template field.
+     * @param type the type of the value.
+     * @param value the value, as returned by {@link #constantValue(IonType, Object)}.
+     */
+    public boolean matchesConstant(final int field, final IonType type, final Object value)
+    {
+        if (constantTypes[field] != type)
+        {
+            return false;
+        }
+        final Object constant = constantValues[field];
+        if (constant == null || value == null)
+        {
+            return constant == value;
+        }
+        if (type == IonType.DECIMAL)
+        {
+            // Unlike BigDecimal.equals, this distinguishes negative zero.
+            return Decimal.equals((BigDecimal) constant, (BigDecimal) value);
+        }
+        return constant.equals(value);
+    }
+
+    /**
+     * Normalizes a scalar value so that it may be compared to constants with
+     * {@link #matchesConstant(int, IonType, Object)}: integers are represented as Longs when they fit.
+     */
+    public static Object constantValue(final IonType type, final Object value)
+    {
+        if (type == IonType.INT && value instanceof BigInteger && ((BigInteger) value).bitLength() < Long.SIZE)
+        {
+            return ((BigInteger) value).longValue();
+        }
+        return value;
+    }
+
+    /**
+     * Parses macro definitions of the form {@code (macro name (parameter ...) template)} from Ion text. Each template
+     * must be an unannotated struct with distinct field names, each of which holds either an unannotated scalar
+     * constant or a variable reference {@code (% parameter)}, and each parameter must be referenced exactly once.
+     * @param definitions the Ion text of zero or more macro definitions.
+     * @return the macros, in the order that they were defined, which is their address order.
+     * @throws IllegalArgumentException if the definitions are invalid or not supported.
+     */
+    public static StructMacro[] parse(final String definitions)
+    {
+        final List<StructMacro> macros = new ArrayList<StructMacro>();
+        try (IonReader reader = IonReaderBuilder.standard().build(definitions))
+        {
+            while (reader.next() != null)
+            {
+                macros.add(parseMacro(reader));
+            }
+        }
+        catch (final IonException | IOException e)
+        {
+            throw new IllegalArgumentException("Invalid macro definitions: " + e.getMessage(), e);
+        }
+        return macros.toArray(new StructMacro[0]);
+    }
+
+    private static void require(final boolean condition, final String message)
+    {
+        if (!condition)
+        {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static boolean isSymbol(final IonReader reader, final String text)
+    {
+        return reader.getType() == IonType.SYMBOL && !reader.isNullValue() && text.equals(reader.stringValue());
+    }
+
+    private static StructMacro parseMacro(final IonReader reader)
+    {
+        require(reader.getType() == IonType.SEXP && !reader.isNullValue(), "Macro definitions must be s-expressions.");
+        reader.stepIn();
+        require(reader.next() != null && isSymbol(reader, MACRO), "Macro definitions must begin with 'macro'.");
+        require(reader.next() == IonType.SYMBOL && !reader.isNullValue(), "Macro names must be symbols.");
+        final String name = reader.stringValue();
+        require(reader.next() == IonType.SEXP && !reader.isNullValue(), "Macro signatures must be s-expressions.");
+        final List<String> parameters = new ArrayList<String>();
+        reader.stepIn();
+        while (reader.next() != null)
+        {
+            require(reader.getType() == IonType.SYMBOL && !reader.isNullValue(), "Macro parameter names must be symbols.");
+            final String parameter = reader.stringValue();
+            require(!parameters.contains(parameter), "Duplicate macro parameter " + parameter + ".");
+            parameters.add(parameter);
+        }
+        reader.stepOut();
+        require(
+            reader.next() == IonType.STRUCT && !reader.isNullValue() && reader.getTypeAnnotations().length == 0,
+            "Macro " + name + " is not supported: templates must be unannotated structs."
+        );
+        final List<String> fieldNames = new ArrayList<String>();
+        final List<Integer> fieldParameters = new ArrayList<Integer>();
+        final List<IonType> constantTypes = new ArrayList<IonType>();
+        final List<Object> constantValues = new ArrayList<Object>();
+        final boolean[] isReferenced = new boolean[parameters.size()];
+        reader.stepIn();
+        while (reader.next() != null)
+        {
+            final String fieldName = reader.getFieldName();
+            require(fieldName != null, "Template field names must have known text.");
+            require(!fieldNames.contains(fieldName), "Duplicate template field " + fieldName + ".");
+            require(reader.getTypeAnnotations().length == 0, "Template field values must not be annotated.");
+            fieldNames.add(fieldName);
+            final IonType type = reader.getType();
+            if (type == IonType.SEXP && !reader.isNullValue())
+            {
+                final int parameter = parseVariableReference(reader, parameters);
+                require(!isReferenced[parameter], "Parameter " + parameters.get(parameter) + " must be referenced exactly once.");
+                isReferenced[parameter] = true;
+                fieldParameters.add(parameter);
+                constantTypes.add(null);
+                constantValues.add(null);
+            }
+            else
+            {
+                fieldParameters.add(-1);
+                constantTypes.add(type);
+                constantValues.add(parseConstant(reader));
+            }
+        }
+        reader.stepOut();
+        require(fieldNames.size() <= MAX_FIELD_COUNT, "Templates may have at most " + MAX_FIELD_COUNT + " fields.");
+        for (int i = 0; i < isReferenced.length; i++)
+        {
+            require(isReferenced[i], "Parameter " + parameters.get(i) + " must be referenced exactly once.");
+        }
+        require(reader.next() == null, "Templates must consist of exactly one expression.");
+        reader.stepOut();
+        final int[] fieldParameterArray = new int[fieldParameters.size()];
+        for (int i = 0; i < fieldParameterArray.length; i++)
+        {
+            fieldParameterArray[i] = fieldParameters.get(i);
+        }
+        return new StructMacro(
+            name,
+            parameters.toArray(new String[0]),
+            fieldNames.toArray(new String[0]),
+            fieldParameterArray,
+            constantTypes.toArray(new IonType[0]),
+            constantValues.toArray()
+        );
+    }
+
+    private static int parseVariableReference(final IonReader reader, final List<String> parameters)
+    {
+        reader.stepIn();
+        require(reader.next() != null && isSymbol(reader, VARIABLE_REFERENCE), "Template s-expressions must be variable references.");
+        require(reader.next() == IonType.SYMBOL && !reader.isNullValue(), "Variable references must name a parameter.");
+        final int parameter = parameters.indexOf(reader.stringValue());
+        require(parameter >= 0, "Reference to unknown parameter " + reader.stringValue() + ".");
+        require(reader.next() == null, "Variable references must name exactly one parameter.");
+        reader.stepOut();
+        return parameter;
+    }
+
+    private static Object parseConstant(final IonReader reader)
+    {
+        final IonType type = reader.getType();
+        if (reader.isNullValue())
+        {
+            return null;
+        }
+        switch (type)
+        {
+            case BOOL:
+                return reader.booleanValue();
+            case INT:
+                return constantValue(type, reader.bigIntegerValue());
+            case FLOAT:
+                return reader.doubleValue();
+            case DECIMAL:
+                return reader.decimalValue();
+            case TIMESTAMP:
+                return reader.timestampValue();
+            case SYMBOL:
+                require(reader.stringValue() != null, "Template symbols must have known text.");
+                return reader.stringValue();
+            case STRING:
+                return reader.stringValue();
+            default:
+                throw new IllegalArgumentException("Unsupported template constant of type " + type + ".");
+        }
+    }
+
+    /**
+     * Encodes the Ion 1.1 encoding directive that declares the given macros, in order, with all symbol text inline so
+     * that the directive does not depend on any symbol table.
+     */
+    public static byte[] encodeDirective(final StructMacro[] macros)
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonRawBinaryWriter_1_1 writer = new IonRawBinaryWriter_1_1(
+            BlockAllocatorProviders.basicProvider(),
+            DIRECTIVE_BLOCK_SIZE,
+            out,
+            StreamCloseMode.NO_CLOSE,
+            StreamFlushMode.NO_FLUSH,
+            false,
+            () -> {}
+        ))
+        {
+            writer.addTypeAnnotation(ION_ENCODING);
+            writer.stepIn(IonType.SEXP);
+            writer.stepIn(IonType.SEXP);
+            writer.writeSymbol(MACRO_TABLE);
+            for (final StructMacro macro : macros)
+            {
+                macro.writeDefinition(writer);
+            }
+            writer.stepOut();
+            writer.stepOut();
+        }
+        catch (final IOException e)
+        {
+            throw new IonException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private void writeDefinition(final IonRawBinaryWriter_1_1 writer) throws IOException
+    {
+        writer.stepIn(IonType.SEXP);
+        writer.writeSymbol(MACRO);
+        writer.writeSymbol(name);
+        writer.stepIn(IonType.SEXP);
+        for (final String parameterName : parameterNames)
+        {
+            writer.writeSymbol(parameterName);
+        }
+        writer.stepOut();
+        writer.stepIn(IonType.STRUCT);
+        for (int i = 0; i < fieldNames.length; i++)
+        {
+            writer.setFieldName(fieldNames[i]);
+            if (isVariable(i))
+            {
+                writer.stepIn(IonType.SEXP);
+                writer.writeSymbol(VARIABLE_REFERENCE);
+                writer.writeSymbol(parameterNames[fieldParameters[i]]);
+                writer.stepOut();
+            }
+            else
+            {
+                writeConstant(writer, constantTypes[i], constantValues[i]);
+            }
+        }
+        writer.stepOut();
+        writer.stepOut();
+    }
+
+    private static void writeConstant(final IonRawBinaryWriter_1_1 writer, final IonType type, final Object value)
+        throws IOException
+    {
+        if (value == null)
+        {
+            writer.writeNull(type);
+            return;
+        }
+        switch (type)
+        {
+            case BOOL:
+                writer.writeBool((Boolean) value);
+                break;
+            case INT:
+                if (value instanceof Long)
+                {
+                    writer.writeInt((Long) value);
+                }
+                else
+                {
+                    writer.writeInt((BigInteger) value);
+                }
+                break;
+            case FLOAT:
+                writer.writeFloat((Double) value);
+                break;
+            case DECIMAL:
+                writer.writeDecimal((BigDecimal) value);
+                break;
+            case TIMESTAMP:
+                writer.writeTimestamp((Timestamp) value);
+                break;
+            case SYMBOL:
+                writer.writeSymbol((String) value);
+                break;
+            default:
+                writer.writeString((String) value);
+                break;
+        }
+    }
+}
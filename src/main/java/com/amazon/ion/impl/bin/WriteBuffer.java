@@ -42,8 +42,7 @@ import java.util.List;
         // initial seed of the first block
         allocateNewBlock();
 
-        this.index = 0;
-        this.current = blocks.get(0);
+        setCurrent(0);
         this.endOfBlockCallBack = endOfBlockCallBack;
     }
 
@@ -52,6 +51,25 @@ import java.util.List;
         blocks.add(allocator.allocateBlock());
     }
 
+    /**
+     * Makes the block at the given index the current block, activating it so that its data may be written directly.
+     * The previous current block, if any, is deactivated.
+     */
+    private void setCurrent(final int index)
+    {
+        final Block block = blocks.get(index);
+        if (block != current)
+        {
+            if (current != null)
+            {
+                current.deactivate();
+            }
+            block.activate();
+            current = block;
+        }
+        this.index = index;
+    }
+
     /** Returns the block index for the given position. */
     private int index(final long position)
     {
@@ -69,8 +87,7 @@ import java.util.List;
     {
         close();
         allocateNewBlock();
-        index = 0;
-        current = blocks.get(index);
+        setCurrent(0);
     }
 
     public void close()
@@ -90,10 +107,13 @@ import java.util.List;
     {
         final int index = index(position);
         final int offset = offset(position);
-        final Block block = blocks.get(index);
-        this.index = index;
-        block.limit = offset;
-        current = block;
+        setCurrent(index);
+        current.limit = offset;
+        // the blocks after the current one are kept for reuse, but must be empty when they are written to again
+        for (int i = index + 1; i < blocks.size(); i++)
+        {
+            blocks.get(i).limit = 0;
+        }
     }
 
     /** Returns the amount of capacity left in the current block. */
@@ -117,8 +137,7 @@ import java.util.List;
             {
                 allocateNewBlock();
             }
-            index++;
-            current = blocks.get(index);
+            setCurrent(index + 1);
         }
         final Block block = current;
         block.data[block.limit] = octet;
@@ -143,8 +162,7 @@ import java.util.List;
                     allocateNewBlock();
                     endOfBlockCallBack.run();
                 }
-                index++;
-                current = blocks.get(index);
+                setCurrent(index + 1);
             }
         }
     }
@@ -256,10 +274,9 @@ import java.util.List;
             int numberOfBytesToShift = Math.min(length, bytesAvailableToCopy);
 
             // Copy the bytes from the source to the destination.
-            System.arraycopy(
-                    sourceBlock.data,
+            sourceBlock.copyTo(
                     sourceBlockOffset,
-                    destinationBlock.data,
+                    destinationBlock,
                     destinationBlockOffset,
                     numberOfBytesToShift
             );
@@ -274,20 +291,16 @@ import java.util.List;
         // Using the `writeBufferLimit` we calculated at the beginning of the method, find the last Block that still
         // contains data.
         int lastBlockIndex = index(writeBufferLimit);
-        Block lastBlock = blocks.get(lastBlockIndex);
         int lastBlockOffset = offset(writeBufferLimit);
 
-        // Update that Block's limit...
-        lastBlock.limit = lastBlockOffset;
+        // Make that Block the current block and update its limit...
+        setCurrent(lastBlockIndex);
+        current.limit = lastBlockOffset;
         // ...and return any empty blocks at the tail of the `blocks` list to the pool.
         for (int m = blocks.size() - 1; m > lastBlockIndex; m--) {
             Block emptyBlock = blocks.remove(m);
             emptyBlock.close();
         }
-
-        // Update the WriteBuffer's member fields to reflect the changes we've made.
-        current = lastBlock;
-        index = lastBlockIndex;
     }
 
     /** Writes an array of bytes to the buffer expanding if necessary, defaulting to the entire array. */
@@ -541,6 +554,38 @@ import java.util.List;
         return octets;
     }
 
+    /**
+     * Writes a String that consists entirely of ASCII characters, as determined by
+     * {@link com.amazon.ion.impl.bin.utf8.Utf8StringEncoder#isAscii(String)}, copying its chars directly into the
+     * buffer's blocks as bytes. The String's UTF-8 encoding is one byte per char, so its length is the number of
+     * octets written.
+     */
+    @SuppressWarnings("deprecation")
+    public void writeAscii(final String ascii)
+    {
+        int off = 0;
+        int len = ascii.length();
+        while (len > 0)
+        {
+            final Block block = current;
+            final int amount = Math.min(len, block.remaining());
+            // Unlike encoding, this copies each char's low byte; on JDKs with compact Strings it is a single copy.
+            ascii.getBytes(off, off + amount, block.data, block.limit);
+            block.limit += amount;
+            off += amount;
+            len -= amount;
+            if (block.remaining() == 0 && len > 0)
+            {
+                if (index == blocks.size() - 1)
+                {
+                    allocateNewBlock();
+                    endOfBlockCallBack.run();
+                }
+                setCurrent(index + 1);
+            }
+        }
+    }
+
     /** Returns the number of octets written. */
     public int writeUTF8(final CharSequence chars)
     {
@@ -1234,9 +1279,9 @@ import java.util.List;
     {
         // XXX we're stradling a block
         final Block block1 = blocks.get(index);
-        block1.data[offset] = (byte) ((value >> VAR_UINT_2_OCTET_SHIFT) & VAR_INT_MASK);
+        block1.put(offset, (byte) ((value >> VAR_UINT_2_OCTET_SHIFT) & VAR_INT_MASK));
         final Block block2 = blocks.get(index + 1);
-        block2.data[0]      = (byte) ((value                            & VAR_INT_MASK) | VAR_INT_FINAL_OCTET_SIGNAL_MASK);
+        block2.put(0,      (byte) ((value                            & VAR_INT_MASK) | VAR_INT_FINAL_OCTET_SIGNAL_MASK));
     }
 
     public void writeVarUIntDirect2At(long position, long value)
@@ -1251,8 +1296,8 @@ import java.util.List;
         }
 
         final Block block = blocks.get(index);
-        block.data[offset    ] = (byte) ((value >> VAR_UINT_2_OCTET_SHIFT) & VAR_INT_MASK);
-        block.data[offset + 1] = (byte) ((value                            & VAR_INT_MASK) | VAR_INT_FINAL_OCTET_SIGNAL_MASK);
+        block.put(offset,     (byte) ((value >> VAR_UINT_2_OCTET_SHIFT) & VAR_INT_MASK));
+        block.put(offset + 1, (byte) ((value                            & VAR_INT_MASK) | VAR_INT_FINAL_OCTET_SIGNAL_MASK));
     }
 
     public void writeUInt8At(final long position, final long value)
@@ -1261,7 +1306,7 @@ import java.util.List;
         final int offset = offset(position);
         // XXX we'll never overrun a block unless we're given a position past our block array
         final Block block = blocks.get(index);
-        block.data[offset] = (byte) value;
+        block.put(offset, (byte) value);
     }
 
     /**
@@ -1273,8 +1318,8 @@ import java.util.List;
         final int index = index(position);
         final int offset = offset(position);
         final Block block = blocks.get(index);
-        long bitValue = block.data[offset];
-        block.data[offset] = (byte) (bitValue & 0xF0 | value) ;
+        long bitValue = block.get(offset);
+        block.put(offset, (byte) (bitValue & 0xF0 | value));
     }
 
     /** Get the length of FlexInt for the provided value. */
@@ -1522,7 +1567,7 @@ import java.util.List;
         for (int i = 0; i <= index; i++)
         {
             Block block = blocks.get(i);
-            out.write(block.data, 0, block.limit);
+            block.writeTo(out, 0, block.limit);
         }
     }
 
@@ -1534,10 +1579,53 @@ import java.util.List;
             final int index = index(position);
             final int offset = offset(position);
             final Block block = blocks.get(index);
-            final int amount = (int) Math.min(block.data.length - offset, length);
-            out.write(block.data, offset, amount);
+            final int amount = (int) Math.min(block.capacity() - offset, length);
+            block.writeTo(out, offset, amount);
+
+            position += amount;
+            length -= amount;
+        }
+    }
+
+    /** Queues views of the entire buffer to a channel stream without copying. */
+    /*package*/ void gatherTo(final ChannelOutputStream out)
+    {
+        for (int i = 0; i <= index; i++)
+        {
+            Block block = blocks.get(i);
+            out.queue(block.byteBuffer(0, block.limit));
+        }
+    }
+
+    /** Queues views of a specific segment of the buffer to a channel stream without copying. */
+    /*package*/ void gatherTo(final ChannelOutputStream out, long position, long length)
+    {
+        while (length > 0)
+        {
+            final int index = index(position);
+            final int offset = offset(position);
+            final Block block = blocks.get(index);
+            final int amount = (int) Math.min(block.capacity() - offset, length);
+            out.queue(block.byteBuffer(offset, amount));
+
+            position += amount;
+            length -= amount;
+        }
+    }
+
+    /** Copies a specific segment of the buffer to an array. */
+    /*package*/ void copyTo(long position, final byte[] destination, int offset, int length)
+    {
+        while (length > 0)
+        {
+            final int index = index(position);
+            final int blockOffset = offset(position);
+            final Block block = blocks.get(index);
+            final int amount = Math.min(block.capacity() - blockOffset, length);
+            block.get(blockOffset, destination, offset, amount);
 
             position += amount;
+            offset += amount;
             length -= amount;
         }
     }
@@ -42,6 +42,7 @@ public class _PrivateIon_HashTrampoline
                 IonRawBinaryWriter.PreallocationMode.PREALLOCATE_0,
                 false,    // force floats to be encoded as binary64
                 false,
+                false,
                 null
         );
     }
@@ -24,6 +24,7 @@ import com.amazon.ion.IonWriter;
 import com.amazon.ion.SubstituteSymbolTableException;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SystemSymbols;
+import com.amazon.ion.WriterMetricsListener;
 import com.amazon.ion.impl.bin.AbstractIonWriter.WriteValueOptimization;
 import com.amazon.ion.impl.bin.IonBinaryWriterAdapter.Factory;
 import com.amazon.ion.impl.bin.IonManagedBinaryWriter.ImportedSymbolContext;
@@ -32,6 +33,7 @@ import com.amazon.ion.impl.bin.IonRawBinaryWriter.PreallocationMode;
 import com.amazon.ion.system.SimpleCatalog;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.List;
 
@@ -79,7 +81,12 @@ public final class _Private_IonManagedBinaryWriterBuilder
     /*package*/ volatile SymbolTable            initialSymbolTable;
     /*package*/ volatile boolean                isLocalSymbolTableAppendEnabled;
     /*package*/ volatile boolean                isFloatBinary32Enabled;
+    /*package*/ volatile boolean                isReverseEncodingEnabled;
      volatile boolean                           isAutoFlushEnabled;
+    /*package*/ volatile WriterMetricsListener  metricsListener;
+    /*package*/ volatile BlockPool              blockPool;
+    /*package*/ volatile int                    minorVersion;
+    /*package*/ volatile StructMacro[]          macros;
 
     private _Private_IonManagedBinaryWriterBuilder(final BlockAllocatorProvider provider)
     {
@@ -92,7 +99,12 @@ public final class _Private_IonManagedBinaryWriterBuilder
         this.optimization = WriteValueOptimization.NONE;
         this.isLocalSymbolTableAppendEnabled = false;
         this.isFloatBinary32Enabled = false;
+        this.isReverseEncodingEnabled = false;
         this.isAutoFlushEnabled = false;
+        this.metricsListener = null;
+        this.blockPool = null;
+        this.minorVersion = 0;
+        this.macros = new StructMacro[0];
     }
 
     private _Private_IonManagedBinaryWriterBuilder(final _Private_IonManagedBinaryWriterBuilder other)
@@ -107,7 +119,12 @@ public final class _Private_IonManagedBinaryWriterBuilder
         this.initialSymbolTable = other.initialSymbolTable;
         this.isLocalSymbolTableAppendEnabled = other.isLocalSymbolTableAppendEnabled;
         this.isFloatBinary32Enabled = other.isFloatBinary32Enabled;
+        this.isReverseEncodingEnabled = other.isReverseEncodingEnabled;
         this.isAutoFlushEnabled = other.isAutoFlushEnabled;
+        this.metricsListener = other.metricsListener;
+        this.blockPool = other.blockPool;
+        this.minorVersion = other.minorVersion;
+        this.macros = other.macros;
     }
 
     public _Private_IonManagedBinaryWriterBuilder copy()
@@ -233,6 +250,59 @@ public final class _Private_IonManagedBinaryWriterBuilder
         return this;
     }
 
+    public _Private_IonManagedBinaryWriterBuilder withReverseEncodingEnabled() {
+        isReverseEncodingEnabled = true;
+        return this;
+    }
+
+    public _Private_IonManagedBinaryWriterBuilder withReverseEncodingDisabled() {
+        isReverseEncodingEnabled = false;
+        return this;
+    }
+
+    /**
+     * Declares the pool from which writers allocate their buffer blocks, or null to use the pool selected by the
+     * {@link AllocatorMode} with which this builder was created.
+     */
+    public _Private_IonManagedBinaryWriterBuilder withBlockPool(final BlockPool pool)
+    {
+        this.blockPool = pool;
+        return this;
+    }
+
+    /**
+     * Declares the minor version of Ion 1.x that writers encode: 0, the default, or 1. Ion 1.1 writers write containers
+     * delimited, so the preallocation and reverse encoding settings, which govern length prefixes, do not apply to them.
+     */
+    public _Private_IonManagedBinaryWriterBuilder withMinorVersion(final int minorVersion)
+    {
+        if (minorVersion != 0 && minorVersion != 1)
+        {
+            throw new IllegalArgumentException("Unsupported Ion version: 1." + minorVersion);
+        }
+        this.minorVersion = minorVersion;
+        return this;
+    }
+
+    /**
+     * Declares the macros that Ion 1.1 writers use to compress structs, as the Ion text of zero or more definitions of
+     * the form {@code (macro name (parameter ...) template)}. Each template must be a struct whose fields hold either
+     * scalar constants or variable references {@code (% parameter)}. Ion 1.0 writers ignore the macros.
+     *
+     * @throws IllegalArgumentException if the definitions are invalid or not supported.
+     */
+    public _Private_IonManagedBinaryWriterBuilder withMacros(final String definitions)
+    {
+        this.macros = definitions == null ? new StructMacro[0] : StructMacro.parse(definitions);
+        return this;
+    }
+
+    public _Private_IonManagedBinaryWriterBuilder withMetricsListener(final WriterMetricsListener listener)
+    {
+        this.metricsListener = listener;
+        return this;
+    }
+
     public _Private_IonManagedBinaryWriterBuilder withInitialSymbolTable(SymbolTable symbolTable)
     {
         if (symbolTable != null)
@@ -270,11 +340,32 @@ public final class _Private_IonManagedBinaryWriterBuilder
 
     // Construction
 
+    /*package*/ BlockAllocatorProvider allocatorProvider()
+    {
+        final BlockPool pool = blockPool;
+        return pool == null ? provider : pool;
+    }
+
     public IonWriter newWriter(final OutputStream out) throws IOException
     {
+        if (minorVersion == 1)
+        {
+            return new IonManagedBinaryWriter_1_1(this, out);
+        }
         return new IonManagedBinaryWriter(this, out);
     }
 
+    /**
+     * Creates a writer that writes the contents of its symbol table and user value buffers to the given channel with
+     * a single gathering write each time it flushes, rather than copying each buffer block to a stream.
+     *
+     * @param channel the channel, which must be in blocking mode.
+     */
+    public IonWriter newWriter(final WritableByteChannel channel) throws IOException
+    {
+        return newWriter(new ChannelOutputStream(channel));
+    }
+
     public IonBinaryWriter newLegacyWriter()
     {
         try
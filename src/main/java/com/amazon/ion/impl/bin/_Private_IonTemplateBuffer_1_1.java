@@ -0,0 +1,121 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonType;
+import com.amazon.ion.impl.bin.utf8.Utf8StringEncoder;
+import com.amazon.ion.impl.bin.utf8.Utf8StringEncoderPool;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Accumulates the Ion 1.1 binary encoding of a macro template as it is compiled by the binary reader. Containers are
+ * delimited, and all symbol text (field names, annotations, and symbol values) is written inline so that the template
+ * does not depend on any symbol table. Values whose encoding does not depend on the encoding context may be copied
+ * in directly with {@link #writeBytes(byte[], int, int)}.
+ * <p>
+ * This class is not intended for use outside of the Ion implementation.
+ */
+public final class _Private_IonTemplateBuffer_1_1 implements Closeable
+{
+    private static final int BLOCK_SIZE = 1024;
+
+    private final WriteBuffer buffer;
+    private final Utf8StringEncoder utf8Encoder;
+
+    public _Private_IonTemplateBuffer_1_1()
+    {
+        buffer = new WriteBuffer(BlockAllocatorProviders.basicProvider().vendAllocator(BLOCK_SIZE), () -> {});
+        utf8Encoder = Utf8StringEncoderPool.getInstance().getOrCreate();
+    }
+
+    /** Discards the template written so far. */
+    public void reset()
+    {
+        buffer.reset();
+    }
+
+    /** @return the number of bytes written since the last reset. */
+    public int position()
+    {
+        return (int) buffer.position();
+    }
+
+    /** Writes the given annotations, if any, as inline text. */
+    public void writeAnnotations(String[] annotations)
+    {
+        IonEncoder_1_1.writeFlexSymAnnotations(buffer, null, annotations, annotations.length, utf8Encoder);
+    }
+
+    /** Writes the given field name as inline text. Must only be called within a struct. */
+    public void writeFieldName(String text)
+    {
+        IonEncoder_1_1.writeFlexSym(buffer, text, utf8Encoder);
+    }
+
+    /** Writes a symbol value with the given inline text. */
+    public void writeSymbolValue(String text)
+    {
+        IonEncoder_1_1.writeSymbolValue(buffer, text, utf8Encoder);
+    }
+
+    /** Writes the opcode of a delimited container of the given type. */
+    public void stepIn(IonType containerType)
+    {
+        switch (containerType)
+        {
+            case LIST:
+                buffer.writeByte(OpCodes.DELIMITED_LIST);
+                break;
+            case SEXP:
+                buffer.writeByte(OpCodes.DELIMITED_SEXP);
+                break;
+            case STRUCT:
+                buffer.writeByte(OpCodes.DELIMITED_STRUCT);
+                break;
+            default:
+                throw new IllegalArgumentException("Not a container type: " + containerType);
+        }
+    }
+
+    /** Writes the end marker of a delimited container of the given type. */
+    public void stepOut(IonType containerType)
+    {
+        if (containerType == IonType.STRUCT)
+        {
+            // The end marker of a delimited struct occupies a field name position, so it is escaped as a FlexSym.
+            buffer.writeByte(Ion_1_1_Constants.FLEX_SYM_ESCAPE);
+        }
+        buffer.writeByte(OpCodes.DELIMITED_END_MARKER);
+    }
+
+    /** Writes bytes that are already encoded in Ion 1.1. */
+    public void writeBytes(byte[] bytes, int offset, int length)
+    {
+        buffer.writeBytes(bytes, offset, length);
+    }
+
+    /** @return the bytes written since the last reset. */
+    public byte[] toByteArray()
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(position());
+        try
+        {
+            buffer.writeTo(out);
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public void close()
+    {
+        buffer.close();
+        utf8Encoder.close();
+    }
+}
@@ -3,6 +3,7 @@ package com.amazon.ion.impl.bin.utf8;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 abstract class Pool<T extends Poolable<?>> {
 
@@ -20,23 +21,189 @@ abstract class Pool<T extends Poolable<?>> {
         T newInstance(Pool<T> pool);
     }
 
-    // The maximum number of objects that can be waiting in the queue before new ones will be discarded.
-    private static final int MAX_QUEUE_SIZE = 128;
+    /**
+     * The ways in which a pool may store the objects that are waiting to be loaned out.
+     */
+    enum Strategy {
+
+        /**
+         * All threads share a single queue. This is the most memory-efficient strategy, but threads that concurrently
+         * create and close readers or writers contend on the head and tail of the queue.
+         */
+        SHARED {
+            @Override
+            <T> Storage<T> newStorage() {
+                return new SharedStorage<T>();
+            }
+        },
+
+        /**
+         * Objects are stored in a fixed number of stripes, and each thread uses the stripe selected by its ID. Threads
+         * that use different stripes do not contend with each other. No state is kept per thread, so the memory held
+         * by the pool is bounded regardless of how many threads (including virtual threads) use it.
+         * <p>
+         * Experimental: the shared pools do not use this strategy, because it has not yet been benchmarked under
+         * contention on multiple cores. See PoolBenchmark.
+         */
+        STRIPED {
+            @Override
+            <T> Storage<T> newStorage() {
+                return new StripedStorage<T>(Runtime.getRuntime().availableProcessors());
+            }
+        };
+
+        abstract <T> Storage<T> newStorage();
+    }
+
+    /**
+     * Holds the objects that are waiting to be loaned out.
+     * @param <T> the type of object.
+     */
+    interface Storage<T> {
+
+        /**
+         * @return a stored object, or null if none is available to the calling thread.
+         */
+        T poll();
+
+        /**
+         * Stores the given object, or discards it if the storage is full.
+         * @param object the object.
+         */
+        void offer(T object);
+    }
+
+    // The maximum number of objects that can be waiting in the pool before new ones will be discarded.
+    static final int MAX_QUEUE_SIZE = 128;
+
+    /**
+     * Stores objects in one queue shared by all threads.
+     */
+    static final class SharedStorage<T> implements Storage<T> {
+
+        // A queue of previously initialized objects that can be loaned out.
+        private final Queue<T> objectQueue = new ConcurrentLinkedQueue<T>();
+
+        // The current size of the queue. Note: some implementations of Queue.size() (including ConcurrentLinkedQueue's)
+        // are not constant-time operations. Tracking the size externally is a performance optimization.
+        private final AtomicInteger size = new AtomicInteger(0);
 
-    // A queue of previously initialized objects that can be loaned out.
-    private final Queue<T> objectQueue;
+        @Override
+        public T poll() {
+            // The `poll` method does not block. If the queue is empty it returns `null` immediately.
+            T object = objectQueue.poll();
+            if (object != null) {
+                // An object was retrieved from the pool; decrement the pool size.
+                size.decrementAndGet();
+            }
+            return object;
+        }
+
+        @Override
+        public void offer(T object) {
+            // The `offer` method does not block. If the queue is full, it returns `false` immediately.
+            // If the provided instance cannot be added to the pool, we discard it silently.
+            if (size.getAndIncrement() < MAX_QUEUE_SIZE) {
+                objectQueue.offer(object);
+            } else {
+                // The pool was full. Since the size was optimistically incremented, decrement it now.
+                // Note: there is a race condition here that is deliberately allowed as an optimization.
+                // Under high contention, multiple threads could end up here before the first one
+                // decrements the size, causing objects to be dropped wastefully. This is not harmful
+                // because objects will be re-allocated when necessary; the pool is kept as close as
+                // possible to capacity on a best-effort basis. This race condition should not be "fixed"
+                // without a thorough study of the performance implications.
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Stores objects in a small array of slots per stripe, where the stripe is selected by the calling thread's ID.
+     * A thread that returns an object and then requests one (the common pattern when readers or writers are created
+     * and closed repeatedly) will usually get the same object back, touching only its own stripe.
+     */
+    static final class StripedStorage<T> implements Storage<T> {
 
-    // The current size of the queue. Note: some implementations of Queue.size() (including ConcurrentLinkedQueue's)
-    // are not constant-time operations. Tracking the size externally is a performance optimization.
-    private final AtomicInteger size;
+        // The maximum number of stripes. More stripes reduce contention but increase the number of objects retained.
+        private static final int MAX_STRIPES = 32;
+
+        // The maximum number of slots in each stripe, which bounds the cost of scanning a stripe.
+        private static final int MAX_SLOTS_PER_STRIPE = 8;
+
+        // The distance between the first slots of adjacent stripes. Slots past the end of a stripe are never used; they
+        // keep adjacent stripes on different cache lines.
+        private static final int STRIPE_STRIDE = 16;
+
+        private final AtomicReferenceArray<T> slots;
+        private final int stripeMask;
+        private final int slotsPerStripe;
+
+        /**
+         * @param concurrency the expected number of threads using the pool simultaneously, e.g. the number of
+         *                    processors.
+         */
+        StripedStorage(int concurrency) {
+            int numberOfStripes = 1;
+            while (numberOfStripes < concurrency && numberOfStripes < MAX_STRIPES) {
+                numberOfStripes <<= 1;
+            }
+            stripeMask = numberOfStripes - 1;
+            slotsPerStripe = Math.max(1, Math.min(MAX_SLOTS_PER_STRIPE, MAX_QUEUE_SIZE / numberOfStripes));
+            slots = new AtomicReferenceArray<T>(numberOfStripes * STRIPE_STRIDE);
+        }
+
+        /**
+         * @return the index of the first slot in the calling thread's stripe.
+         */
+        private int stripeStart() {
+            long id = Thread.currentThread().getId();
+            // Thread IDs are usually assigned sequentially. Mix the bits so that threads created together, which
+            // often have consecutive IDs, use different stripes no matter how many stripes there are.
+            int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return ((hash ^ (hash >>> 16)) & stripeMask) * STRIPE_STRIDE;
+        }
+
+        @Override
+        public T poll() {
+            int start = stripeStart();
+            for (int i = start; i < start + slotsPerStripe; i++) {
+                // Read before writing so that scanning empty slots does not take ownership of their cache line.
+                if (slots.get(i) != null) {
+                    T object = slots.getAndSet(i, null);
+                    if (object != null) {
+                        return object;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void offer(T object) {
+            int start = stripeStart();
+            for (int i = start; i < start + slotsPerStripe; i++) {
+                if (slots.get(i) == null && slots.compareAndSet(i, null, object)) {
+                    return;
+                }
+            }
+            // The stripe is full. Discard the object; it will be re-allocated if necessary.
+        }
+    }
+
+    // Holds previously initialized objects that can be loaned out.
+    private final Storage<T> storage;
 
     // Allocator of objects to be pooled.
     private final Allocator<T> allocator;
 
     Pool(Allocator<T> allocator) {
+        this(allocator, Strategy.SHARED);
+    }
+
+    Pool(Allocator<T> allocator, Strategy strategy) {
         this.allocator = allocator;
-        objectQueue = new ConcurrentLinkedQueue<T>();
-        size = new AtomicInteger(0);
+        this.storage = strategy.newStorage();
     }
 
     /**
@@ -46,14 +213,10 @@ abstract class Pool<T extends Poolable<?>> {
      * @return An object.
      */
     public T getOrCreate() {
-        // The `poll` method does not block. If the queue is empty it returns `null` immediately.
-        T object = objectQueue.poll();
+        T object = storage.poll();
         if (object == null) {
             // No objects were available in the pool. Create a new one.
             object = allocator.newInstance(this);
-        } else {
-            // An object was retrieved from the pool; decrement the pool size.
-            size.decrementAndGet();
         }
         return object;
     }
@@ -67,19 +230,6 @@ abstract class Pool<T extends Poolable<?>> {
      * @param object   An object to add to the pool.
      */
     public void returnToPool(T object) {
-        // The `offer` method does not block. If the queue is full, it returns `false` immediately.
-        // If the provided instance cannot be added to the pool, we discard it silently.
-        if (size.getAndIncrement() < MAX_QUEUE_SIZE) {
-            objectQueue.offer(object);
-        } else {
-            // The pool was full. Since the size was optimistically incremented, decrement it now.
-            // Note: there is a race condition here that is deliberately allowed as an optimization.
-            // Under high contention, multiple threads could end up here before the first one
-            // decrements the size, causing objects to be dropped wastefully. This is not harmful
-            // because objects will be re-allocated when necessary; the pool is kept as close as
-            // possible to capacity on a best-effort basis. This race condition should not be "fixed"
-            // without a thorough study of the performance implications.
-            size.decrementAndGet();
-        }
+        storage.offer(object);
     }
 }
@@ -36,14 +36,20 @@ public class Utf8StringDecoder extends Poolable<Utf8StringDecoder> {
     // The size of the UTF-8 decoding buffer.
     private static final int UTF8_BUFFER_SIZE_IN_BYTES = 4 * 1024;
 
+    // The high bit of each byte in a long. A run of bytes is ASCII if none of them has its high bit set.
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+
     private final CharBuffer reusableUtf8DecodingBuffer;
     private final CharsetDecoder utf8CharsetDecoder;
     private CharBuffer utf8DecodingBuffer;
+    // Holds ASCII bytes copied out of ByteBuffers that are not backed by an accessible array.
+    private final byte[] reusableAsciiBuffer;
 
     Utf8StringDecoder(Pool<Utf8StringDecoder> pool) {
         super(pool);
         reusableUtf8DecodingBuffer = CharBuffer.allocate(UTF8_BUFFER_SIZE_IN_BYTES);
         utf8CharsetDecoder = Charset.forName("UTF-8").newDecoder();
+        reusableAsciiBuffer = new byte[UTF8_BUFFER_SIZE_IN_BYTES];
     }
 
     /**
@@ -86,6 +92,9 @@ public class Utf8StringDecoder extends Poolable<Utf8StringDecoder> {
      * @return the decoded Java String.
      */
     public String decode(ByteBuffer utf8InputBuffer, int numberOfBytes) {
+        if (isAscii(utf8InputBuffer, utf8InputBuffer.position(), numberOfBytes)) {
+            return decodeAscii(utf8InputBuffer, numberOfBytes);
+        }
         prepareDecode(numberOfBytes);
 
         utf8DecodingBuffer.position(0);
@@ -94,4 +103,49 @@ public class Utf8StringDecoder extends Poolable<Utf8StringDecoder> {
         partialDecode(utf8InputBuffer, true);
         return finishDecode();
     }
+
+    /**
+     * Determines whether the given range of bytes is entirely ASCII, and therefore valid UTF-8 that decodes to one
+     * char per byte. The bytes are checked eight at a time by testing the high bit of each byte in a long, stopping
+     * at the first word that contains a non-ASCII byte.
+     * @param buffer the buffer containing the bytes.
+     * @param index the absolute index of the first byte.
+     * @param numberOfBytes the number of bytes to check.
+     * @return true if none of the bytes has its high bit set; otherwise, false.
+     */
+    private static boolean isAscii(ByteBuffer buffer, int index, int numberOfBytes) {
+        int end = index + numberOfBytes;
+        int wordsEnd = end - (Long.SIZE / Byte.SIZE) + 1;
+        for (; index < wordsEnd; index += Long.SIZE / Byte.SIZE) {
+            if ((buffer.getLong(index) & NON_ASCII_MASK) != 0) {
+                return false;
+            }
+        }
+        for (; index < end; index++) {
+            if (buffer.get(index) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a String directly from the given number of ASCII bytes, starting at the buffer's position, and advances
+     * the position past them.
+     */
+    @SuppressWarnings("deprecation")
+    private String decodeAscii(ByteBuffer asciiInputBuffer, int numberOfBytes) {
+        int position = asciiInputBuffer.position();
+        if (asciiInputBuffer.hasArray()) {
+            asciiInputBuffer.position(position + numberOfBytes);
+            // This constructor copies bytes without decoding them when the high byte of each char is zero.
+            return new String(asciiInputBuffer.array(), 0, asciiInputBuffer.arrayOffset() + position, numberOfBytes);
+        }
+        byte[] ascii = reusableAsciiBuffer;
+        if (numberOfBytes > ascii.length) {
+            ascii = new byte[numberOfBytes];
+        }
+        asciiInputBuffer.get(ascii, 0, numberOfBytes);
+        return new String(ascii, 0, 0, numberOfBytes);
+    }
 }
@@ -118,6 +118,24 @@ public class Utf8StringEncoder extends Poolable<Utf8StringEncoder> {
         return new Result(utf8Length, encodingBuffer.array());
     }
 
+    /**
+     * Determines whether the given String consists entirely of ASCII characters, in which case its UTF-8 encoding is
+     * one byte per char, equal to the char's value. Callers may use this to write such Strings directly to their
+     * output, bypassing {@link #encode(String)} and its intermediate buffers.
+     *
+     * @param text a Java String.
+     * @return true if every char in the String is less than 0x80; otherwise, false.
+     */
+    public static boolean isAscii(String text) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Represents the result of a {@link Utf8StringEncoder#encode(String)} operation.
      */
@@ -51,6 +51,9 @@ abstract class IonContainerLite
     // implementation of getSystem(). Scalar IonValueLite implementations will continue to delegate to the parent
     // context, but the parent context will always be able to provide the IonSystem without further delegation.
     protected IonSystemLite  ionSystem;
+    // When non-null, this container was loaded lazily and its children have not yet been decoded. In that case,
+    // `_children` and `_child_count` are not yet valid; see `materialize()`.
+    private LazyContainerContent lazyContent;
 
     protected IonContainerLite(ContainerlessContext context, boolean isNull)
     {
@@ -63,6 +66,8 @@ abstract class IonContainerLite
     IonContainerLite(IonContainerLite existing, IonContext context) {
         super(existing, context);
         this.ionSystem = existing.ionSystem;
+        // The encoded content is immutable, so a lazy container's clone can share it instead of decoding it.
+        this.lazyContent = existing.lazyContent;
     }
 
     // See the comment on the `ionSystem` member field for more information.
@@ -204,6 +209,12 @@ abstract class IonContainerLite
             assert _child_count == 0;
             _isNullValue(false);
         }
+        else if (lazyContent != null)
+        {
+            // There is no need to decode children that are about to be discarded.
+            lazyContent = null;
+            structuralModificationCount++;
+        }
         else if (!isEmpty())
         {
             detachAllChildren();
@@ -285,6 +296,7 @@ abstract class IonContainerLite
             if (_isLocked() && !readOnly) {
                 throw new IllegalStateException("you can't open an updatable iterator on a read only value");
             }
+            materialize();
             if (index < 0 || index > _child_count) {
                 throw new IndexOutOfBoundsException(Integer.toString(index));
             }
@@ -760,11 +772,42 @@ abstract class IonContainerLite
 
     }
 
+    /**
+     * Attaches the encoded form of this container's children, which will be decoded on first access.
+     * @param content the encoded container.
+     */
+    final void setLazyContent(LazyContainerContent content) {
+        assert _child_count == 0 && !_isNullValue();
+        lazyContent = content;
+    }
+
+    /**
+     * @return true if this container was loaded lazily and its children have not yet been decoded.
+     */
+    final boolean isLazy() {
+        return lazyContent != null;
+    }
+
+    /**
+     * Decodes this container's children if it was loaded lazily. This must be called before `_children` or
+     * `_child_count` is accessed directly unless the container is known to have been materialized already.
+     */
+    final void materialize() {
+        if (lazyContent != null) {
+            LazyContainerContent content = lazyContent;
+            // Cleared first because adding the decoded children re-enters the child accessors.
+            lazyContent = null;
+            ionSystem.loadLazyChildren(this, content);
+        }
+    }
+
     public final int get_child_count() {
+        materialize();
         return _child_count;
     }
 
     public final IonValueLite get_child(int idx) {
+        materialize();
         if (idx < 0 || idx >= _child_count) {
             throw new IndexOutOfBoundsException(Integer.toString(idx));
         }
@@ -774,6 +817,7 @@ abstract class IonContainerLite
 
     final IonValueLite set_child(int idx, IonValueLite child)
     {
+        materialize();
         if (idx < 0 || idx >= _child_count) {
             throw new IndexOutOfBoundsException(Integer.toString(idx));
         }
@@ -793,6 +837,7 @@ abstract class IonContainerLite
      */
     protected int add_child(int idx, IonValueLite child)
     {
+        materialize();
         _isNullValue(false); // if we add children we're not null anymore
         child.setContext(this.getContextForIndex(child, idx));
         if (_children == null || _child_count >= _children.length) {
@@ -832,6 +877,7 @@ abstract class IonContainerLite
      */
     void remove_child(int idx)
     {
+        materialize();
         assert(idx >=0);
         assert(idx < get_child_count()); // this also asserts child count > 0
         assert get_child(idx) != null : "No child at index " + idx;
@@ -22,9 +22,13 @@ import com.amazon.ion.IonException;
 import com.amazon.ion.IonLoader;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
 import com.amazon.ion.IonWriter;
+import com.amazon.ion.OffsetSpan;
+import com.amazon.ion.SpanProvider;
 import com.amazon.ion.impl._Private_IonWriterFactory;
 import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.util.IonStreamUtils;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -136,12 +140,58 @@ final class IonLoaderLite
         }
     }
 
+    /**
+     * Loads binary Ion data into a datagram whose top-level containers are
+     * lazy; see {@link IonContainerLite#materialize()}. Scalars and
+     * annotations are still loaded eagerly, because they are needed to
+     * establish the datagram's symbol tables.
+     *
+     * @return a new datagram; not null.
+     */
+    private IonDatagramLite load_lazily_helper(IonReader reader, byte[] ionData)
+    throws IOException
+    {
+        IonDatagramLite datagram = new IonDatagramLite(_system, _catalog);
+        IonWriter writer = _Private_IonWriterFactory.makeWriter(datagram);
+        SpanProvider spanProvider = reader.asFacet(SpanProvider.class);
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            if (reader.isNullValue() || !IonType.isContainer(type))
+            {
+                writer.writeValue(reader);
+                continue;
+            }
+            // Write an empty container, then attach the encoded children to it.
+            writer.setTypeAnnotationSymbols(reader.getTypeAnnotationSymbols());
+            writer.stepIn(type);
+            writer.stepOut();
+            IonContainerLite container =
+                (IonContainerLite) datagram.get_child(datagram.get_child_count() - 1);
+            container.setLazyContent(LazyContainerContent.fromSpan(
+                _readerBuilder,
+                ionData,
+                0,
+                spanProvider.currentSpan().asFacet(OffsetSpan.class),
+                reader.getSymbolTable()
+            ));
+        }
+        return datagram;
+    }
+
     public IonDatagram load(byte[] ionData) throws IonException
     {
         IonReader reader = _readerBuilder.build(ionData, 0, ionData.length);
         try {
+            if (_system.isLazyBinaryLoadingEnabled() && IonStreamUtils.isIonBinary(ionData))
+            {
+                return load_lazily_helper(reader, ionData);
+            }
             return load(reader);
         }
+        catch (IOException e) {
+            throw new IonException(e);
+        }
         finally {
             try {
                 reader.close();
@@ -101,7 +101,7 @@ final class IonStructLite
 
     @Override
     void forceMaterializationOfLazyState() {
-        fieldMapIsActive(_child_count);
+        fieldMapIsActive(get_child_count());
     }
 
     private void add_field(String fieldName, int newFieldIdx)
@@ -296,6 +296,7 @@ final class IonStructLite
 
     private IonStruct doClone(boolean keep, String... fieldNames)
     {
+        materialize();
         IonStructLite clone;
         if (isNullValue())
         {
@@ -393,7 +394,7 @@ final class IonStructLite
         if (isNullValue()) {
             // nothing to see here, move along
         }
-        else if (fieldMapIsActive(_child_count)) {
+        else if (fieldMapIsActive(get_child_count())) {
             Integer idx = _field_map.get(fieldName);
             if (idx != null) {
                 return idx;
@@ -455,10 +456,10 @@ final class IonStructLite
         hasNullFieldName |= fieldName == null;
 
         // add this to the Container child collection
-        add(_child_count, child);
+        add(get_child_count(), child);
 
         // if we have a hash map we need to update it now
-        if (fieldMapIsActive(_child_count)) {
+        if (fieldMapIsActive(get_child_count())) {
             add_field(fieldName, child._elementid());
         }
     }
@@ -536,12 +537,12 @@ final class IonStructLite
         validateFieldName(fieldName);
         if (value != null) validateNewChild(value);
 
-        int lowestRemovedIndex = _child_count;
+        int lowestRemovedIndex = get_child_count();
         boolean any_removed = false;
 
         // first we remove the any existing fields
         // associated with fieldName (which may be none)
-        if (_field_map_duplicate_count == 0 && fieldMapIsActive(_child_count))
+        if (_field_map_duplicate_count == 0 && fieldMapIsActive(get_child_count()))
         {
             // we have a map and no duplicates so the index
             // (aka map) is all we need to find the only
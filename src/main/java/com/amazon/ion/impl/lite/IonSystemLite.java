@@ -26,6 +26,8 @@ import com.amazon.ion.IonTimestamp;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IonValue;
 import com.amazon.ion.IonWriter;
+import com.amazon.ion.OffsetSpan;
+import com.amazon.ion.SpanProvider;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SymbolToken;
 import com.amazon.ion.UnexpectedEofException;
@@ -66,10 +68,19 @@ final class IonSystemLite
     private final _Private_IonBinaryWriterBuilder myBinaryWriterBuilder;
     /** Immutable. **/
     private final IonReaderBuilder myReaderBuilder;
+    private final boolean myLazyBinaryLoadingEnabled;
 
     public IonSystemLite(IonTextWriterBuilder twb,
                           _Private_IonBinaryWriterBuilder bwb,
                           IonReaderBuilder rb)
+    {
+        this(twb, bwb, rb, false);
+    }
+
+    public IonSystemLite(IonTextWriterBuilder twb,
+                          _Private_IonBinaryWriterBuilder bwb,
+                          IonReaderBuilder rb,
+                          boolean lazyBinaryLoadingEnabled)
     {
         IonCatalog catalog = twb.getCatalog();
         assert catalog != null;
@@ -78,6 +89,7 @@ final class IonSystemLite
 
         _catalog = catalog;
         myReaderBuilder = ((_Private_IonReaderBuilder) rb).withLstFactory(_lstFactory).immutable();
+        myLazyBinaryLoadingEnabled = lazyBinaryLoadingEnabled;
         _loader = new IonLoaderLite(this, catalog);
         _system_symbol_table = bwb.getInitialSymbolTable();
         assert _system_symbol_table.isSystemTable();
@@ -94,6 +106,10 @@ final class IonSystemLite
         return myReaderBuilder;
     }
 
+    boolean isLazyBinaryLoadingEnabled() {
+        return myLazyBinaryLoadingEnabled;
+    }
+
     //==========================================================================
     // IonSystem Methods
     //==========================================================================
@@ -320,6 +336,27 @@ final class IonSystemLite
         return new ValueLoader().load(reader);
     }
 
+    /**
+     * Decodes the children of a lazily-loaded container and adds them to it.
+     * @param container the container, which must be empty.
+     * @param content the container's encoded form.
+     */
+    void loadLazyChildren(IonContainerLite container, LazyContainerContent content)
+    {
+        IonReader reader = content.newReader();
+        try {
+            new ValueLoader().loadChildren(container, reader, content);
+        }
+        finally {
+            try {
+                reader.close();
+            }
+            catch (IOException e) {
+                throw new IonException(e);
+            }
+        }
+    }
+
     IonValueLite newValue(IonType valueType)
     {
         IonValueLite v;
@@ -795,6 +832,31 @@ final class IonSystemLite
             parent.add(value);
         }
 
+        // Populates a lazily-loaded container with the children of the container over which the provided `reader` is
+        // positioned. Child containers are not populated; instead, each is given lazy content of its own, so that
+        // only the containers that are actually accessed are ever decoded.
+        void loadChildren(IonContainerLite container, IonReader reader, LazyContainerContent content) {
+            this.reader = reader;
+            containerStack.clear();
+            containerStack.add(container);
+            SpanProvider spanProvider = reader.asFacet(SpanProvider.class);
+            reader.stepIn();
+            while (reader.next() != null) {
+                IonValueLite value = shallowLoadCurrentValue();
+                boolean isSymbolPresent = value.getType().equals(IonType.SYMBOL);
+                isSymbolPresent |= cloneFieldNameIfAny(value);
+                isSymbolPresent |= cloneAnnotationsIfAny(value);
+                value._isSymbolPresent(isSymbolPresent);
+                if (!reader.isNullValue() && IonType.isContainer(reader.getType())) {
+                    ((IonContainerLite) value).setLazyContent(
+                        content.child(spanProvider.currentSpan().asFacet(OffsetSpan.class))
+                    );
+                }
+                attachToParent(value);
+            }
+            containerStack.clear();
+        }
+
         // Materializes the Ion value over which the provided `reader` is currently positioned.
         // If the reader is not positioned over a value, returns `null`.
         public IonValueLite load(IonReader reader) {
@@ -0,0 +1,75 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.lite;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.OffsetSpan;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.impl._Private_IonReaderFactory;
+import com.amazon.ion.system.IonReaderBuilder;
+
+/**
+ * The encoded form of a lazily-loaded container: the range of a byte array that holds the container's binary Ion
+ * encoding, along with the symbol table needed to decode it. Instances are immutable, so they may be shared by a
+ * container and its clones.
+ */
+final class LazyContainerContent {
+
+    private final IonReaderBuilder builder;
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final SymbolTable symbolTable;
+
+    /**
+     * @param builder the builder used to configure readers over the content.
+     * @param bytes the array that holds the encoded container. Must not be modified.
+     * @param offset the index of the first byte of the container's encoding, including any annotation wrapper.
+     * @param length the number of bytes in the container's encoding.
+     * @param symbolTable the symbol table in effect where the container occurs.
+     */
+    LazyContainerContent(IonReaderBuilder builder, byte[] bytes, int offset, int length, SymbolTable symbolTable) {
+        this.builder = builder;
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.symbolTable = symbolTable;
+    }
+
+    /**
+     * Creates content that begins at the given span.
+     * @param builder the builder used to configure readers over the content.
+     * @param bytes the array that holds the encoded container. Must not be modified.
+     * @param baseOffset the index in `bytes` from which the span's offsets are measured.
+     * @param span the span of the container's encoding.
+     * @param symbolTable the symbol table in effect where the container occurs.
+     * @return a new instance.
+     */
+    static LazyContainerContent fromSpan(IonReaderBuilder builder, byte[] bytes, int baseOffset, OffsetSpan span, SymbolTable symbolTable) {
+        return new LazyContainerContent(
+            builder,
+            bytes,
+            baseOffset + (int) span.getStartOffset(),
+            (int) (span.getFinishOffset() - span.getStartOffset()),
+            symbolTable
+        );
+    }
+
+    /**
+     * Creates content for a child container, given its span as reported by a reader created by {@link #newReader()}.
+     * @param span the child's span.
+     * @return a new instance.
+     */
+    LazyContainerContent child(OffsetSpan span) {
+        return fromSpan(builder, bytes, offset, span, symbolTable);
+    }
+
+    /**
+     * @return a new reader positioned on the container. The caller is responsible for closing it.
+     */
+    IonReader newReader() {
+        IonReader reader = _Private_IonReaderFactory.makeReaderBinary(builder, bytes, offset, length, symbolTable);
+        reader.next();
+        return reader;
+    }
+}
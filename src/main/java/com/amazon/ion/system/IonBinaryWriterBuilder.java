@@ -20,7 +20,11 @@ import com.amazon.ion.IonReader;
 import com.amazon.ion.IonWriter;
 import com.amazon.ion.SubstituteSymbolTableException;
 import com.amazon.ion.SymbolTable;
+import com.amazon.ion.WriterMetricsListener;
 import com.amazon.ion.impl._Private_IonBinaryWriterBuilder;
+import com.amazon.ion.impl.bin.BlockPool;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 
 /**
@@ -40,6 +44,12 @@ public abstract class IonBinaryWriterBuilder
     extends IonWriterBuilderBase<IonBinaryWriterBuilder>
 {
     private boolean myStreamCopyOptimized;
+    private WriterMetricsListener myMetricsListener;
+    private BlockPool myBlockPool;
+    private boolean myReverseEncodingEnabled;
+    private int myIonMinorVersion;
+    private boolean myExperimentalIon11Enabled;
+    private String myMacroDefinitions;
 
 
     /** NOT FOR APPLICATION USE! */
@@ -54,6 +64,12 @@ public abstract class IonBinaryWriterBuilder
         super(that);
 
         this.myStreamCopyOptimized = that.myStreamCopyOptimized;
+        this.myMetricsListener = that.myMetricsListener;
+        this.myBlockPool = that.myBlockPool;
+        this.myReverseEncodingEnabled = that.myReverseEncodingEnabled;
+        this.myIonMinorVersion = that.myIonMinorVersion;
+        this.myExperimentalIon11Enabled = that.myExperimentalIon11Enabled;
+        this.myMacroDefinitions = that.myMacroDefinitions;
     }
 
 
@@ -319,4 +335,365 @@ public abstract class IonBinaryWriterBuilder
         b.setStreamCopyOptimized(optimized);
         return b;
     }
+
+
+    /**
+     * Gets the listener that built writers notify of buffer, flush, and symbol table events.
+     * By default, this property is null.
+     *
+     * @see #setMetricsListener(WriterMetricsListener)
+     * @see #withMetricsListener(WriterMetricsListener)
+     */
+    public WriterMetricsListener getMetricsListener()
+    {
+        return myMetricsListener;
+    }
+
+    /**
+     * Declares the listener that built writers notify of buffer, flush, and symbol table events.
+     * By default, this property is null, and writers do not report metrics.
+     *
+     * @param listener the listener, or null to disable metrics.
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     *
+     * @see #getMetricsListener()
+     * @see #withMetricsListener(WriterMetricsListener)
+     */
+    public void setMetricsListener(WriterMetricsListener listener)
+    {
+        mutationCheck();
+        myMetricsListener = listener;
+    }
+
+    /**
+     * Declares the listener that built writers notify of buffer, flush, and symbol table events,
+     * returning a new mutable builder if this is immutable.
+     *
+     * @param listener the listener, or null to disable metrics.
+     *
+     * @see #getMetricsListener()
+     * @see #setMetricsListener(WriterMetricsListener)
+     */
+    public final
+    IonBinaryWriterBuilder withMetricsListener(WriterMetricsListener listener)
+    {
+        IonBinaryWriterBuilder b = mutable();
+        b.setMetricsListener(listener);
+        return b;
+    }
+
+    /**
+     * Gets the pool from which built writers allocate their buffer blocks.
+     * By default, this property is null, and writers use a pool shared by all writers that do not declare one.
+     *
+     * @see #setBlockPool(BlockPool)
+     * @see #withBlockPool(BlockPool)
+     */
+    public BlockPool getBlockPool()
+    {
+        return myBlockPool;
+    }
+
+    /**
+     * Declares the pool from which built writers allocate their buffer blocks. Writers that share a pool reuse each
+     * other's released blocks, and the pool bounds the memory retained by free blocks. See {@link BlockPool}.
+     * By default, this property is null, and writers use a pool shared by all writers that do not declare one.
+     *
+     * @param pool the pool, or null to use the default pool.
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     *
+     * @see #getBlockPool()
+     * @see #withBlockPool(BlockPool)
+     */
+    public void setBlockPool(BlockPool pool)
+    {
+        mutationCheck();
+        myBlockPool = pool;
+    }
+
+    /**
+     * Declares the pool from which built writers allocate their buffer blocks,
+     * returning a new mutable builder if this is immutable.
+     *
+     * @param pool the pool, or null to use the default pool.
+     *
+     * @see #getBlockPool()
+     * @see #setBlockPool(BlockPool)
+     */
+    public final
+    IonBinaryWriterBuilder withBlockPool(BlockPool pool)
+    {
+        IonBinaryWriterBuilder b = mutable();
+        b.setBlockPool(pool);
+        return b;
+    }
+
+
+    /**
+     * Determines whether built writers encode each top-level value from back
+     * to front.
+     * By default, this property is false.
+     *
+     * @see #setReverseEncodingEnabled(boolean)
+     * @see #withReverseEncodingEnabled(boolean)
+     */
+    public boolean isReverseEncodingEnabled()
+    {
+        return myReverseEncodingEnabled;
+    }
+
+    /**
+     * Declares whether built writers encode each top-level value from back
+     * to front.
+     * <p>
+     * By default, writers reserve space for the length of each container and
+     * annotation wrapper as it is started, then fill in the length when it is
+     * complete. Lengths that do not fit in the reserved space either shift the
+     * contents of the container or are spliced in when the data is flushed.
+     * When this property is true, writers instead buffer the structure of
+     * each top-level value and encode it from back to front once it is
+     * complete, when every length is known. This removes the shifting and
+     * splicing, at the cost of copying each top-level value once, and is
+     * most effective for deeply nested data.
+     * The encoded data is equivalent either way.
+     * By default, this property is false.
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     *
+     * @see #isReverseEncodingEnabled()
+     * @see #withReverseEncodingEnabled(boolean)
+     */
+    public void setReverseEncodingEnabled(boolean enabled)
+    {
+        mutationCheck();
+        myReverseEncodingEnabled = enabled;
+    }
+
+    /**
+     * Declares whether built writers encode each top-level value from back
+     * to front, returning a new mutable builder if this is immutable.
+     *
+     * @see #isReverseEncodingEnabled()
+     * @see #setReverseEncodingEnabled(boolean)
+     */
+    public final
+    IonBinaryWriterBuilder withReverseEncodingEnabled(boolean enabled)
+    {
+        IonBinaryWriterBuilder b = mutable();
+        b.setReverseEncodingEnabled(enabled);
+        return b;
+    }
+
+
+    /**
+     * Gets the minor version of Ion 1.x that built writers encode.
+     * By default, this property is 0.
+     *
+     * @see #setIonMinorVersion(int)
+     * @see #withIonMinorVersion(int)
+     */
+    public int getIonMinorVersion()
+    {
+        return myIonMinorVersion;
+    }
+
+    /**
+     * Declares the minor version of Ion 1.x that built writers encode:
+     * 0 for Ion 1.0 or 1 for Ion 1.1.
+     * <p>
+     * Ion 1.1 writers use the compact Ion 1.1 encodings for scalars, write
+     * symbols by address, and write containers delimited, with an end marker
+     * rather than a length prefix, so that no container length needs to be
+     * reserved or patched. The preallocation, 32-bit float, and reverse
+     * encoding properties govern Ion 1.0 encodings and are ignored by
+     * Ion 1.1 writers, which always write the smallest lossless float, and
+     * stream copy optimization is not applied, since it copies Ion 1.0
+     * encoded values.
+     * <p>
+     * Writing Ion 1.1 is experimental: writers can only be built for
+     * version 1 when {@link #setExperimentalIon11Enabled(boolean)} is true.
+     * By default, this property is 0.
+     *
+     * @param minorVersion 0 or 1.
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     * @throws IllegalArgumentException if the version is not supported.
+     *
+     * @see #getIonMinorVersion()
+     * @see #withIonMinorVersion(int)
+     */
+    public void setIonMinorVersion(int minorVersion)
+    {
+        mutationCheck();
+        if (minorVersion != 0 && minorVersion != 1)
+        {
+            throw new IllegalArgumentException("Unsupported Ion version: 1." + minorVersion);
+        }
+        myIonMinorVersion = minorVersion;
+    }
+
+    /**
+     * Declares the minor version of Ion 1.x that built writers encode,
+     * returning a new mutable builder if this is immutable.
+     *
+     * @param minorVersion 0 or 1.
+     *
+     * @see #getIonMinorVersion()
+     * @see #setIonMinorVersion(int)
+     */
+    public final
+    IonBinaryWriterBuilder withIonMinorVersion(int minorVersion)
+    {
+        IonBinaryWriterBuilder b = mutable();
+        b.setIonMinorVersion(minorVersion);
+        return b;
+    }
+
+
+    /**
+     * Determines whether writers may be built for Ion 1.1, which is
+     * experimental.
+     * By default, this property is false.
+     *
+     * @see #setExperimentalIon11Enabled(boolean)
+     * @see #withExperimentalIon11Enabled(boolean)
+     */
+    public boolean isExperimentalIon11Enabled()
+    {
+        return myExperimentalIon11Enabled;
+    }
+
+    /**
+     * Declares whether writers may be built for Ion 1.1, when
+     * {@link #setIonMinorVersion(int)} selects it.
+     * <p>
+     * Ion 1.1 writing is experimental because symbols are not declared with
+     * Ion 1.1 encoding directives. Following the {@code $ion_1_1} version
+     * marker, Ion 1.1 writers declare their symbols in the Ion 1.0 style, as
+     * an {@code $ion_symbol_table} struct over the Ion 1.0 system symbol
+     * table. This library's readers accept that output, but other Ion 1.1
+     * implementations cannot resolve its symbols, so it should not be
+     * exchanged with them.
+     * By default, this property is false, and building a writer for Ion 1.1
+     * throws {@link UnsupportedOperationException}.
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     *
+     * @see #isExperimentalIon11Enabled()
+     * @see #withExperimentalIon11Enabled(boolean)
+     */
+    public void setExperimentalIon11Enabled(boolean enabled)
+    {
+        mutationCheck();
+        myExperimentalIon11Enabled = enabled;
+    }
+
+    /**
+     * Declares whether writers may be built for Ion 1.1, returning a new
+     * mutable builder if this is immutable.
+     *
+     * @see #isExperimentalIon11Enabled()
+     * @see #setExperimentalIon11Enabled(boolean)
+     */
+    public final
+    IonBinaryWriterBuilder withExperimentalIon11Enabled(boolean enabled)
+    {
+        IonBinaryWriterBuilder b = mutable();
+        b.setExperimentalIon11Enabled(enabled);
+        return b;
+    }
+
+
+    /**
+     * Gets the Ion text of the macro definitions that Ion 1.1 writers use
+     * to compress structs.
+     * By default, this property is null.
+     *
+     * @see #setMacroDefinitions(String)
+     * @see #withMacroDefinitions(String)
+     */
+    public String getMacroDefinitions()
+    {
+        return myMacroDefinitions;
+    }
+
+    /**
+     * Declares macros that Ion 1.1 writers use to compress structs, as the
+     * Ion text of zero or more definitions of the form
+     * {@code (macro name (parameter ...) template)}. Each template must be
+     * an unannotated struct with distinct field names, each of which holds
+     * either an unannotated scalar constant or a variable reference
+     * {@code (% parameter)} to a parameter that is referenced by no other
+     * field. For example:
+     * <pre>
+     * (macro reading (time value) {kind: sensor, unit: "C", time: (% time), value: (% value)})
+     * </pre>
+     * <p>
+     * Each stream declares the macros in an encoding directive that follows
+     * its version marker. Each unannotated struct that has exactly the
+     * template's fields, with equal constants, is then written as an
+     * e-expression that invokes the macro with the values of the variable
+     * fields as arguments, so that the field names and constants of
+     * fixed-shape records are not repeated. Ion 1.0 writers ignore this
+     * property.
+     * By default, this property is null.
+     *
+     * @param definitions the Ion text of the macro definitions, or null.
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     * @throws IllegalArgumentException if the definitions are invalid or
+     * not supported.
+     *
+     * @see #getMacroDefinitions()
+     * @see #withMacroDefinitions(String)
+     */
+    public void setMacroDefinitions(String definitions)
+    {
+        mutationCheck();
+        myMacroDefinitions = definitions;
+    }
+
+    /**
+     * Declares macros that Ion 1.1 writers use to compress structs,
+     * returning a new mutable builder if this is immutable.
+     *
+     * @param definitions the Ion text of the macro definitions, or null.
+     *
+     * @see #getMacroDefinitions()
+     * @see #setMacroDefinitions(String)
+     */
+    public final
+    IonBinaryWriterBuilder withMacroDefinitions(String definitions)
+    {
+        IonBinaryWriterBuilder b = mutable();
+        b.setMacroDefinitions(definitions);
+        return b;
+    }
+
+
+    /**
+     * Builds a new writer that writes to the given channel. Each time the
+     * writer flushes, the contents of its symbol table and user value buffers
+     * are written with a single gathering write when the channel is a
+     * {@link java.nio.channels.GatheringByteChannel}, such as a
+     * {@link java.nio.channels.FileChannel} or
+     * {@link java.nio.channels.SocketChannel}, avoiding a write per buffer
+     * block and the copy through an intermediate stream.
+     * <p>
+     * Closing the writer closes the channel.
+     * <p>
+     * The default implementation writes to the channel through a stream, as if
+     * by {@link #build(java.io.OutputStream)}. Subclasses should override it.
+     *
+     * @param out the channel that will receive Ion data. Must not be null,
+     * and must be in blocking mode.
+     *
+     * @return a new {@link IonWriter} instance; not {@code null}.
+     */
+    public IonWriter build(WritableByteChannel out)
+    {
+        return build(Channels.newOutputStream(out));
+    }
 }
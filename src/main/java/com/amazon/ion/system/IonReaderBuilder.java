@@ -23,11 +23,21 @@ import com.amazon.ion.IonStruct;
 import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonTextReader;
 import com.amazon.ion.IonValue;
+import com.amazon.ion.ReaderMetricsListener;
 import com.amazon.ion.impl._Private_IonReaderBuilder;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Build a new {@link IonReader} from the given {@link IonCatalog} and data
@@ -37,6 +47,20 @@ import java.io.Reader;
  * {@link IonReader}s parse incrementally, so syntax errors in the input data
  * will not be detected as side effects of any of the {@code build} methods
  * in this class.
+ * <p>
+ * Binary readers also read Ion 1.1 data, with some limitations:
+ * <ul>
+ *   <li>Reading every value takes up to about 10% longer than reading the
+ *   same data encoded as Ion 1.0.</li>
+ *   <li>Skipping values, and incrementally reading streams of top-level
+ *   containers, are slower than for Ion 1.0, because delimited containers
+ *   have no length prefix and must be scanned to find their ends.</li>
+ *   <li>Spans and seeking are not supported. Requesting a span over Ion 1.1
+ *   data from a {@link com.amazon.ion.SpanProvider},
+ *   {@link com.amazon.ion.SeekableReader}, or
+ *   {@link com.amazon.ion.RawValueSpanProvider} facet throws
+ *   {@link UnsupportedOperationException}.</li>
+ * </ul>
  */
 @SuppressWarnings("deprecation")
 public abstract class IonReaderBuilder
@@ -45,6 +69,10 @@ public abstract class IonReaderBuilder
     private IonCatalog catalog = null;
     private boolean isIncrementalReadingEnabled = false;
     private IonBufferConfiguration bufferConfiguration = IonBufferConfiguration.DEFAULT;
+    private Set<List<String>> fieldPathProjection = null;
+    private ReaderMetricsListener metricsListener = null;
+    private boolean isStructuralIndexingEnabled = false;
+    private boolean isUtf8TextTokenizerEnabled = false;
 
     protected IonReaderBuilder()
     {
@@ -55,6 +83,10 @@ public abstract class IonReaderBuilder
         this.catalog = that.catalog;
         this.isIncrementalReadingEnabled = that.isIncrementalReadingEnabled;
         this.bufferConfiguration = that.bufferConfiguration;
+        this.fieldPathProjection = that.fieldPathProjection;
+        this.metricsListener = that.metricsListener;
+        this.isStructuralIndexingEnabled = that.isStructuralIndexingEnabled;
+        this.isUtf8TextTokenizerEnabled = that.isUtf8TextTokenizerEnabled;
     }
 
     /**
@@ -263,6 +295,216 @@ public abstract class IonReaderBuilder
         return bufferConfiguration;
     }
 
+    /**
+     * Sets the listener that receives metrics about how built readers manage their input, such as buffer refills,
+     * buffer growth, and local symbol tables read. This configuration is optional. If not provided, no metrics are
+     * collected.
+     *
+     * @param listener the listener, or null to disable metrics.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setMetricsListener(ReaderMetricsListener)
+     */
+    public IonReaderBuilder withMetricsListener(ReaderMetricsListener listener) {
+        IonReaderBuilder b = mutable();
+        b.setMetricsListener(listener);
+        return b;
+    }
+
+    /**
+     * @see #withMetricsListener(ReaderMetricsListener)
+     */
+    public void setMetricsListener(ReaderMetricsListener listener) {
+        mutationCheck();
+        metricsListener = listener;
+    }
+
+    /**
+     * @see #withMetricsListener(ReaderMetricsListener)
+     * @return the current listener, or null if metrics are disabled.
+     */
+    public ReaderMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Limits the values surfaced by built readers to the given field paths. Each path is a sequence of field names
+     * leading from a top-level struct to a value of interest; for example, {@code Arrays.asList("order", "total")}
+     * selects the {@code total} field of the struct in the {@code order} field of each top-level struct.
+     * <p>
+     * When paths are configured, readers surface values as follows:
+     * <ul>
+     *     <li>Top-level values always surface.</li>
+     *     <li>A struct field surfaces only if its name continues one of the paths. If a path ends at the field, the
+     *     field's value surfaces in its entirety. Otherwise, the value surfaces only if it is a non-null container,
+     *     and its children are subject to the remainder of the paths.</li>
+     *     <li>The elements of a list or sexp are subject to the same paths as the sequence itself, so that paths may
+     *     pass through sequences of structs. Only non-null containers surface, because scalars cannot contain the
+     *     requested fields.</li>
+     * </ul>
+     * Values that do not surface are skipped by {@link IonReader#next()} as if they were absent from the stream.
+     * Binary readers skip them using their length prefixes without decoding them or their field names; field paths
+     * are matched against symbol IDs, which are resolved again whenever the local symbol table changes.
+     * <p>
+     * Projection applies to readers over binary and text Ion. Readers over {@link IonValue}s do not support it.
+     *
+     * @param fieldPaths the paths, or null to surface all values. Each path must contain at least one field name,
+     *                   and must not contain null.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setFieldPathProjection(Collection)
+     * @see #getFieldPathProjection()
+     */
+    public IonReaderBuilder withFieldPathProjection(Collection<? extends List<String>> fieldPaths) {
+        IonReaderBuilder b = mutable();
+        b.setFieldPathProjection(fieldPaths);
+        return b;
+    }
+
+    /**
+     * @see #withFieldPathProjection(Collection)
+     * @throws IllegalArgumentException if any path is null or empty, or contains null.
+     * @throws UnsupportedOperationException if this builder is immutable.
+     */
+    public void setFieldPathProjection(Collection<? extends List<String>> fieldPaths) {
+        mutationCheck();
+        if (fieldPaths == null) {
+            fieldPathProjection = null;
+            return;
+        }
+        Set<List<String>> copy = new LinkedHashSet<>();
+        for (List<String> path : fieldPaths) {
+            if (path == null || path.isEmpty() || path.contains(null)) {
+                throw new IllegalArgumentException("Field paths must contain at least one field name and must not contain null.");
+            }
+            copy.add(Collections.unmodifiableList(new ArrayList<>(path)));
+        }
+        fieldPathProjection = Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * @see #withFieldPathProjection(Collection)
+     * @return the field paths to which built readers are limited, or null if all values surface.
+     */
+    public Set<List<String>> getFieldPathProjection() {
+        return fieldPathProjection;
+    }
+
+    /**
+     * Determines whether text IonReaders over in-memory data skip containers using a structural index. When enabled,
+     * a reader that skips the remainder of a container, whether in {@link IonReader#next()} or
+     * {@link IonReader#stepOut()}, classifies the skipped characters 64 at a time into a bitmap of those that can
+     * affect structure (brackets, quotes, comment delimiters and line breaks), then visits only those to find the
+     * container's closing character, instead of tokenizing everything in between.
+     * <p>
+     * This pays off when much of the data is skipped rather than read, e.g. when only a few fields of large nested
+     * values are of interest, and the more so the more densely nested the skipped values are. It has no effect on binary readers, which skip using length prefixes, or on text
+     * readers over {@link InputStream}s and {@link Reader}s. Containers that the index cannot locate, including those
+     * in malformed data, are skipped by tokenizing as usual, so errors are reported as they would be otherwise.
+     *
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setStructuralIndexingEnabled()
+     * @see #setStructuralIndexingDisabled()
+     */
+    public IonReaderBuilder withStructuralIndexingEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setStructuralIndexingEnabled();
+        } else {
+            b.setStructuralIndexingDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withStructuralIndexingEnabled(boolean)
+     */
+    public void setStructuralIndexingEnabled() {
+        mutationCheck();
+        isStructuralIndexingEnabled = true;
+    }
+
+    /**
+     * @see #withStructuralIndexingEnabled(boolean)
+     */
+    public void setStructuralIndexingDisabled() {
+        mutationCheck();
+        isStructuralIndexingEnabled = false;
+    }
+
+    /**
+     * @see #withStructuralIndexingEnabled(boolean)
+     * @return true if structural indexing is enabled; otherwise, false.
+     */
+    public boolean isStructuralIndexingEnabled() {
+        return isStructuralIndexingEnabled;
+    }
+
+    /**
+     * Determines whether text IonReaders over UTF-8 bytes held in memory tokenize those bytes directly. When enabled,
+     * whitespace, comments, numbers and double-quoted strings are classified and decoded straight from the byte array
+     * using lookup tables, a run at a time, rather than read one character at a time through the reader's input
+     * abstraction. Everything else, including escapes and malformed data, is tokenized as usual, so values and errors
+     * are the same as they would be otherwise.
+     * <p>
+     * This applies to text read from a byte array or a {@link ByteBuffer}; text in a direct ByteBuffer is copied to a
+     * byte array first. It has no effect on binary or GZIPped data, or on text read from {@link String}s,
+     * {@link Reader}s or {@link FileChannel}s.
+     * <p>
+     * In particular, this option does nothing for {@link InputStream} sources, including the InputStream over which
+     * GZIPped data and FileChannels are read: streamed text is not held in memory, so it is always read with the
+     * standard character-at-a-time tokenizer. To tokenize a text stream directly, read it into a byte array first.
+     *
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setUtf8TextTokenizerEnabled()
+     * @see #setUtf8TextTokenizerDisabled()
+     */
+    public IonReaderBuilder withUtf8TextTokenizerEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setUtf8TextTokenizerEnabled();
+        } else {
+            b.setUtf8TextTokenizerDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withUtf8TextTokenizerEnabled(boolean)
+     */
+    public void setUtf8TextTokenizerEnabled() {
+        mutationCheck();
+        isUtf8TextTokenizerEnabled = true;
+    }
+
+    /**
+     * @see #withUtf8TextTokenizerEnabled(boolean)
+     */
+    public void setUtf8TextTokenizerDisabled() {
+        mutationCheck();
+        isUtf8TextTokenizerEnabled = false;
+    }
+
+    /**
+     * @see #withUtf8TextTokenizerEnabled(boolean)
+     * @return true if the UTF-8 text tokenizer is enabled; otherwise, false.
+     */
+    public boolean isUtf8TextTokenizerEnabled() {
+        return isUtf8TextTokenizerEnabled;
+    }
+
     /**
      * Based on the builder's configuration properties, creates a new IonReader
      * instance over the given block of Ion data, detecting whether it's text or
@@ -326,6 +568,68 @@ public abstract class IonReaderBuilder
      */
     public abstract IonReader build(InputStream ionData);
 
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the Ion data between the given buffer's position and limit,
+     * detecting whether it's text or binary data.
+     * <p>
+     * Binary Ion data is read in place. In particular, direct (off-heap)
+     * buffers are not copied into the Java heap. Buffers backed by an
+     * accessible array are read as if by {@link #build(byte[], int, int)}.
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     * <p>
+     * The default implementation copies the bytes of buffers that are not
+     * backed by an accessible array into the Java heap. Subclasses should
+     * override it.
+     *
+     * @param ionData the source of the Ion data, which may be either Ion binary
+     * data or UTF-8 Ion text. The buffer's position and limit are not
+     * modified. The reader retains a reference to the buffer, so its data must
+     * not be modified while the reader is active. Must not be null.
+     *
+     * @return a new {@link IonReader} instance; not {@code null}.
+     */
+    public IonReader build(ByteBuffer ionData)
+    {
+        if (ionData.hasArray())
+        {
+            return build(ionData.array(), ionData.arrayOffset() + ionData.position(), ionData.remaining());
+        }
+        byte[] bytes = new byte[ionData.remaining()];
+        ionData.duplicate().get(bytes);
+        return build(bytes);
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the Ion data in the given file, beginning at the channel's
+     * current position, detecting whether it's text or binary data.
+     * <p>
+     * Binary Ion data is memory-mapped and read directly from the mapping,
+     * without being copied into the Java heap. Files larger than the buffer
+     * configuration's maximum buffer size (by default, about 2GB) are mapped
+     * in successive windows; each top-level value must fit in a single window.
+     * Text and GZIPped Ion data are read from the channel as a stream, as if
+     * by {@link #build(InputStream)}.
+     * <p>
+     * The default implementation reads the channel as a stream, as if by
+     * {@link #build(InputStream)}. Subclasses should override it.
+     *
+     * @param ionData the source of the Ion data, which may be either Ion binary
+     * data or UTF-8 Ion text. The file must not be modified while the reader is
+     * active. Must not be null.
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it, which
+     * closes the channel.
+     *
+     * @throws IonException if the source throws {@link IOException}.
+     */
+    public IonReader build(FileChannel ionData)
+    {
+        return build(Channels.newInputStream(ionData));
+    }
+
     /**
      * Based on the builder's configuration properties, creates a new
      * {@link IonReader} instance over Ion text data.
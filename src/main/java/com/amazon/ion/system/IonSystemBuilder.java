@@ -5,8 +5,10 @@ package com.amazon.ion.system;
 import static com.amazon.ion.impl.lite._Private_LiteDomTrampoline.newLiteSystem;
 
 import com.amazon.ion.IonCatalog;
+import com.amazon.ion.IonLoader;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonValue;
 import com.amazon.ion.IonWriter;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.impl._Private_IonBinaryWriterBuilder;
@@ -68,6 +70,14 @@ import java.util.Optional;
  *     conditions are met. <b>This feature is experimental! Please test
  *     thoroughly and report any issues.</b>
  *   </li>
+ *   <li>
+ *     <b>lazyBinaryLoadingEnabled</b>: When true, containers loaded from
+ *     binary Ion byte arrays retain a reference to their encoded bytes and
+ *     only decode their children when first accessed. This can significantly
+ *     reduce heap usage and latency when only a small portion of each loaded
+ *     value is accessed. <b>This feature is experimental! Please test
+ *     thoroughly and report any issues.</b>
+ *   </li>
  * </ul>
  */
 public class IonSystemBuilder
@@ -90,6 +100,7 @@ public class IonSystemBuilder
 
     IonCatalog myCatalog;
     boolean myStreamCopyOptimized = false;
+    boolean myLazyBinaryLoadingEnabled = false;
 
     IonTextWriterBuilder textWriterBuilder = IonTextWriterBuilder.standard().withCharsetAscii();
     IonBinaryWriterBuilder binaryWriterBuilder = IonBinaryWriterBuilder.standard();
@@ -106,6 +117,7 @@ public class IonSystemBuilder
     {
         this.myCatalog      = that.myCatalog;
         this.myStreamCopyOptimized = that.myStreamCopyOptimized;
+        this.myLazyBinaryLoadingEnabled = that.myLazyBinaryLoadingEnabled;
         this.textWriterBuilder = that.textWriterBuilder;
         this.binaryWriterBuilder = that.binaryWriterBuilder;
         this.readerBuilder = that.readerBuilder;
@@ -267,6 +279,64 @@ public class IonSystemBuilder
 
     //=========================================================================
 
+    /**
+     * Indicates whether built systems load containers from binary Ion byte
+     * arrays lazily.
+     * By default, this property is false.
+     *
+     * @see #setLazyBinaryLoadingEnabled(boolean)
+     * @see #withLazyBinaryLoadingEnabled(boolean)
+     */
+    public final boolean isLazyBinaryLoadingEnabled()
+    {
+        return myLazyBinaryLoadingEnabled;
+    }
+
+    /**
+     * Declares whether built systems load containers from binary Ion byte
+     * arrays lazily. When enabled, {@link IonLoader#load(byte[])} creates
+     * containers that retain a reference to the provided array and decode
+     * their children on first access. Nested containers are themselves lazy,
+     * so only the portions of the data that are actually navigated are ever
+     * decoded. Lazy containers are indistinguishable from eagerly-loaded ones
+     * to callers; any mutation, or {@link IonValue#makeReadOnly()}, decodes
+     * the affected containers first. The provided array must not be modified
+     * while any value loaded from it remains in use.
+     * By default, this property is false.
+     * <p>
+     * <b>This feature is experimental! Please test thoroughly and report any
+     * issues.</b>
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     *
+     * @see #isLazyBinaryLoadingEnabled()
+     * @see #withLazyBinaryLoadingEnabled(boolean)
+     */
+    public final void setLazyBinaryLoadingEnabled(boolean enabled)
+    {
+        mutationCheck();
+        myLazyBinaryLoadingEnabled = enabled;
+    }
+
+    /**
+     * Declares whether built systems load containers from binary Ion byte
+     * arrays lazily, returning a new mutable builder if this is immutable.
+     * <p>
+     * <b>This feature is experimental! Please test thoroughly and report any
+     * issues.</b>
+     *
+     * @see #isLazyBinaryLoadingEnabled()
+     * @see #setLazyBinaryLoadingEnabled(boolean)
+     */
+    public final IonSystemBuilder withLazyBinaryLoadingEnabled(boolean enabled)
+    {
+        IonSystemBuilder b = mutable();
+        b.setLazyBinaryLoadingEnabled(enabled);
+        return b;
+    }
+
+    //=========================================================================
+
     /**
      * Gets the text writer builder whose options will be used when building an
      * {@link IonSystem}. By default, {@link IonTextWriterBuilder#standard()}
@@ -449,7 +519,7 @@ public class IonSystemBuilder
         // This is what we need, more or less.
         //     bwb = bwb.fillDefaults();
 
-        return newLiteSystem(twb, (_Private_IonBinaryWriterBuilder) bwb, rb);
+        return newLiteSystem(twb, (_Private_IonBinaryWriterBuilder) bwb, rb, myLazyBinaryLoadingEnabled);
     }
 
     //=========================================================================
@@ -0,0 +1,327 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.OffsetSpan;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.impl._Private_IonReaderFactory;
+import com.amazon.ion.system.IonReaderBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Splits a binary Ion 1.0 stream into chunks of consecutive top-level values that can be read independently of each
+ * other, e.g. in parallel on multiple threads.
+ * <p>
+ * Splitting requires a single sequential scan of the stream. Because binary Ion values are length-prefixed, the scan
+ * skips over user values without parsing them; only Ion version markers and local symbol tables are parsed. Each
+ * chunk records the symbol table in effect at its first value, so that a reader over the chunk can resolve its
+ * symbols without the preceding portion of the stream.
+ * <p>
+ * Example usage:
+ * <pre>
+ * List&lt;IonBinarySplitter.Chunk&gt; chunks = IonBinarySplitter.split(builder, data, 0, data.length, 1024 * 1024);
+ * List&lt;Integer&gt; counts = IonBinarySplitter.mapInParallel(chunks, reader -&gt; {
+ *     int count = 0;
+ *     while (reader.next() != null) {
+ *         count++;
+ *     }
+ *     return count;
+ * });
+ * </pre>
+ * Files of any size may be split using {@link #split(IonReaderBuilder, FileChannel, long, long, int)}, which scans the
+ * file through a memory-mapped reader and maps each chunk's region of the file only when a reader over it is created.
+ */
+public final class IonBinarySplitter {
+
+    private IonBinarySplitter() {
+        // Not instantiable.
+    }
+
+    /**
+     * A range of consecutive top-level values from a binary Ion stream, along with the symbol table in effect at the
+     * first value in the range. Chunks are immutable and may be read concurrently.
+     */
+    public static final class Chunk {
+
+        private final IonReaderBuilder builder;
+
+        // Exactly one of `bytes`, `buffer`, and `channel` is non-null.
+        private final byte[] bytes;
+        private final ByteBuffer buffer;
+        private final FileChannel channel;
+
+        // The index of the first byte of the chunk in `bytes` or `buffer`, or its position in `channel`.
+        private final long index;
+
+        // The offset of the first byte of the chunk, relative to the start of the stream.
+        private final long startOffset;
+
+        private final int length;
+        private final int numberOfValues;
+        private final SymbolTable symbolTable;
+
+        private Chunk(
+            IonReaderBuilder builder,
+            byte[] bytes,
+            ByteBuffer buffer,
+            FileChannel channel,
+            long index,
+            long startOffset,
+            int length,
+            int numberOfValues,
+            SymbolTable symbolTable
+        ) {
+            this.builder = builder;
+            this.bytes = bytes;
+            this.buffer = buffer;
+            this.channel = channel;
+            this.index = index;
+            this.startOffset = startOffset;
+            this.length = length;
+            this.numberOfValues = numberOfValues;
+            this.symbolTable = symbolTable;
+        }
+
+        /**
+         * @return the offset of the chunk's first byte, relative to the start of the stream.
+         */
+        public long getStartOffset() {
+            return startOffset;
+        }
+
+        /**
+         * @return the number of bytes in the chunk.
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * @return the number of top-level user values in the chunk.
+         */
+        public int getNumberOfValues() {
+            return numberOfValues;
+        }
+
+        /**
+         * @return the symbol table in effect at the chunk's first value.
+         */
+        public SymbolTable getSymbolTable() {
+            return symbolTable;
+        }
+
+        /**
+         * Creates a new reader over the values in this chunk. Each reader is independent, so readers over different
+         * chunks (or the same chunk) may be used concurrently on different threads.
+         * @return a new reader, which the caller must close.
+         * @throws IonException if the chunk's region of a file cannot be mapped.
+         */
+        public IonReader newReader() {
+            if (bytes != null) {
+                return _Private_IonReaderFactory.makeReaderBinary(builder, bytes, (int) index, length, symbolTable);
+            }
+            ByteBuffer view;
+            if (channel != null) {
+                try {
+                    view = channel.map(FileChannel.MapMode.READ_ONLY, index, length);
+                } catch (IOException e) {
+                    throw new IonException(e);
+                }
+            } else {
+                view = buffer.duplicate();
+                view.limit((int) index + length);
+                view.position((int) index);
+            }
+            return _Private_IonReaderFactory.makeReaderBinary(builder, view, symbolTable);
+        }
+    }
+
+    /**
+     * Splits the binary Ion data in the given range of a byte array into chunks.
+     * @param builder the builder used to configure the readers that scan the data and read each chunk.
+     * @param data the binary Ion data. The chunks retain a reference to the array, so its data must not be modified
+     *             while the chunks are in use.
+     * @param offset the offset into the array at which the first byte of Ion data begins.
+     * @param length the number of bytes of Ion data.
+     * @param targetChunkSize the number of bytes after which a chunk is closed. Chunks end at value boundaries, so
+     *                        a chunk may be larger than this if it ends with a large value.
+     * @return the chunks, in stream order.
+     * @throws IllegalArgumentException if the data is not binary Ion or if `targetChunkSize` is less than 1.
+     */
+    public static List<Chunk> split(IonReaderBuilder builder, byte[] data, int offset, int length, int targetChunkSize) {
+        validate(targetChunkSize);
+        if (!IonStreamUtils.isIonBinary(data, offset, length)) {
+            throw new IllegalArgumentException("Only binary Ion data may be split.");
+        }
+        return scan(builder.build(data, offset, length), targetChunkSize, (startOffset, chunkLength, count, symbols) ->
+            new Chunk(builder, data, null, null, offset + startOffset, startOffset, chunkLength, count, symbols)
+        );
+    }
+
+    /**
+     * Splits the binary Ion data between the given buffer's position and limit into chunks. Direct buffers, including
+     * memory-mapped files, are read in place without being copied into the Java heap.
+     * @param builder the builder used to configure the readers that scan the data and read each chunk.
+     * @param data the binary Ion data. The buffer's position and limit are not modified. The chunks retain a
+     *             reference to the buffer, so its data must not be modified while the chunks are in use.
+     * @param targetChunkSize the number of bytes after which a chunk is closed. Chunks end at value boundaries, so
+     *                        a chunk may be larger than this if it ends with a large value.
+     * @return the chunks, in stream order.
+     * @throws IllegalArgumentException if the data is not binary Ion or if `targetChunkSize` is less than 1.
+     */
+    public static List<Chunk> split(IonReaderBuilder builder, ByteBuffer data, int targetChunkSize) {
+        if (data.hasArray()) {
+            return split(builder, data.array(), data.arrayOffset() + data.position(), data.remaining(), targetChunkSize);
+        }
+        validate(targetChunkSize);
+        int position = data.position();
+        byte[] possibleIvm = new byte[Math.min(data.remaining(), 4)];
+        for (int i = 0; i < possibleIvm.length; i++) {
+            possibleIvm[i] = data.get(position + i);
+        }
+        if (!IonStreamUtils.isIonBinary(possibleIvm)) {
+            throw new IllegalArgumentException("Only binary Ion data may be split.");
+        }
+        return scan(builder.build(data), targetChunkSize, (startOffset, chunkLength, count, symbols) ->
+            new Chunk(builder, null, data, null, position + startOffset, startOffset, chunkLength, count, symbols)
+        );
+    }
+
+    /**
+     * Splits the binary Ion data in the given region of a file into chunks. The region is scanned through a
+     * memory-mapped reader, so it may be larger than 2GB; each chunk's region is mapped only when a reader over the
+     * chunk is created.
+     * @param builder the builder used to configure the readers that scan the data and read each chunk. Regions larger
+     *                than the builder's maximum buffer size are scanned in successive windows of that size.
+     * @param data the channel over the file. The channel's position is not modified. The chunks retain a reference to
+     *             the channel, so it must remain open, and the region's data must not be modified, while the chunks
+     *             are in use.
+     * @param position the position in the file at which the first byte of Ion data begins.
+     * @param length the number of bytes of Ion data.
+     * @param targetChunkSize the number of bytes after which a chunk is closed. Chunks end at value boundaries, so
+     *                        a chunk may be larger than this if it ends with a large value. A chunk is also closed
+     *                        early if its next value would make it longer than {@link Integer#MAX_VALUE} bytes.
+     * @return the chunks, in stream order.
+     * @throws IllegalArgumentException if the data is not binary Ion or if `targetChunkSize` is less than 1.
+     * @throws IonException if the file cannot be read, or if it contains a value longer than
+     *                      {@link Integer#MAX_VALUE} bytes.
+     */
+    public static List<Chunk> split(
+        IonReaderBuilder builder,
+        FileChannel data,
+        long position,
+        long length,
+        int targetChunkSize
+    ) {
+        validate(targetChunkSize);
+        byte[] possibleIvm = new byte[(int) Math.min(length, 4)];
+        int bytesRead;
+        try {
+            bytesRead = Math.max(0, data.read(ByteBuffer.wrap(possibleIvm), position));
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        if (!IonStreamUtils.isIonBinary(possibleIvm, 0, bytesRead)) {
+            throw new IllegalArgumentException("Only binary Ion data may be split.");
+        }
+        // The chunks still need the channel, so closing the reader after scanning must not close it.
+        IonReader reader = _Private_IonReaderFactory.makeReaderBinaryRetainingChannel(builder, data, position, length);
+        return scan(reader, targetChunkSize, (startOffset, chunkLength, count, symbols) ->
+            new Chunk(builder, null, null, data, position + startOffset, startOffset, chunkLength, count, symbols)
+        );
+    }
+
+    /**
+     * Applies the given function to a new reader over each chunk, in parallel using the common fork-join pool. The
+     * reader is closed after the function returns.
+     * @param chunks the chunks to read.
+     * @param function the function to apply to each chunk's reader. It must be safe to invoke concurrently.
+     * @param <T> the type of the function's result.
+     * @return the results of the function for each chunk, in the same order as the chunks.
+     * @throws IonException if closing a reader throws {@link IOException}.
+     */
+    public static <T> List<T> mapInParallel(List<Chunk> chunks, Function<IonReader, T> function) {
+        return chunks.parallelStream().map(chunk -> {
+            try (IonReader reader = chunk.newReader()) {
+                return function.apply(reader);
+            } catch (IOException e) {
+                throw new IonException(e);
+            }
+        }).collect(Collectors.toList());
+    }
+
+    @FunctionalInterface
+    private interface ChunkFactory {
+        Chunk create(long startOffset, int length, int numberOfValues, SymbolTable symbolTable);
+    }
+
+    private static void validate(int targetChunkSize) {
+        if (targetChunkSize < 1) {
+            throw new IllegalArgumentException("Target chunk size must be at least 1.");
+        }
+    }
+
+    /**
+     * Scans the top-level values of the given reader, grouping them into chunks, and closes the reader. Chunks are
+     * closed early if adding a value would make them longer than {@link Integer#MAX_VALUE} bytes, which is the most
+     * that can be read from a single array or buffer.
+     * @param reader a binary reader over the data to split.
+     * @param targetChunkSize the number of bytes after which a chunk is closed.
+     * @param factory creates each chunk.
+     * @return the chunks.
+     * @throws IonException if a single value is longer than {@link Integer#MAX_VALUE} bytes.
+     */
+    private static List<Chunk> scan(IonReader reader, int targetChunkSize, ChunkFactory factory) {
+        List<Chunk> chunks = new ArrayList<>();
+        try {
+            SpanProvider spanProvider = reader.asFacet(SpanProvider.class);
+            long chunkStart = -1;
+            long chunkEnd = -1;
+            int numberOfValues = 0;
+            SymbolTable symbolTable = null;
+            while (reader.next() != null) {
+                OffsetSpan span = spanProvider.currentSpan().asFacet(OffsetSpan.class);
+                if (span.getFinishOffset() - span.getStartOffset() > Integer.MAX_VALUE) {
+                    throw new IonException("Values longer than " + Integer.MAX_VALUE + " bytes cannot be split into chunks.");
+                }
+                if (chunkStart >= 0 && span.getFinishOffset() - chunkStart > Integer.MAX_VALUE) {
+                    chunks.add(factory.create(chunkStart, (int) (chunkEnd - chunkStart), numberOfValues, symbolTable));
+                    chunkStart = -1;
+                    numberOfValues = 0;
+                }
+                if (chunkStart < 0) {
+                    chunkStart = span.getStartOffset();
+                    symbolTable = reader.getSymbolTable();
+                }
+                chunkEnd = span.getFinishOffset();
+                numberOfValues++;
+                if (chunkEnd - chunkStart >= targetChunkSize) {
+                    chunks.add(factory.create(chunkStart, (int) (chunkEnd - chunkStart), numberOfValues, symbolTable));
+                    chunkStart = -1;
+                    numberOfValues = 0;
+                }
+            }
+            if (numberOfValues > 0) {
+                chunks.add(factory.create(chunkStart, (int) (chunkEnd - chunkStart), numberOfValues, symbolTable));
+            }
+        } finally {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new IonException(e);
+            }
+        }
+        return Collections.unmodifiableList(chunks);
+    }
+}
@@ -64,6 +64,21 @@ public class BadIonTest
     }
 
 
+    @Test
+    public void testLoadByteArray()
+    throws Exception
+    {
+        byte[] bytes = _Private_Utils.loadFileBytes(myTestFile);
+        try
+        {
+            IonDatagram dg = loader().load(bytes);
+            forceDeepMaterialization(dg);
+            fail("Expected IonException");
+        }
+        catch (IonException e) { /* good */ }
+    }
+
+
     @Test
     public void testLoadString()
     throws Exception
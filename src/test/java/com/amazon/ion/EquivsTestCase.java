@@ -246,6 +246,15 @@ public abstract class EquivsTestCase
         roundTripEquivalence(dg, myExpectedEquality);
     }
 
+    @Test
+    public void testEquivsOverByteArray()
+    throws Exception
+    {
+        byte[] bytes = _Private_Utils.loadFileBytes(myTestFile);
+        IonDatagram dg = loader().load(bytes);
+        runEquivalenceChecks(dg, myExpectedEquality);
+    }
+
     @Test
     public void testEquivsOverString()
     throws Exception
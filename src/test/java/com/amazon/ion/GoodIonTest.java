@@ -116,6 +116,18 @@ public class GoodIonTest
         }
     }
 
+    @Test
+    public void testLoadByteArray()
+    throws Exception
+    {
+        byte[] bytes = _Private_Utils.loadFileBytes(myTestFile);
+        IonDatagram dg = loader().load(bytes);
+
+        // Flush out any encoding problems in the data.
+        forceDeepMaterialization(dg);
+        assertEquals(load(myTestFile), dg);
+    }
+
     @Test
     public void testIterateByteArray()
     throws Exception
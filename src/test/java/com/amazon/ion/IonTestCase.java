@@ -71,6 +71,12 @@ public abstract class IonTestCase
             public IonReaderBuilder getReaderBuilder() {
                 return IonReaderBuilder.standard().withIncrementalReadingEnabled(true);
             }
+        },
+        NEW_STREAMING_UTF8_TEXT_TOKENIZER() {
+            @Override
+            public IonReaderBuilder getReaderBuilder() {
+                return IonReaderBuilder.standard().withUtf8TextTokenizerEnabled(true);
+            }
         };
 
         public abstract IonReaderBuilder getReaderBuilder();
@@ -1454,6 +1454,31 @@ public class TimestampTest
         Timestamp.valueOf("2010-11-17T12:34:56.Z");
     }
 
+    @Test
+    public void testValueOfFractionsBehaveLikeDecimalFractions()
+    {
+        String[] fractions = { "0", "000", "5", "50", "123", "000000001", "999999999", "1234567890", "10000000000000000001" };
+        String[] offsetTexts = { "Z", "-00:00", "+05:30", "-08:00" };
+        Integer[] offsets = { UTC_OFFSET, UNKNOWN_OFFSET, 330, -480 };
+        for (String fraction : fractions) {
+            for (int i = 0; i < offsets.length; i++) {
+                String text = "2010-12-31T23:59:59." + fraction + offsetTexts[i];
+                Timestamp parsed = Timestamp.valueOf(text);
+                Timestamp expected =
+                    Timestamp.forSecond(2010, 12, 31, 23, 59, new BigDecimal("59." + fraction), offsets[i]);
+                assertEquals(text, parsed.toString());
+                assertEquals(new BigDecimal("0." + fraction), parsed.getZFractionalSecond());
+                assertEquals(expected, parsed);
+                assertEquals(parsed, expected);
+                assertEquals(expected.hashCode(), parsed.hashCode());
+                assertEquals(0, parsed.compareTo(expected));
+                assertEquals(expected.getMillis(), parsed.getMillis());
+                assertEquals(-1, parsed.compareTo(parsed.addMillis(1)));
+                assertEquals(1, parsed.compareTo(parsed.adjustMillis(-1000)));
+            }
+        }
+    }
+
     @Test
     public void testLocalBoundaryPositive() {
         // UTC is last month
@@ -0,0 +1,180 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FieldPathProjectionTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final String DATA = "" +
+        "{id: 1, name: \"a\", order: {total: 10, items: [{sku: x, qty: 1}, {sku: y, qty: 2}], note: n}, extra: [1, 2]}\n" +
+        "{id: 2, order: null.struct, other: {total: 99}}\n" +
+        "{id: 3, order: {total: 30, items: [1, null.struct, {qty: 3}, [{qty: 4}]]}}\n" +
+        "top::[{id: 4}, 5]\n" +
+        "6\n";
+
+    @SafeVarargs
+    private static IonReaderBuilder projecting(List<String>... paths) {
+        return IonReaderBuilder.standard().withFieldPathProjection(Arrays.asList(paths));
+    }
+
+    private static byte[] toBinary(String text) {
+        return SYSTEM.getLoader().load(text).getBytes();
+    }
+
+    private static IonDatagram load(IonReader reader) throws IOException {
+        try {
+            return SYSTEM.getLoader().load(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static IonDatagram read(IonReaderBuilder builder, String data, boolean isBinary, boolean isStream) throws IOException {
+        byte[] bytes = isBinary ? toBinary(data) : data.getBytes(StandardCharsets.UTF_8);
+        return load(isStream ? builder.build(new ByteArrayInputStream(bytes)) : builder.build(bytes));
+    }
+
+    private static void assertProjection(String expected, IonReaderBuilder builder, String data) throws IOException {
+        IonDatagram expectedValues = SYSTEM.getLoader().load(expected);
+        for (boolean isBinary : new boolean[] {true, false}) {
+            for (boolean isStream : new boolean[] {true, false}) {
+                assertEquals(expectedValues, read(builder, data, isBinary, isStream));
+            }
+        }
+        assertEquals(expectedValues, load(builder.build(data)));
+    }
+
+    @Test
+    public void singleField() throws IOException {
+        assertProjection(
+            "{id: 1} {id: 2} {id: 3} top::[{id: 4}] 6",
+            projecting(Collections.singletonList("id")),
+            DATA
+        );
+    }
+
+    @Test
+    public void nestedPathsThroughListsOfStructs() throws IOException {
+        assertProjection(
+            "{order: {total: 10, items: [{qty: 1}, {qty: 2}]}} {} {order: {total: 30, items: [{qty: 3}, [{qty: 4}]]}} top::[{}] 6",
+            projecting(Arrays.asList("order", "total"), Arrays.asList("order", "items", "qty")),
+            DATA
+        );
+    }
+
+    @Test
+    public void terminalFieldSurfacesEntireSubtree() throws IOException {
+        assertProjection(
+            "{order: {total: 10, items: [{sku: x, qty: 1}, {sku: y, qty: 2}], note: n}} {order: null.struct} {order: {total: 30, items: [1, null.struct, {qty: 3}, [{qty: 4}]]}} top::[{}] 6",
+            projecting(Collections.singletonList("order"), Arrays.asList("order", "total")),
+            DATA
+        );
+    }
+
+    @Test
+    public void unmatchedPathsSkipAllFields() throws IOException {
+        assertProjection("{} {} {} top::[{}] 6", projecting(Arrays.asList("missing", "field")), DATA);
+    }
+
+    @Test
+    public void fieldsAreMatchedAcrossSymbolTableChanges() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(out);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            writer.stepIn(IonType.STRUCT);
+            // Symbol IDs are assigned in a different order after each reset, so the ID of "wanted" changes.
+            for (int j = 0; j < i % 4; j++) {
+                writer.setFieldName("unwanted" + i + "_" + j);
+                writer.writeInt(j);
+            }
+            writer.setFieldName("wanted");
+            writer.writeInt(i);
+            writer.stepOut();
+            expected.append("{wanted: ").append(i).append("} ");
+            if (i % 4 == 3) {
+                writer.finish();
+            } else {
+                writer.flush();
+            }
+        }
+        writer.close();
+        IonReaderBuilder builder = projecting(Collections.singletonList("wanted"));
+        IonDatagram expectedValues = SYSTEM.getLoader().load(expected.toString());
+        assertEquals(expectedValues, load(builder.build(out.toByteArray())));
+        assertEquals(expectedValues, load(builder.build(new ByteArrayInputStream(out.toByteArray()))));
+    }
+
+    @Test
+    public void symbolTablesAreNotProjectedInText() throws IOException {
+        String data = "$ion_symbol_table::{symbols: [\"wanted\", \"unwanted\"]} {$10: 1, $11: 2}";
+        assertProjection("{wanted: 1}", projecting(Collections.singletonList("wanted")), data);
+    }
+
+    @Test
+    public void skippedValuesAreNotVisibleWhenSteppingThrough() throws IOException {
+        for (boolean isBinary : new boolean[] {true, false}) {
+            byte[] bytes = isBinary ? toBinary(DATA) : DATA.getBytes(StandardCharsets.UTF_8);
+            try (IonReader reader = projecting(Arrays.asList("order", "total")).build(bytes)) {
+                assertEquals(IonType.STRUCT, reader.next());
+                reader.stepIn();
+                assertEquals(IonType.STRUCT, reader.next());
+                assertEquals("order", reader.getFieldName());
+                reader.stepIn();
+                assertEquals(IonType.INT, reader.next());
+                assertEquals(10, reader.intValue());
+                assertNull(reader.next());
+                reader.stepOut();
+                assertNull(reader.next());
+                reader.stepOut();
+                assertEquals(IonType.STRUCT, reader.next());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void nullDisablesProjection(boolean isBinary) throws IOException {
+        IonReaderBuilder builder = projecting(Collections.singletonList("id")).withFieldPathProjection(null);
+        assertNull(builder.getFieldPathProjection());
+        assertEquals(SYSTEM.getLoader().load(DATA), read(builder, DATA, isBinary, false));
+    }
+
+    @Test
+    public void invalidPathsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> projecting(Collections.<String>emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> projecting((List<String>) null));
+        assertThrows(IllegalArgumentException.class, () -> projecting(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void readingIonValuesIsUnsupported() {
+        IonReaderBuilder builder = projecting(Collections.singletonList("id"));
+        assertThrows(UnsupportedOperationException.class, () -> builder.build(SYSTEM.singleValue("{id: 1}")));
+    }
+}
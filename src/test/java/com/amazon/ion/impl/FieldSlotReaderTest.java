@@ -0,0 +1,137 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.FieldSlotReader;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FieldSlotReaderTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final int NAME = 0;
+    private static final int AGE = 1;
+
+    @Test
+    public void slotsAreAssignedInRegistrationOrder() throws IOException {
+        byte[] data = SYSTEM.getLoader().load("{name: \"a\"}").getBytes();
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            FieldSlotReader slots = reader.asFacet(FieldSlotReader.class);
+            assertEquals(NAME, slots.registerFieldName("name"));
+            assertEquals(AGE, slots.registerFieldName("age"));
+            assertEquals(NAME, slots.registerFieldName("name"));
+            assertEquals(AGE, reader.asFacet(FieldSlotReader.class).registerFieldName("age"));
+        }
+    }
+
+    @Test
+    public void slotsIdentifyFieldNames() throws IOException {
+        byte[] data = SYSTEM.getLoader().load("{name: \"a\", other: 1, age: 2, 'age': 3} 4").getBytes();
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            FieldSlotReader slots = reader.asFacet(FieldSlotReader.class);
+            slots.registerFieldName("name");
+            slots.registerFieldName("age");
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals(FieldSlotReader.NO_SLOT, slots.getFieldSlot());
+            reader.stepIn();
+            reader.next();
+            assertEquals(NAME, slots.getFieldSlot());
+            reader.next();
+            assertEquals(FieldSlotReader.NO_SLOT, slots.getFieldSlot());
+            reader.next();
+            assertEquals(AGE, slots.getFieldSlot());
+            reader.next();
+            assertEquals(AGE, slots.getFieldSlot());
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(FieldSlotReader.NO_SLOT, slots.getFieldSlot());
+        }
+    }
+
+    @Test
+    public void slotsAreRemappedWhenTheSymbolTableChanges() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(out);
+        for (int i = 0; i < 20; i++) {
+            writer.stepIn(IonType.STRUCT);
+            // Declare a varying number of other symbols first so that the symbol IDs of "name" and "age" change
+            // whenever the symbol table is reset.
+            for (int j = 0; j < i % 3; j++) {
+                writer.setFieldName("other" + i + "_" + j);
+                writer.writeNull();
+            }
+            writer.setFieldName(i % 2 == 0 ? "age" : "name");
+            writer.writeInt(i);
+            writer.stepOut();
+            if (i % 3 == 2) {
+                writer.finish();
+            } else {
+                writer.flush();
+            }
+        }
+        writer.close();
+        for (boolean isStream : new boolean[] {true, false}) {
+            IonReader reader = isStream
+                ? IonReaderBuilder.standard().build(new ByteArrayInputStream(out.toByteArray()))
+                : IonReaderBuilder.standard().build(out.toByteArray());
+            try {
+                FieldSlotReader slots = reader.asFacet(FieldSlotReader.class);
+                for (int i = 0; i < 20; i++) {
+                    // Registering names mid-stream must not disturb the slots of names registered earlier.
+                    if (i == 5) {
+                        slots.registerFieldName("age");
+                    } else if (i == 0) {
+                        slots.registerFieldName("name");
+                    }
+                    assertEquals(IonType.STRUCT, reader.next());
+                    reader.stepIn();
+                    int slot = FieldSlotReader.NO_SLOT;
+                    while (reader.next() != null) {
+                        if (slots.getFieldSlot() != FieldSlotReader.NO_SLOT) {
+                            slot = slots.getFieldSlot();
+                            assertEquals(i, reader.intValue());
+                        }
+                    }
+                    reader.stepOut();
+                    int expected = i % 2 == 0 ? (i < 5 ? FieldSlotReader.NO_SLOT : AGE) : NAME;
+                    assertEquals(expected, slot);
+                }
+                assertNull(reader.next());
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    @Test
+    public void nullFieldNameIsRejected() throws IOException {
+        byte[] data = SYSTEM.getLoader().load("{}").getBytes();
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            FieldSlotReader slots = reader.asFacet(FieldSlotReader.class);
+            assertThrows(IllegalArgumentException.class, () -> slots.registerFieldName(null));
+        }
+    }
+
+    @Test
+    public void textReadersDoNotProvideSlots() throws IOException {
+        try (IonReader reader = IonReaderBuilder.standard().build("{name: \"a\"}".getBytes(StandardCharsets.UTF_8))) {
+            assertNull(reader.asFacet(FieldSlotReader.class));
+        }
+    }
+}
@@ -6,6 +6,7 @@ package com.amazon.ion.impl;
 import com.amazon.ion.IonCursor;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonType;
+import com.amazon.ion.Timestamp;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -394,6 +395,60 @@ public class IonReaderContinuableCoreBinaryTest {
         reader.close();
     }
 
+    /**
+     * Creates a reader over a timestamp at 2020-02-29T23:59:58 UTC with the given local offset and fractional seconds.
+     */
+    private IonReaderContinuableCoreBinary initializeTimestampReader(int offset, int exponent, int... coefficient) {
+        int[] data = new int[15 + coefficient.length];
+        int[] header = {
+            0xE0, 0x01, 0x00, 0xEA,
+            0x69 + coefficient.length, // Timestamp length 9 + coefficient length
+            offset, // VarInt offset
+            0x0F, 0xE4, // VarUInt year 2020
+            0x82, // VarUInt month 2
+            0x9D, // VarUInt day 29
+            0x97, // VarUInt hour 23
+            0xBB, // VarUInt minute 59
+            0xBA, // VarUInt second 58
+            exponent // VarInt fraction exponent
+        };
+        System.arraycopy(header, 0, data, 0, header.length);
+        System.arraycopy(coefficient, 0, data, header.length, coefficient.length);
+        IonReaderContinuableCoreBinary reader = initializeReader(true, data);
+        assertEquals(IonCursor.Event.START_SCALAR, reader.nextValue());
+        return reader;
+    }
+
+    @Test
+    public void readTimestampWithFractionalSeconds() {
+        IonReaderContinuableCoreBinary reader = initializeTimestampReader(0x80, 0xC3, 0x32); // +00:00, 50d-3
+        assertEquals(Timestamp.valueOf("2020-02-29T23:59:58.050Z"), reader.timestampValue());
+        reader.close();
+
+        reader = initializeTimestampReader(0xC0, 0xC9, 0x3B, 0x9A, 0xC9, 0xFF); // -00:00, 999999999d-9
+        assertEquals(Timestamp.valueOf("2020-02-29T23:59:58.999999999-00:00"), reader.timestampValue());
+        reader.close();
+
+        reader = initializeTimestampReader(0x80, 0xC3, 0x80); // +00:00, -0d-3
+        assertEquals(Timestamp.valueOf("2020-02-29T23:59:58.000Z"), reader.timestampValue());
+        reader.close();
+
+        reader = initializeTimestampReader(0xC0, 0xCA, 0x01); // -00:00, 1d-10
+        assertEquals(Timestamp.valueOf("2020-02-29T23:59:58.0000000001-00:00"), reader.timestampValue());
+        reader.close();
+    }
+
+    @Test
+    public void expectInvalidTimestampFractionalSecondsToFailCleanly() {
+        IonReaderContinuableCoreBinary reader = initializeTimestampReader(0x80, 0xC1, 0x0A); // 10d-1
+        assertThrows(IonException.class, reader::timestampValue);
+        reader.close();
+
+        reader = initializeTimestampReader(0x80, 0xC3, 0x81); // -1d-3
+        assertThrows(IonException.class, reader::timestampValue);
+        reader.close();
+    }
+
     private static void assertReaderThrowsForAllPrimitives(IonReaderContinuableCoreBinary reader) {
         // Note: ideally these would throw IonException instead of IllegalStateException, but there is long-standing
         // precedent in IonJava for throwing IllegalStateException when these methods are used improperly. We maintain
@@ -16,6 +16,8 @@ import com.amazon.ion.IonType;
 import com.amazon.ion.IonValue;
 import com.amazon.ion.IonWriter;
 import com.amazon.ion.OversizedValueException;
+import com.amazon.ion.RawValueSpanProvider;
+import com.amazon.ion.SeekableReader;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SymbolToken;
 import com.amazon.ion.SystemSymbols;
@@ -30,6 +32,7 @@ import com.amazon.ion.system.IonSystemBuilder;
 import com.amazon.ion.system.SimpleCatalog;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -40,7 +43,12 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -51,6 +59,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static com.amazon.ion.BitUtils.bytes;
 import static com.amazon.ion.TestUtils.gzippedBytes;
@@ -62,6 +71,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -82,6 +92,9 @@ public class IonReaderContinuableTopLevelBinaryTest {
     private long totalBytesInStream;
     // The reader under test.
     private IonReader reader;
+    // Directory for files used to test memory-mapped input.
+    @TempDir
+    Path temporaryDirectory;
 
     /**
      * Unified handler interface to reduce boilerplate when defining test handlers.
@@ -4027,4 +4040,225 @@ public class IonReaderContinuableTopLevelBinaryTest {
         assertNull(reader.getType());
         reader.close();
     }
+
+    /**
+     * Writes the given bytes to a new file in `temporaryDirectory`, preceded by the given number of junk bytes, and
+     * opens a channel over the file positioned after the junk bytes.
+     * @param bytes the bytes to write.
+     * @param numberOfJunkBytes the number of junk bytes to write before `bytes`.
+     * @return a new channel.
+     * @throws IOException if thrown while writing the file.
+     */
+    private FileChannel channelFor(byte[] bytes, int numberOfJunkBytes) throws IOException {
+        Path file = Files.createTempFile(temporaryDirectory, "data", ".10n");
+        byte[] contents = new byte[numberOfJunkBytes + bytes.length];
+        Arrays.fill(contents, 0, numberOfJunkBytes, (byte) 0xFF);
+        System.arraycopy(bytes, 0, contents, numberOfJunkBytes, bytes.length);
+        Files.write(file, contents);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        channel.position(numberOfJunkBytes);
+        return channel;
+    }
+
+    private static final String MEMORY_MAPPED_DATA = "$ion_symbol_table::{symbols:[\"foo\", \"bar\"]} " +
+        "foo::{bar: 123, baz: [-42, 12345678901234567890, 1.23e4, 1.5d-3, 2024-05-06T07:08:09.123-07:00]} " +
+        "\"abc\" (foo bar 'qux') {{ AQID }} {{ \"clob\" }} null.int true 4.5e0 2000T";
+
+    @ParameterizedTest(name = "incrementalReadingEnabled={0}")
+    @ValueSource(booleans = {true, false})
+    public void memoryMappedFile(boolean incrementalReadingEnabled) throws Exception {
+        byte[] data = toBinary(MEMORY_MAPPED_DATA);
+        IonDatagram expected = SYSTEM.getLoader().load(data);
+        reader = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(incrementalReadingEnabled)
+            .build(channelFor(data, 3));
+        // The file fits in a single mapping, so the reader behaves as if it were constructed from a byte array, except
+        // that the raw bytes are not available.
+        assertNotNull(reader.asFacet(SeekableReader.class));
+        assertNull(reader.asFacet(RawValueSpanProvider.class));
+        assertEquals(expected, SYSTEM.getLoader().load(reader));
+        reader.close();
+    }
+
+    @ParameterizedTest(name = "incrementalReadingEnabled={0}")
+    @ValueSource(booleans = {true, false})
+    public void memoryMappedFileInWindows(boolean incrementalReadingEnabled) throws Exception {
+        StringBuilder ion = new StringBuilder(MEMORY_MAPPED_DATA);
+        for (int i = 0; i < 1000; i++) {
+            ion.append(" {foo: ").append(i).append(", bar: \"").append(i).append("\"}");
+        }
+        byte[] data = toBinary(ion.toString());
+        IonDatagram expected = SYSTEM.getLoader().load(data);
+        readerBuilder = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(incrementalReadingEnabled)
+            .withBufferConfiguration(
+                IonBufferConfiguration.Builder.standard()
+                    .withInitialBufferSize(128)
+                    .withMaximumBufferSize(128)
+                    .onOversizedValue(byteCountingHandler)
+                    .onOversizedSymbolTable(byteCountingHandler)
+                    .onData(byteCountingHandler)
+                    .build()
+            );
+        reader = readerBuilder.build(channelFor(data, 1));
+        // The file is too large to be mapped in a single 128-byte window.
+        assertNull(reader.asFacet(SeekableReader.class));
+        assertEquals(expected, SYSTEM.getLoader().load(reader));
+        reader.close();
+        assertEquals(data.length, byteCounter.get());
+    }
+
+    @Test
+    public void memoryMappedFileInWindowsSkipsOversizedValues() throws Exception {
+        StringBuilder ion = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            ion.append(" \"").append(i % 10 == 0 ? String.join("", Collections.nCopies(100, "x")) : "y").append('"');
+        }
+        byte[] data = toBinary(ion.toString());
+        // Oversized values are skipped automatically by incremental readers.
+        readerBuilder = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(true)
+            .withBufferConfiguration(
+                IonBufferConfiguration.Builder.standard()
+                    .withInitialBufferSize(64)
+                    .withMaximumBufferSize(64)
+                    .onOversizedValue(byteAndOversizedValueCountingHandler)
+                    .onOversizedSymbolTable(byteAndOversizedValueCountingHandler)
+                    .onData(byteAndOversizedValueCountingHandler)
+                    .build()
+            );
+        reader = readerBuilder.build(channelFor(data, 0));
+        int numberOfValues = 0;
+        while (reader.next() != null) {
+            assertEquals("y", reader.stringValue());
+            numberOfValues++;
+        }
+        reader.close();
+        assertEquals(90, numberOfValues);
+        expectOversized(10);
+    }
+
+    @Test
+    public void memoryMappedFileWithTextFallsBackToStream() throws Exception {
+        byte[] data = MEMORY_MAPPED_DATA.getBytes(StandardCharsets.UTF_8);
+        reader = IonReaderBuilder.standard().build(channelFor(data, 2));
+        assertEquals(SYSTEM.getLoader().load(data), SYSTEM.getLoader().load(reader));
+        reader.close();
+    }
+
+    @Test
+    public void closingMemoryMappedFileReaderClosesChannel() throws Exception {
+        FileChannel channel = channelFor(toBinary("123"), 0);
+        reader = IonReaderBuilder.standard().build(channel);
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(123, reader.intValue());
+        reader.close();
+        assertFalse(channel.isOpen());
+    }
+
+    /**
+     * Copies the given bytes into a new direct ByteBuffer, surrounded by the given number of junk bytes on each side.
+     * @param bytes the bytes to copy.
+     * @param numberOfJunkBytes the number of junk bytes to write before and after `bytes`.
+     * @return a new direct ByteBuffer whose position and limit surround `bytes`.
+     */
+    private static ByteBuffer directByteBufferFor(byte[] bytes, int numberOfJunkBytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2 * numberOfJunkBytes);
+        for (int i = 0; i < numberOfJunkBytes; i++) {
+            buffer.put((byte) 0xFF);
+        }
+        buffer.put(bytes);
+        for (int i = 0; i < numberOfJunkBytes; i++) {
+            buffer.put((byte) 0xFF);
+        }
+        buffer.position(numberOfJunkBytes);
+        buffer.limit(numberOfJunkBytes + bytes.length);
+        return buffer;
+    }
+
+    private static final String DIRECT_BYTE_BUFFER_SCALARS = MEMORY_MAPPED_DATA +
+        " 2147483647 2147483648 -4294967295 9223372036854775807 -9223372036854775808 18446744073709551615" +
+        " 123456789012345678901234567890 -1.23456789012345678901234567890 0d-3 -0.0" +
+        " 2024-01-02T03:04:05.123456789+08:00 2024-01-02T03:04Z 2024T" +
+        " \"\u00e9\u4e2d\ud83d\ude00 long string long string long string long string long string\"";
+
+    @ParameterizedTest(name = "incrementalReadingEnabled={0}")
+    @ValueSource(booleans = {true, false})
+    public void directByteBuffer(boolean incrementalReadingEnabled) throws Exception {
+        byte[] data = toBinary(DIRECT_BYTE_BUFFER_SCALARS);
+        ByteBuffer buffer = directByteBufferFor(data, 5);
+        reader = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(incrementalReadingEnabled)
+            .build(buffer);
+        assertNotNull(reader.asFacet(SeekableReader.class));
+        assertNull(reader.asFacet(RawValueSpanProvider.class));
+        assertEquals(SYSTEM.getLoader().load(data), SYSTEM.getLoader().load(reader));
+        reader.close();
+        // The buffer's position and limit are not modified.
+        assertEquals(5, buffer.position());
+        assertEquals(5 + data.length, buffer.limit());
+    }
+
+    @Test
+    public void directByteBufferScalarsMatchByteArray() throws Exception {
+        byte[] data = toBinary(DIRECT_BYTE_BUFFER_SCALARS);
+        IonReader expected = new IonReaderContinuableTopLevelBinary(readerBuilder, data, 0, data.length);
+        reader = new IonReaderContinuableTopLevelBinary(readerBuilder, directByteBufferFor(data, 1));
+        IonType type;
+        while ((type = expected.next()) != null) {
+            assertEquals(type, reader.next());
+            assertEquals(expected.isNullValue(), reader.isNullValue());
+            if (expected.isNullValue()) {
+                continue;
+            }
+            if (type == IonType.INT) {
+                assertEquals(expected.getIntegerSize(), reader.getIntegerSize());
+                assertEquals(expected.longValue(), reader.longValue());
+                assertEquals(expected.bigIntegerValue(), reader.bigIntegerValue());
+            } else if (type == IonType.DECIMAL) {
+                assertEquals(expected.decimalValue(), reader.decimalValue());
+            } else if (type == IonType.TIMESTAMP) {
+                assertEquals(expected.timestampValue(), reader.timestampValue());
+            } else if (type == IonType.STRING) {
+                assertEquals(expected.stringValue(), reader.stringValue());
+            }
+        }
+        assertNull(reader.next());
+        expected.close();
+        reader.close();
+    }
+
+    @Test
+    public void directByteBufferWithTextFallsBackToStream() throws Exception {
+        byte[] data = MEMORY_MAPPED_DATA.getBytes(StandardCharsets.UTF_8);
+        reader = IonReaderBuilder.standard().build(directByteBufferFor(data, 2));
+        assertEquals(SYSTEM.getLoader().load(data), SYSTEM.getLoader().load(reader));
+        reader.close();
+    }
+
+    @Test
+    public void directByteBufferWithGzipFallsBackToStream() throws Exception {
+        byte[] data = toBinary(MEMORY_MAPPED_DATA);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(data);
+        }
+        reader = IonReaderBuilder.standard().build(directByteBufferFor(gzipped.toByteArray(), 3));
+        assertEquals(SYSTEM.getLoader().load(data), SYSTEM.getLoader().load(reader));
+        reader.close();
+    }
+
+    @Test
+    public void heapByteBufferIsReadFromBackingArray() throws Exception {
+        byte[] data = toBinary(MEMORY_MAPPED_DATA);
+        byte[] padded = new byte[data.length + 4];
+        System.arraycopy(data, 0, padded, 2, data.length);
+        ByteBuffer buffer = ByteBuffer.wrap(padded, 2, data.length).slice();
+        reader = IonReaderBuilder.standard().build(buffer);
+        RawValueSpanProvider spanProvider = reader.asFacet(RawValueSpanProvider.class);
+        assertNotNull(spanProvider);
+        assertSame(padded, spanProvider.buffer());
+        assertEquals(SYSTEM.getLoader().load(data), SYSTEM.getLoader().load(reader));
+        reader.close();
+    }
 }
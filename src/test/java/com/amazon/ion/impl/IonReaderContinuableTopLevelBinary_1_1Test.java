@@ -0,0 +1,450 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.RawValueSpanProvider;
+import com.amazon.ion.SeekableReader;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.amazon.ion.BitUtils.bytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests reading Ion 1.1 binary data, both as produced by the Ion 1.1 writer and as encoded by hand.
+ */
+public class IonReaderContinuableTopLevelBinary_1_1Test {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final String SCALARS = "null null.string null.struct true false "
+        + "0 -1 127 -128 123456789012 9223372036854775807 -9223372036854775808 "
+        + "123456789012345678901234567890 -12345678901234567890123 "
+        + "0e0 -0e0 1.5e0 -2.25e0 3.141592653589793e0 +inf -inf "
+        + "0. 1.5 -1.5 0d5 0d-3 123456789012345678901234567890.12345 -7d300 "
+        + "2023T 2023-05T 2023-05-06 2023-05-06T07:08Z 2023-05-06T07:08-00:00 2023-05-06T07:08:09+05:30 "
+        + "2023-05-06T07:08:09.123Z 2023-05-06T07:08:09.123456-08:00 2023-05-06T07:08:09.123456789+01:15 "
+        + "2023-05-06T07:08:09-00:00 2023-05-06T07:08:09.1+00:07 1800T 1800-02T 1800-02-03 "
+        + "1800-02-03T04:05+00:07 1800-02-03T04:05:06-00:00 2150-01-01T00:00:00.5Z "
+        + "\"\" \"abc\" \"a string that is long enough to need a length prefix\" "
+        + "abc 'hello world' name {{aGVsbG8=}} {{\"clob\"}}";
+
+    private static final String CONTAINERS = "[] () {} [1, [2, (3 4)], {a:1, b:{c:[]}, 'd e':x::y}] "
+        + "a::b::c::1 {a:{b:{c:{d:[[[[]]]]}}}, e:2} (a (b (c d)) e) "
+        + "{long_field_name_that_needs_more_bytes: \"a string that is long enough to need a length prefix\"} "
+        + "[{x:1}, {y:2}, {z:3}] ann::{a:ann::[ann::(ann::ann)]}";
+
+    private static byte[] writeIon11(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().withIonMinorVersion(1).withExperimentalIon11Enabled(true).build(out)) {
+            try (IonReader reader = SYSTEM.newReader(text)) {
+                writer.writeValues(reader);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<IonValue> readAll(IonReader reader) {
+        List<IonValue> values = new ArrayList<>();
+        while (reader.next() != null) {
+            values.add(SYSTEM.newValue(reader));
+        }
+        return values;
+    }
+
+    private static List<IonValue> expected(String text) {
+        IonDatagram datagram = SYSTEM.getLoader().load(text);
+        return new ArrayList<>(datagram);
+    }
+
+    /**
+     * Reads the given bytes with a non-incremental reader over a byte array, an incremental reader over an
+     * InputStream that starts with a tiny buffer, and an incremental reader that is fed one byte at a time.
+     */
+    private static void assertRoundTrip(String text, byte[] bytes) throws IOException {
+        List<IonValue> expected = expected(text);
+        try (IonReader reader = IonReaderBuilder.standard().build(bytes)) {
+            assertEquals(expected, readAll(reader));
+        }
+        IonReaderBuilder incrementalBuilder = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(true)
+            .withBufferConfiguration(IonBufferConfiguration.Builder.standard().withInitialBufferSize(8).build());
+        try (IonReader reader = incrementalBuilder.build(new ByteArrayInputStream(bytes))) {
+            assertEquals(expected, readAll(reader));
+        }
+        ResizingPipedInputStream pipe = new ResizingPipedInputStream(8);
+        List<IonValue> actual = new ArrayList<>();
+        try (IonReader reader = incrementalBuilder.build(pipe)) {
+            for (byte b : bytes) {
+                pipe.receive(b);
+                actual.addAll(readAll(reader));
+            }
+        }
+        assertEquals(expected, actual);
+    }
+
+    private static void assertRoundTrip(String text) throws IOException {
+        assertRoundTrip(text, writeIon11(text));
+    }
+
+    @Test
+    public void scalars() throws IOException {
+        assertRoundTrip(SCALARS);
+    }
+
+    @Test
+    public void delimitedContainers() throws IOException {
+        assertRoundTrip(CONTAINERS);
+    }
+
+    @Test
+    public void appendedSymbolTables() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard()
+            .withIonMinorVersion(1)
+            .withExperimentalIon11Enabled(true)
+            .withLocalSymbolTableAppendEnabled();
+        try (IonWriter writer = builder.build(out)) {
+            writer.writeSymbol("a");
+            writer.flush();
+            writer.writeSymbol("b");
+            writer.writeSymbol("a");
+        }
+        assertRoundTrip("a b a", out.toByteArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void delimitedContainersAreSkipped(boolean isIncremental) throws IOException {
+        byte[] bytes = writeIon11(CONTAINERS + " 42");
+        IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(isIncremental);
+        try (IonReader reader = builder.build(new ByteArrayInputStream(bytes))) {
+            List<IonType> types = new ArrayList<>();
+            IonType type;
+            while ((type = reader.next()) != null) {
+                types.add(type);
+            }
+            assertEquals(11, types.size());
+            assertEquals(IonType.INT, types.get(types.size() - 1));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void stepOutOfPartiallyReadDelimitedContainers(boolean isIncremental) throws IOException {
+        byte[] bytes = writeIon11("{a:1, b:{c:[1, 2, 3], d:(e f)}, g:\"h\"} [4, [5], 6] 7");
+        IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(isIncremental);
+        try (IonReader reader = builder.build(new ByteArrayInputStream(bytes))) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals("b", reader.getFieldName());
+            reader.stepIn();
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(1, reader.intValue());
+            reader.stepOut();
+            reader.stepOut();
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("g", reader.getFieldName());
+            reader.stepOut();
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(6, reader.intValue());
+            assertNull(reader.next());
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(7, reader.intValue());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void oversizedDelimitedContainerIsSkipped() throws IOException {
+        byte[] bytes = writeIon11("[\"a string that is long enough to exceed the maximum buffer size\", [1, 2, 3]] 42");
+        AtomicInteger oversizedCount = new AtomicInteger();
+        IonBufferConfiguration configuration = IonBufferConfiguration.Builder.standard()
+            .withInitialBufferSize(8)
+            .withMaximumBufferSize(16)
+            .onOversizedValue(oversizedCount::incrementAndGet)
+            .onOversizedSymbolTable(() -> { throw new IllegalStateException(); })
+            .onData(bytesRead -> {})
+            .build();
+        IonReaderBuilder builder = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(true)
+            .withBufferConfiguration(configuration);
+        try (IonReader reader = builder.build(new ByteArrayInputStream(bytes))) {
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(42, reader.intValue());
+            assertNull(reader.next());
+        }
+        assertEquals(1, oversizedCount.get());
+    }
+
+    @Test
+    public void inlineText() throws IOException {
+        byte[] bytes = bytes(
+            0xE0, 0x01, 0x01, 0xEA,
+            // {a: abc, name: 'x y'}, with an inline field name and inline symbol text.
+            0xF3, 0xFF, 0x61, 0x93, 0x61, 0x62, 0x63, 0x09, 0xF9, 0x07, 0x78, 0x20, 0x79, 0x01, 0xF0,
+            // a::name::1, with an inline annotation and an annotation symbol ID.
+            0xE8, 0xFF, 0x61, 0x09, 0x51, 0x01,
+            // {$0: null} with the field name escaped, as a length-prefixed struct with FlexSym field names.
+            0xD4, 0x01, 0xE1, 0x00, 0xEA
+        );
+        try (IonReader reader = IonReaderBuilder.standard().build(bytes)) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals("a", reader.getFieldName());
+            assertEquals("a", reader.getFieldNameSymbol().getText());
+            assertEquals("abc", reader.stringValue());
+            assertEquals("abc", reader.symbolValue().getText());
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals("name", reader.getFieldName());
+            assertEquals("x y", reader.stringValue());
+            assertNull(reader.next());
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertArrayEquals(new String[] {"a", "name"}, reader.getTypeAnnotations());
+            SymbolToken[] annotations = reader.getTypeAnnotationSymbols();
+            assertEquals("a", annotations[0].getText());
+            assertEquals(4, annotations[1].getSid());
+            assertEquals(1, reader.intValue());
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.NULL, reader.next());
+            assertEquals(0, reader.getFieldNameSymbol().getSid());
+            assertNull(reader.next());
+            reader.stepOut();
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void lengthPrefixedValues() throws IOException {
+        byte[] bytes = bytes(
+            0xE0, 0x01, 0x01, 0xEA,
+            // [1, null.int]
+            0xA4, 0x51, 0x01, 0xEB, 0x01,
+            // {name: false}, with FlexUInt field names.
+            0xC2, 0x09, 0x5F,
+            // (true), with a variable-length prefix.
+            0xFB, 0x03, 0x5E,
+            // A NOP pad, followed by 1.5 as a half-precision float.
+            0xEC, 0xED, 0x05, 0x00, 0x00, 0x5B, 0x3E, 0x00,
+            // 0d2 with the exponent-only encoding, and -1.5 with the variable-length decimal encoding.
+            0x6F, 0x05, 0xF6, 0x05, 0xE3, 0xFF,
+            // An integer that requires more than eight bytes.
+            0xF5, 0x13, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x01
+        );
+        try (IonReader reader = IonReaderBuilder.standard().build(bytes)) {
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(1, reader.intValue());
+            assertEquals(IonType.INT, reader.next());
+            assertTrue(reader.isNullValue());
+            assertNull(reader.next());
+            reader.stepOut();
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.BOOL, reader.next());
+            assertEquals("name", reader.getFieldName());
+            assertFalse(reader.booleanValue());
+            reader.stepOut();
+            assertEquals(IonType.SEXP, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.BOOL, reader.next());
+            assertTrue(reader.booleanValue());
+            reader.stepOut();
+            assertEquals(IonType.FLOAT, reader.next());
+            assertEquals(1.5, reader.doubleValue(), 0);
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(new BigDecimal("0E+2"), reader.bigDecimalValue());
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(new BigDecimal("-1.5"), reader.decimalValue());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(BigInteger.ONE.shiftLeft(64), reader.bigIntegerValue());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void timestampsPreserveLocalFields() throws IOException {
+        Timestamp timestamp = Timestamp.valueOf("2023-12-31T23:59:59.999+01:00");
+        try (IonReader reader = IonReaderBuilder.standard().build(writeIon11(timestamp.toString()))) {
+            assertEquals(IonType.TIMESTAMP, reader.next());
+            Timestamp actual = reader.timestampValue();
+            assertEquals(timestamp, actual);
+            assertEquals(23, actual.getHour());
+            assertEquals(60, actual.getLocalOffset().intValue());
+        }
+    }
+
+    // Macros at addresses 0 through 4, defined by an encoding directive.
+    private static final String MACROS = "$ion_encoding::((macro_table "
+        + "(macro point (x y) {x: (% x), y: (% y)}) "
+        + "(macro pair (a b) [(% a), (% b)]) "
+        + "(macro greeting () \"hello\") "
+        + "(macro tagged (v) ann::(sym (% v) 1.5)) "
+        + "(macro twice (v) [(% v), (% v)])))";
+
+    private static byte[] withMacros(int... eExpressions) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(writeIon11(MACROS));
+        out.write(bytes(eExpressions));
+        return out.toByteArray();
+    }
+
+    @Test
+    public void eExpressionsAreExpanded() throws IOException {
+        byte[] bytes = withMacros(
+            // (:point 1 2)
+            0x00, 0x51, 0x01, 0x51, 0x02,
+            // (:pair "abc" (:point 3 4)), whose second argument is itself an e-expression.
+            0x01, 0x83, 0x61, 0x62, 0x63, 0x00, 0x51, 0x03, 0x51, 0x04,
+            // (:greeting), with its address as a FlexUInt.
+            0xF4, 0x05,
+            // (:tagged def)
+            0x03, 0x93, 0x64, 0x65, 0x66,
+            // (:twice [1])
+            0x04, 0xA2, 0x51, 0x01,
+            // {f: (:greeting), name: (:greeting)}, with an inline field name and a field name symbol ID.
+            0xF3, 0xFF, 0x66, 0x02, 0x09, 0x02, 0x01, 0xF0,
+            // [(:point 5 6), 7]
+            0xF1, 0x00, 0x51, 0x05, 0x51, 0x06, 0x51, 0x07, 0xF0
+        );
+        assertRoundTrip(
+            "{x: 1, y: 2} [\"abc\", {x: 3, y: 4}] \"hello\" ann::(sym def 1.5) [[1], [1]] "
+                + "{f: \"hello\", name: \"hello\"} [{x: 5, y: 6}, 7]",
+            bytes
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void eExpressionsAreSkipped(boolean isIncremental) throws IOException {
+        byte[] bytes = withMacros(
+            0x01, 0x83, 0x61, 0x62, 0x63, 0x00, 0x51, 0x03, 0x51, 0x04,
+            0x02,
+            0x51, 0x2A
+        );
+        IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(isIncremental);
+        try (IonReader reader = builder.build(new ByteArrayInputStream(bytes))) {
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(42, reader.intValue());
+            assertNull(reader.next());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void stepOutOfPartiallyReadExpansions(boolean isIncremental) throws IOException {
+        byte[] bytes = withMacros(
+            // {a: (:pair "abc" (:point 3 4)), b: 5}
+            0xF3, 0xFF, 0x61, 0x01, 0x83, 0x61, 0x62, 0x63, 0x00, 0x51, 0x03, 0x51, 0x04, 0xFF, 0x62, 0x51, 0x05, 0x01, 0xF0,
+            // [(:point 1 2), 6]
+            0xF1, 0x00, 0x51, 0x01, 0x51, 0x02, 0x51, 0x06, 0xF0,
+            0x51, 0x07
+        );
+        IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(isIncremental);
+        try (IonReader reader = builder.build(new ByteArrayInputStream(bytes))) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals("a", reader.getFieldName());
+            assertEquals(1, reader.getDepth());
+            reader.stepIn();
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals("x", reader.getFieldName());
+            reader.stepOut();
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals("b", reader.getFieldName());
+            assertEquals(5, reader.intValue());
+            reader.stepOut();
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.STRUCT, reader.next());
+            // Stepping out from the top level of the expansion steps out of the enclosing list.
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(7, reader.intValue());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void invalidEExpressionsFail() throws IOException {
+        // No macro at address 5.
+        assertThrows(IonException.class, () -> readAll(IonReaderBuilder.standard().build(withMacros(0x05))));
+        // An e-expression may not be annotated.
+        assertThrows(IonException.class, () -> readAll(IonReaderBuilder.standard().build(withMacros(0xE7, 0xFF, 0x61, 0x02))));
+        // An IVM discards the macros.
+        assertThrows(IonException.class, () -> readAll(IonReaderBuilder.standard().build(withMacros(0xE0, 0x01, 0x01, 0xEA, 0x02))));
+        // Macros must be defined before they are invoked.
+        assertThrows(IonException.class, () -> readAll(IonReaderBuilder.standard().build(bytes(0xE0, 0x01, 0x01, 0xEA, 0x02))));
+    }
+
+    @Test
+    public void spansAreUnsupported() throws IOException {
+        byte[] bytes = writeIon11("{a:1} [2, 3]");
+        try (IonReader reader = IonReaderBuilder.standard().build(bytes)) {
+            assertEquals(IonType.STRUCT, reader.next());
+            assertThrows(UnsupportedOperationException.class, () -> reader.asFacet(SpanProvider.class).currentSpan());
+            assertThrows(UnsupportedOperationException.class, () -> reader.asFacet(SeekableReader.class).currentSpan());
+            assertThrows(UnsupportedOperationException.class, () -> reader.asFacet(RawValueSpanProvider.class).valueSpan());
+            // The failed requests leave the reader usable.
+            assertEquals(IonType.LIST, reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void unsupportedEncodingDirectivesFail() {
+        assertThrows(IonException.class, () -> readAll(IonReaderBuilder.standard().build(writeIon11("$ion_encoding::((symbol_table [\"a\"]))"))));
+        assertThrows(IonException.class, () -> readAll(IonReaderBuilder.standard().build(writeIon11("$ion_encoding::((macro_table (macro m (x*) (% x))))"))));
+        assertThrows(IonException.class, () -> readAll(IonReaderBuilder.standard().build(writeIon11("$ion_encoding::((macro_table (macro m (x) (% y))))"))));
+    }
+}
@@ -0,0 +1,191 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.TextSpan;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonReaderTextRawUtf8TokensXTest {
+
+    private static final IonReaderBuilder STANDARD = IonReaderBuilder.standard();
+    private static final IonReaderBuilder UTF8 = IonReaderBuilder.standard().withUtf8TextTokenizerEnabled(true);
+
+    /**
+     * Reads every value, recording its type, position, field name, annotations and content, along with the error
+     * that ends the input, if any. When `skip` is true, containers are skipped rather than read.
+     */
+    private static String trace(IonReader reader, boolean skip) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            trace(reader, skip, sb);
+        } catch (IonException e) {
+            sb.append("error: ").append(e.getMessage());
+        }
+        return sb.toString();
+    }
+
+    private static void trace(IonReader reader, boolean skip, StringBuilder sb) {
+        IonType type;
+        while ((type = reader.next()) != null) {
+            TextSpan span = (TextSpan) reader.asFacet(SpanProvider.class).currentSpan();
+            sb.append(span.getStartLine()).append(':').append(span.getStartColumn()).append(' ').append(type);
+            if (reader.isInStruct()) {
+                sb.append(' ').append(reader.getFieldName());
+            }
+            sb.append(' ').append(Arrays.toString(reader.getTypeAnnotations())).append(' ');
+            if (reader.isNullValue()) {
+                sb.append("null");
+            } else {
+                switch (type) {
+                    case LIST:
+                    case SEXP:
+                    case STRUCT:
+                        if (!skip) {
+                            reader.stepIn();
+                            sb.append("{ ");
+                            trace(reader, skip, sb);
+                            sb.append('}');
+                            reader.stepOut();
+                        }
+                        break;
+                    case INT:
+                        sb.append(reader.bigIntegerValue());
+                        break;
+                    case DECIMAL:
+                        sb.append(reader.bigDecimalValue());
+                        break;
+                    case FLOAT:
+                        sb.append(reader.doubleValue());
+                        break;
+                    case TIMESTAMP:
+                        sb.append(reader.timestampValue());
+                        break;
+                    case STRING:
+                    case SYMBOL:
+                        sb.append(reader.stringValue());
+                        break;
+                    case BLOB:
+                    case CLOB:
+                        sb.append(Arrays.toString(reader.newBytes()));
+                        break;
+                    default:
+                        sb.append(reader.booleanValue());
+                        break;
+                }
+            }
+            sb.append('\n');
+        }
+    }
+
+    private static boolean usesUtf8Tokenizer(IonReader reader) {
+        return ((IonReaderTextRawX) reader)._scanner instanceof IonReaderTextRawUtf8TokensX;
+    }
+
+    /**
+     * Verifies that reading the text, or skipping its containers, with the UTF-8 tokenizer produces the same values,
+     * positions and errors as the standard tokenizer, from an array and from a slice of a larger array.
+     */
+    private static void assertSameAsStandard(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 6];
+        Arrays.fill(padded, (byte) '"');
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+        for (boolean skip : new boolean[] {false, true}) {
+            String expected = trace(STANDARD.build(bytes), skip);
+            IonReader reader = UTF8.build(bytes);
+            assertTrue(usesUtf8Tokenizer(reader));
+            assertEquals(expected, trace(reader, skip), text);
+            assertEquals(expected, trace(UTF8.build(padded, 3, bytes.length), skip), text);
+        }
+    }
+
+    @Test
+    public void whitespaceAndComments() {
+        assertSameAsStandard(" 1\t2\n3\r4\r\n5 \n\n\r\r\n 6");
+        assertSameAsStandard("1 // comment\n2 // comment\r\n3 // comment\r4 // at the end");
+        assertSameAsStandard("1 /* a\nb\r\nc\rd */ 2 /**/ 3 /*** ** */ 4 /* unterminated *");
+        assertSameAsStandard("[a, /* ] */ b, // ]\n c] (x / y) 1 /");
+        assertSameAsStandard("1\r");
+        assertSameAsStandard("'a'\r");
+    }
+
+    @Test
+    public void numbers() {
+        assertSameAsStandard("0 -0 1 -17 123456789012345678901234567890 1.5 -0.25 1. 0.0 1e5 1E-3 1.5e+10 2d-2 3D4 0e0");
+        assertSameAsStandard("[1,2.5,3e0]{a:1,b:-2}(1 2)1//c\n2/*c*/3");
+        assertSameAsStandard("1_000 0x1F -0b11 1.e5 1e5.5 1e 1.5e");
+        assertSameAsStandard("2007-01-01T00:00Z 2007-02-23 2007T 2007-02-23T12:14:33.079-08:00 0000-01-01");
+        assertSameAsStandard("007");
+        assertSameAsStandard("1-2");
+        assertSameAsStandard("1.2.3");
+        assertSameAsStandard("12a");
+        assertSameAsStandard("1/2");
+        assertSameAsStandard("1");
+        assertSameAsStandard("-");
+    }
+
+    @Test
+    public void strings() {
+        assertSameAsStandard("\"\" \"abc\" \"é\" \"日本語\" \"😀x\" \"ÿ\" \"tab\there\"");
+        assertSameAsStandard("\"a\\\"b\" \"\\n\\t\" \"\\u00e9\" \"\\U0001F600\" \"\\uD83D\\uDE00\" \"é\\u00e9é\"");
+        assertSameAsStandard("\"line\\\ncont\" \"line\\\r\ncont\" \"line\\\rcont\"");
+        assertSameAsStandard("{\"a\": \"b\", 'c': \"d\"} \"é\"::\"x\"");
+        assertSameAsStandard("{{\"clob\"}} {{\"é\"}}");
+        assertSameAsStandard("\"\\uD83D\"");
+        assertSameAsStandard("\"a\nb\"");
+        assertSameAsStandard("\"a\u0001b\"");
+        assertSameAsStandard("\"unterminated");
+        assertSameAsStandard("[\"a\\\nb\", \"c\\\"]\", \"é]\"] [\"a\nb\"]");
+    }
+
+    @Test
+    public void illFormedUtf8() {
+        byte[][] sequences = {
+            {(byte) 0xC0, (byte) 0x80}, // overlong
+            {(byte) 0xE0, (byte) 0x9F, (byte) 0xBF}, // overlong
+            {(byte) 0xED, (byte) 0xA0, (byte) 0x80}, // surrogate
+            {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}, // beyond U+10FFFF
+            {(byte) 0xF0, (byte) 0x9F, (byte) 0x98}, // truncated
+            {(byte) 0xFF},
+            {(byte) 0x80},
+        };
+        for (byte[] sequence : sequences) {
+            String text = "[\"a" + new String(sequence, StandardCharsets.ISO_8859_1) + "b\", c]";
+            byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+            for (boolean skip : new boolean[] {false, true}) {
+                assertEquals(trace(STANDARD.build(bytes), skip), trace(UTF8.build(bytes), skip));
+            }
+        }
+    }
+
+    @Test
+    public void onlyByteInputUsesTheUtf8Tokenizer() {
+        byte[] bytes = "{a: 1}".getBytes(StandardCharsets.UTF_8);
+        assertTrue(usesUtf8Tokenizer(UTF8.build(bytes)));
+        assertTrue(usesUtf8Tokenizer(UTF8.build(ByteBuffer.wrap(bytes))));
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        IonReader reader = UTF8.build(direct);
+        assertTrue(usesUtf8Tokenizer(reader));
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(0, direct.position());
+        assertFalse(usesUtf8Tokenizer(UTF8.build("{a: 1}")));
+        // Streamed text is always read with the standard tokenizer.
+        assertFalse(usesUtf8Tokenizer(UTF8.build(new ByteArrayInputStream(bytes))));
+        assertFalse(usesUtf8Tokenizer(STANDARD.build(bytes)));
+    }
+}
@@ -0,0 +1,80 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IonTextStructuralIndexTest {
+
+    /**
+     * Finds the closer of the container whose contents start just after the first occurrence of the given opener, in
+     * both a byte and a char index of the text.
+     * @return the closer's position, or -1.
+     */
+    private static int findCloser(String text, char opener, char terminator) {
+        int start = text.indexOf(opener) + 1;
+        // surround the text with padding to verify that positions are relative to the array
+        String padded = "##" + text + "##";
+        byte[] bytes = padded.getBytes(StandardCharsets.UTF_8);
+        IonTextStructuralIndex byteIndex = new IonTextStructuralIndex(bytes, 2, bytes.length - 2);
+        IonTextStructuralIndex charIndex = new IonTextStructuralIndex(padded.toCharArray(), 2, padded.length() - 2);
+        int closer = charIndex.findCloser(start + 2, terminator);
+        assertEquals(closer, byteIndex.findCloser(start + 2, terminator));
+        assertEquals(charIndex.getLineBreaks(), byteIndex.getLineBreaks());
+        assertEquals(charIndex.getLastLineBreak(), byteIndex.getLastLineBreak());
+        return closer < 0 ? -1 : closer - 2;
+    }
+
+    private static void assertCloser(String text, char opener, char terminator) {
+        assertEquals(text.lastIndexOf(terminator), findCloser(text, opener, terminator), text);
+    }
+
+    @Test
+    public void findsClosers() {
+        assertCloser("{}", '{', '}');
+        assertCloser("[1, 2, 3] 4", '[', ']');
+        assertCloser("(a (b) [c] {d:{}} e) f", '(', ')');
+        assertCloser("{a: \"}]\\\")\", b: '}', c: '''}''' '''x''', d: {{ \"}}\" }}, e: {{ aGVs//bG8= }}} 5", '{', '}');
+        assertCloser("[a, /* ] */ b, // ]\n c] ", '[', ']');
+        // like the tokenizer, closing characters of the wrong kind are ignored
+        assertCloser("(a ] } b)", '(', ')');
+    }
+
+    @Test
+    public void findsClosersBeyondTheFirstBlock() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            sb.append("{k: \"value ").append(i).append("\", n: [").append(i).append("]},\n");
+        }
+        String text = sb.append("] x").toString();
+        assertCloser(text, '[', ']');
+    }
+
+    @Test
+    public void countsLineBreaks() {
+        String text = "[\n'''a\\\nb''' \"c\\\r\nd\" /* \r */ // \r\n e\r]";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        IonTextStructuralIndex index = new IonTextStructuralIndex(bytes, 0, bytes.length);
+        assertEquals(text.length() - 1, index.findCloser(1, ']'));
+        assertEquals(6, index.getLineBreaks());
+        assertEquals(text.length() - 2, index.getLastLineBreak());
+        // from between two values of the container
+        assertEquals(text.length() - 1, index.findCloser(text.indexOf("b'''") + 4, ']'));
+        assertEquals(4, index.getLineBreaks());
+    }
+
+    @Test
+    public void givesUpWhereTheTokenizerWouldFail() {
+        assertEquals(-1, findCloser("[1, 2", '[', ']'));
+        assertEquals(-1, findCloser("[\"a\nb\"]", '[', ']'));
+        assertEquals(-1, findCloser("['a\nb']", '[', ']'));
+        assertEquals(-1, findCloser("[/* ]", '[', ']'));
+        assertEquals(-1, findCloser("['''a]", '[', ']'));
+        assertEquals(-1, findCloser("[{{ \"a\" /* */ }}]", '[', ']'));
+        assertEquals(-1, findCloser("[{{ aGVs} }]", '[', ']'));
+    }
+}
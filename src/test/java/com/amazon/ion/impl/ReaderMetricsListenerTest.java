@@ -0,0 +1,218 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.ReaderMetricsListener;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReaderMetricsListenerTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    /**
+     * Records every event.
+     */
+    private static class RecordingListener implements ReaderMetricsListener {
+
+        private final boolean isTimingEnabled;
+        long bytesRefilled = 0;
+        long bytesSkipped = 0;
+        final List<Long> refillNanos = new ArrayList<>();
+        final List<int[]> growth = new ArrayList<>();
+        int shifts = 0;
+        int oversizedValues = 0;
+        int oversizedSymbolTables = 0;
+        final List<int[]> symbolTables = new ArrayList<>();
+
+        RecordingListener(boolean isTimingEnabled) {
+            this.isTimingEnabled = isTimingEnabled;
+        }
+
+        @Override
+        public boolean isTimingEnabled() {
+            return isTimingEnabled;
+        }
+
+        @Override
+        public void onRefill(int numberOfBytes, long nanos) {
+            bytesRefilled += numberOfBytes;
+            refillNanos.add(nanos);
+        }
+
+        @Override
+        public void onSkip(long numberOfBytes) {
+            bytesSkipped += numberOfBytes;
+        }
+
+        @Override
+        public void onBufferGrowth(int previousCapacity, int newCapacity) {
+            growth.add(new int[] {previousCapacity, newCapacity});
+        }
+
+        @Override
+        public void onBufferShift(int numberOfBytes) {
+            shifts++;
+        }
+
+        @Override
+        public void onOversizedValue(boolean isSymbolTable) {
+            if (isSymbolTable) {
+                oversizedSymbolTables++;
+            } else {
+                oversizedValues++;
+            }
+        }
+
+        @Override
+        public void onLocalSymbolTable(int numberOfSymbolsAdded, int numberOfLocalSymbols) {
+            symbolTables.add(new int[] {numberOfSymbolsAdded, numberOfLocalSymbols});
+        }
+    }
+
+    /**
+     * Writes 10 structs, each of which adds a symbol by appending to the local symbol table, and each of which is
+     * larger than the one before.
+     */
+    private static byte[] growingValues() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(out);
+        for (int i = 0; i < 10; i++) {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("field" + i);
+            writer.writeString(new String(new char[i * 20]).replace('\0', 'x'));
+            writer.stepOut();
+            writer.flush();
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static void readAll(IonReader reader) throws IOException {
+        try {
+            while (reader.next() != null) {
+                reader.stepIn();
+                while (reader.next() != null) {
+                    reader.stringValue();
+                }
+                reader.stepOut();
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void streamReaderReportsBufferManagement(boolean isIncremental) throws IOException {
+        byte[] data = growingValues();
+        RecordingListener listener = new RecordingListener(false);
+        IonReaderBuilder builder = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(isIncremental)
+            .withBufferConfiguration(IonBufferConfiguration.Builder.standard().withInitialBufferSize(16).build())
+            .withMetricsListener(listener);
+        readAll(builder.build(new ByteArrayInputStream(data)));
+
+        assertEquals(data.length, listener.bytesRefilled);
+        assertFalse(listener.refillNanos.isEmpty());
+        listener.refillNanos.forEach(nanos -> assertEquals(-1L, nanos));
+        assertFalse(listener.growth.isEmpty());
+        int capacity = 16;
+        for (int[] growth : listener.growth) {
+            assertEquals(capacity, growth[0]);
+            assertTrue(growth[1] > growth[0]);
+            capacity = growth[1];
+        }
+        assertTrue(listener.shifts > 0);
+        assertEquals(10, listener.symbolTables.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1, listener.symbolTables.get(i)[0]);
+            assertEquals(i + 1, listener.symbolTables.get(i)[1]);
+        }
+    }
+
+    @Test
+    public void timingIsReportedWhenEnabled() throws IOException {
+        RecordingListener listener = new RecordingListener(true);
+        readAll(IonReaderBuilder.standard().withMetricsListener(listener).build(new ByteArrayInputStream(growingValues())));
+        assertFalse(listener.refillNanos.isEmpty());
+        listener.refillNanos.forEach(nanos -> assertTrue(nanos >= 0));
+    }
+
+    @Test
+    public void oversizedValuesAreReported() throws IOException {
+        byte[] data = growingValues();
+        RecordingListener listener = new RecordingListener(false);
+        IonReaderBuilder builder = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(true)
+            .withBufferConfiguration(
+                IonBufferConfiguration.Builder.standard()
+                    .withInitialBufferSize(64)
+                    .withMaximumBufferSize(64)
+                    .onOversizedValue(() -> {})
+                    .onOversizedSymbolTable(() -> {})
+                    .onData(numberOfBytes -> {})
+                    .build()
+            )
+            .withMetricsListener(listener);
+        int numberOfValues = 0;
+        try (IonReader reader = builder.build(new ByteArrayInputStream(data))) {
+            while (reader.next() != null) {
+                numberOfValues++;
+            }
+        }
+        assertTrue(listener.oversizedValues > 0);
+        assertEquals(0, listener.oversizedSymbolTables);
+        assertEquals(10, numberOfValues + listener.oversizedValues);
+        assertTrue(listener.bytesSkipped > 0);
+        assertEquals(data.length, listener.bytesRefilled + listener.bytesSkipped);
+    }
+
+    @Test
+    public void byteArrayReaderReportsOnlySymbolTables() throws IOException {
+        RecordingListener listener = new RecordingListener(true);
+        readAll(IonReaderBuilder.standard().withMetricsListener(listener).build(growingValues()));
+        assertTrue(listener.refillNanos.isEmpty());
+        assertTrue(listener.growth.isEmpty());
+        assertEquals(0, listener.shifts);
+        assertEquals(10, listener.symbolTables.size());
+    }
+
+    @Test
+    public void symbolTableWithImportsIsReported() throws IOException {
+        byte[] data = SYSTEM.getLoader().load("$ion_symbol_table::{symbols: [\"a\", \"b\"]} a b").getBytes();
+        RecordingListener listener = new RecordingListener(false);
+        try (IonReader reader = IonReaderBuilder.standard().withMetricsListener(listener).build(data)) {
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertNull(reader.next());
+        }
+        assertEquals(1, listener.symbolTables.size());
+        assertEquals(2, listener.symbolTables.get(0)[1]);
+    }
+
+    @Test
+    public void listenerIsDisabledByDefault() {
+        assertNull(IonReaderBuilder.standard().getMetricsListener());
+    }
+}
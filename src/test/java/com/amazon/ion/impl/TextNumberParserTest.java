@@ -0,0 +1,84 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TextNumberParserTest {
+
+    private static void assertParsesDouble(String text) {
+        double expected = Double.parseDouble(text);
+        assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(TextNumberParser.parseDouble(text)), text);
+        assertEquals(
+            Double.doubleToRawLongBits(expected),
+            Double.doubleToRawLongBits(TextNumberParser.parseDouble(new StringBuilder(text))),
+            text
+        );
+    }
+
+    @Test
+    public void parsesDoubles() {
+        String[] texts = {
+            "0e0", "-0e0", "0.000e10", "1e0", "-1.5e3", "+2.5E-3", "123456789012345678e0", "9007199254740993e0",
+            "1e22", "1e23", "1e-22", "1e-23", "1.7976931348623157e308", "1.8e308", "2.2250738585072014e-308",
+            "4.9e-324", "2e-324", "1e-400", "1e400", "1e100000000", "0.1e0", "3.14159265358979323846e0",
+            "18446744073709551615e0", "18446744073709551616e0", "00000000000000000000001e0",
+            // halfway between two doubles
+            "9007199254740993e0", "9007199254740995e0", "2.0000000000000003e0", "1.00000000000000011102230246251565e0",
+        };
+        for (String text : texts) {
+            assertParsesDouble(text);
+        }
+    }
+
+    @Test
+    public void parsesRandomDoubles() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            assertParsesDouble(Double.toString(value).replace('E', 'e'));
+            assertParsesDouble(random.nextInt(1000000) + "." + random.nextInt(1000000) + "e" + (random.nextInt(700) - 350));
+        }
+    }
+
+    @Test
+    public void rejectsMalformedDoubles() {
+        assertThrows(NumberFormatException.class, () -> TextNumberParser.parseDouble("1e"));
+        assertThrows(NumberFormatException.class, () -> TextNumberParser.parseDouble("e5"));
+        assertThrows(NumberFormatException.class, () -> TextNumberParser.parseDouble("1.5x"));
+    }
+
+    @Test
+    public void parsesLongs() {
+        String[] texts = {"0", "-0", "+7", "42", "-42", "9223372036854775807", "-9223372036854775808"};
+        for (String text : texts) {
+            assertEquals(Long.parseLong(text), TextNumberParser.parseLong(text, text.length(), 10), text);
+        }
+        assertEquals(0x7fffffffffffffffL, TextNumberParser.parseLong("7fffffffffffffff", 16, 16));
+        assertEquals(-0xABCL, TextNumberParser.parseLong("-AbC", 4, 16));
+        assertEquals(-5, TextNumberParser.parseLong("-101", 4, 2));
+        // only the first len characters are parsed
+        assertEquals(12, TextNumberParser.parseLong("123", 2, 10));
+    }
+
+    @Test
+    public void multipliesHigh() {
+        Random random = new Random(42);
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int i = 0; i < 10000; i++) {
+            long a = random.nextLong();
+            long b = i == 0 ? -1 : random.nextLong();
+            BigInteger product = new BigInteger(Long.toUnsignedString(a)).multiply(new BigInteger(Long.toUnsignedString(b)));
+            assertEquals(product.shiftRight(64).and(mask).longValue(), TextNumberParser.unsignedMultiplyHigh(a, b));
+        }
+    }
+}
@@ -17,11 +17,14 @@ package com.amazon.ion.impl;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class UnifiedInputStreamXTest {
@@ -64,4 +67,34 @@ public class UnifiedInputStreamXTest {
 
         assertArrayEquals(expected, actual);
     }
+
+    private static void assertRuns(UnifiedInputStreamX uix, boolean isByteSource) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        assertEquals(3, uix.skipRun(IonTokenConstsX.isSpaceOrTab));
+        assertEquals(0, uix.skipRun(IonTokenConstsX.isSpaceOrTab));
+        assertEquals(6, uix.appendRun(IonTokenConstsX.isValidSymbolCharacter, sb));
+        assertEquals(' ', uix.read());
+        // runs stop before non-ASCII characters, which are left for read()
+        assertEquals(1, uix.appendRun(IonTokenConstsX.isPlainShortStringCharacter, sb));
+        if (isByteSource) {
+            assertEquals(0xC3, uix.read());
+            assertEquals(0xA9, uix.read());
+        } else {
+            assertEquals(0xE9, uix.read());
+        }
+        assertEquals(2, uix.appendRun(IonTokenConstsX.isPlainShortStringCharacter, sb));
+        assertEquals("abc_$1x!y", sb.toString());
+        assertEquals('"', uix.read());
+        assertEquals(UnifiedInputStreamX.EOF, uix.read());
+        assertEquals(0, uix.skipRun(IonTokenConstsX.isSpaceOrTab));
+    }
+
+    @Test
+    public void testBulkRuns() throws Exception {
+        String text = " \t abc_$1 x\u00e9!y\"";
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        assertRuns(UnifiedInputStreamX.makeStream(text), false);
+        assertRuns(UnifiedInputStreamX.makeStream(utf8), true);
+        assertRuns(UnifiedInputStreamX.makeStream(new ByteArrayInputStream(utf8)), true);
+    }
 }
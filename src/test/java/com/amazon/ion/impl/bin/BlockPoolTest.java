@@ -0,0 +1,227 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonList;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.WriterMetricsListener;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockPoolTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    @Test
+    public void blockSizesAreRoundedUpToSizeClasses() {
+        BlockPool pool = BlockPool.builder().build();
+        assertEquals(1, pool.vendAllocator(1).getBlockSize());
+        assertEquals(8, pool.vendAllocator(8).getBlockSize());
+        assertEquals(16, pool.vendAllocator(9).getBlockSize());
+        assertEquals(32768, pool.vendAllocator(20000).getBlockSize());
+        assertSame(pool.vendAllocator(9), pool.vendAllocator(16));
+        assertEquals(16, pool.vendAllocator(9).allocateBlock().capacity());
+        assertThrows(IllegalArgumentException.class, () -> pool.vendAllocator(0));
+        assertThrows(IllegalArgumentException.class, () -> pool.vendAllocator((1 << 30) + 1));
+    }
+
+    @Test
+    public void releasedBlocksAreReused() {
+        BlockPool pool = BlockPool.builder().withStripes(1).build();
+        BlockAllocator allocator = pool.vendAllocator(8);
+        Block block1 = allocator.allocateBlock();
+        Block block2 = allocator.allocateBlock();
+        assertNotSame(block1.data, block2.data);
+        assertEquals(2, pool.getBlocksInUse());
+        assertEquals(16, pool.getBytesInUse());
+        block1.limit = 7;
+        block1.close();
+        assertEquals(1, pool.getBlocksInUse());
+        assertEquals(1, pool.getBlocksFree());
+        assertEquals(8, pool.getBytesFree());
+        Block block1Again = allocator.allocateBlock();
+        assertSame(block1.data, block1Again.data);
+        assertEquals(0, block1Again.limit);
+        assertEquals(0, pool.getBlocksFree());
+        assertEquals(2, pool.getBlocksInUse());
+    }
+
+    @Test
+    public void freeBlocksAreBoundedByTheBudget() {
+        BlockPool pool = BlockPool.builder().withMaximumFreeBytes(64).build();
+        BlockAllocator allocator = pool.vendAllocator(16);
+        List<Block> blocks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            blocks.add(allocator.allocateBlock());
+        }
+        blocks.forEach(Block::close);
+        assertEquals(0, pool.getBlocksInUse());
+        assertEquals(4, pool.getBlocksFree());
+        assertEquals(64, pool.getBytesFree());
+    }
+
+    @Test
+    public void sizeClassWithTheMostFreeMemoryIsEvicted() {
+        BlockPool pool = BlockPool.builder().withMaximumFreeBytes(64).withStripes(1).build();
+        BlockAllocator small = pool.vendAllocator(8);
+        BlockAllocator large = pool.vendAllocator(32);
+        Block large1 = large.allocateBlock();
+        Block large2 = large.allocateBlock();
+        Block small1 = small.allocateBlock();
+        large1.close();
+        large2.close();
+        assertEquals(64, pool.getBytesFree());
+        // Releasing a small block evicts a large block to make room.
+        small1.close();
+        assertEquals(2, pool.getBlocksFree());
+        assertEquals(40, pool.getBytesFree());
+        // Releasing another large block when large blocks hold the most free memory discards it instead.
+        Block large3 = large.allocateBlock();
+        Block large4 = large.allocateBlock();
+        large3.close();
+        large4.close();
+        assertTrue(pool.getBytesFree() <= 64);
+        assertSame(small1.data, small.allocateBlock().data);
+    }
+
+    @Test
+    public void zeroBudgetDisablesPooling() {
+        BlockPool pool = BlockPool.builder().withMaximumFreeBytes(0).build();
+        BlockAllocator allocator = pool.vendAllocator(8);
+        Block block = allocator.allocateBlock();
+        block.close();
+        assertEquals(0, pool.getBlocksFree());
+        assertNotSame(block.data, allocator.allocateBlock().data);
+    }
+
+    @Test
+    public void invalidConfigurationIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BlockPool.builder().withMaximumFreeBytes(-1));
+        assertThrows(IllegalArgumentException.class, () -> BlockPool.builder().withStripes(0));
+    }
+
+    @Test
+    public void blocksReleasedOnOtherThreadsAreReused() throws Exception {
+        BlockPool pool = BlockPool.builder().withStripes(16).build();
+        BlockAllocator allocator = pool.vendAllocator(8);
+        Block block = allocator.allocateBlock();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(block::close).get();
+        } finally {
+            executor.shutdown();
+        }
+        assertSame(block.data, allocator.allocateBlock().data);
+    }
+
+    @Test
+    public void writersShareThePool() throws Exception {
+        BlockPool pool = BlockPool.builder().build();
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withBlockSize(1000).withBlockPool(pool).immutable();
+        assertSame(pool, builder.getBlockPool());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    try (IonWriter writer = builder.build(out)) {
+                        writer.stepIn(IonType.LIST);
+                        for (int j = 0; j < 1000; j++) {
+                            writer.writeInt(j);
+                        }
+                        writer.stepOut();
+                    }
+                    return out.toByteArray();
+                }));
+            }
+            for (Future<byte[]> future : futures) {
+                assertEquals(1000, ((IonList) SYSTEM.getLoader().load(future.get()).get(0)).size());
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, pool.getBlocksInUse());
+        assertTrue(pool.getBlocksFree() > 0);
+        assertEquals(pool.getBlocksFree() * 1024, pool.getBytesFree());
+    }
+
+    @Test
+    public void directBuffersProduceTheSameOutput() throws IOException {
+        BlockPool pool = BlockPool.builder().withDirectBuffers(true).withStripes(1).build();
+        assertTrue(pool.isDirect());
+        byte[] heap = writeNestedData(IonBinaryWriterBuilder.standard().withBlockSize(16));
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withBlockSize(16).withBlockPool(pool);
+        for (int i = 0; i < 2; i++) {
+            // The second iteration uses buffers recycled by the first.
+            assertArrayEquals(heap, writeNestedData(builder));
+            assertEquals(0, pool.getBlocksInUse());
+            assertTrue(pool.getBlocksFree() > 0);
+        }
+    }
+
+    @Test
+    public void directBuffersProduceTheSameOutputWithAMetricsListener() throws IOException {
+        BlockPool pool = BlockPool.builder().withDirectBuffers(true).withStripes(1).build();
+        byte[] heap = writeNestedData(IonBinaryWriterBuilder.standard().withBlockSize(16));
+        // Metered blocks wrap the pool's blocks, which must still preserve their contents when they are deactivated.
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard()
+            .withBlockSize(16)
+            .withBlockPool(pool)
+            .withMetricsListener(new WriterMetricsListener() {});
+        for (int i = 0; i < 2; i++) {
+            assertArrayEquals(heap, writeNestedData(builder));
+        }
+    }
+
+    private static byte[] writeNestedData(IonBinaryWriterBuilder builder) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = builder.build(out)) {
+            for (int i = 0; i < 20; i++) {
+                // Nested containers long enough to require length patches that span blocks.
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName("field" + i);
+                writer.stepIn(IonType.LIST);
+                for (int j = 0; j < i * 10; j++) {
+                    writer.writeString("value " + j);
+                }
+                writer.stepOut();
+                writer.setFieldName("empty");
+                writer.stepIn(IonType.SEXP);
+                writer.stepOut();
+                writer.stepOut();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void writersUseTheDefaultPoolByDefault() throws IOException {
+        assertEquals(null, IonBinaryWriterBuilder.standard().getBlockPool());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().withBlockPool(null).build(out)) {
+            writer.writeInt(1);
+        }
+        assertEquals(1, SYSTEM.getLoader().load(out.toByteArray()).size());
+    }
+}
@@ -0,0 +1,201 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.Pipe;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChannelOutputStreamTest {
+
+    /**
+     * A channel that collects the bytes written to it, writing at most a fixed number of bytes per call to simulate
+     * partial writes.
+     */
+    private static class CollectingChannel implements GatheringByteChannel {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final int maximumBytesPerWrite;
+        int numberOfWrites = 0;
+        int numberOfGatheringWrites = 0;
+        boolean isOpen = true;
+
+        CollectingChannel(int maximumBytesPerWrite) {
+            this.maximumBytesPerWrite = maximumBytesPerWrite;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            numberOfWrites++;
+            int amount = Math.min(src.remaining(), maximumBytesPerWrite);
+            for (int i = 0; i < amount; i++) {
+                bytes.write(src.get());
+            }
+            return amount;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            numberOfGatheringWrites++;
+            long total = 0;
+            for (int i = offset; i < offset + length && total < maximumBytesPerWrite; i++) {
+                int amount = (int) Math.min(srcs[i].remaining(), maximumBytesPerWrite - total);
+                for (int j = 0; j < amount; j++) {
+                    bytes.write(srcs[i].get());
+                }
+                total += amount;
+            }
+            return total;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return isOpen;
+        }
+
+        @Override
+        public void close() {
+            isOpen = false;
+        }
+    }
+
+    private static void writeData(IonWriter writer) throws IOException {
+        for (int i = 0; i < 10; i++) {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("name" + i);
+            writer.stepIn(IonType.LIST);
+            for (int j = 0; j < i * 20; j++) {
+                writer.writeSymbol("symbol" + j);
+                writer.writeString("a somewhat longer string value " + j);
+            }
+            writer.stepOut();
+            writer.stepOut();
+        }
+    }
+
+    private static byte[] writeToStream(IonBinaryWriterBuilder builder) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = builder.build(out)) {
+            writeData(writer);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void eachFinishIsASingleGatheringWrite() throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withBlockSize(64);
+        CollectingChannel channel = new CollectingChannel(Integer.MAX_VALUE);
+        IonWriter writer = builder.build(channel);
+        writeData(writer);
+        writer.finish();
+        assertEquals(1, channel.numberOfGatheringWrites);
+        assertEquals(0, channel.numberOfWrites);
+        assertArrayEquals(writeToStream(builder), channel.bytes.toByteArray());
+        writer.close();
+        assertEquals(1, channel.numberOfGatheringWrites);
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void partialWritesAreResumed() throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withBlockSize(64);
+        CollectingChannel channel = new CollectingChannel(7);
+        try (IonWriter writer = builder.build(channel)) {
+            writeData(writer);
+        }
+        assertTrue(channel.numberOfGatheringWrites > 1);
+        assertArrayEquals(writeToStream(builder), channel.bytes.toByteArray());
+    }
+
+    @Test
+    public void directBuffersAreGathered() throws IOException {
+        BlockPool pool = BlockPool.builder().withDirectBuffers(true).build();
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withBlockSize(64).withBlockPool(pool);
+        CollectingChannel channel = new CollectingChannel(Integer.MAX_VALUE);
+        try (IonWriter writer = builder.build(channel)) {
+            writeData(writer);
+        }
+        assertEquals(1, channel.numberOfGatheringWrites);
+        assertArrayEquals(writeToStream(IonBinaryWriterBuilder.standard()), channel.bytes.toByteArray());
+        assertEquals(0, pool.getBlocksInUse());
+    }
+
+    @Test
+    public void nonGatheringChannelsAreWrittenOneBufferAtATime() throws IOException {
+        CollectingChannel delegate = new CollectingChannel(Integer.MAX_VALUE);
+        WritableByteChannel channel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                return delegate.write(src);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return delegate.isOpen();
+            }
+
+            @Override
+            public void close() {
+                delegate.close();
+            }
+        };
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withBlockSize(64);
+        try (IonWriter writer = builder.build(channel)) {
+            writeData(writer);
+        }
+        assertArrayEquals(writeToStream(builder), delegate.bytes.toByteArray());
+    }
+
+    @Test
+    public void bytesWrittenToTheStreamAreCopied() throws IOException {
+        CollectingChannel channel = new CollectingChannel(Integer.MAX_VALUE);
+        ChannelOutputStream out = new ChannelOutputStream(channel);
+        byte[] bytes = {1, 2, 3};
+        out.write(bytes);
+        bytes[0] = 9;
+        out.write(4);
+        out.queue(ByteBuffer.wrap(new byte[] {5, 6}));
+        byte[] large = new byte[2000];
+        large[1999] = 7;
+        out.write(large);
+        out.write(8);
+        out.close();
+        byte[] written = channel.bytes.toByteArray();
+        assertEquals(2007, written.length);
+        assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 0}, Arrays.copyOf(written, 7));
+        assertEquals(7, written[2005]);
+        assertEquals(8, written[2006]);
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void nonBlockingChannelsAreRejected() throws IOException {
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            assertThrows(IllegalArgumentException.class, () -> new ChannelOutputStream(pipe.sink()));
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the {@link WriteBufferTest} suite against blocks stored in direct buffers, which are only readable through the
+ * staging array while active.
+ */
+public class DirectWriteBufferTest extends WriteBufferTest
+{
+    @Override
+    protected BlockAllocator allocator()
+    {
+        return BlockAllocatorProviders.directProvider().vendAllocator(11);
+    }
+
+    @Test
+    public void inactiveBlocksRetainTheirContents() throws IOException
+    {
+        final BlockAllocator allocator = allocator();
+        final Block first = allocator.allocateBlock();
+        final Block second = allocator.allocateBlock();
+        // Both blocks share one staging array, so only one may be active at a time.
+        first.activate();
+        first.data[0] = 1;
+        first.data[10] = 2;
+        first.limit = 11;
+        first.deactivate();
+        second.activate();
+        second.data[0] = 3;
+        second.limit = 1;
+        second.deactivate();
+        assertEquals(1, first.get(0));
+        assertEquals(2, first.get(10));
+        first.put(1, (byte) 4);
+        first.put(2, new byte[] {5, 6}, 0, 2);
+        first.put(4, ByteBuffer.wrap(new byte[] {7}));
+        first.copyTo(0, second, 5, 6);
+        first.activate();
+        assertArrayEquals(new byte[] {1, 4, 5, 6, 7}, Arrays.copyOf(first.data, 5));
+        first.deactivate();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        second.writeTo(out, 0, 11);
+        assertArrayEquals(new byte[] {3, 0, 0, 0, 0, 1, 4, 5, 6, 7, 0}, out.toByteArray());
+        assertEquals(ByteBuffer.wrap(new byte[] {1, 4}), first.byteBuffer(0, 2));
+    }
+}
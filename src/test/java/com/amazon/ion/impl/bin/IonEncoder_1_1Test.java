@@ -4,6 +4,8 @@ import com.amazon.ion.BitUtils;
 import com.amazon.ion.Decimal;
 import com.amazon.ion.IonType;
 import com.amazon.ion.Timestamp;
+import com.amazon.ion.impl.bin.utf8.Utf8StringEncoder;
+import com.amazon.ion.impl.bin.utf8.Utf8StringEncoderPool;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -188,6 +190,7 @@ public class IonEncoder_1_1Test {
     @ParameterizedTest
     @CsvSource({
             "            0.0, 5A",
+            "           -0.0, 5C 80 00 00 00",
             "            1.0, 5C 3F 80 00 00",
             "            1.5, 5C 3F C0 00 00",
             "      3.1415927, 5C 40 49 0F DB",
@@ -211,6 +214,7 @@ public class IonEncoder_1_1Test {
     @ParameterizedTest
     @CsvSource({
             "                      0.0, 5A",
+            "                     -0.0, 5C 80 00 00 00",
             "                      1.0, 5C 3F 80 00 00",
             "                      1.5, 5C 3F C0 00 00",
             "        3.141592653589793, 5D 40 09 21 FB 54 44 2D 18",
@@ -591,6 +595,42 @@ public class IonEncoder_1_1Test {
         Assertions.assertEquals(0, numBytes);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "    0, 01 E1 00",
+            "    1, 03",
+            "   10, 15",
+            "   63, 7F",
+            "   64, 02 01",
+            "65792, 04 08 08",
+    })
+    public void testWriteFlexSymForSymbolAddress(long value, String expectedBytes) {
+        assertWritingValue(expectedBytes, value, IonEncoder_1_1::writeFlexSym);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "    '', 01 90",
+            "     a, FF 61",
+            "   abc, FB 61 62 63",
+    })
+    public void testWriteFlexSymForInlineText(String value, String expectedBytes) {
+        try (Utf8StringEncoder encoder = Utf8StringEncoderPool.getInstance().getOrCreate()) {
+            assertWritingValue(expectedBytes, value, (buffer, text) -> IonEncoder_1_1.writeFlexSym(buffer, text, encoder));
+        }
+    }
+
+    @Test
+    public void testWriteFlexSymAnnotations() {
+        try (Utf8StringEncoder encoder = Utf8StringEncoderPool.getInstance().getOrCreate()) {
+            int numBytes = IonEncoder_1_1.writeFlexSymAnnotations(buf, new int[] {-1}, new String[] {"a"}, 1, encoder);
+            numBytes += IonEncoder_1_1.writeFlexSymAnnotations(buf, new int[] {10, -1}, new String[] {null, "a"}, 2, encoder);
+            numBytes += IonEncoder_1_1.writeFlexSymAnnotations(buf, new int[] {-1, 0, -1}, new String[] {"a", null, "b"}, 3, encoder);
+            Assertions.assertEquals("E7 FF 61 E8 15 FF 61 E9 0F FF 61 01 E1 00 FF 62", byteArrayToHex(bytes()));
+            Assertions.assertEquals(16, numBytes);
+        }
+    }
+
     /**
      * Utility method to make it easier to write test cases that assert specific sequences of bytes.
      */
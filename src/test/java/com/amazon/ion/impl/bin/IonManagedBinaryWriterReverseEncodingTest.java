@@ -0,0 +1,15 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+/**
+ * Runs the {@link IonManagedBinaryWriterTest} suite against managed writers that reverse encode their values.
+ */
+public class IonManagedBinaryWriterReverseEncodingTest extends IonManagedBinaryWriterTest
+{
+    @Override
+    protected boolean isReverseEncodingEnabled()
+    {
+        return true;
+    }
+}
@@ -163,6 +163,10 @@ public class IonManagedBinaryWriterTestCase extends IonRawBinaryWriterTest {
             builder.withAutoFlushDisabled();
         }
 
+        if (isReverseEncodingEnabled()) {
+            builder.withReverseEncodingEnabled();
+        }
+
         final IonWriter writer = builder.newWriter(out);
 
         final SymbolTable locals = writer.getSymbolTable();
@@ -0,0 +1,289 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonManagedBinaryWriter_1_1Test {
+
+    private static final String IVM = "E0 01 01 EA";
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02X ", b));
+        }
+        return sb.toString().trim();
+    }
+
+    private interface WriterFunction {
+        void write(IonWriter writer) throws IOException;
+    }
+
+    private static String write(IonBinaryWriterBuilder builder, WriterFunction function) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = builder.build(out)) {
+            function.write(writer);
+        }
+        return hex(out.toByteArray());
+    }
+
+    private static String write(WriterFunction function) throws IOException {
+        return write(IonBinaryWriterBuilder.standard().withIonMinorVersion(1).withExperimentalIon11Enabled(true), function);
+    }
+
+    @Test
+    public void builderSelectsTheIon11Writer() throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard();
+        assertEquals(0, builder.getIonMinorVersion());
+        IonBinaryWriterBuilder ion11 = builder.copy().withIonMinorVersion(1).withExperimentalIon11Enabled(true).immutable();
+        assertEquals(1, ion11.getIonMinorVersion());
+        assertEquals(1, ion11.copy().getIonMinorVersion());
+        assertTrue(ion11.build(new ByteArrayOutputStream()) instanceof IonManagedBinaryWriter_1_1);
+        assertTrue(builder.build(new ByteArrayOutputStream()) instanceof IonManagedBinaryWriter);
+        assertThrows(UnsupportedOperationException.class, () -> ion11.setIonMinorVersion(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.setIonMinorVersion(2));
+    }
+
+    @Test
+    public void ion11WritersMustBeEnabledExplicitly() throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withIonMinorVersion(1);
+        assertFalse(builder.isExperimentalIon11Enabled());
+        assertThrows(UnsupportedOperationException.class, () -> builder.build(new ByteArrayOutputStream()));
+        assertThrows(UnsupportedOperationException.class, () -> builder.build(Channels.newChannel(new ByteArrayOutputStream())));
+        IonBinaryWriterBuilder enabled = builder.withExperimentalIon11Enabled(true).immutable();
+        assertTrue(enabled.copy().isExperimentalIon11Enabled());
+        assertTrue(enabled.build(new ByteArrayOutputStream()) instanceof IonManagedBinaryWriter_1_1);
+        // the flag has no effect on Ion 1.0 writers
+        assertTrue(enabled.withIonMinorVersion(0).build(new ByteArrayOutputStream()) instanceof IonManagedBinaryWriter);
+    }
+
+    @Test
+    public void valuesWithoutSymbolsNeedNoSymbolTable() throws IOException {
+        assertEquals(IVM + " 51 01", write(writer -> writer.writeInt(1)));
+        assertEquals("", write(writer -> {}));
+    }
+
+    @Test
+    public void symbolsAreWrittenByAddress() throws IOException {
+        String lst = "E4 07 F3 0F F1 81 61 F0 01 F0";
+        assertEquals(IVM + " " + lst + " F3 15 51 01 01 F0", write(writer -> {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("a");
+            writer.writeInt(1);
+            writer.stepOut();
+        }));
+        assertEquals(IVM + " " + lst + " E4 15 E1 0A E1 0A E1 04", write(writer -> {
+            writer.setTypeAnnotations("a");
+            writer.writeSymbol("a");
+            writer.writeSymbol("a");
+            writer.writeSymbol("name");
+        }));
+    }
+
+    @Test
+    public void symbolTableIsAvailableToTheUser() throws IOException {
+        IonWriter writer = IonBinaryWriterBuilder.standard().withIonMinorVersion(1).withExperimentalIon11Enabled(true).build(new ByteArrayOutputStream());
+        assertTrue(writer.getSymbolTable().isSystemTable());
+        writer.writeSymbol("a");
+        SymbolTable symbolTable = writer.getSymbolTable();
+        assertTrue(symbolTable.isLocalTable());
+        assertEquals(10, symbolTable.find("a").getSid());
+        assertEquals("a", symbolTable.findKnownSymbol(10));
+        assertEquals(11, symbolTable.intern("b").getSid());
+        writer.close();
+    }
+
+    @Test
+    public void symbolsAddedAfterAFlushAreAppended() throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard()
+            .withIonMinorVersion(1)
+            .withExperimentalIon11Enabled(true)
+            .withLocalSymbolTableAppendEnabled();
+        assertEquals(IVM + " E4 07 F3 0F F1 81 61 F0 01 F0 E1 0A E4 07 F3 0D E1 03 0F F1 81 62 F0 01 F0 E1 0B E1 0A",
+            write(builder, writer -> {
+                writer.writeSymbol("a");
+                writer.flush();
+                writer.writeSymbol("b");
+                writer.writeSymbol("a");
+            })
+        );
+    }
+
+    @Test
+    public void finishResetsTheSymbolTable() throws IOException {
+        String stream = IVM + " E4 07 F3 0F F1 81 61 F0 01 F0 E1 0A";
+        assertEquals(stream + " " + stream, write(writer -> {
+            writer.writeSymbol("a");
+            writer.finish();
+            writer.writeSymbol("a");
+        }));
+    }
+
+    private static String writeWithUserSymbolTable(boolean append) throws IOException {
+        return write(writer -> {
+            writer.writeSymbol("foo");
+            writer.setTypeAnnotations("$ion_symbol_table");
+            writer.stepIn(IonType.STRUCT);
+            if (append) {
+                writer.setFieldName("imports");
+                writer.writeSymbol("$ion_symbol_table");
+            }
+            writer.setFieldName("symbols");
+            writer.stepIn(IonType.LIST);
+            writer.writeString("x");
+            writer.stepOut();
+            writer.stepOut();
+            writer.writeSymbol("bar");
+            writer.writeSymbol("foo");
+            writer.writeSymbol("x");
+        });
+    }
+
+    @Test
+    public void userSymbolTablesAreNotWrittenAsValues() throws IOException {
+        // the user's table replaces the context, so symbols that follow it are appended to it
+        assertEquals(IVM + " E4 07 F3 0F F1 83 66 6F 6F F0 01 F0 E1 0A"
+                + " E4 07 F3 0F F1 81 78 83 62 61 72 83 66 6F 6F F0 01 F0 E1 0B E1 0C E1 0A",
+            writeWithUserSymbolTable(false));
+        // the user's table appends to the context, so its symbols join the writer's single table
+        assertEquals(IVM + " E4 07 F3 0F F1 83 66 6F 6F 81 78 83 62 61 72 F0 01 F0 E1 0A E1 0C E1 0A E1 0B",
+            writeWithUserSymbolTable(true));
+    }
+
+    @Test
+    public void channelOutputMatchesStreamOutput() throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withIonMinorVersion(1).withExperimentalIon11Enabled(true).withBlockSize(16);
+        WriterFunction function = writer -> {
+            for (int i = 0; i < 50; i++) {
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName("field" + i % 5);
+                writer.writeString("value " + i);
+                writer.stepOut();
+            }
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = builder.build(Channels.newChannel(out))) {
+            function.write(writer);
+        }
+        assertEquals(write(builder, function), hex(out.toByteArray()));
+    }
+
+    private static final String READING_MACRO =
+        "(macro reading (time value) {kind: sensor, unit: \"C\", time: (% time), value: (% value)})";
+
+    private static void writeReading(IonWriter writer, String kind, long time, String unit) throws IOException {
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("kind");
+        writer.writeSymbol(kind);
+        writer.setFieldName("time");
+        writer.writeInt(time);
+        writer.setFieldName("unit");
+        writer.writeString(unit);
+        writer.setFieldName("value");
+        writer.stepIn(IonType.LIST);
+        writer.writeFloat(1.5);
+        writer.stepOut();
+        writer.stepOut();
+    }
+
+    private static String readAsText(byte[] bytes) throws IOException {
+        StringBuilder text = new StringBuilder();
+        try (IonReader reader = IonReaderBuilder.standard().build(bytes);
+             IonWriter writer = IonTextWriterBuilder.standard().build(text)) {
+            while (reader.next() != null) {
+                if (reader.getType() == IonType.STRUCT && reader.getTypeAnnotations().length == 0) {
+                    writer.writeValue(reader);
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    private static byte[] writeReadings(IonBinaryWriterBuilder builder) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = builder.build(out)) {
+            for (int i = 0; i < 100; i++) {
+                writeReading(writer, "sensor", i, "C");
+            }
+            writeReading(writer, "other", 100, "C");
+            writeReading(writer, "sensor", 101, "F");
+            writer.stepIn(IonType.LIST);
+            writeReading(writer, "sensor", 102, "C");
+            writer.stepOut();
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void structsMatchingATemplateAreWrittenAsEExpressions() throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withIonMinorVersion(1).withExperimentalIon11Enabled(true);
+        byte[] plain = writeReadings(builder);
+        byte[] compressed = writeReadings(builder.withMacroDefinitions(READING_MACRO));
+        assertTrue(compressed.length < plain.length * 3 / 4);
+        // Expansion follows the template's field order.
+        String text = readAsText(compressed);
+        assertTrue(text.startsWith("{kind:sensor,unit:\"C\",time:0,value:[1.5e0]}"));
+        assertTrue(text.contains("{kind:other,time:100,unit:\"C\",value:[1.5e0]}"));
+        assertTrue(text.contains("{kind:sensor,time:101,unit:\"F\",value:[1.5e0]}"));
+    }
+
+    @Test
+    public void structsThatDoNotMatchATemplateAreWrittenInFull() throws IOException {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withIonMinorVersion(1).withExperimentalIon11Enabled(true);
+        WriterFunction function = writer -> {
+            // a missing field
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("kind");
+            writer.writeSymbol("sensor");
+            writer.stepOut();
+            // an annotated constant
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("kind");
+            writer.setTypeAnnotations("a");
+            writer.writeSymbol("sensor");
+            writer.setFieldName("unit");
+            writer.writeString("C");
+            writer.setFieldName("time");
+            writer.writeInt(1);
+            writer.setFieldName("value");
+            writer.writeInt(2);
+            writer.stepOut();
+        };
+        String plain = write(builder, function);
+        String compressed = write(builder.withMacroDefinitions(READING_MACRO), function);
+        String directive = hex(StructMacro.encodeDirective(StructMacro.parse(READING_MACRO)));
+        assertEquals(plain, compressed.replace(" " + directive, ""));
+        assertNotEquals(plain, compressed);
+    }
+
+    @Test
+    public void invalidMacroDefinitionsAreRejected() {
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard();
+        assertThrows(IllegalArgumentException.class, () -> builder.setMacroDefinitions("(macro m () [1])"));
+        assertThrows(IllegalArgumentException.class, () -> builder.setMacroDefinitions("(macro m (x) {a: 1})"));
+        assertThrows(IllegalArgumentException.class, () -> builder.setMacroDefinitions("(macro m (x) {a: (% x), b: (% x)})"));
+        assertThrows(IllegalArgumentException.class, () -> builder.setMacroDefinitions("(macro m () {a: [1]})"));
+        assertEquals(null, builder.getMacroDefinitions());
+        builder.setMacroDefinitions(READING_MACRO);
+        assertEquals(READING_MACRO, builder.copy().getMacroDefinitions());
+        assertThrows(UnsupportedOperationException.class, () -> builder.immutable().setMacroDefinitions(null));
+    }
+}
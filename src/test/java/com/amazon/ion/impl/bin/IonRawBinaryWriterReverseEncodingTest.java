@@ -0,0 +1,104 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Runs the {@link IonRawBinaryWriterTest} suite against raw writers that reverse encode their values.
+ */
+public class IonRawBinaryWriterReverseEncodingTest extends IonRawBinaryWriterTest
+{
+    @Override
+    protected boolean isReverseEncodingEnabled()
+    {
+        return true;
+    }
+
+    private static void writeNestedData(final IonWriter writer, final int depth) throws IOException
+    {
+        writer.setTypeAnnotations("level" + depth);
+        writer.stepIn(IonType.STRUCT);
+        for (int i = 0; i < depth; i++)
+        {
+            writer.setFieldName("field" + i);
+            writer.addTypeAnnotation("a");
+            writer.addTypeAnnotation("b");
+            writer.writeDecimal(new BigDecimal("1.00000000000000000000000000000000000000000001"));
+            writer.setFieldName("timestamp");
+            writer.writeTimestamp(Timestamp.valueOf("2024-01-02T03:04:05.123456789012345678-07:00"));
+            writer.setFieldName("empty");
+            writer.stepIn(IonType.LIST);
+            writer.stepOut();
+        }
+        writer.setFieldName("child");
+        if (depth > 0)
+        {
+            writeNestedData(writer, depth - 1);
+        }
+        else
+        {
+            writer.writeString("leaf");
+        }
+        writer.stepOut();
+    }
+
+    private static byte[] write(final _Private_IonManagedBinaryWriterBuilder builder) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final IonWriter writer = builder.withUserBlockSize(16).withSymbolsBlockSize(16).newWriter(out);
+        for (int depth = 0; depth < 12; depth++)
+        {
+            writeNestedData(writer, depth);
+            writer.addTypeAnnotation("top");
+            writer.writeDecimal(new BigDecimal("-1.00000000000000000000000000000000000000000001"));
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testOutputMatchesMinimalPatchedOutput() throws IOException
+    {
+        // Without preallocation, the patched encoding uses the minimal length of every header, as does reverse
+        // encoding.
+        final byte[] patched = write(
+            _Private_IonManagedBinaryWriterBuilder.create(_Private_IonManagedBinaryWriterBuilder.AllocatorMode.BASIC)
+                .withPaddedLengthPreallocation(0)
+        );
+        final byte[] reversed = write(
+            _Private_IonManagedBinaryWriterBuilder.create(_Private_IonManagedBinaryWriterBuilder.AllocatorMode.BASIC)
+                .withPaddedLengthPreallocation(2)
+                .withReverseEncodingEnabled()
+        );
+        assertArrayEquals(patched, reversed);
+    }
+
+    @Test
+    public void testBuilderProperty() throws IOException
+    {
+        final IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard();
+        assertFalse(builder.isReverseEncodingEnabled());
+        final IonBinaryWriterBuilder reversing = builder.immutable().withReverseEncodingEnabled(true);
+        assertTrue(reversing.isReverseEncodingEnabled());
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = reversing.build(out))
+        {
+            writeNestedData(writer, 5);
+        }
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (IonWriter writer = builder.build(expected))
+        {
+            writeNestedData(writer, 5);
+        }
+        assertEquals(system().getLoader().load(expected.toByteArray()), system().getLoader().load(out.toByteArray()));
+    }
+}
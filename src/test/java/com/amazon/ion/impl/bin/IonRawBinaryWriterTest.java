@@ -113,6 +113,12 @@ public class IonRawBinaryWriterTest extends Assert
         writer = null;
     }
 
+    /** Sub-classes may return true to run the tests against writers that reverse encode their values. */
+    protected boolean isReverseEncodingEnabled()
+    {
+        return false;
+    }
+
     protected IonWriter createWriter(final OutputStream out) throws IOException
     {
         return new IonRawBinaryWriter(
@@ -124,6 +130,7 @@ public class IonRawBinaryWriterTest extends Assert
             StreamFlushMode.NO_FLUSH,
             preallocationMode,
             true,
+            isReverseEncodingEnabled(),
             false,
             null
         );
@@ -0,0 +1,188 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonType;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamCloseMode;
+import com.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static com.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
+import static com.amazon.ion.impl._Private_Utils.newSymbolToken;
+import static com.amazon.ion.impl.bin.Symbols.symbol;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonRawBinaryWriter_1_1Test {
+
+    private ByteArrayOutputStream out;
+    private IonRawBinaryWriter_1_1 writer;
+
+    @BeforeEach
+    public void setup() {
+        out = new ByteArrayOutputStream();
+        // A small block size makes values span blocks.
+        writer = new IonRawBinaryWriter_1_1(
+            BlockAllocatorProviders.basicProvider(),
+            11,
+            out,
+            StreamCloseMode.CLOSE,
+            StreamFlushMode.FLUSH,
+            false,
+            () -> {}
+        );
+    }
+
+    private String bytes() throws IOException {
+        writer.finish();
+        StringBuilder sb = new StringBuilder();
+        for (byte b : out.toByteArray()) {
+            sb.append(String.format("%02X ", b));
+        }
+        out.reset();
+        return sb.toString().trim();
+    }
+
+    @Test
+    public void scalars() throws IOException {
+        writer.writeIonVersionMarker();
+        writer.writeNull();
+        writer.writeNull(IonType.STRING);
+        writer.writeBool(true);
+        writer.writeInt(-2);
+        writer.writeInt(new BigInteger("256"));
+        writer.writeFloat(1.5);
+        writer.writeDecimal(new BigDecimal("1.5"));
+        writer.writeTimestamp(Timestamp.valueOf("2023T"));
+        writer.writeString("abc");
+        writer.writeString(new byte[] {'x', 'a', 'b'}, 1, 2);
+        writer.writeSymbol("abc");
+        writer.writeSymbolToken(4);
+        writer.writeSymbolToken(symbol("d", 300));
+        writer.writeSymbolToken(newSymbolToken("e", UNKNOWN_SYMBOL_ID));
+        writer.writeBlob(new byte[] {0, 1, 2}, 1, 2);
+        writer.writeClob(new byte[] {3});
+        assertEquals(
+            "E0 01 01 EA EA EB 05 5E 51 FE 52 00 01 5C 3F C0 00 00 62 1F FF 70 35 83 61 62 63 82 61 62 93 61 62 63 E1 04 "
+                + "E2 2C 00 91 65 FE 05 01 02 FF 03 03",
+            bytes()
+        );
+    }
+
+    @Test
+    public void containersAreDelimited() throws IOException {
+        writer.stepIn(IonType.LIST);
+        writer.writeInt(1);
+        writer.stepIn(IonType.SEXP);
+        writer.stepOut();
+        writer.stepOut();
+        writer.stepIn(IonType.STRUCT);
+        writer.stepOut();
+        assertEquals("F1 51 01 F2 F0 F0 F3 01 F0", bytes());
+    }
+
+    @Test
+    public void structFieldNamesAreFlexSyms() throws IOException {
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldNameSymbol(10);
+        writer.writeInt(1);
+        writer.setFieldName("a");
+        writer.writeBool(false);
+        writer.setFieldNameSymbol(newSymbolToken("b", UNKNOWN_SYMBOL_ID));
+        writer.stepIn(IonType.LIST);
+        writer.stepOut();
+        writer.setFieldNameSymbol(0);
+        writer.writeNull();
+        writer.setFieldName("");
+        writer.writeNull();
+        writer.stepOut();
+        assertEquals("F3 15 51 01 FF 61 5F FF 62 F1 F0 01 E1 00 EA 01 90 EA 01 F0", bytes());
+    }
+
+    @Test
+    public void annotations() throws IOException {
+        writer.setTypeAnnotationSymbols(10);
+        writer.writeInt(0);
+        writer.addTypeAnnotationSymbol(10);
+        writer.addTypeAnnotationSymbol(11);
+        writer.stepIn(IonType.LIST);
+        writer.stepOut();
+        writer.setTypeAnnotationSymbols(10, 11, 12);
+        writer.writeNull();
+        writer.setTypeAnnotations("a");
+        writer.addTypeAnnotationSymbol(10);
+        writer.writeNull();
+        assertEquals("E4 15 50 E5 15 17 F1 F0 E6 07 15 17 19 EA E8 FF 61 15 EA", bytes());
+    }
+
+    @Test
+    public void annotationsAndFieldNamesAreClearedByEachValue() throws IOException {
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldNameSymbol(10);
+        writer.setTypeAnnotationSymbols(11);
+        assertTrue(writer.isFieldNameSet());
+        assertTrue(writer.hasAnnotations());
+        writer.writeInt(1);
+        assertFalse(writer.isFieldNameSet());
+        assertFalse(writer.hasAnnotations());
+        writer.stepOut();
+        assertEquals("F3 15 E4 17 51 01 01 F0", bytes());
+    }
+
+    @Test
+    public void longValuesSpanBlocks() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        writer.stepIn(IonType.LIST);
+        writer.writeString(text.toString());
+        writer.stepOut();
+        String bytes = bytes();
+        assertTrue(bytes.startsWith("F1 F8 C9 61 62 63"));
+        assertTrue(bytes.endsWith("75 76 F0"));
+        assertEquals(104, (bytes.length() + 1) / 3);
+    }
+
+    @Test
+    public void invalidStateIsRejected() throws IOException {
+        assertThrows(IonException.class, () -> writer.setFieldNameSymbol(10));
+        assertThrows(IonException.class, () -> writer.stepOut());
+        assertThrows(IonException.class, () -> writer.stepIn(IonType.INT));
+        assertThrows(IllegalArgumentException.class, () -> writer.writeSymbolToken(-1));
+        assertThrows(IllegalArgumentException.class, () -> writer.writeNull(IonType.DATAGRAM));
+        writer.stepIn(IonType.STRUCT);
+        assertThrows(IllegalStateException.class, () -> writer.writeInt(1));
+        writer.setFieldNameSymbol(10);
+        assertThrows(IonException.class, () -> writer.stepOut());
+        writer.writeInt(1);
+        writer.setTypeAnnotationSymbols(11);
+        assertThrows(IonException.class, () -> writer.stepOut());
+        writer.setTypeAnnotationSymbols(new int[0]);
+        assertThrows(IllegalStateException.class, () -> writer.finish());
+        writer.stepOut();
+        assertEquals("F3 15 51 01 01 F0", bytes());
+    }
+
+    @Test
+    public void finishWritesOnlyNewValues() throws IOException {
+        writer.writeInt(1);
+        assertTrue(writer.hasWrittenValuesSinceFinished());
+        assertEquals("51 01", bytes());
+        assertFalse(writer.hasWrittenValuesSinceFinished());
+        assertTrue(writer.hasWrittenValuesSinceConstructed());
+        writer.writeInt(2);
+        assertEquals("51 02", bytes());
+        assertEquals(4, writer.getNumberOfBytesFinished());
+    }
+}
@@ -0,0 +1,21 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.WriterMetricsListener;
+
+/**
+ * Runs the {@link WriteBufferTest} suite against direct blocks wrapped by a metered allocator, which must keep the
+ * wrapped blocks' limits in sync so that their contents survive deactivation.
+ */
+public class MeteredDirectWriteBufferTest extends WriteBufferTest
+{
+    @Override
+    protected BlockAllocator allocator()
+    {
+        return BlockAllocatorProviders.meteredProvider(
+            BlockAllocatorProviders.directProvider(),
+            new WriterMetricsListener() {}
+        ).vendAllocator(11);
+    }
+}
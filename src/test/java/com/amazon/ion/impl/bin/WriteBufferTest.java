@@ -46,10 +46,18 @@ public class WriteBufferTest
     private WriteBuffer buf;
     private AtomicBoolean endOfBufferReached = new AtomicBoolean(false);
 
+    /**
+     * @return the allocator for the buffer under test, which must vend blocks of the same size as {@link #ALLOCATOR}.
+     */
+    protected BlockAllocator allocator()
+    {
+        return ALLOCATOR;
+    }
+
     @BeforeEach
     public void setup() throws IOException
     {
-        buf = new WriteBuffer(ALLOCATOR, () -> endOfBufferReached.set(true));
+        buf = new WriteBuffer(allocator(), () -> endOfBufferReached.set(true));
         out = new ByteArrayOutputStream();
     }
 
@@ -816,6 +824,21 @@ public class WriteBufferTest
         assertBuffer(expected);
     }
 
+    @Test
+    public void testAscii() throws IOException
+    {
+        final String text = "hello world";
+        buf.writeAscii(text);
+        // make sure we go over a block boundary on a separate call
+        buf.writeAscii(text);
+        buf.writeAscii("");
+        // and exactly fill the next block, then span more than one block
+        buf.writeAscii("hello");
+        buf.writeAscii("0123456789abcdefghijklmnopqrstuvwxyz");
+        final byte[] expected = "hello worldhello worldhello0123456789abcdefghijklmnopqrstuvwxyz".getBytes("UTF-8");
+        assertBuffer(expected);
+    }
+
     @Test
     public void testUTF8TwoByte() throws IOException
     {
@@ -0,0 +1,187 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.WriterMetricsListener;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriterMetricsListenerTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    /**
+     * Records every event.
+     */
+    private static class RecordingListener implements WriterMetricsListener {
+
+        int blocksAllocated = 0;
+        int blocksRecycled = 0;
+        final List<Integer> blockSizes = new ArrayList<>();
+        final List<long[]> flushes = new ArrayList<>();
+        final List<Integer> localSymbols = new ArrayList<>();
+
+        @Override
+        public void onBlockAllocated(int blockSize) {
+            blocksAllocated++;
+            blockSizes.add(blockSize);
+        }
+
+        @Override
+        public void onBlockRecycled(int blockSize) {
+            blocksRecycled++;
+        }
+
+        @Override
+        public void onFlush(long numberOfBytes, int numberOfPatches, long numberOfPatchedBytes) {
+            flushes.add(new long[] {numberOfBytes, numberOfPatches, numberOfPatchedBytes});
+        }
+
+        @Override
+        public void onLocalSymbolAdded(int numberOfLocalSymbols) {
+            localSymbols.add(numberOfLocalSymbols);
+        }
+
+        long totalBytesFlushed() {
+            return flushes.stream().mapToLong(flush -> flush[0]).sum();
+        }
+    }
+
+    private static String repeat(char c, int n) {
+        return new String(new char[n]).replace('\0', c);
+    }
+
+    @Test
+    public void flushesAccountForEveryByteWritten() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withMetricsListener(listener).build(out);
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("a");
+        writer.writeInt(1);
+        writer.stepOut();
+        writer.finish();
+        assertEquals(1, listener.flushes.size());
+        assertEquals(out.size(), listener.totalBytesFlushed());
+        // Short containers fit in the space preallocated for their lengths.
+        assertEquals(0, listener.flushes.get(0)[1]);
+        assertEquals(0, listener.flushes.get(0)[2]);
+
+        writer.writeString("abc");
+        writer.finish();
+        // Finishing without writing anything new does not report a flush.
+        writer.finish();
+        writer.close();
+        assertEquals(2, listener.flushes.size());
+        assertEquals(out.size(), listener.totalBytesFlushed());
+    }
+
+    @Test
+    public void longContainerLengthsArePatched() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withMetricsListener(listener).build(out);
+        // The inner list is too long for its preallocated length, so it and both of its ancestors need patches.
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("a");
+        writer.stepIn(IonType.LIST);
+        writer.stepIn(IonType.LIST);
+        writer.writeString(repeat('x', 200));
+        writer.stepOut();
+        writer.stepOut();
+        writer.stepOut();
+        writer.close();
+        assertEquals(1, listener.flushes.size());
+        long[] flush = listener.flushes.get(0);
+        assertEquals(out.size(), flush[0]);
+        assertEquals(3, flush[1]);
+        assertEquals(6, flush[2]);
+
+        IonDatagram datagram = SYSTEM.getLoader().load(out.toByteArray());
+        assertEquals(SYSTEM.singleValue("{a: [[\"" + repeat('x', 200) + "\"]]}"), datagram.get(0));
+    }
+
+    @Test
+    public void localSymbolGrowthIsReported() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard()
+            .withLocalSymbolTableAppendEnabled()
+            .withMetricsListener(listener)
+            .build(out);
+        for (int i = 0; i < 3; i++) {
+            writer.writeSymbol("s" + i);
+            writer.writeSymbol("s" + i);
+            writer.flush();
+        }
+        writer.finish();
+        // Finishing resets the local symbol table.
+        writer.writeSymbol("s0");
+        writer.close();
+        assertEquals(4, listener.localSymbols.size());
+        assertEquals(1, (int) listener.localSymbols.get(0));
+        assertEquals(2, (int) listener.localSymbols.get(1));
+        assertEquals(3, (int) listener.localSymbols.get(2));
+        assertEquals(1, (int) listener.localSymbols.get(3));
+        assertEquals(out.size(), listener.totalBytesFlushed());
+    }
+
+    @Test
+    public void allocatedBlocksAreRecycled() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard()
+            .withBlockSize(64)
+            .withMetricsListener(listener)
+            .build(out);
+        // One block each for the symbol table and user values.
+        assertEquals(2, listener.blocksAllocated);
+        writer.writeString(repeat('x', 1000));
+        assertTrue(listener.blocksAllocated > 2);
+        writer.close();
+        assertEquals(listener.blocksAllocated, listener.blocksRecycled);
+        listener.blockSizes.forEach(size -> assertEquals(64, size));
+        assertEquals(out.size(), listener.totalBytesFlushed());
+    }
+
+    @Test
+    public void autoFlushesAreReported() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard()
+            .withBlockSize(64)
+            .withAutoFlushEnabled(true)
+            .withMetricsListener(listener)
+            .build(out);
+        for (int i = 0; i < 10; i++) {
+            writer.writeString(repeat('x', 50));
+        }
+        writer.close();
+        assertTrue(listener.flushes.size() > 1);
+        assertEquals(out.size(), listener.totalBytesFlushed());
+    }
+
+    @Test
+    public void listenerIsCopiedAndDisabledByDefault() {
+        assertNull(IonBinaryWriterBuilder.standard().getMetricsListener());
+        RecordingListener listener = new RecordingListener();
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard().withMetricsListener(listener).immutable();
+        assertSame(listener, builder.getMetricsListener());
+        assertSame(listener, builder.withBlockSize(64).getMetricsListener());
+    }
+}
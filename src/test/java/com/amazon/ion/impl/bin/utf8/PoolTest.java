@@ -0,0 +1,124 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin.utf8;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PoolTest {
+
+    private static class Pooled extends Poolable<Pooled> {
+        // Set while the object is loaned out, to detect objects that are loaned out twice.
+        final AtomicBoolean isLoaned = new AtomicBoolean(false);
+
+        Pooled(Pool<Pooled> pool) {
+            super(pool);
+        }
+    }
+
+    private static Pool<Pooled> newPool(Pool.Strategy strategy, int[] numberOfAllocations) {
+        return new Pool<Pooled>(pool -> {
+            synchronized (numberOfAllocations) {
+                numberOfAllocations[0]++;
+            }
+            return new Pooled(pool);
+        }, strategy) {};
+    }
+
+    @ParameterizedTest
+    @EnumSource(Pool.Strategy.class)
+    public void returnedObjectsAreReused(Pool.Strategy strategy) {
+        int[] numberOfAllocations = new int[1];
+        Pool<Pooled> pool = newPool(strategy, numberOfAllocations);
+        Pooled first = pool.getOrCreate();
+        Pooled second = pool.getOrCreate();
+        assertNotSame(first, second);
+        assertEquals(2, numberOfAllocations[0]);
+        first.close();
+        assertSame(first, pool.getOrCreate());
+        second.close();
+        assertSame(second, pool.getOrCreate());
+        assertEquals(2, numberOfAllocations[0]);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Pool.Strategy.class)
+    public void poolSizeIsBounded(Pool.Strategy strategy) {
+        int[] numberOfAllocations = new int[1];
+        Pool<Pooled> pool = newPool(strategy, numberOfAllocations);
+        List<Pooled> objects = new ArrayList<>();
+        for (int i = 0; i < Pool.MAX_QUEUE_SIZE * 2; i++) {
+            objects.add(pool.getOrCreate());
+        }
+        objects.forEach(Pooled::close);
+        Set<Pooled> reused = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < Pool.MAX_QUEUE_SIZE * 2; i++) {
+            reused.add(pool.getOrCreate());
+        }
+        int numberRetained = Pool.MAX_QUEUE_SIZE * 4 - numberOfAllocations[0];
+        assertTrue(numberRetained > 0);
+        assertTrue(numberRetained <= Pool.MAX_QUEUE_SIZE);
+        assertEquals(Pool.MAX_QUEUE_SIZE * 2, reused.size());
+    }
+
+    @Test
+    public void stripeSizeIsBounded() {
+        Pool.StripedStorage<Object> storage = new Pool.StripedStorage<>(1);
+        for (int i = 0; i < Pool.MAX_QUEUE_SIZE + 1; i++) {
+            storage.offer(new Object());
+        }
+        // With one stripe, the stripe is capped at a small number of slots rather than the full pool size.
+        int numberRetained = 0;
+        while (storage.poll() != null) {
+            numberRetained++;
+        }
+        assertTrue(numberRetained > 0);
+        assertTrue(numberRetained < Pool.MAX_QUEUE_SIZE);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Pool.Strategy.class)
+    public void objectsAreNeverLoanedTwiceConcurrently(Pool.Strategy strategy) throws Exception {
+        int[] numberOfAllocations = new int[1];
+        Pool<Pooled> pool = newPool(strategy, numberOfAllocations);
+        int numberOfThreads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < numberOfThreads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        Pooled object = pool.getOrCreate();
+                        assertTrue(object.isLoaned.compareAndSet(false, true));
+                        Thread.yield();
+                        object.isLoaned.set(false);
+                        object.close();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
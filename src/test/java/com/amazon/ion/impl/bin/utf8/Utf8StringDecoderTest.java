@@ -0,0 +1,86 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.bin.utf8;
+
+import com.amazon.ion.IonException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class Utf8StringDecoderTest {
+
+    private static final String[] STRINGS = {
+        "",
+        "a",
+        "abcdefg",
+        "abcdefgh",
+        "abcdefghijklmnopqrstuvwxyz0123456789",
+        "abcdefgh\u00e9",
+        "\u00e9abcdefgh",
+        "abc\u20acdefghijklmnop",
+        "abcdefghijklmno\uD83D\uDE00",
+    };
+
+    /**
+     * Decodes the UTF-8 encoding of the given string from the middle of a buffer of the given kind, and verifies that
+     * the buffer's position is advanced past it.
+     */
+    private static void assertRoundTrip(String expected, boolean isDirect) {
+        byte[] utf8 = expected.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = isDirect ? ByteBuffer.allocateDirect(utf8.length + 6) : ByteBuffer.allocate(utf8.length + 6);
+        buffer.put(new byte[3]).put(utf8).put(new byte[3]);
+        buffer.position(3);
+        buffer.limit(3 + utf8.length);
+        try (Utf8StringDecoder decoder = Utf8StringDecoderPool.getInstance().getOrCreate()) {
+            assertEquals(expected, decoder.decode(buffer, utf8.length));
+        }
+        assertEquals(3 + utf8.length, buffer.position());
+    }
+
+    @Test
+    public void decodeHeapBuffer() {
+        for (String string : STRINGS) {
+            assertRoundTrip(string, false);
+        }
+    }
+
+    @Test
+    public void decodeDirectBuffer() {
+        for (String string : STRINGS) {
+            assertRoundTrip(string, true);
+        }
+    }
+
+    @Test
+    public void decodeSlicedHeapBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap("xxabcdefghijk".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2);
+        ByteBuffer slice = buffer.slice();
+        slice.position(1);
+        try (Utf8StringDecoder decoder = Utf8StringDecoderPool.getInstance().getOrCreate()) {
+            assertEquals("bcdefghijk", decoder.decode(slice, 10));
+        }
+    }
+
+    @Test
+    public void decodeLongAsciiString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        assertRoundTrip(sb.toString(), false);
+        assertRoundTrip(sb.toString(), true);
+    }
+
+    @Test
+    public void decodeInvalidUtf8() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', (byte) 0xFF});
+        try (Utf8StringDecoder decoder = Utf8StringDecoderPool.getInstance().getOrCreate()) {
+            assertThrows(IonException.class, () -> decoder.decode(buffer, 9));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl.lite;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonList;
+import com.amazon.ion.IonStruct;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyBinaryLoadingTest {
+
+    private static final IonSystem EAGER_SYSTEM = IonSystemBuilder.standard().build();
+    private static final IonSystem LAZY_SYSTEM = IonSystemBuilder.standard().withLazyBinaryLoadingEnabled(true).build();
+
+    private static final String DATA = "" +
+        "annotated::{foo: bar, baz: [1, 2.5, 3e0, \"four\", {five: 5}], 'null': null.struct, sexp: (a b (c))}\n" +
+        "[]\n" +
+        "{}\n" +
+        "null.list\n" +
+        "123\n" +
+        "{nested: {deeper: {deepest: [a::b::c, 2023-01-01T00:00Z, {{aGVsbG8=}}, {{\"clob\"}}]}}}\n";
+
+    private static IonContainerLite lite(IonValue value) {
+        return (IonContainerLite) value;
+    }
+
+    /**
+     * Writes a binary stream in which the local symbol table changes between values.
+     */
+    private static byte[] multipleSymbolTables() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(out);
+        for (int i = 0; i < 100; i++) {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("field" + i);
+            writer.stepIn(IonType.LIST);
+            writer.writeSymbol("symbol" + i);
+            writer.stepOut();
+            writer.stepOut();
+            if (i % 10 == 9) {
+                writer.finish();
+            } else {
+                writer.flush();
+            }
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void containersAreDecodedOnlyWhenAccessed() {
+        byte[] data = EAGER_SYSTEM.getLoader().load(DATA).getBytes();
+        IonDatagram datagram = LAZY_SYSTEM.getLoader().load(data);
+        assertEquals(6, datagram.size());
+        IonStruct first = (IonStruct) datagram.get(0);
+        IonStruct last = (IonStruct) datagram.get(5);
+        assertTrue(lite(first).isLazy());
+        assertTrue(lite(last).isLazy());
+        assertEquals("annotated", first.getTypeAnnotations()[0]);
+        assertTrue(lite(first).isLazy());
+
+        IonList baz = (IonList) first.get("baz");
+        assertFalse(lite(first).isLazy());
+        assertTrue(lite(baz).isLazy());
+        assertTrue(lite(first.get("sexp")).isLazy());
+        assertTrue(lite(last).isLazy());
+        assertEquals(5, baz.size());
+        assertFalse(lite(baz).isLazy());
+        assertTrue(lite(baz.get(4)).isLazy());
+        assertEquals(EAGER_SYSTEM.singleValue("{five: 5}"), baz.get(4));
+    }
+
+    @Test
+    public void lazyDatagramEqualsEagerDatagram() {
+        byte[] data = EAGER_SYSTEM.getLoader().load(DATA).getBytes();
+        IonDatagram expected = EAGER_SYSTEM.getLoader().load(data);
+        IonDatagram actual = LAZY_SYSTEM.getLoader().load(data);
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.hashCode(), LAZY_SYSTEM.getLoader().load(data).hashCode());
+    }
+
+    @Test
+    public void lazyContainersResolveSymbolsAgainstTheirOwnSymbolTables() throws Exception {
+        byte[] data = multipleSymbolTables();
+        IonDatagram expected = EAGER_SYSTEM.getLoader().load(data);
+        IonDatagram actual = LAZY_SYSTEM.getLoader().load(data);
+        // Decode the containers in reverse order to ensure that each uses the symbol table in effect where it occurs.
+        for (int i = actual.size() - 1; i >= 0; i--) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        assertEquals(expected, EAGER_SYSTEM.getLoader().load(actual.getBytes()));
+    }
+
+    @Test
+    public void mutatingLazyContainersMaterializesThemFirst() {
+        byte[] data = EAGER_SYSTEM.getLoader().load(DATA).getBytes();
+        IonDatagram expected = EAGER_SYSTEM.getLoader().load(data);
+        IonDatagram actual = LAZY_SYSTEM.getLoader().load(data);
+
+        ((IonStruct) expected.get(0)).put("foo", EAGER_SYSTEM.newInt(42));
+        ((IonStruct) actual.get(0)).put("foo", LAZY_SYSTEM.newInt(42));
+        ((IonStruct) expected.get(0)).add("added", EAGER_SYSTEM.newString("value"));
+        ((IonStruct) actual.get(0)).add("added", LAZY_SYSTEM.newString("value"));
+
+        IonList expectedBaz = (IonList) ((IonStruct) expected.get(0)).get("baz");
+        IonList actualBaz = (IonList) ((IonStruct) actual.get(0)).get("baz");
+        expectedBaz.add(0, EAGER_SYSTEM.newSymbol("zero"));
+        actualBaz.add(0, LAZY_SYSTEM.newSymbol("zero"));
+
+        Iterator<IonValue> iterator = ((IonStruct) actual.get(5)).iterator();
+        iterator.next();
+        iterator.remove();
+        ((IonStruct) expected.get(5)).remove("nested");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void clearingLazyContainerDoesNotDecodeIt() {
+        byte[] data = EAGER_SYSTEM.getLoader().load(DATA).getBytes();
+        IonDatagram datagram = LAZY_SYSTEM.getLoader().load(data);
+        IonStruct first = (IonStruct) datagram.get(0);
+        first.clear();
+        assertFalse(lite(first).isLazy());
+        assertTrue(first.isEmpty());
+        assertNull(first.get("foo"));
+        assertEquals("annotated::{}", first.toString());
+    }
+
+    @Test
+    public void clonesOfLazyContainersShareTheEncodedData() {
+        byte[] data = EAGER_SYSTEM.getLoader().load(DATA).getBytes();
+        IonDatagram datagram = LAZY_SYSTEM.getLoader().load(data);
+        IonStruct first = (IonStruct) datagram.get(0);
+        IonStruct clone = first.clone();
+        assertTrue(lite(clone).isLazy());
+        assertTrue(lite(first).isLazy());
+        assertEquals(first, clone);
+
+        IonDatagram datagramClone = datagram.clone();
+        assertTrue(lite(datagramClone.get(5)).isLazy());
+        assertEquals(EAGER_SYSTEM.getLoader().load(data), datagramClone);
+
+        IonStruct retained = ((IonStruct) datagram.get(0)).cloneAndRetain("foo");
+        assertEquals(EAGER_SYSTEM.singleValue("annotated::{foo: bar}"), retained);
+    }
+
+    @Test
+    public void makingLazyValueReadOnlyMaterializesIt() {
+        byte[] data = EAGER_SYSTEM.getLoader().load(DATA).getBytes();
+        IonDatagram datagram = LAZY_SYSTEM.getLoader().load(data);
+        IonStruct last = (IonStruct) datagram.get(5);
+        last.makeReadOnly();
+        assertFalse(lite(last).isLazy());
+        IonStruct nested = (IonStruct) last.get("nested");
+        assertFalse(lite(nested).isLazy());
+        assertFalse(lite(nested.get("deeper")).isLazy());
+        assertTrue(nested.isReadOnly());
+        assertEquals(EAGER_SYSTEM.getLoader().load(data).get(5), last);
+    }
+
+    @Test
+    public void textIsLoadedEagerly() {
+        IonDatagram datagram = LAZY_SYSTEM.getLoader().load(DATA.getBytes());
+        assertFalse(lite(datagram.get(0)).isLazy());
+        assertEquals(EAGER_SYSTEM.getLoader().load(DATA), datagram);
+    }
+
+    @Test
+    public void lazyLoadingIsDisabledByDefault() {
+        byte[] data = EAGER_SYSTEM.getLoader().load(DATA).getBytes();
+        assertFalse(IonSystemBuilder.standard().isLazyBinaryLoadingEnabled());
+        assertFalse(lite(EAGER_SYSTEM.getLoader().load(data).get(0)).isLazy());
+    }
+}
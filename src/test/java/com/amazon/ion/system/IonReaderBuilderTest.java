@@ -32,12 +32,15 @@ import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IonWriter;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.TextSpan;
 import com.amazon.ion.impl.ResizingPipedInputStream;
 import com.amazon.ion.impl._Private_IonBinaryWriterBuilder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.zip.GZIPOutputStream;
 
 import com.amazon.ion.impl._Private_IonConstants;
@@ -160,6 +163,76 @@ public class IonReaderBuilderTest
         assertNull(reader3.next());
     }
 
+    @Test
+    public void testStructuralIndexing()
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isStructuralIndexingEnabled());
+        builder.withStructuralIndexingEnabled(true);
+        assertTrue(builder.isStructuralIndexingEnabled());
+        builder.setStructuralIndexingDisabled();
+        assertFalse(builder.isStructuralIndexingEnabled());
+        builder.setStructuralIndexingEnabled();
+        assertTrue(builder.isStructuralIndexingEnabled());
+        IonReaderBuilder immutable = builder.immutable();
+        assertTrue(immutable.isStructuralIndexingEnabled());
+        assertFalse(immutable.withStructuralIndexingEnabled(false).isStructuralIndexingEnabled());
+
+        String text = "{a: [1, \"]\",\n (x)], b: {{ \"}}\" }} /* } */,\r\n c: 2}\n\n{d: [[\n]], e: 3}";
+        for (IonReader reader : new IonReader[] {builder.build(text), builder.build(text.getBytes(StandardCharsets.UTF_8))}) {
+            // skipped by next()
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals(IonType.STRUCT, reader.next());
+            TextSpan span = (TextSpan) reader.asFacet(SpanProvider.class).currentSpan();
+            assertEquals(5, span.getStartLine());
+            assertEquals(1, span.getStartColumn());
+            // skipped by stepOut()
+            reader.stepIn();
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepOut();
+            assertNull(reader.next());
+        }
+        // an unterminated container is reported as it would be without the index
+        IonReader reader = builder.build("{a: [1, 2}");
+        assertEquals(IonType.STRUCT, reader.next());
+        assertThrows(IonException.class, reader::next);
+    }
+
+    @Test
+    public void testUtf8TextTokenizer()
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertFalse(builder.isUtf8TextTokenizerEnabled());
+        builder.withUtf8TextTokenizerEnabled(true);
+        assertTrue(builder.isUtf8TextTokenizerEnabled());
+        builder.setUtf8TextTokenizerDisabled();
+        assertFalse(builder.isUtf8TextTokenizerEnabled());
+        builder.setUtf8TextTokenizerEnabled();
+        assertTrue(builder.isUtf8TextTokenizerEnabled());
+        IonReaderBuilder immutable = builder.immutable();
+        assertTrue(immutable.isUtf8TextTokenizerEnabled());
+        assertFalse(immutable.withUtf8TextTokenizerEnabled(false).isUtf8TextTokenizerEnabled());
+
+        byte[] bytes = "{a: \"caf\u00e9\", // comment\r\n b: [1.5e0, -2]}".getBytes(StandardCharsets.UTF_8);
+        IonReader reader = builder.withStructuralIndexingEnabled(true).build(bytes);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("caf\u00e9", reader.stringValue());
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals("b", reader.getFieldName());
+        reader.stepIn();
+        assertEquals(IonType.FLOAT, reader.next());
+        assertEquals(1.5, reader.doubleValue(), 0);
+        reader.stepOut();
+        reader.stepOut();
+        assertNull(reader.next());
+        // malformed text is reported as it would be without the tokenizer
+        reader = builder.build("\"a\nb\"".getBytes(StandardCharsets.UTF_8));
+        assertEquals(IonType.STRING, reader.next());
+        assertThrows(IonException.class, reader::stringValue);
+    }
+
     @Test
     public void testBufferConfiguration()
     {
@@ -0,0 +1,287 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonBinarySplitterTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    // Directory for files used to test splitting memory-mapped input.
+    @TempDir
+    Path temporaryDirectory;
+
+    /**
+     * Writes a binary stream in which the local symbol table changes several times: it is appended to as new symbols
+     * are encountered, and reset entirely when the writer is flushed after `finish()`.
+     */
+    private static byte[] multipleSymbolTables() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(out);
+        for (int i = 0; i < 500; i++) {
+            writer.setTypeAnnotations("annotation" + (i % 7));
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("field" + (i % 13));
+            writer.writeSymbol("symbol" + i);
+            writer.setFieldName("number");
+            writer.writeInt(i);
+            writer.stepOut();
+            if (i % 100 == 99) {
+                writer.finish();
+            } else if (i % 10 == 9) {
+                writer.flush();
+            }
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads every chunk in sequence into a single datagram.
+     */
+    private static IonDatagram readChunks(List<IonBinarySplitter.Chunk> chunks) throws IOException {
+        IonDatagram datagram = SYSTEM.newDatagram();
+        for (IonBinarySplitter.Chunk chunk : chunks) {
+            try (IonReader reader = chunk.newReader()) {
+                IonDatagram chunkValues = SYSTEM.getLoader().load(reader);
+                assertEquals(chunk.getNumberOfValues(), chunkValues.size());
+                while (!chunkValues.isEmpty()) {
+                    datagram.add(chunkValues.remove(0));
+                }
+            }
+        }
+        return datagram;
+    }
+
+    @Test
+    public void chunksReadIndependently() throws Exception {
+        byte[] data = multipleSymbolTables();
+        List<IonBinarySplitter.Chunk> chunks = IonBinarySplitter.split(IonReaderBuilder.standard(), data, 0, data.length, 256);
+        assertTrue(chunks.size() > 10);
+        long previousEnd = 0;
+        for (IonBinarySplitter.Chunk chunk : chunks) {
+            assertTrue(chunk.getStartOffset() >= previousEnd);
+            assertTrue(chunk.getLength() > 0);
+            previousEnd = chunk.getStartOffset() + chunk.getLength();
+        }
+        assertTrue(previousEnd <= data.length);
+        // Read the chunks in reverse order to ensure that no chunk depends on the state left by another.
+        IonDatagram expected = SYSTEM.getLoader().load(data);
+        IonDatagram actual = SYSTEM.newDatagram();
+        for (int i = chunks.size() - 1; i >= 0; i--) {
+            try (IonReader reader = chunks.get(i).newReader()) {
+                IonDatagram chunkValues = SYSTEM.getLoader().load(reader);
+                for (int j = chunkValues.size() - 1; j >= 0; j--) {
+                    actual.add(0, chunkValues.remove(j));
+                }
+            }
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void splitWithinArrayRange() throws Exception {
+        byte[] data = multipleSymbolTables();
+        byte[] padded = new byte[data.length + 10];
+        System.arraycopy(data, 0, padded, 3, data.length);
+        List<IonBinarySplitter.Chunk> chunks = IonBinarySplitter.split(IonReaderBuilder.standard(), padded, 3, data.length, 1000);
+        assertEquals(SYSTEM.getLoader().load(data), readChunks(chunks));
+    }
+
+    @Test
+    public void splitDirectByteBuffer() throws Exception {
+        byte[] data = multipleSymbolTables();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length + 2);
+        buffer.put((byte) 0);
+        buffer.put(data);
+        buffer.position(1);
+        buffer.limit(1 + data.length);
+        List<IonBinarySplitter.Chunk> chunks = IonBinarySplitter.split(IonReaderBuilder.standard(), buffer, 512);
+        assertEquals(1, buffer.position());
+        assertEquals(SYSTEM.getLoader().load(data), readChunks(chunks));
+    }
+
+    /**
+     * Writes the given data to a file, preceded and followed by the given number of junk bytes.
+     */
+    private FileChannel channelFor(byte[] data, int numberOfJunkBytes) throws IOException {
+        Path file = temporaryDirectory.resolve("split.10n");
+        byte[] padded = new byte[data.length + 2 * numberOfJunkBytes];
+        System.arraycopy(data, 0, padded, numberOfJunkBytes, data.length);
+        Files.write(file, padded);
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    @Test
+    public void splitFileChannelRegion() throws Exception {
+        byte[] data = multipleSymbolTables();
+        try (FileChannel channel = channelFor(data, 5)) {
+            List<IonBinarySplitter.Chunk> chunks = IonBinarySplitter.split(IonReaderBuilder.standard(), channel, 5, data.length, 512);
+            assertEquals(0, channel.position());
+            assertTrue(chunks.size() > 1);
+            assertEquals(SYSTEM.getLoader().load(data), readChunks(chunks));
+        }
+    }
+
+    @Test
+    public void splitFileChannelLargerThanMaximumBufferSize() throws Exception {
+        byte[] data = multipleSymbolTables();
+        IonBufferConfiguration.Builder configuration = IonBufferConfiguration.Builder.standard();
+        IonReaderBuilder builder = IonReaderBuilder.standard().withBufferConfiguration(
+            configuration
+                .withInitialBufferSize(4096)
+                .withMaximumBufferSize(4096)
+                .onOversizedValue(configuration.getThrowingOversizedValueHandler())
+                .onOversizedSymbolTable(configuration.getThrowingOversizedSymbolTableHandler())
+                .onData(configuration.getNoOpDataHandler())
+                .build()
+        );
+        assertTrue(data.length > 4096);
+        try (FileChannel channel = channelFor(data, 3)) {
+            List<IonBinarySplitter.Chunk> chunks = IonBinarySplitter.split(builder, channel, 3, data.length, 1000);
+            assertEquals(SYSTEM.getLoader().load(data), readChunks(chunks));
+        }
+    }
+
+    /**
+     * Writes a sparse file holding an Ion version marker followed by a blob of each of the given lengths, whose contents
+     * are never written, and the int 1.
+     */
+    private FileChannel sparseBlobs(long... blobLengths) throws IOException {
+        Path file = temporaryDirectory.resolve("blobs.10n");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xE0, 0x01, 0x00, (byte) 0xEA}));
+            for (long blobLength : blobLengths) {
+                ByteBuffer header = ByteBuffer.allocate(11);
+                // Blob type ID with a VarUInt length.
+                header.put((byte) 0xAE);
+                for (int shift = (63 - Long.numberOfLeadingZeros(blobLength)) / 7 * 7; shift > 0; shift -= 7) {
+                    header.put((byte) ((blobLength >>> shift) & 0x7F));
+                }
+                header.put((byte) ((blobLength & 0x7F) | 0x80));
+                header.flip();
+                position += channel.write(header, position) + blobLength;
+            }
+            channel.write(ByteBuffer.wrap(new byte[] {0x21, 0x01}), position);
+        }
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    @Test
+    public void splitFileChannelChunksAreNoLongerThanMaxInt() throws Exception {
+        long blobLength = 1L << 30;
+        try (FileChannel channel = sparseBlobs(blobLength, blobLength)) {
+            // The second blob would make the first chunk longer than Integer.MAX_VALUE bytes, so it starts a new chunk.
+            List<IonBinarySplitter.Chunk> chunks = IonBinarySplitter.split(IonReaderBuilder.standard(), channel, 0, channel.size(), Integer.MAX_VALUE);
+            assertEquals(2, chunks.size());
+            assertEquals(1, chunks.get(0).getNumberOfValues());
+            assertEquals(blobLength + 6, chunks.get(0).getLength());
+            assertEquals(2, chunks.get(1).getNumberOfValues());
+            assertEquals(chunks.get(0).getStartOffset() + chunks.get(0).getLength(), chunks.get(1).getStartOffset());
+            assertEquals(blobLength + 8, chunks.get(1).getLength());
+            try (IonReader reader = chunks.get(1).newReader()) {
+                assertEquals(IonType.BLOB, reader.next());
+                assertEquals(IonType.INT, reader.next());
+                assertEquals(1, reader.intValue());
+            }
+        }
+    }
+
+    @Test
+    public void splitFileChannelRejectsValuesLongerThanMaxInt() throws Exception {
+        try (FileChannel channel = sparseBlobs(Integer.MAX_VALUE)) {
+            assertThrows(IonException.class, () -> IonBinarySplitter.split(IonReaderBuilder.standard(), channel, 0, channel.size(), 1));
+            // Closing the reader that scanned the file does not close the channel, which the chunks need.
+            assertTrue(channel.isOpen());
+        }
+    }
+
+    @Test
+    public void splitFileChannelLeavesTheChannelOpen() throws Exception {
+        byte[] data = multipleSymbolTables();
+        try (FileChannel channel = channelFor(data, 0)) {
+            List<IonBinarySplitter.Chunk> chunks = IonBinarySplitter.split(IonReaderBuilder.standard(), channel, 0, data.length, 512);
+            assertTrue(channel.isOpen());
+            assertEquals(SYSTEM.getLoader().load(data), readChunks(chunks));
+        }
+    }
+
+    @Test
+    public void mapInParallel() throws Exception {
+        byte[] data = multipleSymbolTables();
+        List<IonBinarySplitter.Chunk> chunks = IonBinarySplitter.split(IonReaderBuilder.standard(), data, 0, data.length, 100);
+        List<Integer> sums = IonBinarySplitter.mapInParallel(chunks, reader -> {
+            int sum = 0;
+            while (reader.next() != null) {
+                reader.stepIn();
+                reader.next();
+                reader.next();
+                sum += reader.intValue();
+                reader.stepOut();
+            }
+            return sum;
+        });
+        assertEquals(chunks.size(), sums.size());
+        assertEquals(499 * 500 / 2, sums.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void singleChunkWhenTargetExceedsStreamSize() throws Exception {
+        byte[] data = multipleSymbolTables();
+        List<IonBinarySplitter.Chunk> chunks = IonBinarySplitter.split(IonReaderBuilder.standard(), data, 0, data.length, Integer.MAX_VALUE);
+        assertEquals(1, chunks.size());
+        assertEquals(500, chunks.get(0).getNumberOfValues());
+    }
+
+    @Test
+    public void emptyStreamHasNoChunks() {
+        byte[] data = {(byte) 0xE0, 0x01, 0x00, (byte) 0xEA};
+        assertTrue(IonBinarySplitter.split(IonReaderBuilder.standard(), data, 0, data.length, 1).isEmpty());
+    }
+
+    @Test
+    public void textIsRejected() {
+        byte[] data = "{foo: bar}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IllegalArgumentException.class, () -> IonBinarySplitter.split(IonReaderBuilder.standard(), data, 0, data.length, 1));
+    }
+
+    @Test
+    public void textFileIsRejected() throws Exception {
+        byte[] data = "{foo: bar}".getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = channelFor(data, 0)) {
+            assertThrows(IllegalArgumentException.class, () -> IonBinarySplitter.split(IonReaderBuilder.standard(), channel, 0, data.length, 1));
+        }
+    }
+
+    @Test
+    public void invalidTargetChunkSizeIsRejected() {
+        byte[] data = {(byte) 0xE0, 0x01, 0x00, (byte) 0xEA};
+        assertThrows(IllegalArgumentException.class, () -> IonBinarySplitter.split(IonReaderBuilder.standard(), data, 0, data.length, 0));
+    }
+}